@@ -963,6 +963,7 @@ INSERT INTO `plugin` VALUES ('51', 'aiTokenLimiter', NULL, 'Ai', 171, 0, '2023-1
 INSERT INTO `plugin` VALUES ('53', 'aiRequestTransformer', NULL, 'Ai', 65, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
 INSERT INTO `plugin` VALUES ('61', 'mcpServer', null, 'MCP', 180, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
 INSERT INTO `plugin` VALUES ('66', 'aiResponseTransformer', NULL, 'Ai', 66, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
+INSERT INTO `plugin` VALUES ('67', 'concurrencyLimit', NULL, 'FaultTolerance', 155, 0, '2025-10-17 00:00:00', '2025-10-17 00:00:00', null);
 -- ----------------------------
 -- Table structure for plugin_handle
 -- ----------------------------
@@ -1028,6 +1029,7 @@ INSERT INTO `plugin_handle` VALUES ('1529402613199978536', '2', 'model', 'model'
 INSERT INTO `plugin_handle` VALUES ('1529402613199978537', '6', 'register', 'register', 2, 3, 1, NULL, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978538', '4', 'algorithmName', 'algorithmName', 3, 2, 1, '{\"required\":\"1\",\"defaultValue\":\"slidingWindow\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978539', '4', 'keyResolverName', 'keyResolverName', 3, 2, 4, '{\"required\":\"1\",\"defaultValue\":\"WHOLE_KEY_RESOLVER\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000101', '4', 'leaseTokens', 'leaseTokens', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978540', '5', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978541', '5', 'protocol', 'protocol', 2, 1, 2, '{\"required\":\"0\",\"defaultValue\":\"\",\"placeholder\":\"http://\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978542', '5', 'upstreamUrl', 'ip:port', 2, 1, 1, '{\"required\":\"1\",\"placeholder\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1043,6 +1045,8 @@ INSERT INTO `plugin_handle` VALUES ('1529402613199978551', '5', 'multiRuleHandle
 INSERT INTO `plugin_handle` VALUES ('1529402613199978552', '5', 'headerMaxSize', 'headerMaxSize', 1, 2, 3, '{\"defaultValue\":\"10240\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978553', '5', 'requestMaxSize', 'requestMaxSize', 1, 2, 4, '{\"defaultValue\":\"102400\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978554', '5', 'retryStrategy', 'retryStrategy', 3, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"current\",\"placeholder\":\"retryStrategy\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000102', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000103', '5', 'retryBudget', 'retryBudget(%)', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978555', '13', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978556', '13', 'protocol', 'protocol', 2, 1, 2, '{\"defaultValue\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978557', '13', 'upstreamUrl', 'ip:port', 2, 1, 1, '{\"required\":\"1\",\"placeholder\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1141,6 +1145,8 @@ INSERT INTO `plugin_handle` VALUES ('1529402613204172865', '30', 'maxIdle', 'max
 INSERT INTO `plugin_handle` VALUES ('1529402613204172866', '30', 'minIdle', 'minIdle', 1, 3, 8, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172867', '30', 'maxActive', 'maxActive', 1, 3, 9, '{\"required\":\"0\",\"defaultValue\":\"8\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172868', '30', 'maxWait', 'maxWait', 3, 3, 10, '{\"required\":\"0\",\"defaultValue\":\"-1\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000060', '30', 'maximumBytes', 'maximumBytes', 1, 3, 11, '{\"required\":\"0\",\"defaultValue\":\"67108864\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000070', '30', 'streaming', 'streaming', 3, 3, 12, '{\"required\":\"0\",\"defaultValue\":\"false\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172869', '30', 'timeoutSeconds', 'timeoutSeconds', 1, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"60\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172870', '13', 'corethreads', 'corethreads', 1, 3, 3, '{\"required\":\"0\",\"defaultValue\":\"0\",\"placeholder\":\"corethreads\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172871', '13', 'threads', 'threads', 1, 3, 4, '{\"required\":\"0\",\"defaultValue\":\"2147483647\",\"placeholder\":\"threads\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -2104,6 +2110,7 @@ INSERT INTO `shenyu_dict` VALUES ('1529402613191589899', 'algorithmName', 'ALGOR
 INSERT INTO `shenyu_dict` VALUES ('1529402613191589900', 'algorithmName', 'ALGORITHM_LEAKYBUCKET', 'leakyBucket', 'leakyBucket', 'Leaky bucket algorithm', 1, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
 INSERT INTO `shenyu_dict` VALUES ('1529402613191589901', 'algorithmName', 'ALGORITHM_CONCURRENT', 'concurrent', 'concurrent', 'Concurrent algorithm', 2, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784192', 'algorithmName', 'ALGORITHM_TOKENBUCKET', 'tokenBucket', 'tokenBucket', 'Token bucket algorithm', 3, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737600', 'algorithmName', 'ALGORITHM_SLIDINGWINDOWCOUNTER', 'slidingWindowCounter', 'slidingWindowCounter', 'Sliding window counter algorithm', 4, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784193', 'loadBalance', 'LOAD_BALANCE', 'roundRobin', 'roundRobin', 'roundRobin', 2, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784194', 'loadBalance', 'LOAD_BALANCE', 'random', 'random', 'random', 1, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784195', 'loadBalance', 'LOAD_BALANCE', 'hash', 'hash', 'hash', 0, 1, '2022-05-25 18:02:52', '2022-05-25 18:02:52');
@@ -2162,6 +2169,8 @@ INSERT INTO `shenyu_dict` VALUES ('1529402613195784242', 'compressAlg', 'COMPRES
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784243', 'compressAlg', 'COMPRESS_ALG', 'LZ4', 'LZ4', '', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784244', 'cacheType', 'CACHE_TYPE_MEMORY', 'memory', 'memory', 'use memory to cache data', 0, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784245', 'cacheType', 'CACHE_TYPE_REDIS', 'redis', 'redis', 'use redis to cache data', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737700', 'streaming', 'CACHE_STREAMING', 'close', 'false', 'buffer the whole body before it is written and cached', 1, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737701', 'streaming', 'CACHE_STREAMING', 'open', 'true', 'write the body as it arrives and cache it once complete', 0, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784246', 'threadpool', 'THREADPOOL', 'default', 'default', '', 5, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784247', 'signRequestBody', 'SIGN_REQUEST_BODY', 'close', 'false', 'close', 1, 1, '2022-06-29 10:08:02', '2022-06-29 10:08:02');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784248', 'signRequestBody', 'SIGN_REQUEST_BODY', 'open', 'true', 'open', 0, 1, '2022-06-29 10:08:02', '2022-06-29 10:08:02');
@@ -2513,6 +2522,7 @@ INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822188','649330b6-c2d7-4edc-be8e-8a54df9eb385','51', NULL, 171, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882832189','649330b6-c2d7-4edc-be8e-8a54df9eb385','61', NULL, 180, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822300','649330b6-c2d7-4edc-be8e-8a54df9eb385','66', NULL, 66, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
+INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822301','649330b6-c2d7-4edc-be8e-8a54df9eb385','67', NULL, 155, 0, '2025-10-17 00:00:00.000', '2025-10-17 00:00:00.000');
 
 INSERT INTO `resource` (`id`, `parent_id`, `title`, `name`, `url`, `component`, `resource_type`, `sort`, `icon`, `is_leaf`, `is_route`, `perms`, `status`, `date_created`, `date_updated`) VALUES ('1792749362445840479', '1357956838021890048', 'SHENYU.MENU.SYSTEM.MANAGMENT.NAMESPACEPLUGIN', 'namespacePlugin', '/config/namespacePlugin', 'namespacePlugin', 1, 2, 'build', 0, 0, '', 1, '2024-06-25 18:02:53.000', '2024-06-25 18:02:53.000');
 INSERT INTO `resource` (`id`, `parent_id`, `title`, `name`, `url`, `component`, `resource_type`, `sort`, `icon`, `is_leaf`, `is_route`, `perms`, `status`, `date_created`, `date_updated`) VALUES ('1792749362445840480', '1792749362445840479', 'SHENYU.BUTTON.SYSTEM.LIST', '', '', '', 2, 0, '', 1, 0, 'system:namespacePlugin:list', 1, '2024-06-25 18:02:53.000', '2024-06-25 18:02:53.000');
@@ -2567,6 +2577,16 @@ INSERT INTO `permission` VALUES ('1697146860569642747', '1346358560427216896', '
 INSERT INTO `permission` VALUES ('1697146860569642748', '1346358560427216896', '1844026099075554857', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
 INSERT INTO `permission` VALUES ('1697146860569642749', '1346358560427216896', '1844026099075554858', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
 INSERT INTO `permission` VALUES ('1697146860569642750', '1346358560427216896', '1844026099075554859', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
+INSERT INTO `permission` VALUES ('1978900000000000400', '1346358560427216896', '1978900000000000300', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000401', '1346358560427216896', '1978900000000000301', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000402', '1346358560427216896', '1978900000000000302', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000403', '1346358560427216896', '1978900000000000303', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000404', '1346358560427216896', '1978900000000000304', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000405', '1346358560427216896', '1978900000000000305', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000406', '1346358560427216896', '1978900000000000306', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000407', '1346358560427216896', '1978900000000000307', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000408', '1346358560427216896', '1978900000000000308', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000409', '1346358560427216896', '1978900000000000309', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 
 INSERT INTO `plugin` VALUES ('52', 'aiPrompt', null, 'Ai', 170, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
@@ -2588,6 +2608,16 @@ INSERT INTO `resource` VALUES ('1844026099075554856', '1844026099075554850', 'SH
 INSERT INTO `resource` VALUES ('1844026099075554857', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:edit', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO `resource` VALUES ('1844026099075554858', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:delete', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO `resource` VALUES ('1844026099075554859', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPrompt:modify', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
+INSERT INTO `resource` VALUES ('1978900000000000300', '1346775491550474240', 'concurrencyLimit', 'concurrencyLimit', '/plug/concurrencyLimit', 'concurrencyLimit', 1, 0, 'stop', 0, 0, '', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000301', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000302', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000303', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000304', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000305', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000306', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000307', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000308', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000309', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimit:modify', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737580', 'preRole', 'ROLE_TYPE_SYSTEM', 'SYSTEM', 'system', 'system', 0, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737581', 'preRole', 'ROLE_TYPE_USER', 'USER', 'user', 'user', 1, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
@@ -2620,6 +2650,13 @@ INSERT INTO `plugin_handle` VALUES ('1722804548510507356', '66', 'baseUrl', 'bas
 INSERT INTO `plugin_handle` VALUES ('1722804548510507357', '66', 'apiKey', 'apiKey', 2, 2, 2, '{"required":"0","rule":""}', '2025-03-12 06:02:18.707', '2025-03-12 06:02:18.707');
 INSERT INTO `plugin_handle` VALUES ('1722804548510507358', '66', 'model', 'model', 2, 2, 3, '{"required":"0","rule":""}', '2025-03-12 06:02:32.450', '2025-03-12 06:02:32.450');
 INSERT INTO `plugin_handle` VALUES ('1722804548510507359', '66', 'content', 'content', 2, 2, 4, '{"required":"0","rule":""}', '2025-03-12 06:02:32.450', '2025-03-12 06:02:32.450');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000201', '67', 'algorithmName', 'algorithmName', 2, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"gradient\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000202', '67', 'initialLimit', 'initialLimit', 1, 2, 1, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000203', '67', 'minLimit', 'minLimit', 1, 2, 2, '{\"required\":\"0\",\"defaultValue\":\"1\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000204', '67', 'maxLimit', 'maxLimit', 1, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"1000\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000205', '67', 'smoothing', 'smoothing', 1, 2, 4, '{\"required\":\"0\",\"defaultValue\":\"0.2\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000206', '67', 'rttTolerance', 'rttTolerance', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"1.5\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000207', '67', 'sampleWindow', 'sampleWindow(ms)', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"1000\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 DROP TABLE IF EXISTS `registry_config`;
 CREATE TABLE `registry_config`  (
@@ -991,6 +991,7 @@ INSERT INTO "public"."plugin" VALUES ('50', 'aiProxy', '{"provider":"OpenAI","ba
 INSERT INTO "public"."plugin" VALUES ('51', 'aiTokenLimiter', NULL, 'Ai', 171, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
 INSERT INTO "public"."plugin" VALUES ('53', 'aiRequestTransformer', NULL, 'Ai', 65, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
 INSERT INTO "public"."plugin" VALUES ('66', 'aiResponseTransformer', NULL, 'Ai', 66, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
+INSERT INTO "public"."plugin" VALUES ('67', 'concurrencyLimit', NULL, 'FaultTolerance', 155, 0, '2025-10-17 00:00:00', '2025-10-17 00:00:00', null);
 
 -- ----------------------------
 -- Table structure for plugin_handle
@@ -1065,6 +1066,7 @@ INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136291', '2', 'model'
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136292', '6', 'register', 'register', 2, 3, 1, NULL, '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136293', '4', 'algorithmName', 'algorithmName', 3, 2, 1, '{"required":"1","defaultValue":"slidingWindow","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136294', '4', 'keyResolverName', 'keyResolverName', 3, 2, 4, '{"required":"1","defaultValue":"WHOLE_KEY_RESOLVER","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000101', '4', 'leaseTokens', 'leaseTokens', 1, 2, 5, '{"required":"0","defaultValue":"0","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136295', '5', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136296', '5', 'protocol', 'protocol', 2, 1, 2, '{"required":"0","defaultValue":"","placeholder":"http://","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902775136297', '5', 'upstreamUrl', 'ip:port', 2, 1, 1, '{"required":"1","placeholder":"","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
@@ -1080,6 +1082,8 @@ INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330564', '5', 'multiR
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330565', '5', 'headerMaxSize', 'headerMaxSize', 1, 2, 3, '{"defaultValue":"10240","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330566', '5', 'requestMaxSize', 'requestMaxSize', 1, 2, 4, '{"defaultValue":"102400","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330567', '5', 'retryStrategy', 'retryStrategy', 3, 2, 0, '{"required":"0","defaultValue":"current","placeholder":"retryStrategy","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000102', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{"required":"0","defaultValue":"0","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000103', '5', 'retryBudget', 'retryBudget(%)', 1, 2, 6, '{"required":"0","defaultValue":"20","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330568', '13', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330569', '13', 'protocol', 'protocol', 2, 1, 2, '{"defaultValue":"","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330570', '13', 'upstreamUrl', 'ip:port', 2, 1, 1, '{"required":"1","placeholder":"","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
@@ -1180,6 +1184,8 @@ INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524908', '30', 'maxId
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524909', '30', 'minIdle', 'minIdle', 1, 3, 8, '{"required":"0","defaultValue":"0","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524910', '30', 'maxActive', 'maxActive', 1, 3, 9, '{"required":"0","defaultValue":"8","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524911', '30', 'maxWait', 'maxWait', 3, 3, 10, '{"required":"0","defaultValue":"-1","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000060', '30', 'maximumBytes', 'maximumBytes', 1, 3, 11, '{"required":"0","defaultValue":"67108864","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000070', '30', 'streaming', 'streaming', 3, 3, 12, '{"required":"0","defaultValue":"false","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524912', '30', 'timeoutSeconds', 'timeoutSeconds', 1, 2, 0, '{"required":"0","defaultValue":"60","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524913', '13', 'corethreads', 'corethreads', 1, 3, 3, '{"required":"0","defaultValue":"0","placeholder":"corethreads","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902783524914', '13', 'threads', 'threads', 1, 3, 4, '{"required":"0","defaultValue":"2147483647","placeholder":"threads","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
@@ -2082,6 +2088,7 @@ INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107787', 'algorithmName
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107788', 'algorithmName', 'ALGORITHM_LEAKYBUCKET', 'leakyBucket', 'leakyBucket', 'Leaky bucket algorithm', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107789', 'algorithmName', 'ALGORITHM_CONCURRENT', 'concurrent', 'concurrent', 'Concurrent algorithm', 2, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107790', 'algorithmName', 'ALGORITHM_TOKENBUCKET', 'tokenBucket', 'tokenBucket', 'Token bucket algorithm', 3, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
+INSERT INTO "public"."shenyu_dict" VALUES ('1679002911061737600', 'algorithmName', 'ALGORITHM_SLIDINGWINDOWCOUNTER', 'slidingWindowCounter', 'slidingWindowCounter', 'Sliding window counter algorithm', 4, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107791', 'loadBalance', 'LOAD_BALANCE', 'roundRobin', 'roundRobin', 'roundRobin', 2, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107792', 'loadBalance', 'LOAD_BALANCE', 'random', 'random', 'random', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902796107793', 'loadBalance', 'LOAD_BALANCE', 'hash', 'hash', 'hash', 0, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
@@ -2136,6 +2143,8 @@ INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302094', 'compressAlg',
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302095', 'compressAlg', 'COMPRESS_ALG', 'LZ4', 'LZ4', '', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302096', 'cacheType', 'CACHE_TYPE_MEMORY', 'memory', 'memory', 'use memory to cache data', 0, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302097', 'cacheType', 'CACHE_TYPE_REDIS', 'redis', 'redis', 'use redis to cache data', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
+INSERT INTO "public"."shenyu_dict" VALUES ('1679002911061737700', 'streaming', 'CACHE_STREAMING', 'close', 'false', 'buffer the whole body before it is written and cached', 1, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1679002911061737701', 'streaming', 'CACHE_STREAMING', 'open', 'true', 'write the body as it arrives and cache it once complete', 0, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302093', 'table', 'INIT_FLAG', 'status', 'true', 'table(resource,permission) init status', 0, 0, '2022-05-25 18:08:02', '2022-05-25 18:08:07.275');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302098', 'threadpool', 'THREADPOOL', 'default', 'default', '', 5, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302099', 'signRequestBody', 'SIGN_REQUEST_BODY', 'close', 'false', 'close', 1, 1, '2022-06-29 10:08:02', '2022-06-29 10:08:02');
@@ -2717,6 +2726,7 @@ INSERT INTO "public"."namespace_plugin_rel" VALUES ('1801816010882822187','64933
 INSERT INTO "public"."namespace_plugin_rel" VALUES ('1801816010882822188','649330b6-c2d7-4edc-be8e-8a54df9eb385','51', NULL, 171, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO "public"."namespace_plugin_rel" VALUES ('1801816010882822190','649330b6-c2d7-4edc-be8e-8a54df9eb385','53', NULL, 65, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
 INSERT INTO "public"."namespace_plugin_rel" VALUES ('1801816010882822300','649330b6-c2d7-4edc-be8e-8a54df9eb385','66', NULL, 66, 0, '2022-05-25 18:02:53.000', '2022-05-25 18:02:53.000');
+INSERT INTO "public"."namespace_plugin_rel" VALUES ('1801816010882822301','649330b6-c2d7-4edc-be8e-8a54df9eb385','67', NULL, 155, 0, '2025-10-17 00:00:00.000', '2025-10-17 00:00:00.000');
 
 INSERT INTO "public"."resource" VALUES ('1792749362445840479', '1357956838021890048', 'SHENYU.MENU.SYSTEM.MANAGMENT.NAMESPACEPLUGIN', 'namespacePlugin', '/config/namespacePlugin', 'namespacePlugin', 1, 2, 'build', 0, 0, '', 1, '2024-06-25 18:02:53.000', '2024-06-25 18:02:53.000');
 INSERT INTO "public"."resource" VALUES ('1792749362445840480', '1792749362445840479', 'SHENYU.BUTTON.SYSTEM.LIST', '', '', '', 2, 0, '', 1, 0, 'system:namespacePlugin:list', 1, '2024-06-25 18:02:53.000', '2024-06-25 18:02:53.000');
@@ -2864,6 +2874,13 @@ INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507356', '66', 'baseU
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507357', '66', 'apiKey', 'apiKey', 2, 2, 2, '{"required":"0","rule":""}', '2025-03-12 06:02:18.707', '2025-03-12 06:02:18.707');
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507358', '66', 'model', 'model', 2, 2, 3, '{"required":"0","rule":""}', '2025-03-12 06:02:32.450', '2025-03-12 06:02:32.450');
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507359', '66', 'content', 'content', 2, 2, 4, '{"required":"0","rule":""}', '2025-03-12 06:02:32.450', '2025-03-12 06:02:32.450');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000201', '67', 'algorithmName', 'algorithmName', 2, 2, 0, '{"required":"0","defaultValue":"gradient","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000202', '67', 'initialLimit', 'initialLimit', 1, 2, 1, '{"required":"0","defaultValue":"20","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000203', '67', 'minLimit', 'minLimit', 1, 2, 2, '{"required":"0","defaultValue":"1","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000204', '67', 'maxLimit', 'maxLimit', 1, 2, 3, '{"required":"0","defaultValue":"1000","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000205', '67', 'smoothing', 'smoothing', 1, 2, 4, '{"required":"0","defaultValue":"0.2","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000206', '67', 'rttTolerance', 'rttTolerance', 1, 2, 5, '{"required":"0","defaultValue":"1.5","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1978900000000000207', '67', 'sampleWindow', 'sampleWindow(ms)', 1, 2, 6, '{"required":"0","defaultValue":"1000","rule":""}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 DROP TABLE IF EXISTS "public"."instance_info";
 CREATE TABLE "public"."instance_info" (
@@ -2905,6 +2922,16 @@ INSERT INTO "public"."resource" VALUES ('1844026099075554856', '1844026099075554
 INSERT INTO "public"."resource" VALUES ('1844026099075554857', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:edit', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO "public"."resource" VALUES ('1844026099075554858', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:delete', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO "public"."resource" VALUES ('1844026099075554859', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPrompt:modify', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
+INSERT INTO "public"."resource" VALUES ('1978900000000000300', '1346775491550474240', 'concurrencyLimit', 'concurrencyLimit', '/plug/concurrencyLimit', 'concurrencyLimit', 1, 0, 'stop', 0, 0, '', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000301', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000302', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000303', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000304', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000305', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000306', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000307', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000308', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."resource" VALUES ('1978900000000000309', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimit:modify', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 INSERT INTO "public"."resource" VALUES ('1844026099075565000', '1346775491550474240', 'aiResponseTransformer', 'aiResponseTransformer', '/plug/aiResponseTransformer', 'aiResponseTransformer', 1, 0, 'pic-center', 0, 0, '', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO "public"."resource" VALUES ('1844026099075565001', '1844026099075565000', 'SHENYU.BUTTON.PLUGIN.SELECTOR.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:aiResponseTransformerSelector:add', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO "public"."resource" VALUES ('1844026099075565002', '1844026099075565000', 'SHENYU.BUTTON.PLUGIN.SELECTOR.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:aiResponseTransformerSelector:query', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
@@ -3052,3 +3079,13 @@ INSERT INTO "public"."permission" VALUES ('1953049887387303902', '13463585604272
 INSERT INTO "public"."permission" VALUES ('1953049887387303903', '1346358560427216896', '1953048313980116902', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
 INSERT INTO "public"."permission" VALUES ('1953049887387303904', '1346358560427216896', '1953048313980116903', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
 INSERT INTO "public"."permission" VALUES ('1953049887387303905', '1346358560427216896', '1953048313980116904', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
+INSERT INTO "public"."permission" VALUES ('1978900000000000400', '1346358560427216896', '1978900000000000300', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000401', '1346358560427216896', '1978900000000000301', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000402', '1346358560427216896', '1978900000000000302', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000403', '1346358560427216896', '1978900000000000303', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000404', '1346358560427216896', '1978900000000000304', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000405', '1346358560427216896', '1978900000000000305', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000406', '1346358560427216896', '1978900000000000306', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000407', '1346358560427216896', '1978900000000000307', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000408', '1346358560427216896', '1978900000000000308', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO "public"."permission" VALUES ('1978900000000000409', '1346358560427216896', '1978900000000000309', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
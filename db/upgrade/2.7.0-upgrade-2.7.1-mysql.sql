@@ -91,6 +91,16 @@ INSERT INTO `permission` VALUES ('1697146860569642747', '1346358560427216896', '
 INSERT INTO `permission` VALUES ('1697146860569642748', '1346358560427216896', '1844026099075554857', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
 INSERT INTO `permission` VALUES ('1697146860569642749', '1346358560427216896', '1844026099075554858', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
 INSERT INTO `permission` VALUES ('1697146860569642750', '1346358560427216896', '1844026099075554859', '2023-08-31 07:18:37', '2023-08-31 07:18:37');
+INSERT INTO `permission` VALUES ('1978900000000000400', '1346358560427216896', '1978900000000000300', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000401', '1346358560427216896', '1978900000000000301', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000402', '1346358560427216896', '1978900000000000302', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000403', '1346358560427216896', '1978900000000000303', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000404', '1346358560427216896', '1978900000000000304', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000405', '1346358560427216896', '1978900000000000305', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000406', '1346358560427216896', '1978900000000000306', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000407', '1346358560427216896', '1978900000000000307', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000408', '1346358560427216896', '1978900000000000308', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `permission` VALUES ('1978900000000000409', '1346358560427216896', '1978900000000000309', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 
 INSERT INTO `plugin` VALUES ('52', 'aiPrompt', null, 'Ai', 170, 0, '2023-12-20 18:02:53', '2023-12-20 18:02:53', null);
@@ -112,6 +122,16 @@ INSERT INTO `resource` VALUES ('1844026099075554856', '1844026099075554850', 'SH
 INSERT INTO `resource` VALUES ('1844026099075554857', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:edit', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO `resource` VALUES ('1844026099075554858', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPromptRule:delete', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
 INSERT INTO `resource` VALUES ('1844026099075554859', '1844026099075554850', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:aiPrompt:modify', 1, '2022-05-25 18:02:58', '2022-05-25 18:02:58');
+INSERT INTO `resource` VALUES ('1978900000000000300', '1346775491550474240', 'concurrencyLimit', 'concurrencyLimit', '/plug/concurrencyLimit', 'concurrencyLimit', 1, 0, 'stop', 0, 0, '', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000301', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000302', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000303', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000304', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SELECTOR.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitSelector:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000305', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.ADD', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:add', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000306', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.QUERY', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:query', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000307', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.EDIT', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:edit', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000308', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.RULE.DELETE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimitRule:delete', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `resource` VALUES ('1978900000000000309', '1978900000000000300', 'SHENYU.BUTTON.PLUGIN.SYNCHRONIZE', '', '', '', 2, 0, '', 1, 0, 'plugin:concurrencyLimit:modify', 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737580', 'preRole', 'ROLE_TYPE_SYSTEM', 'SYSTEM', 'system', 'system', 0, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737581', 'preRole', 'ROLE_TYPE_USER', 'USER', 'user', 'user', 1, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
@@ -164,6 +184,9 @@ INSERT INTO `shenyu_dict` VALUES ('1679002911061737492', 'aiTokenLimitKey', 'URI
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737493', 'aiTokenLimitKey', 'HEADER_KEY_RESOLVER', 'header', 'header', 'Rate limit by request header', 3, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737494', 'aiTokenLimitKey', 'PARAMETER_KEY_RESOLVER', 'parameter', 'parameter', 'Rate limit by request parameter', 4, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
 INSERT INTO `shenyu_dict` VALUES ('1679002911061737495', 'aiTokenLimitKey', 'COOKIE_KEY_RESOLVER', 'cookie', 'cookie', 'Rate limit by request cookie', 5, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737700', 'streaming', 'CACHE_STREAMING', 'close', 'false', 'buffer the whole body before it is written and cached', 1, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737701', 'streaming', 'CACHE_STREAMING', 'open', 'true', 'write the body as it arrives and cache it once complete', 0, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1679002911061737600', 'algorithmName', 'ALGORITHM_SLIDINGWINDOWCOUNTER', 'slidingWindowCounter', 'slidingWindowCounter', 'Sliding window counter algorithm', 4, 1, '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 INSERT INTO `plugin_handle` VALUES ('1899702350766538752', '51', 'aiTokenLimitKey', 'aiTokenLimitKey', 3, 2, 0, '{\"required\":\"0\",\"rule\":\"\"}', '2025-03-12 06:01:49.725', '2025-03-12 06:07:49.856');
 INSERT INTO `plugin_handle` VALUES ('1899702411294539776', '51', 'timeWindowSeconds', 'timeWindowSeconds', 1, 2, 1, '{\"required\":\"0\",\"rule\":\"\"}', '2025-03-12 06:02:04.155', '2025-03-12 06:02:04.155');
@@ -239,6 +262,11 @@ INSERT INTO `plugin_handle` VALUES ('1529402613204173925', '6', 'registry', 'reg
 UPDATE `plugin_handle` SET ext_obj = '{\"required\":\"0\",\"rule\":\"\"}' WHERE plugin_id = '6' AND label = 'ip:port' AND data_type = 2;
 
 INSERT INTO `plugin_handle` VALUES ('1942847622591684608', '61', 'messageEndpoint', 'messageEndpoint', 2, 1, 0, '{"required":"0","defaultValue":"/message","rule":""}', '2025-07-09 07:25:44.249', '2025-07-09 07:25:44.249');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000060', '30', 'maximumBytes', 'maximumBytes', 1, 3, 11, '{\"required\":\"0\",\"defaultValue\":\"67108864\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000070', '30', 'streaming', 'streaming', 3, 3, 12, '{\"required\":\"0\",\"defaultValue\":\"false\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000101', '4', 'leaseTokens', 'leaseTokens', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000102', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000103', '5', 'retryBudget', 'retryBudget(%)', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
 
 CREATE TABLE `registry_config`  (
                                     `id` varchar(128) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL COMMENT 'primary key id',
@@ -265,3 +293,15 @@ INSERT INTO `permission` (`id`, `object_id`, `resource_id`, `date_created`, `dat
 INSERT INTO `permission` (`id`, `object_id`, `resource_id`, `date_created`, `date_updated`) VALUES ('1953049887387303903', '1346358560427216896', '1953048313980116902', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
 INSERT INTO `permission` (`id`, `object_id`, `resource_id`, `date_created`, `date_updated`) VALUES ('1953049887387303904', '1346358560427216896', '1953048313980116903', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
 INSERT INTO `permission` (`id`, `object_id`, `resource_id`, `date_created`, `date_updated`) VALUES ('1953049887387303905', '1346358560427216896', '1953048313980116904', '2025-08-06 17:00:00.000', '2025-08-06 17:00:00.000');
+
+INSERT INTO `plugin` VALUES ('67', 'concurrencyLimit', NULL, 'FaultTolerance', 155, 0, '2025-10-17 00:00:00', '2025-10-17 00:00:00', null);
+
+INSERT INTO `namespace_plugin_rel` (`id`,`namespace_id`,`plugin_id`, `config`, `sort`, `enabled`, `date_created`, `date_updated`) VALUES ('1801816010882822301','649330b6-c2d7-4edc-be8e-8a54df9eb385','67', NULL, 155, 0, '2025-10-17 00:00:00.000', '2025-10-17 00:00:00.000');
+
+INSERT INTO `plugin_handle` VALUES ('1978900000000000201', '67', 'algorithmName', 'algorithmName', 2, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"gradient\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000202', '67', 'initialLimit', 'initialLimit', 1, 2, 1, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000203', '67', 'minLimit', 'minLimit', 1, 2, 2, '{\"required\":\"0\",\"defaultValue\":\"1\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000204', '67', 'maxLimit', 'maxLimit', 1, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"1000\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000205', '67', 'smoothing', 'smoothing', 1, 2, 4, '{\"required\":\"0\",\"defaultValue\":\"0.2\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000206', '67', 'rttTolerance', 'rttTolerance', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"1.5\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
+INSERT INTO `plugin_handle` VALUES ('1978900000000000207', '67', 'sampleWindow', 'sampleWindow(ms)', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"1000\",\"rule\":\"\"}', '2025-10-17 00:00:00', '2025-10-17 00:00:00');
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.cache;
+
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes of {@link WindowTinyLFUMap} filled up to its maximum size.
+ *
+ * <p>Reads hit a key present in the map, misses and writes use keys outside of it.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WindowTinyLFUMapBenchmark {
+
+    private static final int KEY_COUNT = 1 << 12;
+
+    @Param({"1000", "10000", "100000"})
+    private int maximumSize;
+
+    private Map<String, Object> map;
+
+    private String[] hitKeys;
+
+    private String[] missKeys;
+
+    private int cursor;
+
+    /**
+     * fill the map.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = new WindowTinyLFUMap<>(maximumSize);
+        for (int i = 0; i < maximumSize; i++) {
+            map.put("/service/api/" + i, i);
+        }
+        hitKeys = new String[KEY_COUNT];
+        missKeys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            hitKeys[i] = "/service/api/" + (i * 31 % maximumSize);
+            missKeys[i] = "/service/other/" + i;
+        }
+    }
+
+    /**
+     * read a present key.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public Object getHit() {
+        return map.get(hitKeys[cursor++ & (KEY_COUNT - 1)]);
+    }
+
+    /**
+     * read an absent key.
+     *
+     * @return null
+     */
+    @Benchmark
+    public Object getMiss() {
+        return map.get(missKeys[cursor++ & (KEY_COUNT - 1)]);
+    }
+
+    /**
+     * write a new key, evicting an old one.
+     *
+     * @return the previous value
+     */
+    @Benchmark
+    public Object put() {
+        final int index = cursor++ & (KEY_COUNT - 1);
+        return map.put(missKeys[index], index);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.chain;
+
+import org.apache.shenyu.benchmark.support.MockExchangeBuilder;
+import org.apache.shenyu.benchmark.support.RouteDataFactory;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.web.handler.ShenyuWebHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request through the default plugin chain of {@link ShenyuWebHandler}.
+ *
+ * <p>Half of the plugins are plain plugins overriding {@code skip}, the other half template plugins
+ * without plugin data, like the many plugins a gateway ships but does not enable.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginChainBenchmark {
+
+    @Param({"10", "40"})
+    private int pluginCount;
+
+    private ShenyuWebHandler webHandler;
+
+    /**
+     * build the web handler.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        RouteDataFactory.initSpringContext(shenyuConfig);
+        List<ShenyuPlugin> plugins = new ArrayList<>(pluginCount);
+        for (int i = 0; i < pluginCount; i++) {
+            plugins.add(i % 2 == 0 ? new PlainPlugin(i) : new DisabledTemplatePlugin(i));
+        }
+        webHandler = new ShenyuWebHandler(plugins, null, shenyuConfig);
+    }
+
+    /**
+     * run a request through the chain.
+     *
+     * @return the request attributes
+     */
+    @Benchmark
+    public Object handle() {
+        ServerWebExchange exchange = MockExchangeBuilder.path("/service/api/order").build();
+        webHandler.handle(exchange).block();
+        return exchange.getAttributes();
+    }
+
+    private static final class PlainPlugin implements ShenyuPlugin {
+
+        private final int order;
+
+        PlainPlugin(final int order) {
+            this.order = order;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return "plain-" + order;
+        }
+
+        @Override
+        public boolean skip(final ServerWebExchange exchange) {
+            return false;
+        }
+    }
+
+    private static final class DisabledTemplatePlugin extends AbstractShenyuPlugin {
+
+        private final int order;
+
+        DisabledTemplatePlugin(final int order) {
+            this.order = order;
+        }
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return "template-" + order;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.condition;
+
+import org.apache.shenyu.benchmark.support.MockExchangeBuilder;
+import org.apache.shenyu.benchmark.support.RouteDataFactory;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MatchStrategyFactory#match(Integer, List, ServerWebExchange)} with every {@link PredicateJudge}.
+ *
+ * <p>Each operator is judged against a header with a value that matches, the time operators against a header
+ * holding a date. {@code conditionCount} copies of the condition make up the condition list.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchStrategyBenchmark {
+
+    private static final String HEADER = "X-Benchmark";
+
+    private static final String HEADER_VALUE = "/order/findById/42";
+
+    private static final String TIME_HEADER = "X-Benchmark-Time";
+
+    private static final String TIME_HEADER_VALUE = "2050-01-01 00:00:00";
+
+    @Param({"=", "match", "regex", "contains", "startsWith", "endsWith", "TimeBefore", "TimeAfter", "exclude", "pathPattern", "isBlank"})
+    private String operator;
+
+    @Param({"and", "or"})
+    private String strategy;
+
+    @Param({"1", "5"})
+    private int conditionCount;
+
+    private Integer matchMode;
+
+    private List<ConditionData> conditions;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * build the conditions and the exchange.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchMode = MatchModeEnum.OR.getName().equals(strategy) ? MatchModeEnum.OR.getCode() : MatchModeEnum.AND.getCode();
+        final String header = operator.startsWith("Time") ? TIME_HEADER : HEADER;
+        ConditionData conditionData = RouteDataFactory.condition(ParamTypeEnum.HEADER.getName(), header, operator, paramValue(operator));
+        conditions = new ArrayList<>(Collections.nCopies(conditionCount, conditionData));
+        exchange = MockExchangeBuilder.path(HEADER_VALUE).header(HEADER, HEADER_VALUE).header(TIME_HEADER, TIME_HEADER_VALUE).build();
+    }
+
+    /**
+     * match the condition list.
+     *
+     * @return the match result
+     */
+    @Benchmark
+    public boolean match() {
+        return MatchStrategyFactory.match(matchMode, conditions, exchange);
+    }
+
+    private static String paramValue(final String operator) {
+        switch (operator) {
+            case "match":
+            case "pathPattern":
+                return "/order/**";
+            case "regex":
+                return "/order/.*/\\d+";
+            case "contains":
+                return "findById";
+            case "startsWith":
+                return "/order";
+            case "endsWith":
+                return "/42";
+            case "TimeBefore":
+                return "2099-01-01 00:00:00";
+            case "TimeAfter":
+                return "2000-01-01 00:00:00";
+            case "exclude":
+                return "/user/**";
+            case "isBlank":
+                return "";
+            default:
+                return HEADER_VALUE;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.json;
+
+import org.apache.shenyu.benchmark.support.RouteDataFactory;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GsonUtils} decode of the {@link SelectorData} and {@link RuleData} pushed by data sync.
+ *
+ * <p>{@code conditionCount} uri conditions are added to each object to grow the payload.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonDecodeBenchmark {
+
+    @Param({"1", "10"})
+    private int conditionCount;
+
+    private String selectorJson;
+
+    private String ruleJson;
+
+    /**
+     * encode the payloads.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SelectorData selector = RouteDataFactory.selector("divide", 1);
+        RuleData rule = RouteDataFactory.rule("divide", selector.getId(), 1);
+        List<ConditionData> conditions = new ArrayList<>();
+        for (int i = 0; i < conditionCount; i++) {
+            conditions.add(RouteDataFactory.condition("uri", "/", "match", "/service" + i + "/**"));
+        }
+        selector.setConditionList(conditions);
+        selector.setHandle("[{\"upstreamUrl\":\"127.0.0.1:8080\",\"weight\":50,\"status\":true,\"warmup\":10}]");
+        rule.setConditionDataList(conditions);
+        rule.setHandle("{\"loadBalance\":\"random\",\"retryStrategy\":\"current\",\"retry\":3,\"timeout\":3000}");
+        selectorJson = GsonUtils.getInstance().toJson(selector);
+        ruleJson = GsonUtils.getInstance().toJson(rule);
+    }
+
+    /**
+     * decode a selector.
+     *
+     * @return the selector
+     */
+    @Benchmark
+    public SelectorData decodeSelector() {
+        return GsonUtils.getInstance().fromJson(selectorJson, SelectorData.class);
+    }
+
+    /**
+     * decode a rule.
+     *
+     * @return the rule
+     */
+    @Benchmark
+    public RuleData decodeRule() {
+        return GsonUtils.getInstance().fromJson(ruleJson, RuleData.class);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.loadbalancer;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
+import org.apache.shenyu.spi.ExtensionLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoadBalancer#select(List, String)} of every load balancer SPI.
+ *
+ * <p>Upstreams have distinct weights and are past their warmup, so the weighted paths are taken.
+ * {@link #selectByFactory()} resolves the load balancer by name for every selection like the divide plugin
+ * used to, {@link #select()} uses the instance bound to the rule handle.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBalancerBenchmark {
+
+    private static final int IP_COUNT = 1 << 8;
+
+    @Param({"random", "roundRobin", "hash", "leastActive", "p2c", "shortestResponse"})
+    private String algorithm;
+
+    @Param({"3", "10", "100"})
+    private int upstreamCount;
+
+    private LoadBalancer loadBalancer;
+
+    private List<Upstream> upstreams;
+
+    private String[] ips;
+
+    private int cursor;
+
+    /**
+     * build the upstreams.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        loadBalancer = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
+        upstreams = new ArrayList<>(upstreamCount);
+        final long timestamp = System.currentTimeMillis() - 3_600_000L;
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreams.add(Upstream.builder().protocol("http://").url("10.0." + (i / 250) + "." + (i % 250) + ":8080")
+                    .weight(50 + i % 50).status(true).timestamp(timestamp).warmup(600_000).build());
+        }
+        ips = new String[IP_COUNT];
+        for (int i = 0; i < IP_COUNT; i++) {
+            ips[i] = "192.168.1." + i;
+        }
+    }
+
+    /**
+     * select an upstream.
+     *
+     * @return the upstream
+     */
+    @Benchmark
+    public Upstream select() {
+        return loadBalancer.select(upstreams, ips[cursor++ & (IP_COUNT - 1)]);
+    }
+
+    /**
+     * resolve the load balancer by name and select an upstream.
+     *
+     * @return the upstream
+     */
+    @Benchmark
+    public Upstream selectByFactory() {
+        return LoadBalancerFactory.selector(upstreams, algorithm, ips[cursor++ & (IP_COUNT - 1)]);
+    }
+}
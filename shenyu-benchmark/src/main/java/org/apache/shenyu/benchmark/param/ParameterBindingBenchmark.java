@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.param;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BodyParamUtils#buildParameters(String, String)} binding a generic invocation body, against the
+ * parse, write back and parse again conversion it replaced.
+ *
+ * <p>The body holds a user object, an item list and a number, grown to about {@code payloadKb} kilobytes
+ * by the item list.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterBindingBenchmark {
+
+    private static final String PARAMETER_TYPES = "{\"user\":\"org.apache.shenyu.example.User\",\"items\":\"java.util.List\",\"count\":\"java.lang.Integer\"}";
+
+    @Param({"1", "5"})
+    private int payloadKb;
+
+    private String body;
+
+    /**
+     * build the body.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", 10086);
+        user.put("name", "shenyu");
+        user.put("tags", List.of("gateway", "rpc"));
+        List<Map<String, Object>> items = new ArrayList<>();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("user", user);
+        payload.put("items", items);
+        payload.put("count", 0);
+        int i = 0;
+        while (GsonUtils.getInstance().toJson(payload).length() < payloadKb * 1024) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", "sku-" + i);
+            item.put("price", 19.99 + i);
+            item.put("attributes", Map.of("color", "red", "size", "L"));
+            items.add(item);
+            payload.put("count", ++i);
+        }
+        body = GsonUtils.getInstance().toJson(payload);
+    }
+
+    /**
+     * bind the body with the compiled binder.
+     *
+     * @return the parameters
+     */
+    @Benchmark
+    public Pair<String[], Object[]> compiledBinder() {
+        return BodyParamUtils.buildParameters(body, PARAMETER_TYPES);
+    }
+
+    /**
+     * bind the body the way it was done before the binder, parsing the types and every nested value again.
+     *
+     * @return the arguments
+     */
+    @Benchmark
+    public Object[] reparse() {
+        Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(PARAMETER_TYPES, String.class);
+        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
+        return paramNameMap.keySet().stream().map(key -> {
+            Object obj = paramMap.get(key);
+            if (obj instanceof JsonObject) {
+                return GsonUtils.getInstance().convertToMap(obj.toString());
+            } else if (obj instanceof JsonArray) {
+                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
+            }
+            return obj;
+        }).toArray();
+    }
+}
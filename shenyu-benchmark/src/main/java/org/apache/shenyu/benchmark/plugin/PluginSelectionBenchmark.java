@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.benchmark.support.MockExchangeBuilder;
+import org.apache.shenyu.benchmark.support.RouteDataFactory;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selector and rule selection of {@link AbstractShenyuPlugin#execute(ServerWebExchange, ShenyuPluginChain)}.
+ *
+ * <p>The exchanges are built up front, so the score is the selection cost only. With {@code matchCache}
+ * on, the L1 selector and rule caches are enabled as in the default gateway config.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginSelectionBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    private static final int REQUEST_COUNT = 1 << 10;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int routeCount;
+
+    @Param({"false", "true"})
+    private boolean matchCache;
+
+    private BenchmarkPlugin plugin;
+
+    private ShenyuPluginChain chain;
+
+    private ServerWebExchange[] exchanges;
+
+    private int cursor;
+
+    /**
+     * cache the routes and build the exchanges.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getSelectorMatchCache().getCache().setEnabled(matchCache);
+        shenyuConfig.getRuleMatchCache().getCache().setEnabled(matchCache);
+        RouteDataFactory.initSpringContext(shenyuConfig);
+        RouteDataFactory.cacheRoutes(PLUGIN_NAME, routeCount);
+        plugin = new BenchmarkPlugin();
+        chain = exchange -> Mono.empty();
+        Random random = new Random(routeCount);
+        exchanges = new ServerWebExchange[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            exchanges[i] = MockExchangeBuilder.path(RouteDataFactory.requestPath(random.nextInt(routeCount))).build();
+        }
+    }
+
+    /**
+     * remove the routes.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RouteDataFactory.removeRoutes(PLUGIN_NAME, routeCount);
+    }
+
+    /**
+     * select the selector and rule of a request.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void execute(final Blackhole blackhole) {
+        plugin.setBlackhole(blackhole);
+        blackhole.consume(plugin.execute(exchanges[cursor++ & (REQUEST_COUNT - 1)], chain));
+    }
+
+    /**
+     * consumes the selected selector and rule.
+     */
+    private static final class BenchmarkPlugin extends AbstractShenyuPlugin {
+
+        private Blackhole blackhole;
+
+        void setBlackhole(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            blackhole.consume(rule);
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return PLUGIN_NAME;
+        }
+    }
+}
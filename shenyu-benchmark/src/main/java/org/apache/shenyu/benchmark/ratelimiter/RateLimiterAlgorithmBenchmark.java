@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.ratelimiter;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.infra.redis.RedisConfigProperties;
+import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedisRateLimiter#isAllowed(String, RateLimiterHandle)} of the redis backed algorithms against an embedded redis.
+ *
+ * <p>The limit is high enough for every request to be allowed, which is the worst case for the sorted set of the
+ * sliding window algorithm. The redis memory used by the keys is printed after each trial.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterAlgorithmBenchmark {
+
+    private static final int REDIS_PORT = 63_800;
+
+    @Param({"slidingWindow", "slidingWindowCounter", "tokenBucket"})
+    private String algorithm;
+
+    @Param({"1", "1000"})
+    private int keyCount;
+
+    private RedisServer redisServer;
+
+    private RedisRateLimiter redisRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    private String[] keys;
+
+    private int cursor;
+
+    /**
+     * start the embedded redis and build the limiter.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisServer = RedisServer.builder().port(REDIS_PORT).setting("maxmemory 512m").build();
+        redisServer.start();
+        RedisConfigProperties redisConfigProperties = new RedisConfigProperties();
+        redisConfigProperties.setUrl("127.0.0.1:" + REDIS_PORT);
+        new RateLimiterPluginDataHandler().handlerPlugin(PluginData.builder().enabled(true)
+                .config(GsonUtils.getInstance().toJson(redisConfigProperties)).build());
+        redisRateLimiter = new RedisRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName(algorithm);
+        rateLimiterHandle.setReplenishRate(10_000);
+        rateLimiterHandle.setBurstCapacity(1_000_000);
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "benchmark-" + i;
+        }
+    }
+
+    /**
+     * print the redis memory and stop the embedded redis.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try (ReactiveRedisConnection connection = Singleton.INST.get(ReactiveRedisTemplate.class).getConnectionFactory().getReactiveConnection()) {
+            Properties memory = connection.serverCommands().info("memory").block();
+            if (Objects.nonNull(memory)) {
+                System.out.printf("%n%s, %d keys: redis used_memory_human=%s%n", algorithm, keyCount, memory.getProperty("used_memory_human"));
+            }
+        } finally {
+            redisServer.stop();
+        }
+    }
+
+    /**
+     * check one request.
+     *
+     * @return the response
+     */
+    @Benchmark
+    public RateLimiterResponse isAllowed() {
+        return redisRateLimiter.isAllowed(keys[cursor++ % keyCount], rateLimiterHandle).block();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.support;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the {@link ServerWebExchange} a benchmark feeds into the gateway.
+ */
+public final class MockExchangeBuilder {
+
+    private final String path;
+
+    private HttpMethod method = HttpMethod.GET;
+
+    private String host = "localhost";
+
+    private String remoteIp = "127.0.0.1";
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    private final Map<String, String> queryParams = new LinkedHashMap<>();
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    private MockExchangeBuilder(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * start a builder for the request path.
+     *
+     * @param path the request path
+     * @return the builder
+     */
+    public static MockExchangeBuilder path(final String path) {
+        return new MockExchangeBuilder(path);
+    }
+
+    /**
+     * set the http method.
+     *
+     * @param method the method
+     * @return this
+     */
+    public MockExchangeBuilder method(final HttpMethod method) {
+        this.method = method;
+        return this;
+    }
+
+    /**
+     * set the host header.
+     *
+     * @param host the host
+     * @return this
+     */
+    public MockExchangeBuilder host(final String host) {
+        this.host = host;
+        return this;
+    }
+
+    /**
+     * set the remote ip.
+     *
+     * @param remoteIp the remote ip
+     * @return this
+     */
+    public MockExchangeBuilder remoteIp(final String remoteIp) {
+        this.remoteIp = remoteIp;
+        return this;
+    }
+
+    /**
+     * add a header.
+     *
+     * @param name the header name
+     * @param value the header value
+     * @return this
+     */
+    public MockExchangeBuilder header(final String name, final String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * add a query parameter.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     * @return this
+     */
+    public MockExchangeBuilder query(final String name, final String value) {
+        queryParams.put(name, value);
+        return this;
+    }
+
+    /**
+     * add a cookie.
+     *
+     * @param name the cookie name
+     * @param value the cookie value
+     * @return this
+     */
+    public MockExchangeBuilder cookie(final String name, final String value) {
+        cookies.put(name, value);
+        return this;
+    }
+
+    /**
+     * build the exchange, every call returns a new exchange.
+     *
+     * @return the exchange
+     */
+    public ServerWebExchange build() {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.method(method, "http://" + host + path)
+                .remoteAddress(new InetSocketAddress(remoteIp, 8080));
+        queryParams.forEach(request::queryParam);
+        headers.forEach((name, value) -> request.header(name, value));
+        cookies.forEach((name, value) -> request.cookie(new HttpCookie(name, value)));
+        return MockServerWebExchange.from(request.build());
+    }
+}
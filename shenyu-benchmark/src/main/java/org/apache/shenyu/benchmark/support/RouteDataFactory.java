@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shenyu.benchmark.support;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates the plugin, selector and rule data the benchmarks route over.
+ *
+ * <p>Route {@code i} is the selector {@code /service{i}/**} with one rule {@code /service{i}/api/**},
+ * {@link #requestPath(int)} returns a request path hitting it.</p>
+ */
+public final class RouteDataFactory {
+
+    private RouteDataFactory() {
+    }
+
+    /**
+     * register the beans {@code AbstractShenyuPlugin} looks up in {@link SpringBeanUtils}.
+     *
+     * @param shenyuConfig the gateway config
+     */
+    public static void initSpringContext(final ShenyuConfig shenyuConfig) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ShenyuConfig.class, () -> shenyuConfig);
+        context.registerBean(TrieCacheTypeEnum.SELECTOR.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(shenyuConfig.getSelectorMatchCache().getTrie().getCacheSize(), shenyuConfig.getSelectorMatchCache().getTrie().getMatchMode()));
+        context.registerBean(TrieCacheTypeEnum.RULE.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(shenyuConfig.getRuleMatchCache().getTrie().getCacheSize(), shenyuConfig.getRuleMatchCache().getTrie().getMatchMode()));
+        context.refresh();
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+    }
+
+    /**
+     * cache an enabled plugin with the given number of routes in {@link BaseDataCache}.
+     *
+     * @param pluginName the plugin name
+     * @param routeCount the route count
+     */
+    public static void cacheRoutes(final String pluginName, final int routeCount) {
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().id(pluginName).name(pluginName).enabled(true).build());
+        for (int i = 0; i < routeCount; i++) {
+            SelectorData selector = selector(pluginName, i);
+            BaseDataCache.getInstance().cacheSelectData(selector);
+            BaseDataCache.getInstance().cacheRuleData(rule(pluginName, selector.getId(), i));
+        }
+    }
+
+    /**
+     * remove the plugin and its routes from {@link BaseDataCache}.
+     *
+     * @param pluginName the plugin name
+     * @param routeCount the route count
+     */
+    public static void removeRoutes(final String pluginName, final int routeCount) {
+        for (int i = 0; i < routeCount; i++) {
+            BaseDataCache.getInstance().removeRuleDataBySelectorId(selectorId(pluginName, i));
+        }
+        BaseDataCache.getInstance().removeSelectDataByPluginName(pluginName);
+        BaseDataCache.getInstance().removePluginDataByPluginName(pluginName);
+    }
+
+    /**
+     * the selector of the route.
+     *
+     * @param pluginName the plugin name
+     * @param route the route index
+     * @return the selector
+     */
+    public static SelectorData selector(final String pluginName, final int route) {
+        return SelectorData.builder()
+                .id(selectorId(pluginName, route))
+                .pluginName(pluginName)
+                .name("selector-" + route)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                .matchMode(MatchModeEnum.AND.getCode())
+                .sort(route)
+                .enabled(true)
+                .logged(false)
+                .continued(true)
+                .conditionList(Collections.singletonList(uriCondition("/service" + route + "/**")))
+                .build();
+    }
+
+    /**
+     * the rule of the route.
+     *
+     * @param pluginName the plugin name
+     * @param selectorId the selector id
+     * @param route the route index
+     * @return the rule
+     */
+    public static RuleData rule(final String pluginName, final String selectorId, final int route) {
+        return RuleData.builder()
+                .id(selectorId + "-rule")
+                .pluginName(pluginName)
+                .selectorId(selectorId)
+                .name("rule-" + route)
+                .matchMode(MatchModeEnum.AND.getCode())
+                .sort(route)
+                .enabled(true)
+                .loged(false)
+                .conditionDataList(Collections.singletonList(uriCondition("/service" + route + "/api/**")))
+                .build();
+    }
+
+    /**
+     * the request path hitting the route.
+     *
+     * @param route the route index
+     * @return the request path
+     */
+    public static String requestPath(final int route) {
+        return "/service" + route + "/api/order/" + route;
+    }
+
+    /**
+     * a condition.
+     *
+     * @param paramType the param type
+     * @param paramName the param name
+     * @param operator the operator alias
+     * @param paramValue the param value
+     * @return the condition
+     */
+    public static ConditionData condition(final String paramType, final String paramName, final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setParamName(paramName);
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+
+    /**
+     * the selectors of all routes.
+     *
+     * @param pluginName the plugin name
+     * @param routeCount the route count
+     * @return the selectors
+     */
+    public static List<SelectorData> selectors(final String pluginName, final int routeCount) {
+        List<SelectorData> selectors = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; i++) {
+            selectors.add(selector(pluginName, i));
+        }
+        return selectors;
+    }
+
+    private static String selectorId(final String pluginName, final int route) {
+        return pluginName + "-selector-" + route;
+    }
+
+    private static ConditionData uriCondition(final String pattern) {
+        return condition(ParamTypeEnum.URI.getName(), "/", OperatorEnum.MATCH.getAlias(), pattern);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.base.trie.CopyOnWriteShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Match latency of {@link ShenyuTrie} and {@link CopyOnWriteShenyuTrie}.
+ *
+ * <p>Routes are spread over selectors like a real rule trie, {@code routesPerSelector} rules share one root.
+ * A quarter of the routes end with a path variable and a quarter with a wildcard segment.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShenyuTrieMatchBenchmark {
+
+    private static final int REQUEST_COUNT = 1 << 12;
+
+    @Param({"10000", "100000", "1000000"})
+    private int routeCount;
+
+    @Param({"1000"})
+    private int routesPerSelector;
+
+    @Param({"default", "copyOnWrite"})
+    private String trieType;
+
+    private ShenyuTrie trie;
+
+    private String[] requestPaths;
+
+    private String[] requestSelectors;
+
+    private int cursor;
+
+    /**
+     * build the trie and the request paths.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final int selectorCount = Math.max(1, routeCount / routesPerSelector);
+        final String matchMode = TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode();
+        trie = "copyOnWrite".equals(trieType) ? new CopyOnWriteShenyuTrie((long) selectorCount, matchMode) : new ShenyuTrie((long) selectorCount, matchMode);
+        for (int i = 0; i < routeCount; i++) {
+            String selectorId = "selector-" + (i % selectorCount);
+            RuleData rule = RuleData.builder().id(String.valueOf(i)).selectorId(selectorId).sort(i).build();
+            trie.putNode(routePath(i), rule, TrieCacheTypeEnum.RULE);
+        }
+        Random random = new Random(routeCount);
+        requestPaths = new String[REQUEST_COUNT];
+        requestSelectors = new String[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            int route = random.nextInt(routeCount);
+            requestSelectors[i] = "selector-" + (route % selectorCount);
+            requestPaths[i] = requestPath(route);
+        }
+    }
+
+    /**
+     * match a request path.
+     *
+     * @return the matched node
+     */
+    @Benchmark
+    public ShenyuTrieNode match() {
+        final int index = cursor++ & (REQUEST_COUNT - 1);
+        return trie.match(requestPaths[index], requestSelectors[index]);
+    }
+
+    private static String routePath(final int route) {
+        final String prefix = "/service" + (route % 64) + "/api" + route;
+        switch (route & 3) {
+            case 0:
+                return prefix + "/{id}";
+            case 1:
+                return prefix + "/item*";
+            default:
+                return prefix + "/detail";
+        }
+    }
+
+    private static String requestPath(final int route) {
+        final String prefix = "/service" + (route % 64) + "/api" + route;
+        switch (route & 3) {
+            case 0:
+                return prefix + "/42";
+            case 1:
+                return prefix + "/items";
+            default:
+                return prefix + "/detail";
+        }
+    }
+}
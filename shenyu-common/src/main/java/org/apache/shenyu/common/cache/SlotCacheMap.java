@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.cache;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.AbstractMap;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, lock-free, read-optimized cache keyed by string.
+ *
+ * <p>Entries live in a fixed power-of-two array of slots addressed by the cached hash code of the key,
+ * every key has two candidate slots (2-way set associative). A lookup reads at most two array elements
+ * and allocates nothing. Writes publish immutable slot objects by CAS, and a write that finds both slots
+ * taken by other keys evicts one of them.</p>
+ *
+ * <p>Values can be tagged with an id and a group id. The keys of every tag are tracked on write, so
+ * invalidating by id or group only touches the affected entries instead of scanning the whole cache.
+ * A tag is added once the slot is published and only dropped when no live slot of the key carries it,
+ * both under a compute on the tag, so a live entry is always found by the invalidation of its tags.</p>
+ *
+ * @param <V> the value type
+ */
+@ThreadSafe
+public class SlotCacheMap<V> extends AbstractMap<String, V> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Slot<V>> slots;
+
+    private final int mask;
+
+    private final Function<V, String> idFunction;
+
+    private final Function<V, String> groupFunction;
+
+    private final ConcurrentMap<String, Set<String>> idIndex = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Set<String>> groupIndex = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Boolean> emptyIdKeys = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Instantiates a new slot cache map.
+     *
+     * @param maximumSize the maximum size, rounded up to a power of two
+     * @param idFunction extracts the id of a value, a null id marks an empty value
+     * @param groupFunction extracts the group id of a value, may be null if values are not grouped
+     */
+    public SlotCacheMap(final long maximumSize, final Function<V, String> idFunction, final Function<V, String> groupFunction) {
+        int capacity = tableSizeFor(maximumSize);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.idFunction = idFunction;
+        this.groupFunction = groupFunction;
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        Slot<V> slot = find((String) key);
+        if (Objects.isNull(slot)) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return slot.getValue();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && Objects.nonNull(find((String) key));
+    }
+
+    @Override
+    public V put(final String key, final V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        final int hash = spread(key.hashCode());
+        final Slot<V> slot = new Slot<>(hash, key, value);
+        final int first = hash & mask;
+        final int second = (first + 1) & mask;
+        while (true) {
+            Slot<V> firstSlot = slots.get(first);
+            Slot<V> secondSlot = slots.get(second);
+            int index;
+            Slot<V> current;
+            if (sameKey(firstSlot, hash, key)) {
+                index = first;
+                current = firstSlot;
+            } else if (sameKey(secondSlot, hash, key)) {
+                index = second;
+                current = secondSlot;
+            } else if (Objects.isNull(firstSlot)) {
+                index = first;
+                current = null;
+            } else if (Objects.isNull(secondSlot)) {
+                index = second;
+                current = null;
+            } else {
+                // both slots are taken by other keys, the high hash bit picks the victim
+                index = (hash >>> 31) == 0 ? first : second;
+                current = index == first ? firstSlot : secondSlot;
+            }
+            if (slots.compareAndSet(index, current, slot)) {
+                if (Objects.nonNull(current)) {
+                    untag(current);
+                }
+                tag(slot);
+                if (Objects.isNull(current)) {
+                    return null;
+                }
+                if (sameKey(current, hash, key)) {
+                    return current.getValue();
+                }
+                evictionCount.increment();
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final String k = (String) key;
+        final int hash = spread(k.hashCode());
+        final int first = hash & mask;
+        for (int index : new int[]{first, (first + 1) & mask}) {
+            Slot<V> current = slots.get(index);
+            if (sameKey(current, hash, k) && slots.compareAndSet(index, current, null)) {
+                untag(current);
+                return current.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        idIndex.clear();
+        groupIndex.clear();
+        emptyIdKeys.clear();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (Objects.nonNull(slots.get(i))) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A snapshot of the entries, changes to the returned set do not write through.
+     *
+     * @return the entry set snapshot
+     */
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        Set<Entry<String, V>> entries = new LinkedHashSet<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Slot<V> slot = slots.get(i);
+            if (Objects.nonNull(slot)) {
+                entries.add(new SimpleImmutableEntry<>(slot.getKey(), slot.getValue()));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Invalidate all entries whose value has the given id.
+     *
+     * @param id the id
+     */
+    public void invalidateById(final String id) {
+        Set<String> keys = idIndex.remove(id);
+        if (Objects.nonNull(keys)) {
+            keys.forEach(key -> removeIf(key, value -> id.equals(idFunction.apply(value))));
+        }
+    }
+
+    /**
+     * Invalidate all entries whose value belongs to the given group.
+     *
+     * @param groupId the group id
+     */
+    public void invalidateByGroup(final String groupId) {
+        if (Objects.isNull(groupFunction)) {
+            return;
+        }
+        Set<String> keys = groupIndex.remove(groupId);
+        if (Objects.nonNull(keys)) {
+            keys.forEach(key -> removeIf(key, value -> groupId.equals(groupFunction.apply(value))));
+        }
+    }
+
+    /**
+     * Invalidate all entries whose value has no id.
+     */
+    public void invalidateEmpty() {
+        for (String key : emptyIdKeys.keySet()) {
+            emptyIdKeys.remove(key);
+            removeIf(key, value -> Objects.isNull(idFunction.apply(value)));
+        }
+    }
+
+    /**
+     * Get the hit count.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Get the miss count.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Get the eviction count, entries replaced by a different key in a full slot pair.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Get the slot capacity.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private Slot<V> find(final String key) {
+        final int hash = spread(key.hashCode());
+        final int first = hash & mask;
+        Slot<V> slot = slots.get(first);
+        if (sameKey(slot, hash, key)) {
+            return slot;
+        }
+        slot = slots.get((first + 1) & mask);
+        return sameKey(slot, hash, key) ? slot : null;
+    }
+
+    private void removeIf(final String key, final Predicate<V> predicate) {
+        final int hash = spread(key.hashCode());
+        final int first = hash & mask;
+        for (int index : new int[]{first, (first + 1) & mask}) {
+            Slot<V> current = slots.get(index);
+            if (sameKey(current, hash, key) && predicate.test(current.getValue())
+                    && slots.compareAndSet(index, current, null)) {
+                untag(current);
+            }
+        }
+    }
+
+    private void tag(final Slot<V> slot) {
+        final String key = slot.getKey();
+        String id = idFunction.apply(slot.getValue());
+        if (Objects.isNull(id)) {
+            emptyIdKeys.put(key, Boolean.TRUE);
+        } else {
+            addTag(idIndex, id, key);
+        }
+        if (Objects.nonNull(groupFunction)) {
+            String groupId = groupFunction.apply(slot.getValue());
+            if (Objects.nonNull(groupId)) {
+                addTag(groupIndex, groupId, key);
+            }
+        }
+    }
+
+    private void untag(final Slot<V> slot) {
+        final String key = slot.getKey();
+        String id = idFunction.apply(slot.getValue());
+        if (Objects.isNull(id)) {
+            emptyIdKeys.computeIfPresent(key, (k, tagged) -> isLiveWith(k, idFunction, null) ? tagged : null);
+        } else {
+            removeTag(idIndex, id, key, idFunction);
+        }
+        if (Objects.nonNull(groupFunction)) {
+            String groupId = groupFunction.apply(slot.getValue());
+            if (Objects.nonNull(groupId)) {
+                removeTag(groupIndex, groupId, key, groupFunction);
+            }
+        }
+    }
+
+    private void removeTag(final ConcurrentMap<String, Set<String>> index, final String tag, final String key, final Function<V, String> tagFunction) {
+        index.computeIfPresent(tag, (k, keys) -> {
+            // a concurrent put of the same key may have published a slot with this tag, it keeps the key
+            if (!isLiveWith(key, tagFunction, tag)) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private boolean isLiveWith(final String key, final Function<V, String> tagFunction, final String tag) {
+        Slot<V> live = find(key);
+        return Objects.nonNull(live) && Objects.equals(tag, tagFunction.apply(live.getValue()));
+    }
+
+    private static void addTag(final ConcurrentMap<String, Set<String>> index, final String tag, final String key) {
+        index.compute(tag, (k, keys) -> {
+            Set<String> tagged = Objects.isNull(keys) ? ConcurrentHashMap.newKeySet() : keys;
+            tagged.add(key);
+            return tagged;
+        });
+    }
+
+    private static boolean sameKey(final Slot<?> slot, final int hash, final String key) {
+        return Objects.nonNull(slot) && slot.getHash() == hash && slot.getKey().equals(key);
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(final long maximumSize) {
+        if (maximumSize >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        int n = -1 >>> Integer.numberOfLeadingZeros((int) Math.max(maximumSize, 2) - 1);
+        return n + 1;
+    }
+
+    private static final class Slot<V> {
+
+        private final int hash;
+
+        private final String key;
+
+        private final V value;
+
+        Slot(final int hash, final String key, final V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        int getHash() {
+            return hash;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        V getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.concurrent;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer.
+ *
+ * <p>Every slot carries a sequence number telling whether it is free for the producer of a given round
+ * or filled for the consumer. Producers claim a slot by CAS on the producer index and publish the
+ * element by advancing the slot sequence, so {@link #offer(Object)} never blocks and fails fast when
+ * the buffer is full. {@link #drainTo(Collection, int)} must only be called by one thread at a time.</p>
+ *
+ * @param <E> the element type
+ */
+public final class MpscRingBuffer<E> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> elements;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * Instantiates a new ring buffer.
+     *
+     * @param capacity the capacity, rounded up to a power of two
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        final int size = capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Add the element if the buffer is not full.
+     *
+     * @param element the element
+     * @return false if the buffer is full
+     */
+    public boolean offer(final E element) {
+        Objects.requireNonNull(element);
+        while (true) {
+            final long index = producerIndex.get();
+            final int offset = (int) index & mask;
+            final long diff = sequences.get(offset) - index;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements.lazySet(offset, element);
+                    sequences.lazySet(offset, index + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // the slot still holds the element of the previous round
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Move the published elements to the collection, called by the single consumer.
+     *
+     * @param collection the target collection
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(final Collection<? super E> collection, final int maxElements) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            final int offset = (int) index & mask;
+            if (sequences.get(offset) != index + 1) {
+                break;
+            }
+            collection.add(elements.get(offset));
+            elements.lazySet(offset, null);
+            sequences.lazySet(offset, index + mask + 1);
+            index++;
+            drained++;
+        }
+        consumerIndex.lazySet(index);
+        return drained;
+    }
+
+    /**
+     * Get the approximate number of elements, claimed slots that are not published yet are counted.
+     *
+     * @return the size
+     */
+    public int size() {
+        final long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Whether the buffer is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Get the capacity.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
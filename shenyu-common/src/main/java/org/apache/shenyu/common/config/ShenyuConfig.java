@@ -53,6 +53,8 @@ public class ShenyuConfig {
     
     private UpstreamCheck upstreamCheck = new UpstreamCheck();
 
+    private LoadBalanceConfig loadBalance = new LoadBalanceConfig();
+
     private CrossFilterConfig cross = new CrossFilterConfig();
 
     private RibbonConfig ribbon = new RibbonConfig();
@@ -327,6 +329,24 @@ public class ShenyuConfig {
         this.upstreamCheck = upstreamCheck;
     }
     
+    /**
+     * Gets load balance.
+     *
+     * @return the load balance
+     */
+    public LoadBalanceConfig getLoadBalance() {
+        return loadBalance;
+    }
+    
+    /**
+     * Sets load balance.
+     *
+     * @param loadBalance the load balance
+     */
+    public void setLoadBalance(final LoadBalanceConfig loadBalance) {
+        this.loadBalance = loadBalance;
+    }
+    
     /**
      * Gets cross.
      *
@@ -1076,6 +1096,18 @@ public class ShenyuConfig {
         private boolean printEnabled;
         
         private Integer printInterval = 60000;
+        
+        private Integer consecutiveErrors = 5;
+        
+        private Integer baseEjectionTime = 10000;
+        
+        private Integer maxEjectionTime = 300000;
+        
+        private String protocol = "tcp";
+        
+        private String path = "/";
+        
+        private Integer concurrency = 100;
     
         /**
          * Gets enabled.
@@ -1220,6 +1252,204 @@ public class ShenyuConfig {
         public void setPrintInterval(final Integer printInterval) {
             this.printInterval = printInterval;
         }
+    
+        /**
+         * Gets the consecutive errors in real traffic that eject an upstream, 0 disables the passive check.
+         *
+         * @return the consecutive errors
+         */
+        public Integer getConsecutiveErrors() {
+            return consecutiveErrors;
+        }
+    
+        /**
+         * Sets the consecutive errors in real traffic that eject an upstream.
+         *
+         * @param consecutiveErrors the consecutive errors
+         */
+        public void setConsecutiveErrors(final Integer consecutiveErrors) {
+            this.consecutiveErrors = consecutiveErrors;
+        }
+    
+        /**
+         * Gets the ejection time of the first ejection, doubled by every ejection in a row.
+         *
+         * @return the base ejection time in milliseconds
+         */
+        public Integer getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+    
+        /**
+         * Sets the ejection time of the first ejection.
+         *
+         * @param baseEjectionTime the base ejection time in milliseconds
+         */
+        public void setBaseEjectionTime(final Integer baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+        }
+    
+        /**
+         * Gets the max ejection time.
+         *
+         * @return the max ejection time in milliseconds
+         */
+        public Integer getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+    
+        /**
+         * Sets the max ejection time.
+         *
+         * @param maxEjectionTime the max ejection time in milliseconds
+         */
+        public void setMaxEjectionTime(final Integer maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+        }
+    
+        /**
+         * Gets the health check protocol, tcp, http or grpc.
+         *
+         * @return the protocol
+         */
+        public String getProtocol() {
+            return protocol;
+        }
+    
+        /**
+         * Sets the health check protocol.
+         *
+         * @param protocol the protocol
+         */
+        public void setProtocol(final String protocol) {
+            this.protocol = protocol;
+        }
+    
+        /**
+         * Gets the path of the http health check.
+         *
+         * @return the path
+         */
+        public String getPath() {
+            return path;
+        }
+    
+        /**
+         * Sets the path of the http health check.
+         *
+         * @param path the path
+         */
+        public void setPath(final String path) {
+            this.path = path;
+        }
+    
+        /**
+         * Gets the max health checks in flight.
+         *
+         * @return the concurrency
+         */
+        public Integer getConcurrency() {
+            return concurrency;
+        }
+    
+        /**
+         * Sets the max health checks in flight.
+         *
+         * @param concurrency the concurrency
+         */
+        public void setConcurrency(final Integer concurrency) {
+            this.concurrency = concurrency;
+        }
+    }
+    
+    /**
+     * The load balance config.
+     */
+    public static class LoadBalanceConfig {
+    
+        private Integer hashVirtualNodes = 160;
+    
+        private Double hashLoadFactor = 0d;
+    
+        private String zone = "";
+    
+        private Double zoneCapacityThreshold = 0.8;
+    
+        /**
+         * Gets the virtual nodes of every upstream on the hash ring.
+         *
+         * @return the hash virtual nodes
+         */
+        public Integer getHashVirtualNodes() {
+            return hashVirtualNodes;
+        }
+    
+        /**
+         * Sets the virtual nodes of every upstream on the hash ring.
+         *
+         * @param hashVirtualNodes the hash virtual nodes
+         */
+        public void setHashVirtualNodes(final Integer hashVirtualNodes) {
+            this.hashVirtualNodes = hashVirtualNodes;
+        }
+    
+        /**
+         * Gets the hash load factor, an upstream takes at most this factor of the average load
+         * before a key moves on to the next upstream of the ring, a value below 1 disables the bound.
+         * The bound is off by default, since it gives up the stickiness of a hot key.
+         *
+         * @return the hash load factor
+         */
+        public Double getHashLoadFactor() {
+            return hashLoadFactor;
+        }
+    
+        /**
+         * Sets the hash load factor.
+         *
+         * @param hashLoadFactor the hash load factor
+         */
+        public void setHashLoadFactor(final Double hashLoadFactor) {
+            this.hashLoadFactor = hashLoadFactor;
+        }
+    
+        /**
+         * Gets the zone this gateway runs in, upstreams of the same zone are preferred,
+         * an empty zone disables zone aware balancing.
+         *
+         * @return the zone
+         */
+        public String getZone() {
+            return zone;
+        }
+    
+        /**
+         * Sets the zone this gateway runs in.
+         *
+         * @param zone the zone
+         */
+        public void setZone(final String zone) {
+            this.zone = zone;
+        }
+    
+        /**
+         * Gets the zone capacity threshold, the local zone keeps all traffic while its share of
+         * upstream weight is at least this fraction of an even share, below it the excess spills over.
+         *
+         * @return the zone capacity threshold
+         */
+        public Double getZoneCapacityThreshold() {
+            return zoneCapacityThreshold;
+        }
+    
+        /**
+         * Sets the zone capacity threshold.
+         *
+         * @param zoneCapacityThreshold the zone capacity threshold
+         */
+        public void setZoneCapacityThreshold(final Double zoneCapacityThreshold) {
+            this.zoneCapacityThreshold = zoneCapacityThreshold;
+        }
     }
     
     /**
@@ -2005,6 +2235,11 @@ public class ShenyuConfig {
          * @see TrieMatchModeEnum
          */
         private String matchMode = TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode();
+
+        /**
+         * use the copy-on-write trie, whose match never blocks on updates.
+         */
+        private Boolean copyOnWrite = Boolean.FALSE;
     
         /**
          * get match enabled.
@@ -2053,6 +2288,22 @@ public class ShenyuConfig {
         public void setMatchMode(final String matchMode) {
             this.matchMode = matchMode;
         }
+
+        /**
+         * get copy on write.
+         * @return Boolean
+         */
+        public Boolean getCopyOnWrite() {
+            return copyOnWrite;
+        }
+
+        /**
+         * set copy on write.
+         * @param copyOnWrite copy on write
+         */
+        public void setCopyOnWrite(final Boolean copyOnWrite) {
+            this.copyOnWrite = copyOnWrite;
+        }
     }
     
     public static class SpringCloudCacheConfig {
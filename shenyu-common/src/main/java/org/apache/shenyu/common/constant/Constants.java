@@ -137,6 +137,21 @@ public interface Constants {
      */
     String HTTP_RETRY = "httpRetry";
     
+    /**
+     * The constant HTTP_HEDGE_PERCENTILE.
+     */
+    String HTTP_HEDGE_PERCENTILE = "httpHedgePercentile";
+    
+    /**
+     * The constant HTTP_RETRY_BUDGET.
+     */
+    String HTTP_RETRY_BUDGET = "httpRetryBudget";
+    
+    /**
+     * The constant HTTP_HEDGE_CLAIM.
+     */
+    String HTTP_HEDGE_CLAIM = "httpHedgeClaim";
+    
     /**
      * The constant RETRY_STRATEGY.
      */
@@ -152,6 +167,16 @@ public interface Constants {
      */
     String DIVIDE_SELECTOR_ID = "divideSelectorId";
     
+    /**
+     * divide online rule id.
+     */
+    String DIVIDE_RULE_ID = "divideRuleId";
+    
+    /**
+     * the start time of the upstream request, in {@link System#nanoTime()}.
+     */
+    String UPSTREAM_START_TIME = "upstreamStartTime";
+    
     /**
      * Original response Content-Type attribute name.
      */
@@ -171,6 +196,11 @@ public interface Constants {
      * The constant RPC_PARAM_TRANSFORM.
      */
     String PARAM_TRANSFORM = "param_transform";
+
+    /**
+     * The constant PARAM_TRANSFORM_BODY, the joined rpc request body.
+     */
+    String PARAM_TRANSFORM_BODY = "param_transform_body";
     
     /**
      * The constant DECODE.
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.common.dto.convert.rule;
+
+import java.util.Objects;
+
+/**
+ * this is concurrencyLimit plugin handle.
+ */
+public class ConcurrencyLimitHandle {
+
+    /**
+     * algorithm name, gradient or vegas.
+     */
+    private String algorithmName;
+
+    /**
+     * in-flight limit to start with.
+     */
+    private int initialLimit;
+
+    /**
+     * the limit never drops below it.
+     */
+    private int minLimit;
+
+    /**
+     * the limit never grows above it.
+     */
+    private int maxLimit;
+
+    /**
+     * how much of a newly computed limit is taken over, between 0 and 1.
+     */
+    private double smoothing;
+
+    /**
+     * gradient only, how much the recent rtt may exceed the long term rtt before the limit shrinks.
+     */
+    private double rttTolerance;
+
+    /**
+     * milliseconds the rtt samples are collected for before the limit is adjusted.
+     */
+    private long sampleWindow;
+
+    /**
+     * New default instance concurrency limit handle.
+     *
+     * @return the concurrency limit handle
+     */
+    public static ConcurrencyLimitHandle newDefaultInstance() {
+        ConcurrencyLimitHandle concurrencyLimitHandle = new ConcurrencyLimitHandle();
+        concurrencyLimitHandle.setAlgorithmName("gradient");
+        concurrencyLimitHandle.setInitialLimit(20);
+        concurrencyLimitHandle.setMinLimit(1);
+        concurrencyLimitHandle.setMaxLimit(1000);
+        concurrencyLimitHandle.setSmoothing(0.2);
+        concurrencyLimitHandle.setRttTolerance(1.5);
+        concurrencyLimitHandle.setSampleWindow(1000);
+        return concurrencyLimitHandle;
+    }
+
+    /**
+     * get algorithmName.
+     *
+     * @return algorithmName algorithm name
+     */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /**
+     * set algorithmName.
+     *
+     * @param algorithmName algorithmName
+     */
+    public void setAlgorithmName(final String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    /**
+     * get initialLimit.
+     *
+     * @return initialLimit initial limit
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * set initialLimit.
+     *
+     * @param initialLimit initialLimit
+     */
+    public void setInitialLimit(final int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * get minLimit.
+     *
+     * @return minLimit min limit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * set minLimit.
+     *
+     * @param minLimit minLimit
+     */
+    public void setMinLimit(final int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * get maxLimit.
+     *
+     * @return maxLimit max limit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * set maxLimit.
+     *
+     * @param maxLimit maxLimit
+     */
+    public void setMaxLimit(final int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * get smoothing.
+     *
+     * @return smoothing smoothing
+     */
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * set smoothing.
+     *
+     * @param smoothing smoothing
+     */
+    public void setSmoothing(final double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * get rttTolerance.
+     *
+     * @return rttTolerance rtt tolerance
+     */
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    /**
+     * set rttTolerance.
+     *
+     * @param rttTolerance rttTolerance
+     */
+    public void setRttTolerance(final double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    /**
+     * get sampleWindow.
+     *
+     * @return sampleWindow sample window
+     */
+    public long getSampleWindow() {
+        return sampleWindow;
+    }
+
+    /**
+     * set sampleWindow.
+     *
+     * @param sampleWindow sampleWindow
+     */
+    public void setSampleWindow(final long sampleWindow) {
+        this.sampleWindow = sampleWindow;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (Objects.isNull(o) || getClass() != o.getClass()) {
+            return false;
+        }
+        ConcurrencyLimitHandle that = (ConcurrencyLimitHandle) o;
+        return initialLimit == that.initialLimit && minLimit == that.minLimit && maxLimit == that.maxLimit
+                && Double.compare(that.smoothing, smoothing) == 0 && Double.compare(that.rttTolerance, rttTolerance) == 0
+                && sampleWindow == that.sampleWindow && Objects.equals(algorithmName, that.algorithmName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithmName, initialLimit, minLimit, maxLimit, smoothing, rttTolerance, sampleWindow);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitHandle{"
+                + "algorithmName='"
+                + algorithmName
+                + '\''
+                + ", initialLimit="
+                + initialLimit
+                + ", minLimit="
+                + minLimit
+                + ", maxLimit="
+                + maxLimit
+                + ", smoothing="
+                + smoothing
+                + ", rttTolerance="
+                + rttTolerance
+                + ", sampleWindow="
+                + sampleWindow
+                + '}';
+    }
+}
@@ -53,6 +53,12 @@ public class RateLimiterHandle {
      * key resolver name.
      */
     private String keyResolverName;
+
+    /**
+     * tokens a gateway node leases from redis at once for its local bucket, 0 checks every request against redis.
+     * the cluster admits at most this many requests per node beyond the limit.
+     */
+    private double leaseTokens;
     
     /**
      * New default instance rate limiter handle.
@@ -177,6 +183,24 @@ public class RateLimiterHandle {
         this.keyResolverName = keyResolverName;
     }
 
+    /**
+     * get leaseTokens.
+     *
+     * @return leaseTokens lease tokens
+     */
+    public double getLeaseTokens() {
+        return leaseTokens;
+    }
+
+    /**
+     * set leaseTokens.
+     *
+     * @param leaseTokens leaseTokens
+     */
+    public void setLeaseTokens(final double leaseTokens) {
+        this.leaseTokens = leaseTokens;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -188,12 +212,13 @@ public class RateLimiterHandle {
         RateLimiterHandle that = (RateLimiterHandle) o;
         return Double.compare(that.replenishRate, replenishRate) == 0 && Double.compare(that.burstCapacity, burstCapacity) == 0
                 && Double.compare(that.requestCount, requestCount) == 0 && loged == that.loged
+                && Double.compare(that.leaseTokens, leaseTokens) == 0
                 && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName);
+        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName, leaseTokens);
     }
 
     @Override
@@ -213,6 +238,8 @@ public class RateLimiterHandle {
                 + ", keyResolverName='"
                 + keyResolverName
                 + '\''
+                + ", leaseTokens="
+                + leaseTokens
                 + '}';
     }
 }
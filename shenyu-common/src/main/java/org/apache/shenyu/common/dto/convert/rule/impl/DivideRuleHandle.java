@@ -60,6 +60,16 @@ public class DivideRuleHandle implements RuleHandle {
      * requestMaxSize.
      */
     private long requestMaxSize;
+
+    /**
+     * hedge the request after this latency percentile of the selector, 0 disables hedging.
+     */
+    private double hedgePercentile;
+
+    /**
+     * retries and hedged requests allowed in percent of the selector requests.
+     */
+    private double retryBudget = 20;
     
     /**
      * New instance divide rule handle.
@@ -178,6 +188,42 @@ public class DivideRuleHandle implements RuleHandle {
         this.requestMaxSize = requestMaxSize;
     }
 
+    /**
+     * get hedgePercentile.
+     *
+     * @return hedgePercentile hedge percentile
+     */
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+    
+    /**
+     * set hedgePercentile.
+     *
+     * @param hedgePercentile hedgePercentile
+     */
+    public void setHedgePercentile(final double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+    
+    /**
+     * get retryBudget.
+     *
+     * @return retryBudget retry budget
+     */
+    public double getRetryBudget() {
+        return retryBudget;
+    }
+    
+    /**
+     * set retryBudget.
+     *
+     * @param retryBudget retryBudget
+     */
+    public void setRetryBudget(final double retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -189,12 +235,13 @@ public class DivideRuleHandle implements RuleHandle {
         DivideRuleHandle that = (DivideRuleHandle) o;
         return retry == that.retry && timeout == that.timeout && headerMaxSize == that.headerMaxSize
                 && requestMaxSize == that.requestMaxSize && Objects.equals(loadBalance, that.loadBalance)
+                && Double.compare(hedgePercentile, that.hedgePercentile) == 0 && Double.compare(retryBudget, that.retryBudget) == 0
                 && Objects.equals(retryStrategy, that.retryStrategy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize);
+        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize, hedgePercentile, retryBudget);
     }
 
     @Override
@@ -214,6 +261,10 @@ public class DivideRuleHandle implements RuleHandle {
                 + headerMaxSize
                 + ", requestMaxSize="
                 + requestMaxSize
+                + ", hedgePercentile="
+                + hedgePercentile
+                + ", retryBudget="
+                + retryBudget
                 + '}';
     }
 }
@@ -147,6 +147,11 @@ public enum PluginEnum {
      */
     RESILIENCE4J(150, 0, "resilience4j"),
     
+    /**
+     * Concurrency limit plugin enum.
+     */
+    CONCURRENCY_LIMIT(155, 0, "concurrencyLimit"),
+    
     /**
      * Logging console plugin enum.
      */
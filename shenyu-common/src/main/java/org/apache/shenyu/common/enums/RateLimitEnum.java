@@ -24,6 +24,8 @@ public enum RateLimitEnum {
 
     SLIDING_WINDOW("sliding_window_request_rate_limiter", "sliding_window_request_rate_limiter.lua"),
 
+    SLIDING_WINDOW_COUNTER("sliding_window_counter_request_rate_limiter", "sliding_window_counter_request_rate_limiter.lua"),
+
     LEAKY_BUCKET("request_leaky_rate_limiter", "request_leaky_rate_limiter.lua"),
 
     CONCURRENT("concurrent_request_rate_limiter", "concurrent_request_rate_limiter.lua"),
@@ -168,6 +168,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
     
+    /**
+     * To list, reading a parsed json element instead of its text.
+     *
+     * @param <T> the type parameter
+     * @param jsonElement the json element
+     * @param clazz the clazz
+     * @return the list
+     */
+    public <T> List<T> jsonElementToList(final JsonElement jsonElement, final Class<T> clazz) {
+        return GSON.fromJson(jsonElement, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+    
     /**
      * From current list.
      *
@@ -252,6 +264,17 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(Map.class, String.class, clazz).getType());
     }
     
+    /**
+     * To object map, reading a parsed json element instead of its text.
+     *
+     * @param jsonElement the json element
+     * @return the map
+     */
+    public Map<String, Object> jsonElementToObjectMap(final JsonElement jsonElement) {
+        return GSON_MAP.fromJson(jsonElement, new TypeToken<LinkedHashMap<String, Object>>() {
+        }.getType());
+    }
+    
     /**
      * To object map list.
      *
@@ -282,9 +305,22 @@ public class GsonUtils {
      * @return the map
      */
     public Map<String, Object> convertToMap(final String json) {
-        Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
-        }.getType());
-        
+        return convertValues(GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
+        }.getType()));
+    }
+    
+    /**
+     * Convert to map, reading a parsed json element instead of its text.
+     *
+     * @param jsonElement the json element
+     * @return the map
+     */
+    public Map<String, Object> convertJsonElementToMap(final JsonElement jsonElement) {
+        return convertValues(GSON_MAP.fromJson(jsonElement, new TypeToken<Map<String, Object>>() {
+        }.getType()));
+    }
+    
+    private Map<String, Object> convertValues(final Map<String, Object> map) {
         if (MapUtils.isEmpty(map)) {
             return map;
         }
@@ -299,7 +335,7 @@ public class GsonUtils {
                     map.put(key, mv);
                 }
             } else if (value instanceof JsonObject) {
-                map.put(key, convertToMap(value.toString()));
+                map.put(key, convertJsonElementToMap((JsonObject) value));
             } else if (value instanceof JsonArray) {
                 JsonArray jsonArray = (JsonArray) value;
                 map.put(key, jsonArrayToListInConvertToMap(jsonArray));
@@ -332,7 +368,7 @@ public class GsonUtils {
                 objStr = jsonElement.getAsString();
             }
             if (objStr.startsWith(LEFT_ANGLE_BRACKETS) && objStr.endsWith(RIGHT_ANGLE_BRACKETS)) {
-                list.add(convertToMap(jsonElement.toString()));
+                list.add(jsonElement instanceof JsonObject ? convertJsonElementToMap(jsonElement) : convertToMap(jsonElement.toString()));
             } else {
                 list.add(objStr);
             }
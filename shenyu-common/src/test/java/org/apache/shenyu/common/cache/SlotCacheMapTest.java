@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.cache;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for SlotCacheMap.
+ */
+public class SlotCacheMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        SlotCacheMap<RuleData> cache = new SlotCacheMap<>(16, RuleData::getId, RuleData::getSelectorId);
+        RuleData rule = RuleData.builder().id("1").selectorId("s1").build();
+        Assert.assertNull(cache.put("/http/a", rule));
+        Assert.assertEquals(rule, cache.get("/http/a"));
+        Assert.assertNull(cache.get("/http/b"));
+        Assert.assertEquals(1, cache.hitCount());
+        Assert.assertEquals(1, cache.missCount());
+        Assert.assertEquals(rule, cache.put("/http/a", rule));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        SlotCacheMap<RuleData> cache = new SlotCacheMap<>(4, RuleData::getId, null);
+        for (int i = 0; i < 100; i++) {
+            cache.put("/http/" + i, RuleData.builder().id(String.valueOf(i)).build());
+        }
+        Assert.assertEquals(4, cache.capacity());
+        Assert.assertTrue(cache.size() <= 4);
+        Assert.assertTrue(cache.evictionCount() > 0);
+    }
+
+    @Test
+    public void testInvalidate() {
+        SlotCacheMap<RuleData> cache = new SlotCacheMap<>(64, RuleData::getId, RuleData::getSelectorId);
+        cache.put("/http/a", RuleData.builder().id("1").selectorId("s1").build());
+        cache.put("/http/b", RuleData.builder().id("1").selectorId("s1").build());
+        cache.put("/http/c", RuleData.builder().id("2").selectorId("s2").build());
+        cache.put("/http/d", RuleData.builder().selectorId("s2").build());
+        cache.invalidateById("1");
+        Assert.assertNull(cache.get("/http/a"));
+        Assert.assertNull(cache.get("/http/b"));
+        Assert.assertNotNull(cache.get("/http/c"));
+        cache.invalidateEmpty();
+        Assert.assertNull(cache.get("/http/d"));
+        cache.invalidateByGroup("s2");
+        Assert.assertNull(cache.get("/http/c"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrentPutAndInvalidate() throws Exception {
+        SlotCacheMap<RuleData> cache = new SlotCacheMap<>(256, RuleData::getId, RuleData::getSelectorId);
+        concurrentPutAndInvalidate(cache);
+        cache.invalidateByGroup("s0");
+        cache.invalidateByGroup("s1");
+        Assert.assertEquals(0, cache.size());
+        concurrentPutAndInvalidate(cache);
+        for (int i = 0; i < 4; i++) {
+            cache.invalidateById(String.valueOf(i));
+        }
+        cache.invalidateEmpty();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private void concurrentPutAndInvalidate(final SlotCacheMap<RuleData> cache) throws Exception {
+        final int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < writers; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20000; i++) {
+                        int id = random.nextInt(5);
+                        RuleData rule = RuleData.builder().id(id == 4 ? null : String.valueOf(id)).selectorId("s" + (id & 1)).build();
+                        if (random.nextInt(8) == 0) {
+                            cache.remove("/http/" + random.nextInt(32));
+                        } else {
+                            cache.put("/http/" + random.nextInt(32), rule);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 5000; i++) {
+                    cache.invalidateById(String.valueOf(random.nextInt(4)));
+                    cache.invalidateByGroup("s" + random.nextInt(2));
+                    cache.invalidateEmpty();
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
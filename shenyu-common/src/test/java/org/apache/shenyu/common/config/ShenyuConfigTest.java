@@ -87,9 +87,34 @@ public class ShenyuConfigTest {
         upstreamCheck.setUnhealthyThreshold(5);
         upstreamCheck.setPrintEnabled(false);
         upstreamCheck.setPrintInterval(5);
+        upstreamCheck.setConsecutiveErrors(5);
+        upstreamCheck.setBaseEjectionTime(10000);
+        upstreamCheck.setMaxEjectionTime(300000);
+        upstreamCheck.setProtocol("http");
+        upstreamCheck.setPath("/actuator/health");
+        upstreamCheck.setConcurrency(100);
 
         notEmptyElements(upstreamCheck.getEnabled(), upstreamCheck.getPoolSize(), upstreamCheck.getHealthyThreshold(), upstreamCheck.getTimeout(),
-                upstreamCheck.getInterval(), upstreamCheck.getUnhealthyThreshold(), upstreamCheck.getPrintInterval(), upstreamCheck.getPrintEnabled());
+                upstreamCheck.getInterval(), upstreamCheck.getUnhealthyThreshold(), upstreamCheck.getPrintInterval(), upstreamCheck.getPrintEnabled(),
+                upstreamCheck.getConsecutiveErrors(), upstreamCheck.getBaseEjectionTime(), upstreamCheck.getMaxEjectionTime(),
+                upstreamCheck.getProtocol(), upstreamCheck.getPath(), upstreamCheck.getConcurrency());
+    }
+
+    @Test
+    public void testLoadBalanceConfig() {
+        ShenyuConfig.LoadBalanceConfig loadBalance = config.getLoadBalance();
+        assertEquals(160, (int) loadBalance.getHashVirtualNodes());
+        assertEquals(0d, loadBalance.getHashLoadFactor());
+        loadBalance.setHashVirtualNodes(5);
+        loadBalance.setHashLoadFactor(1.25);
+        assertEquals(5, (int) loadBalance.getHashVirtualNodes());
+        assertEquals(1.25, loadBalance.getHashLoadFactor());
+        assertEquals("", loadBalance.getZone());
+        assertEquals(0.8, loadBalance.getZoneCapacityThreshold());
+        loadBalance.setZone("zone-a");
+        loadBalance.setZoneCapacityThreshold(0.5);
+        assertEquals("zone-a", loadBalance.getZone());
+        assertEquals(0.5, loadBalance.getZoneCapacityThreshold());
     }
 
     @Test
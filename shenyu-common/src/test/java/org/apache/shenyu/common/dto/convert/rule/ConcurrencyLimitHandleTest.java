@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.common.dto.convert.rule;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test case for ConcurrencyLimitHandle.
+ */
+public class ConcurrencyLimitHandleTest {
+    
+    @Test
+    public void testGetterSetter() {
+        ConcurrencyLimitHandle handle = new ConcurrencyLimitHandle();
+        handle.setAlgorithmName("vegas");
+        handle.setInitialLimit(10);
+        handle.setMinLimit(2);
+        handle.setMaxLimit(200);
+        handle.setSmoothing(0.5);
+        handle.setRttTolerance(2.0);
+        handle.setSampleWindow(500);
+        
+        assertThat(handle.getAlgorithmName(), is("vegas"));
+        assertThat(handle.getInitialLimit(), is(10));
+        assertThat(handle.getMinLimit(), is(2));
+        assertThat(handle.getMaxLimit(), is(200));
+        assertThat(handle.getSmoothing(), closeTo(0.5, 0.01));
+        assertThat(handle.getRttTolerance(), closeTo(2.0, 0.01));
+        assertThat(handle.getSampleWindow(), is(500L));
+    }
+    
+    @Test
+    public void testEqualsAndHashCode() {
+        assertThat(ImmutableSet.of(ConcurrencyLimitHandle.newDefaultInstance(), ConcurrencyLimitHandle.newDefaultInstance()), hasSize(1));
+        assertThat(ImmutableSet.of(new ConcurrencyLimitHandle(), ConcurrencyLimitHandle.newDefaultInstance()), hasSize(2));
+    }
+    
+}
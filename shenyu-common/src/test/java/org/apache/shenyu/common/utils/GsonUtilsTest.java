@@ -271,6 +271,16 @@ public class GsonUtilsTest {
         assertNull(GsonUtils.getInstance().convertToMap(null));
     }
 
+    @Test
+    public void testJsonElementConversions() {
+        String json = "{\"user\":{\"id\":1,\"tags\":[\"a\",{\"b\":2}]},\"items\":[1,2.5,\"c\"],\"count\":3}";
+        JsonElement element = JsonParser.parseString(json);
+        assertEquals(GsonUtils.getInstance().convertToMap(json), GsonUtils.getInstance().convertJsonElementToMap(element));
+        assertEquals(GsonUtils.getInstance().toObjectMap(json).keySet(), GsonUtils.getInstance().jsonElementToObjectMap(element).keySet());
+        assertEquals(GsonUtils.getInstance().fromList("[1,2.5,\"c\"]", Object.class),
+                GsonUtils.getInstance().jsonElementToList(element.getAsJsonObject().get("items"), Object.class));
+    }
+
     @Test
     public void testPairGson() {
         Pair<String, String> testPair = Pair.of("1", "2");
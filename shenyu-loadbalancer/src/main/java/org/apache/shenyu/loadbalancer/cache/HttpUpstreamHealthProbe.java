@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Probe the upstream with an HTTP GET of the health path, a 2xx or 3xx response is healthy.
+ */
+public final class HttpUpstreamHealthProbe implements UpstreamHealthProbe {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpUpstreamHealthProbe.class);
+
+    private static final String DEFAULT_PROTOCOL = "http://";
+
+    private final HttpClient httpClient;
+
+    private final String path;
+
+    /**
+     * Instantiates a new http health probe.
+     *
+     * @param path the health path
+     * @param executor the executor of the response callbacks
+     */
+    public HttpUpstreamHealthProbe(final String path, final Executor executor) {
+        this.path = StringUtils.prependIfMissing(StringUtils.defaultIfBlank(path, "/"), "/");
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> probe(final Upstream upstream, final int timeout) {
+        final URI uri;
+        try {
+            uri = uri(upstream);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(timeout))
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        LOG.warn("health check request is error. uri:{} timeout:{} cause:{}", uri, timeout, throwable.getMessage());
+                        return false;
+                    }
+                    return response.statusCode() >= 200 && response.statusCode() < 400;
+                });
+    }
+
+    private URI uri(final Upstream upstream) {
+        if (StringUtils.isBlank(upstream.getUrl())) {
+            throw new IllegalArgumentException("blank upstream url");
+        }
+        final String url = StringUtils.removeEnd(upstream.getUrl().trim(), "/");
+        if (url.contains("://")) {
+            return URI.create(url + path);
+        }
+        return URI.create(StringUtils.defaultIfBlank(upstream.getProtocol(), DEFAULT_PROTOCOL) + url + path);
+    }
+}
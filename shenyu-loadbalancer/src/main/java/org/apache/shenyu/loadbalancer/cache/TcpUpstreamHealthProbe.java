@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probe the upstream by opening a TCP connection, the same check as {@code UpstreamCheckUtils#checkUrl}
+ * without blocking a thread on the connect.
+ *
+ * <p>The host of the upstream is resolved on a small bounded pool of resolver threads, so a slow name lookup
+ * does not hold up the threads that schedule the probes. Only when the resolver queue is full the lookup runs
+ * on the calling thread, which slows the probes down instead of dropping them.</p>
+ */
+public final class TcpUpstreamHealthProbe implements UpstreamHealthProbe {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TcpUpstreamHealthProbe.class);
+
+    private static final int RESOLVER_THREADS = 4;
+
+    private static final int RESOLVER_QUEUE_SIZE = 1024;
+
+    private static final Executor RESOLVER = createResolver();
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static final String DEFAULT_SCHEME = "tcp";
+
+    @Override
+    public CompletableFuture<Boolean> probe(final Upstream upstream, final int timeout) {
+        final InetSocketAddress address = address(upstream.getUrl());
+        if (Objects.isNull(address)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.supplyAsync(() -> new InetSocketAddress(address.getHostString(), address.getPort()), RESOLVER)
+                .thenCompose(resolved -> connect(resolved, timeout))
+                .completeOnTimeout(false, timeout, TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    LOG.warn("socket connect is error. address:{} timeout:{} cause:{}", address, timeout, throwable.getMessage());
+                    return false;
+                });
+    }
+
+    private static Executor createResolver() {
+        ThreadPoolExecutor resolver = new ThreadPoolExecutor(RESOLVER_THREADS, RESOLVER_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(RESOLVER_QUEUE_SIZE), ShenyuThreadFactory.create("upstream-health-resolver", true),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        resolver.allowCoreThreadTimeOut(true);
+        return resolver;
+    }
+
+    /**
+     * Parse the unresolved socket address of an upstream url, with or without the scheme.
+     *
+     * @param url the upstream url
+     * @return the address, null if the url is blank or malformed
+     */
+    static InetSocketAddress address(final String url) {
+        if (StringUtils.isBlank(url)) {
+            return null;
+        }
+        final String trimmed = url.trim();
+        final URI uri;
+        try {
+            uri = URI.create(trimmed.contains(SCHEME_SEPARATOR) ? trimmed : DEFAULT_SCHEME + SCHEME_SEPARATOR + trimmed);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (Objects.isNull(uri.getHost())) {
+            return null;
+        }
+        final int port = uri.getPort() >= 0 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        // an IPv6 literal is bracketed in the uri
+        return InetSocketAddress.createUnresolved(StringUtils.removeEnd(StringUtils.removeStart(uri.getHost(), "["), "]"), port);
+    }
+
+    private static CompletableFuture<Boolean> connect(final InetSocketAddress address, final int timeout) {
+        if (address.isUnresolved()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final AsynchronousSocketChannel channel;
+        try {
+            channel = AsynchronousSocketChannel.open();
+        } catch (IOException e) {
+            LOG.error("open socket channel is error. address:{}", address, e);
+            return CompletableFuture.completedFuture(false);
+        }
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        channel.connect(address, null, new CompletionHandler<Void, Void>() {
+            @Override
+            public void completed(final Void result, final Void attachment) {
+                future.complete(true);
+            }
+
+            @Override
+            public void failed(final Throwable exc, final Void attachment) {
+                LOG.warn("socket connect is error. address:{} timeout:{} cause:{}", address, timeout, exc.getMessage());
+                future.complete(false);
+            }
+        });
+        return future.completeOnTimeout(false, timeout, TimeUnit.MILLISECONDS)
+                .whenComplete((pass, throwable) -> close(channel));
+    }
+
+    private static void close(final AsynchronousSocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the probe result is already known
+        }
+    }
+}
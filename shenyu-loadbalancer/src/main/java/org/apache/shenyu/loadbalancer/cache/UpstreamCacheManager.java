@@ -17,21 +17,22 @@
 
 package org.apache.shenyu.loadbalancer.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.config.ShenyuConfig.UpstreamCheck;
-import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.entity.UpstreamSnapshot;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -41,10 +42,12 @@ public final class UpstreamCacheManager {
 
     private static final UpstreamCacheManager INSTANCE = new UpstreamCacheManager();
 
-    private static final Map<String, List<Upstream>> UPSTREAM_MAP = Maps.newConcurrentMap();
+    private static final Map<String, UpstreamSnapshot> UPSTREAM_MAP = Maps.newConcurrentMap();
 
     private UpstreamCheckTask task;
 
+    private final List<Consumer<String>> removeListeners = new CopyOnWriteArrayList<>();
+
     /**
      * health check parameters.
      */
@@ -60,6 +63,21 @@ public final class UpstreamCacheManager {
 
     private int unhealthyThreshold;
 
+    private String protocol;
+
+    private String path;
+
+    private int concurrency;
+
+    /**
+     * passive health check parameters.
+     */
+    private int consecutiveErrors;
+
+    private int baseEjectionTime;
+
+    private int maxEjectionTime;
+
     /**
      * healthy upstream print parameters.
      */
@@ -80,6 +98,13 @@ public final class UpstreamCacheManager {
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
         checkInterval = upstreamCheck.getInterval();
+        protocol = upstreamCheck.getProtocol();
+        path = upstreamCheck.getPath();
+        concurrency = upstreamCheck.getConcurrency();
+        // an ejected upstream is re-admitted by probing, so the passive check needs the active check
+        consecutiveErrors = checkEnable ? upstreamCheck.getConsecutiveErrors() : 0;
+        baseEjectionTime = upstreamCheck.getBaseEjectionTime();
+        maxEjectionTime = upstreamCheck.getMaxEjectionTime();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
         createTask();
@@ -92,6 +117,12 @@ public final class UpstreamCacheManager {
         task.setCheckTimeout(checkTimeout);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
+        task.setProtocol(protocol);
+        task.setPath(path);
+        task.setConcurrency(concurrency);
+        task.setConsecutiveErrors(consecutiveErrors);
+        task.setBaseEjectionTime(baseEjectionTime);
+        task.setMaxEjectionTime(maxEjectionTime);
     }
 
     private void scheduleHealthCheck() {
@@ -125,6 +156,26 @@ public final class UpstreamCacheManager {
         return task.getHealthyUpstream().get(selectorId);
     }
 
+    /**
+     * Report a failed request to the upstream, a 5xx response, a timeout or a connection error.
+     *
+     * @param selectorId the selector id
+     * @param url the upstream url
+     */
+    public void reportError(final String selectorId, final String url) {
+        task.triggerError(selectorId, url);
+    }
+
+    /**
+     * Report a successful request to the upstream.
+     *
+     * @param selectorId the selector id
+     * @param url the upstream url
+     */
+    public void reportSuccess(final String selectorId, final String url) {
+        task.triggerSuccess(selectorId, url);
+    }
+
     /**
      * Remove by key.
      *
@@ -133,6 +184,17 @@ public final class UpstreamCacheManager {
     public void removeByKey(final String key) {
         UPSTREAM_MAP.remove(key);
         task.triggerRemoveAll(key);
+        removeListeners.forEach(listener -> listener.accept(key));
+    }
+
+    /**
+     * Add a listener told the id of every removed selector, the state kept per selector outside of this cache
+     * is dropped with it.
+     *
+     * @param listener the listener
+     */
+    public void addRemoveListener(final Consumer<String> listener) {
+        removeListeners.add(listener);
     }
 
     /**
@@ -142,12 +204,12 @@ public final class UpstreamCacheManager {
      * @param upstreamList the upstream list
      */
     public void submit(final String selectorId, final List<Upstream> upstreamList) {
-        List<Upstream> validUpstreamList = upstreamList.stream().filter(Upstream::isStatus).collect(Collectors.toList());
-        List<Upstream> existUpstream = MapUtils.computeIfAbsent(UPSTREAM_MAP, selectorId, k -> Lists.newArrayList());
-        existUpstream.stream().filter(upstream -> !validUpstreamList.contains(upstream))
-                .forEach(upstream -> task.triggerRemoveOne(selectorId, upstream));
-        validUpstreamList.stream().filter(upstream -> !existUpstream.contains(upstream))
-                .forEach(upstream -> task.triggerAddOne(selectorId, upstream));
-        UPSTREAM_MAP.put(selectorId, validUpstreamList);
+        UpstreamSnapshot validUpstream = UpstreamSnapshot.of(upstreamList.stream().filter(Upstream::isStatus).collect(Collectors.toList()));
+        UpstreamSnapshot existUpstream = UPSTREAM_MAP.getOrDefault(selectorId, UpstreamSnapshot.empty());
+        // the snapshots are indexed, so the diff is linear and the change is published as one snapshot
+        List<Upstream> removed = existUpstream.stream().filter(upstream -> !validUpstream.contains(upstream)).collect(Collectors.toList());
+        List<Upstream> added = validUpstream.stream().filter(upstream -> !existUpstream.contains(upstream)).collect(Collectors.toList());
+        task.triggerUpdate(selectorId, removed, added);
+        UPSTREAM_MAP.put(selectorId, validUpstream);
     }
 }
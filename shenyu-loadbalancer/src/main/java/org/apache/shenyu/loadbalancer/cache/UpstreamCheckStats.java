@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the upstream health check, the probes, their latency and the health transitions.
+ */
+public final class UpstreamCheckStats {
+
+    private final LongAdder checks = new LongAdder();
+
+    private final LongAdder failedChecks = new LongAdder();
+
+    private final LongAdder checkNanos = new LongAdder();
+
+    private final LongAccumulator maxCheckNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder online = new LongAdder();
+
+    private final LongAdder offline = new LongAdder();
+
+    /**
+     * Record a probe.
+     *
+     * @param elapsedNanos the probe latency
+     * @param pass whether the probe passed
+     */
+    void recordCheck(final long elapsedNanos, final boolean pass) {
+        checks.increment();
+        if (!pass) {
+            failedChecks.increment();
+        }
+        checkNanos.add(elapsedNanos);
+        maxCheckNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * Record a health transition of an upstream.
+     *
+     * @param healthy whether the upstream went online
+     */
+    void recordTransition(final boolean healthy) {
+        if (healthy) {
+            online.increment();
+        } else {
+            offline.increment();
+        }
+    }
+
+    /**
+     * Get the probes.
+     *
+     * @return the probes
+     */
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    /**
+     * Get the failed probes.
+     *
+     * @return the failed probes
+     */
+    public long getFailedChecks() {
+        return failedChecks.sum();
+    }
+
+    /**
+     * Get the average probe latency.
+     *
+     * @return the average latency in milliseconds
+     */
+    public double getAverageCheckMillis() {
+        final long count = checks.sum();
+        return count == 0 ? 0d : (double) checkNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the max probe latency.
+     *
+     * @return the max latency in milliseconds
+     */
+    public double getMaxCheckMillis() {
+        return (double) maxCheckNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the transitions of upstreams going online.
+     *
+     * @return the transitions
+     */
+    public long getOnlineTransitions() {
+        return online.sum();
+    }
+
+    /**
+     * Get the transitions of upstreams going offline, ejections included.
+     *
+     * @return the transitions
+     */
+    public long getOfflineTransitions() {
+        return offline.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "UpstreamCheckStats{"
+                + "checks=" + getChecks()
+                + ", failedChecks=" + getFailedChecks()
+                + ", averageCheckMillis=" + getAverageCheckMillis()
+                + ", maxCheckMillis=" + getMaxCheckMillis()
+                + ", onlineTransitions=" + getOnlineTransitions()
+                + ", offlineTransitions=" + getOfflineTransitions()
+                + '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An upstream url to probe, shared by the selectors that have an upstream with the url.
+ */
+final class UpstreamCheckTarget {
+
+    private final String url;
+
+    private final Set<UpstreamWithSelectorId> members = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile boolean removed;
+
+    private volatile ScheduledFuture<?> nextCheck;
+
+    UpstreamCheckTarget(final String url) {
+        this.url = url;
+    }
+
+    /**
+     * Get the url.
+     *
+     * @return the url
+     */
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Get the selector upstreams sharing the url.
+     *
+     * @return the members
+     */
+    Set<UpstreamWithSelectorId> getMembers() {
+        return members;
+    }
+
+    /**
+     * Get the upstream to probe.
+     *
+     * @return the upstream, null if there is no member
+     */
+    Upstream getUpstream() {
+        Iterator<UpstreamWithSelectorId> iterator = members.iterator();
+        return iterator.hasNext() ? iterator.next().getUpstream() : null;
+    }
+
+    /**
+     * Mark the first check as scheduled.
+     *
+     * @return false if it is already scheduled
+     */
+    boolean markScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Whether the target is removed, a removed target is not checked again.
+     *
+     * @return true if removed
+     */
+    boolean isRemoved() {
+        return removed;
+    }
+
+    /**
+     * Set the next check.
+     *
+     * @param nextCheck the next check
+     */
+    void setNextCheck(final ScheduledFuture<?> nextCheck) {
+        this.nextCheck = nextCheck;
+    }
+
+    /**
+     * Remove the target and cancel the next check.
+     */
+    void remove() {
+        removed = true;
+        ScheduledFuture<?> future = nextCheck;
+        if (Objects.nonNull(future)) {
+            future.cancel(false);
+        }
+    }
+}
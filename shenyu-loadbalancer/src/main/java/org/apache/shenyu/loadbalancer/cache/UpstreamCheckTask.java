@@ -17,31 +17,44 @@
 
 package org.apache.shenyu.loadbalancer.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.entity.UpstreamSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * Health check manager for upstream servers.
+ *
+ * <p>Every upstream url is a check target with its own schedule, so a slow upstream only delays its own
+ * next check. The url is probed once for all the selectors sharing it, the next check is jittered by
+ * {@value #JITTER} of the interval to spread the probes, and at most {@code concurrency} probes are in
+ * flight. The probes do not block a thread while waiting for the upstream.</p>
+ *
+ * <p>Besides probing, errors seen in real traffic are reported by {@link #triggerError(String, String)}.
+ * After the consecutive errors the upstream is ejected from the healthy list at once and is
+ * re-admitted by a passing probe once its ejection time, doubled by every ejection in a row, is over.</p>
  */
 public final class UpstreamCheckTask implements Runnable {
 
@@ -50,27 +63,49 @@ public final class UpstreamCheckTask implements Runnable {
      */
     private static final Logger LOG = LoggerFactory.getLogger(UpstreamCheckTask.class);
 
-    private final Map<String, List<Upstream>> healthyUpstream = Maps.newConcurrentMap();
+    private static final double JITTER = 0.1;
+
+    private static final long FIRST_CHECK_DELAY = 3000;
+
+    private final Map<String, UpstreamSnapshot> healthyUpstream = Maps.newConcurrentMap();
+
+    private final Map<String, UpstreamSnapshot> unhealthyUpstream = Maps.newConcurrentMap();
 
-    private final Map<String, List<Upstream>> unhealthyUpstream = Maps.newConcurrentMap();
+    private final Map<String, UpstreamCheckTarget> checkTargets = Maps.newConcurrentMap();
 
     private final Object lock = new Object();
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
+    private final Queue<UpstreamWithSelectorId> ejectedUpstream = new ConcurrentLinkedQueue<>();
+
+    private final UpstreamCheckStats checkStats = new UpstreamCheckStats();
 
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private volatile ScheduledExecutorService executor;
+
+    private UpstreamHealthProbe healthProbe = new TcpUpstreamHealthProbe();
+
+    private String protocol = "tcp";
+
+    private String path = "/";
 
     private int poolSize;
 
+    private volatile Semaphore probePermits = new Semaphore(100);
+
     private int checkTimeout = 3000;
 
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
+
+    private int consecutiveErrors;
+
+    private long baseEjectionTime = 10000;
+
+    private long maxEjectionTime = 300000;
     
     /**
      * Instantiates a new Upstream check task.
@@ -82,7 +117,7 @@ public final class UpstreamCheckTask implements Runnable {
     }
     
     /**
-     * get checkStarted.
+     * get checkStarted, whether a manual check of all the upstreams is running.
      *
      * @return checkStarted check started
      */
@@ -94,14 +129,27 @@ public final class UpstreamCheckTask implements Runnable {
      * Schedule health check task.
      */
     public void schedule() {
-        // executor for health check
+        // the probes do not block, the threads only start the probes and handle their results
         ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
-        new ScheduledThreadPoolExecutor(1, healthCheckFactory)
-                .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(Math.max(1, poolSize), healthCheckFactory);
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        healthProbe = createHealthProbe(scheduledExecutor);
+        executor = scheduledExecutor;
+        checkTargets.values().forEach(this::scheduleFirstCheck);
+    }
 
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
+    private UpstreamHealthProbe createHealthProbe(final ScheduledExecutorService callbackExecutor) {
+        switch (protocol) {
+            case "http":
+                return new HttpUpstreamHealthProbe(path, callbackExecutor);
+            case "tcp":
+            case "grpc":
+                // a gRPC health request needs a gRPC client, the connection is checked instead
+                return new TcpUpstreamHealthProbe();
+            default:
+                LOG.warn("[Health Check] unknown protocol {}, tcp is used.", protocol);
+                return new TcpUpstreamHealthProbe();
+        }
     }
     
     /**
@@ -131,6 +179,42 @@ public final class UpstreamCheckTask implements Runnable {
         this.poolSize = poolSize;
     }
 
+    /**
+     * Set the max probes in flight.
+     *
+     * @param concurrency the max probes in flight
+     */
+    public void setConcurrency(final int concurrency) {
+        this.probePermits = new Semaphore(Math.max(1, concurrency));
+    }
+
+    /**
+     * Set the health check protocol, tcp, http or grpc, effective from {@link #schedule()}.
+     *
+     * @param protocol the protocol
+     */
+    public void setProtocol(final String protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * Set the path of the http health check.
+     *
+     * @param path the path
+     */
+    public void setPath(final String path) {
+        this.path = path;
+    }
+
+    /**
+     * Set the health probe.
+     *
+     * @param healthProbe the health probe
+     */
+    public void setHealthProbe(final UpstreamHealthProbe healthProbe) {
+        this.healthProbe = healthProbe;
+    }
+
     /**
      * Set healthy threshold.
      *
@@ -149,57 +233,123 @@ public final class UpstreamCheckTask implements Runnable {
         this.unhealthyThreshold = unhealthyThreshold;
     }
 
-    @Override
-    public void run() {
-        healthCheck();
+    /**
+     * Set the consecutive errors in real traffic that eject an upstream, 0 disables the passive check.
+     *
+     * @param consecutiveErrors consecutive errors
+     */
+    public void setConsecutiveErrors(final int consecutiveErrors) {
+        this.consecutiveErrors = consecutiveErrors;
+    }
+
+    /**
+     * Set the ejection time of the first ejection.
+     *
+     * @param baseEjectionTime milliseconds
+     */
+    public void setBaseEjectionTime(final long baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
     }
 
-    private void healthCheck() {
+    /**
+     * Set the max ejection time.
+     *
+     * @param maxEjectionTime milliseconds
+     */
+    public void setMaxEjectionTime(final long maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+    }
+
+    /**
+     * Get the health check stats.
+     *
+     * @return the stats
+     */
+    public UpstreamCheckStats getCheckStats() {
+        return checkStats;
+    }
+
+    /**
+     * Check all the upstreams now and wait for the results.
+     */
+    @Override
+    public void run() {
+        if (!checkStarted.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
-            synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
-                }
+            probeEjected();
+            // the manual check shares the cap with the scheduled checks, it waits for a permit instead of rescheduling
+            Semaphore permits = probePermits;
+            List<CompletableFuture<Boolean>> probes = new ArrayList<>(checkTargets.size());
+            for (UpstreamCheckTarget target : checkTargets.values()) {
+                permits.acquire();
+                probes.add(probe(target).whenComplete((pass, throwable) -> permits.release()));
             }
+            CompletableFuture.allOf(probes.toArray(new CompletableFuture[0])).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
         } finally {
-            finishHealthCheck();
+            checkStarted.set(false);
+        }
+    }
+
+    private void scheduleFirstCheck(final UpstreamCheckTarget target) {
+        ScheduledExecutorService scheduledExecutor = executor;
+        if (Objects.nonNull(scheduledExecutor) && target.markScheduled()) {
+            long delay = ThreadLocalRandom.current().nextLong(Math.max(1, Math.min(checkInterval, FIRST_CHECK_DELAY)));
+            scheduleCheck(scheduledExecutor, target, delay);
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
+    private void scheduleNextCheck(final UpstreamCheckTarget target, final long interval) {
+        ScheduledExecutorService scheduledExecutor = executor;
+        if (Objects.nonNull(scheduledExecutor)) {
+            long jitter = (long) (interval * JITTER);
+            long delay = interval + (jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0);
+            scheduleCheck(scheduledExecutor, target, Math.max(1, delay));
+        }
     }
 
-    private void check(final Map<String, List<Upstream>> map) {
-        for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
-            String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
-            for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
-            }
+    private void scheduleCheck(final ScheduledExecutorService scheduledExecutor, final UpstreamCheckTarget target, final long delay) {
+        if (target.isRemoved() || scheduledExecutor.isShutdown()) {
+            return;
         }
+        target.setNextCheck(scheduledExecutor.schedule(() -> check(target), delay, TimeUnit.MILLISECONDS));
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private void check(final UpstreamCheckTarget target) {
+        if (target.isRemoved()) {
+            return;
+        }
+        Semaphore permits = probePermits;
+        if (!permits.tryAcquire()) {
+            // too many probes in flight, try again a little later
+            scheduleNextCheck(target, Math.max(1, checkInterval / 10));
+            return;
+        }
+        probe(target).whenComplete((pass, throwable) -> {
+            permits.release();
+            scheduleNextCheck(target, checkInterval);
+        });
+    }
+
+    private void check(final String selectorId, final Upstream upstream, final boolean pass) {
         if (pass) {
             if (upstream.isHealthy()) {
-                upstream.setLastHealthTimestamp(System.currentTimeMillis());
+                long now = System.currentTimeMillis();
+                upstream.setLastHealthTimestamp(now);
+                upstream.getOutlierStats().relax(now, baseEjectionTime);
             } else {
                 long now = System.currentTimeMillis();
                 long interval = now - upstream.getLastUnhealthyTimestamp();
-                if (interval >= (long) checkInterval * healthyThreshold) {
+                if (interval >= thresholdMillis(healthyThreshold) && !upstream.getOutlierStats().isEjected(now)) {
+                    upstream.getOutlierStats().readmit();
                     upstream.setHealthy(true);
                     upstream.setLastHealthTimestamp(now);
+                    checkStats.recordTransition(true);
                     LOG.info("[Health Check] Selector [{}] upstream {} health check passed, server is back online.",
                             selectorId, upstream.getUrl());
                 }
@@ -210,43 +360,82 @@ public final class UpstreamCheckTask implements Runnable {
             } else {
                 long now = System.currentTimeMillis();
                 long interval = now - upstream.getLastHealthTimestamp();
-                if (interval >= (long) checkInterval * unhealthyThreshold) {
+                if (interval >= thresholdMillis(unhealthyThreshold)) {
                     upstream.setHealthy(false);
                     upstream.setLastUnhealthyTimestamp(now);
+                    checkStats.recordTransition(false);
                     LOG.info("[Health Check] Selector [{}] upstream {} health check failed, server is offline.",
                             selectorId, upstream.getUrl());
                 }
             }
         }
-        return new UpstreamWithSelectorId(selectorId, upstream);
     }
 
-    private boolean tryStartHealthCheck() {
-        return checkStarted.compareAndSet(false, true);
-    }
-
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
+    private CompletableFuture<Boolean> probe(final UpstreamCheckTarget target) {
+        Upstream upstream = target.getUpstream();
+        if (Objects.isNull(upstream)) {
+            return CompletableFuture.completedFuture(false);
         }
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> future;
+        try {
+            future = healthProbe.probe(upstream, checkTimeout);
+        } catch (Exception e) {
+            LOG.error("[Health Check] probe upstream {} meet problem: ", target.getUrl(), e);
+            future = CompletableFuture.completedFuture(false);
+        }
+        return future.exceptionally(throwable -> false).thenApply(pass -> {
+            checkStats.recordCheck(System.nanoTime() - start, pass);
+            for (UpstreamWithSelectorId member : target.getMembers()) {
+                check(member.getSelectorId(), member.getUpstream(), pass);
+                updateMembership(target, member);
+            }
+            return pass;
+        });
+    }
 
-        futures.clear();
+    /**
+     * The checks are jittered, so the threshold allows an interval shortened by the jitter.
+     */
+    private long thresholdMillis(final int threshold) {
+        return (long) (checkInterval * (1 - JITTER)) * threshold;
     }
 
-    private void putEntityToMap(final UpstreamWithSelectorId entity) {
-        Upstream upstream = entity.getUpstream();
-        if (upstream.isHealthy()) {
-            putToMap(healthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-        } else {
-            putToMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(healthyUpstream, entity.getSelectorId(), upstream);
+    /**
+     * The membership is checked under the lock, so the result of a probe that raced with the removal of
+     * the upstream does not bring it back.
+     */
+    private void updateMembership(final UpstreamCheckTarget target, final UpstreamWithSelectorId member) {
+        synchronized (lock) {
+            if (target.isRemoved() || !target.getMembers().contains(member)) {
+                return;
+            }
+            Upstream upstream = member.getUpstream();
+            if (upstream.isHealthy()) {
+                putToMap(healthyUpstream, member.getSelectorId(), upstream);
+                removeFromMap(unhealthyUpstream, member.getSelectorId(), upstream);
+            } else {
+                putToMap(unhealthyUpstream, member.getSelectorId(), upstream);
+                removeFromMap(healthyUpstream, member.getSelectorId(), upstream);
+            }
         }
     }
 
-    private void finishHealthCheck() {
-        checkStarted.set(false);
+    /**
+     * The ejected upstreams are moved to the unhealthy map under the lock, so an upstream of a selector
+     * removed in the meantime is dropped.
+     */
+    private void probeEjected() {
+        synchronized (lock) {
+            UpstreamWithSelectorId entity = ejectedUpstream.poll();
+            while (Objects.nonNull(entity)) {
+                UpstreamCheckTarget target = checkTargets.get(targetKey(entity.getUpstream()));
+                if (Objects.nonNull(target) && target.getMembers().contains(entity) && !entity.getUpstream().isHealthy()) {
+                    putToMap(unhealthyUpstream, entity.getSelectorId(), entity.getUpstream());
+                }
+                entity = ejectedUpstream.poll();
+            }
+        }
     }
     
     /**
@@ -256,7 +445,10 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerAddOne(final String selectorId, final Upstream upstream) {
-        putToMap(healthyUpstream, selectorId, upstream);
+        synchronized (lock) {
+            putToMap(healthyUpstream, selectorId, upstream);
+            addCheckTarget(selectorId, upstream);
+        }
     }
     
     /**
@@ -266,28 +458,143 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerRemoveOne(final String selectorId, final Upstream upstream) {
-        removeFromMap(healthyUpstream, selectorId, upstream);
-        removeFromMap(unhealthyUpstream, selectorId, upstream);
+        synchronized (lock) {
+            removeFromMap(healthyUpstream, selectorId, upstream);
+            removeFromMap(unhealthyUpstream, selectorId, upstream);
+            removeCheckTarget(selectorId, upstream);
+        }
     }
 
-    private void putToMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
-        synchronized (lock) {
-            List<Upstream> list = MapUtils.computeIfAbsent(map, selectorId, k -> Lists.newArrayList());
-            if (!list.contains(upstream)) {
-                list.add(upstream);
+    private void addCheckTarget(final String selectorId, final Upstream upstream) {
+        UpstreamCheckTarget target = MapUtils.computeIfAbsent(checkTargets, targetKey(upstream), UpstreamCheckTarget::new);
+        target.getMembers().add(new UpstreamWithSelectorId(selectorId, upstream));
+        scheduleFirstCheck(target);
+    }
+
+    private void removeCheckTarget(final String selectorId, final Upstream upstream) {
+        String key = targetKey(upstream);
+        UpstreamCheckTarget target = checkTargets.get(key);
+        if (Objects.isNull(target)) {
+            return;
+        }
+        target.getMembers().remove(new UpstreamWithSelectorId(selectorId, upstream));
+        if (target.getMembers().isEmpty()) {
+            checkTargets.remove(key);
+            target.remove();
+        }
+    }
+
+    private static String targetKey(final Upstream upstream) {
+        return Objects.toString(upstream.getUrl(), "");
+    }
+
+    /**
+     * A request to the upstream failed in real traffic, a 5xx response, a timeout or a connection error.
+     *
+     * @param selectorId selectorId
+     * @param url the upstream url
+     */
+    public void triggerError(final String selectorId, final String url) {
+        if (consecutiveErrors <= 0) {
+            return;
+        }
+        Upstream upstream = findHealthyUpstream(selectorId, url);
+        if (Objects.nonNull(upstream) && upstream.getOutlierStats().recordError(consecutiveErrors)) {
+            eject(selectorId, upstream);
+        }
+    }
+
+    /**
+     * A request to the upstream succeeded in real traffic.
+     *
+     * @param selectorId selectorId
+     * @param url the upstream url
+     */
+    public void triggerSuccess(final String selectorId, final String url) {
+        if (consecutiveErrors <= 0) {
+            return;
+        }
+        Upstream upstream = findHealthyUpstream(selectorId, url);
+        if (Objects.nonNull(upstream)) {
+            upstream.getOutlierStats().recordSuccess();
+        }
+    }
+
+    private Upstream findHealthyUpstream(final String selectorId, final String url) {
+        if (Objects.isNull(selectorId) || Objects.isNull(url)) {
+            return null;
+        }
+        UpstreamSnapshot snapshot = healthyUpstream.get(selectorId);
+        return Objects.isNull(snapshot) ? null : snapshot.findByUrl(url);
+    }
+
+    /**
+     * Called by the request threads, so the lock is not taken. The last healthy upstream of a selector
+     * is never ejected, a selector without upstreams would fail every request.
+     */
+    private void eject(final String selectorId, final Upstream upstream) {
+        AtomicBoolean removed = new AtomicBoolean(false);
+        long now = System.currentTimeMillis();
+        healthyUpstream.computeIfPresent(selectorId, (key, snapshot) -> {
+            if (snapshot.size() <= 1 || !snapshot.contains(upstream)) {
+                return snapshot;
             }
+            // unhealthy before it leaves the snapshot, so a concurrent check never puts it back as healthy
+            upstream.setHealthy(false);
+            upstream.setLastUnhealthyTimestamp(now);
+            removed.set(true);
+            return snapshot.without(upstream);
+        });
+        if (!removed.get()) {
+            return;
+        }
+        long ejectionTime = upstream.getOutlierStats().eject(now, baseEjectionTime, maxEjectionTime);
+        checkStats.recordTransition(false);
+        LOG.warn("[Health Check] Selector [{}] upstream {} failed {} requests in a row, ejected for {} ms.",
+                selectorId, upstream.getUrl(), upstream.getOutlierStats().getConsecutiveErrors(), ejectionTime);
+        ejectedUpstream.offer(new UpstreamWithSelectorId(selectorId, upstream));
+        ScheduledExecutorService scheduledExecutor = executor;
+        if (Objects.nonNull(scheduledExecutor)) {
+            scheduledExecutor.execute(this::probeEjected);
         }
     }
 
-    private void removeFromMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
+    /**
+     * The upstreams of a selector are immutable snapshots, a change publishes the next snapshot by the atomic
+     * compute of the map, so readers never see a partial change and ejections do not need the lock.
+     * Load balancers cache their tables by the snapshot.
+     */
+    private void putToMap(final Map<String, UpstreamSnapshot> map, final String selectorId, final Upstream upstream) {
         synchronized (lock) {
-            List<Upstream> list = map.get(selectorId);
-            if (CollectionUtils.isNotEmpty(list)) {
-                list.remove(upstream);
-            }
+            map.compute(selectorId, (key, snapshot) -> Optional.ofNullable(snapshot).orElseGet(UpstreamSnapshot::empty).with(upstream));
         }
     }
-    
+
+    private void removeFromMap(final Map<String, UpstreamSnapshot> map, final String selectorId, final Upstream upstream) {
+        synchronized (lock) {
+            map.computeIfPresent(selectorId, (key, snapshot) -> snapshot.without(upstream));
+        }
+    }
+
+    /**
+     * Apply the changes of the upstreams of a selector as one snapshot.
+     *
+     * @param selectorId selectorId
+     * @param removed the removed upstreams
+     * @param added the added upstreams
+     */
+    public void triggerUpdate(final String selectorId, final List<Upstream> removed, final List<Upstream> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            healthyUpstream.compute(selectorId, (key, snapshot) -> Optional.ofNullable(snapshot).orElseGet(UpstreamSnapshot::empty).update(removed, added));
+            unhealthyUpstream.computeIfPresent(selectorId, (key, snapshot) -> snapshot.update(removed, Collections.emptyList()));
+            removed.forEach(upstream -> removeCheckTarget(selectorId, upstream));
+            added.forEach(upstream -> addCheckTarget(selectorId, upstream));
+        }
+    }
+
     /**
      * Remove all upstream via selectorId.
      *
@@ -297,6 +604,15 @@ public final class UpstreamCheckTask implements Runnable {
         synchronized (lock) {
             healthyUpstream.remove(selectorId);
             unhealthyUpstream.remove(selectorId);
+            // an ejected upstream is in neither map until the next check, so all the targets are looked at
+            checkTargets.values().removeIf(target -> {
+                target.getMembers().removeIf(member -> Objects.equals(selectorId, member.getSelectorId()));
+                if (target.getMembers().isEmpty()) {
+                    target.remove();
+                    return true;
+                }
+                return false;
+            });
         }
     }
     
@@ -306,6 +622,7 @@ public final class UpstreamCheckTask implements Runnable {
     public void print() {
         printHealthyUpstream();
         printUnhealthyUpstream();
+        LOG.info("[Health Check] {} check targets, {}", checkTargets.size(), checkStats);
     }
     
     private void printHealthyUpstream() {
@@ -331,7 +648,7 @@ public final class UpstreamCheckTask implements Runnable {
      *
      * @return healthy map.
      */
-    public Map<String, List<Upstream>> getHealthyUpstream() {
+    public Map<String, UpstreamSnapshot> getHealthyUpstream() {
         return healthyUpstream;
     }
     
@@ -340,7 +657,7 @@ public final class UpstreamCheckTask implements Runnable {
      *
      * @return unhealthy map.
      */
-    public Map<String, List<Upstream>> getUnhealthyUpstream() {
+    public Map<String, UpstreamSnapshot> getUnhealthyUpstream() {
         return unhealthyUpstream;
     }
 }
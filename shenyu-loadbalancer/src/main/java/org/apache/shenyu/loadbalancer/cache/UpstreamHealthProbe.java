@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking health probe of an upstream.
+ */
+public interface UpstreamHealthProbe {
+
+    /**
+     * Probe the upstream, the future must complete within the timeout and must not complete exceptionally.
+     *
+     * @param upstream the upstream
+     * @param timeout the timeout in milliseconds
+     * @return the future of whether the upstream is healthy
+     */
+    CompletableFuture<Boolean> probe(Upstream upstream, int timeout);
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latency feedback of an upstream, the in-flight requests and the EWMA of the response time.
+ *
+ * <p>The in-flight counter is a {@link LongAdder}, its striped cells keep concurrent requests from contending
+ * on one counter. The EWMA is decayed by the time between two samples and updated with one CAS, a sample
+ * that loses the race to a concurrent sample is dropped instead of retried.</p>
+ */
+public final class LatencyStats {
+
+    /**
+     * the decay time of the EWMA, a sample weighs 1 - e^(-elapsed / decay).
+     */
+    private static final double DECAY_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+
+    private final LongAdder inflight = new LongAdder();
+
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0d));
+
+    private volatile long lastSampleNanos;
+
+    private volatile long lastPickedNanos = Long.MIN_VALUE;
+
+    /**
+     * A request to the upstream is started.
+     *
+     * @return the start time in {@link System#nanoTime()}
+     */
+    public long start() {
+        inflight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * A request to the upstream is finished.
+     *
+     * @param startNanos the start time returned by {@link #start()}
+     */
+    public void finish(final long startNanos) {
+        inflight.decrement();
+        final long now = System.nanoTime();
+        sample(Math.max(0, now - startNanos), now);
+    }
+
+    /**
+     * A request to the upstream is cancelled, its response time is not sampled.
+     */
+    public void cancel() {
+        inflight.decrement();
+    }
+
+    /**
+     * Add a response time sample.
+     *
+     * @param elapsedNanos the response time
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void sample(final long elapsedNanos, final long now) {
+        final long current = ewmaBits.get();
+        final double ewma = Double.longBitsToDouble(current);
+        final double next;
+        if (ewma == 0d) {
+            next = elapsedNanos;
+        } else {
+            final double weight = Math.exp(-Math.max(0, now - lastSampleNanos) / DECAY_NANOS);
+            next = ewma * weight + elapsedNanos * (1 - weight);
+        }
+        if (ewmaBits.compareAndSet(current, Double.doubleToRawLongBits(next))) {
+            lastSampleNanos = now;
+        }
+    }
+
+    /**
+     * Get the in-flight requests.
+     *
+     * @return the in-flight requests
+     */
+    public long getInflight() {
+        return Math.max(0, inflight.sum());
+    }
+
+    /**
+     * Get the EWMA of the response time, 0 if no request finished yet.
+     *
+     * @return the EWMA in nanoseconds
+     */
+    public double getEwmaNanos() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+
+    /**
+     * Get when the upstream was picked last by a load balancer.
+     *
+     * @return the {@link System#nanoTime()} of the last pick, {@link Long#MIN_VALUE} if never picked
+     */
+    public long getLastPickedNanos() {
+        return lastPickedNanos;
+    }
+
+    /**
+     * Mark the upstream as picked by a load balancer.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void markPicked(final long now) {
+        this.lastPickedNanos = now;
+    }
+}
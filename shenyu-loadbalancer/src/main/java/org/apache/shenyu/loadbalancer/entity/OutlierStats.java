@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The passive health state of an upstream, the consecutive errors seen in real traffic and the ejections.
+ *
+ * <p>The counters are only written when the outcome changes them, a successful request reads the error
+ * counter and leaves it alone when it is already 0. Every ejection in a row doubles the ejection time,
+ * and the upstream staying healthy for a base ejection time forgives one ejection.</p>
+ */
+public final class OutlierStats {
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final AtomicInteger consecutiveErrors = new AtomicInteger();
+
+    private final AtomicInteger ejections = new AtomicInteger();
+
+    private volatile long ejectedUntil;
+
+    private volatile long relaxAt;
+
+    /**
+     * A request to the upstream failed.
+     *
+     * @param threshold the consecutive errors that eject the upstream
+     * @return true if the consecutive errors reached the threshold
+     */
+    public boolean recordError(final int threshold) {
+        return consecutiveErrors.incrementAndGet() >= threshold;
+    }
+
+    /**
+     * A request to the upstream succeeded.
+     */
+    public void recordSuccess() {
+        if (consecutiveErrors.get() != 0) {
+            consecutiveErrors.set(0);
+        }
+    }
+
+    /**
+     * Get the consecutive errors.
+     *
+     * @return the consecutive errors
+     */
+    public int getConsecutiveErrors() {
+        return consecutiveErrors.get();
+    }
+
+    /**
+     * Get the ejections in a row.
+     *
+     * @return the ejections
+     */
+    public int getEjections() {
+        return ejections.get();
+    }
+
+    /**
+     * Eject the upstream.
+     *
+     * @param now the current time in milliseconds
+     * @param baseEjectionTime the ejection time of the first ejection in milliseconds
+     * @param maxEjectionTime the max ejection time in milliseconds
+     * @return the ejection time in milliseconds
+     */
+    public long eject(final long now, final long baseEjectionTime, final long maxEjectionTime) {
+        final int shift = Math.min(ejections.getAndIncrement(), MAX_BACKOFF_SHIFT);
+        final long ejectionTime = Math.min(maxEjectionTime, baseEjectionTime << shift);
+        ejectedUntil = now + ejectionTime;
+        relaxAt = ejectedUntil + baseEjectionTime;
+        return ejectionTime;
+    }
+
+    /**
+     * Whether the ejection time is not over, an ejected upstream is not re-admitted before.
+     *
+     * @param now the current time in milliseconds
+     * @return true if ejected
+     */
+    public boolean isEjected(final long now) {
+        return now < ejectedUntil;
+    }
+
+    /**
+     * The upstream is re-admitted, the errors before the ejection are forgotten.
+     */
+    public void readmit() {
+        consecutiveErrors.set(0);
+    }
+
+    /**
+     * Forgive one ejection if the upstream stayed healthy for a base ejection time.
+     *
+     * @param now the current time in milliseconds
+     * @param baseEjectionTime the ejection time of the first ejection in milliseconds
+     */
+    public void relax(final long now, final long baseEjectionTime) {
+        if (ejections.get() > 0 && now >= relaxAt) {
+            relaxAt = now + baseEjectionTime;
+            ejections.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+}
@@ -21,7 +21,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * this is upstream.
@@ -83,16 +82,6 @@ public final class Upstream {
      */
     private String version;
 
-    /**
-     * ewma value.
-     */
-    private long lag;
-
-    /**
-     * response stamp.
-     */
-    private long responseStamp;
-
     /**
      * Last selected timestamp.
      */
@@ -104,13 +93,13 @@ public final class Upstream {
     private boolean gray;
 
     /**
-     * Total number of requests being processed.
+     * Availability zone the upstream is deployed in.
      */
-    private AtomicLong inflight = new AtomicLong(1);
+    private String zone;
 
-    private final AtomicLong succeeded = new AtomicLong(0);
+    private final LatencyStats latencyStats = new LatencyStats();
 
-    private final AtomicLong succeededElapsed = new AtomicLong(0);
+    private final OutlierStats outlierStats = new OutlierStats();
 
     private Upstream(final Builder builder) {
         this.protocol = builder.protocol;
@@ -122,6 +111,7 @@ public final class Upstream {
         this.group = builder.group;
         this.version = builder.version;
         this.gray = builder.gray;
+        this.zone = builder.zone;
     }
 
     /**
@@ -286,40 +276,6 @@ public final class Upstream {
         this.version = version;
     }
 
-    /**
-     * Gets lag.
-     *
-     * @return the lag
-     */
-    public long getLag() {
-        return lag;
-    }
-
-    /**
-     * Sets lag.
-     * @param lag the lag
-     */
-    public void setLag(final long lag) {
-        this.lag = lag;
-    }
-
-    /**
-     * Gets responseStamp.
-     *
-     * @return the responseStamp
-     */
-    public long getResponseStamp() {
-        return responseStamp;
-    }
-
-    /**
-     * Sets responseStamp.
-     * @param responseStamp the responseStamp
-     */
-    public void setResponseStamp(final long responseStamp) {
-        this.responseStamp = responseStamp;
-    }
-
     /**
      * Gets lastPickedStamp.
      *
@@ -337,23 +293,6 @@ public final class Upstream {
         this.lastPicked = lastPicked;
     }
 
-    /**
-     * Gets inflight.
-     *
-     * @return the inflight
-     */
-    public AtomicLong getInflight() {
-        return inflight;
-    }
-
-    /**
-     * Sets inflight.
-     * @param inflight the inflight
-     */
-    public void setInflight(final AtomicLong inflight) {
-        this.inflight = inflight;
-    }
-
     /**
      * gray.
      *
@@ -373,31 +312,39 @@ public final class Upstream {
     }
 
     /**
-     * Gets succeeded.
-     * @return the succeeded
+     * Gets zone.
+     *
+     * @return the zone, null when the upstream did not report one
      */
-    public AtomicLong getSucceeded() {
-        return succeeded;
+    public String getZone() {
+        return zone;
     }
 
     /**
-     * Gets succeededElapsed.
-     * @return the succeededElapsed
+     * Sets zone.
+     *
+     * @param zone the zone
      */
-    public AtomicLong getSucceededElapsed() {
-        return succeededElapsed;
+    public void setZone(final String zone) {
+        this.zone = zone;
     }
 
     /**
-     * Gets succeededAverageElapsed.
-     * @return the succeededAverageElapsed.
+     * Gets the latency stats, the in-flight requests and the response time EWMA.
+     *
+     * @return the latency stats
      */
-    public long getSucceededAverageElapsed() {
-        long succeeded = getSucceeded().get();
-        if (succeeded == 0) {
-            return 0;
-        }
-        return getSucceededElapsed().get() / succeeded;
+    public LatencyStats getLatencyStats() {
+        return latencyStats;
+    }
+
+    /**
+     * Gets the outlier stats, the errors seen in real traffic and the ejections.
+     *
+     * @return the outlier stats
+     */
+    public OutlierStats getOutlierStats() {
+        return outlierStats;
     }
 
     /**
@@ -513,6 +460,11 @@ public final class Upstream {
          */
         private Boolean gray = false;
 
+        /**
+         * zone.
+         */
+        private String zone;
+
         /**
          * no args constructor.
          */
@@ -628,5 +580,16 @@ public final class Upstream {
             return this;
         }
 
+        /**
+         * build zone.
+         *
+         * @param zone zone
+         * @return this builder
+         */
+        public Builder zone(final String zone) {
+            this.zone = zone;
+            return this;
+        }
+
     }
 }
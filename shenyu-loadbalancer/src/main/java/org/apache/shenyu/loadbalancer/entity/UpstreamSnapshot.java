@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An immutable upstream list of a selector with a version number and an index by url.
+ *
+ * <p>A snapshot is never changed once it is published, a membership change publishes a new snapshot with
+ * a greater version, so readers always see a complete list and structures derived from a snapshot stay
+ * valid as long as the snapshot does. Lookups and membership tests go through the url index, so building
+ * the next snapshot from a change is linear in the size of the list.</p>
+ */
+public final class UpstreamSnapshot extends AbstractList<Upstream> implements RandomAccess {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final UpstreamSnapshot EMPTY = new UpstreamSnapshot(0, new Upstream[0]);
+
+    private final long version;
+
+    private final Upstream[] upstreams;
+
+    private final Map<String, Upstream> urlIndex;
+
+    private UpstreamSnapshot(final long version, final Upstream[] upstreams) {
+        this.version = version;
+        this.upstreams = upstreams;
+        Map<String, Upstream> index = new HashMap<>(upstreams.length * 4 / 3 + 1);
+        for (Upstream upstream : upstreams) {
+            index.putIfAbsent(urlKey(upstream.getUrl()), upstream);
+        }
+        this.urlIndex = index;
+    }
+
+    /**
+     * Get the empty snapshot.
+     *
+     * @return the empty snapshot
+     */
+    public static UpstreamSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a snapshot of the upstreams, duplicates are dropped.
+     *
+     * @param upstreams the upstreams
+     * @return the snapshot
+     */
+    public static UpstreamSnapshot of(final Collection<Upstream> upstreams) {
+        return new UpstreamSnapshot(VERSION.incrementAndGet(), new LinkedHashSet<>(upstreams).toArray(new Upstream[0]));
+    }
+
+    /**
+     * Get the version, a greater version is a later snapshot.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Find an upstream by url, the scheme and the path of the url are ignored.
+     *
+     * @param url the url
+     * @return the upstream, null if there is none
+     */
+    public Upstream findByUrl(final String url) {
+        return urlIndex.get(urlKey(url));
+    }
+
+    /**
+     * Create the next snapshot with the changes, this snapshot is returned if nothing changes.
+     *
+     * @param removed the upstreams to remove
+     * @param added the upstreams to add
+     * @return the next snapshot
+     */
+    public UpstreamSnapshot update(final Collection<Upstream> removed, final Collection<Upstream> added) {
+        Set<Upstream> removedSet = new HashSet<>(removed);
+        Set<Upstream> nextSet = new LinkedHashSet<>(upstreams.length + added.size());
+        boolean changed = false;
+        for (Upstream upstream : upstreams) {
+            if (removedSet.contains(upstream)) {
+                changed = true;
+            } else {
+                nextSet.add(upstream);
+            }
+        }
+        for (Upstream upstream : added) {
+            changed |= nextSet.add(upstream);
+        }
+        return changed ? new UpstreamSnapshot(VERSION.incrementAndGet(), nextSet.toArray(new Upstream[0])) : this;
+    }
+
+    /**
+     * Create the next snapshot with the upstream added.
+     *
+     * @param upstream the upstream
+     * @return the next snapshot
+     */
+    public UpstreamSnapshot with(final Upstream upstream) {
+        return update(Collections.emptyList(), Collections.singletonList(upstream));
+    }
+
+    /**
+     * Create the next snapshot with the upstream removed.
+     *
+     * @param upstream the upstream
+     * @return the next snapshot
+     */
+    public UpstreamSnapshot without(final Upstream upstream) {
+        return update(Collections.singletonList(upstream), Collections.emptyList());
+    }
+
+    @Override
+    public Upstream get(final int index) {
+        return upstreams[index];
+    }
+
+    @Override
+    public int size() {
+        return upstreams.length;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof Upstream)) {
+            return false;
+        }
+        Upstream upstream = (Upstream) o;
+        Upstream indexed = urlIndex.get(urlKey(upstream.getUrl()));
+        if (Objects.isNull(indexed)) {
+            return false;
+        }
+        // upstreams with the same url and another weight are not indexed, they are rare
+        return indexed.equals(upstream) || super.contains(upstream);
+    }
+
+    private static String urlKey(final String url) {
+        String key = Objects.toString(url, "").trim();
+        int schemeEnd = key.indexOf("://");
+        if (schemeEnd >= 0) {
+            key = key.substring(schemeEnd + 3);
+        }
+        int pathStart = key.indexOf('/');
+        return pathStart >= 0 ? key.substring(0, pathStart) : key;
+    }
+}
@@ -18,8 +18,17 @@
 package org.apache.shenyu.loadbalancer.factory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.config.ShenyuConfig.LoadBalanceConfig;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
+import org.apache.shenyu.loadbalancer.spi.ZoneAwareLoadBalancer;
 import org.apache.shenyu.spi.ExtensionLoader;
 
 /**
@@ -27,6 +36,8 @@ import org.apache.shenyu.spi.ExtensionLoader;
  */
 public final class LoadBalancerFactory {
 
+    private static final Map<String, ZoneAwareLoadBalancer> ZONE_AWARE_BALANCERS = new ConcurrentHashMap<>();
+
     private LoadBalancerFactory() {
     }
 
@@ -39,7 +50,44 @@ public final class LoadBalancerFactory {
      * @return the upstream
      */
     public static Upstream selector(final List<Upstream> upstreamList, final String algorithm, final String ip) {
-        LoadBalancer loadBalance = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
+        LoadBalancer loadBalance = getLoadBalancer(algorithm);
         return loadBalance.select(upstreamList, ip);
     }
+
+    /**
+     * Resolve the load balancer of the algorithm, callers selecting often should keep the instance.
+     * When the gateway is configured with a zone the algorithm is wrapped by a {@link ZoneAwareLoadBalancer}.
+     *
+     * @param algorithm the loadBalance algorithm
+     * @return the load balancer
+     */
+    public static LoadBalancer getLoadBalancer(final String algorithm) {
+        final LoadBalancer loadBalancer = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
+        final LoadBalanceConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElseGet(ShenyuConfig::new).getLoadBalance();
+        if (StringUtils.isBlank(config.getZone())) {
+            return loadBalancer;
+        }
+        final ZoneAwareLoadBalancer balancer = ZONE_AWARE_BALANCERS.get(algorithm);
+        if (isCurrent(balancer, loadBalancer, config)) {
+            return balancer;
+        }
+        // the wrapper is only rebuilt on the first call or after the zone config changed
+        return ZONE_AWARE_BALANCERS.compute(algorithm, (key, current) -> isCurrent(current, loadBalancer, config)
+                ? current : new ZoneAwareLoadBalancer(loadBalancer, config));
+    }
+
+    private static boolean isCurrent(final ZoneAwareLoadBalancer balancer, final LoadBalancer delegate, final LoadBalanceConfig config) {
+        return Objects.nonNull(balancer) && balancer.getDelegate() == delegate
+                && config.getZone().equals(balancer.getLocalZone())
+                && Optional.ofNullable(config.getZoneCapacityThreshold()).orElse(1d) == balancer.getCapacityThreshold();
+    }
+
+    /**
+     * Get the zone aware load balancers by algorithm, to read the traffic of every zone.
+     *
+     * @return the zone aware load balancers
+     */
+    public static Map<String, ZoneAwareLoadBalancer> getZoneAwareLoadBalancers() {
+        return Map.copyOf(ZONE_AWARE_BALANCERS);
+    }
 }
@@ -63,6 +63,20 @@ public abstract class AbstractLoadBalancer implements LoadBalancer {
         return weight;
     }
 
+    /**
+     * Whether the weight of the upstream is still growing by the warmup.
+     *
+     * @param upstream the upstream
+     * @return true if the upstream is warming up
+     */
+    protected boolean isWarmingUp(final Upstream upstream) {
+        if (!upstream.isStatus() || upstream.getWeight() <= 0 || upstream.getTimestamp() <= 0) {
+            return false;
+        }
+        long uptime = System.currentTimeMillis() - upstream.getTimestamp();
+        return uptime > 0 && uptime < upstream.getWarmup();
+    }
+
     private int calculateWarmupWeight(final int uptime, final int warmup, final int weight) {
         int ww = (int) ((float) uptime / ((float) warmup / (float) weight));
         return ww < 1 ? 1 : (Math.min(ww, weight));
@@ -17,29 +17,71 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.stream.IntStream;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.config.ShenyuConfig.LoadBalanceConfig;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 /**
  * hash algorithm impl.
+ *
+ * <p>The hash ring of an upstream list is built once and cached by {@link UpstreamTableCache}. The upstream
+ * lists of {@link org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager} are replaced instead of changed
+ * when the membership changes, so the ring is only rebuilt by a submit or a health check change.</p>
+ *
+ * <p>With a {@link LoadBalanceConfig#getHashLoadFactor()} of 1 or more the ring bounds the load of every
+ * upstream: an upstream that already took more than that factor times the average of the recent picks is
+ * skipped and the key moves on to the next upstream of the ring, so one hot key cannot overload a single
+ * upstream. The bound is opt-in, without it a key always stays on the same upstream.</p>
  */
 @Join
 public class HashLoadBalancer extends AbstractLoadBalancer {
 
+    /**
+     * the window of the recent picks, the pick counts are halved at the end of every window.
+     */
+    private static final long LOAD_WINDOW_MILLIS = 1000;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final UpstreamTableCache<HashRing> rings = new UpstreamTableCache<>(this::buildRing, upstream -> false);
+
     /**
      * virtual node used to solve unbalanced load.
      */
-    private static final int VIRTUAL_NODE_NUM = 5;
+    private final int virtualNodeNum;
+
+    private final double loadFactor;
 
     /**
-     * consistent hash with virtual node to select upstream.
+     * Instantiates a new hash load balancer with the shenyu config.
+     */
+    public HashLoadBalancer() {
+        this(Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElseGet(ShenyuConfig::new).getLoadBalance());
+    }
+
+    /**
+     * Instantiates a new hash load balancer.
+     *
+     * @param config the load balance config
+     */
+    public HashLoadBalancer(final LoadBalanceConfig config) {
+        this.virtualNodeNum = Math.max(1, Optional.ofNullable(config.getHashVirtualNodes()).orElse(1));
+        this.loadFactor = Optional.ofNullable(config.getHashLoadFactor()).orElse(0d);
+    }
+
+    /**
+     * consistent hash with virtual node and bounded load to select upstream.
      *
      * @param upstreamList the upstream list
      * @param ip           the ip
@@ -47,37 +89,135 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
+        return upstreamList.get(rings.get(upstreamList).select(hash(ip), loadFactor));
+    }
+
+    private HashRing buildRing(final List<Upstream> upstreamList) {
+        final int upstreamCount = upstreamList.size();
+        final VirtualNode[] nodes = new VirtualNode[upstreamCount * virtualNodeNum];
+        for (int i = 0; i < upstreamCount; i++) {
+            final String url = upstreamList.get(i).getUrl();
+            for (int j = 0; j < virtualNodeNum; j++) {
+                nodes[i * virtualNodeNum + j] = new VirtualNode(hash("SHENYU-" + url + "-HASH-" + j), i);
+            }
+        }
+        // the later upstream owns a colliding position, the same as putting the nodes into a sorted map in order
+        Arrays.sort(nodes, Comparator.comparingLong(VirtualNode::getHash).thenComparing(VirtualNode::getIndex, Comparator.reverseOrder()));
+        int size = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            if (size == 0 || nodes[size - 1].getHash() != nodes[i].getHash()) {
+                nodes[size++] = nodes[i];
+            }
         }
-        return treeMap.firstEntry().getValue();
+        final long[] hashes = new long[size];
+        final int[] owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = nodes[i].getHash();
+            owners[i] = nodes[i].getIndex();
+        }
+        return new HashRing(upstreamCount, hashes, owners);
     }
 
+    /**
+     * FNV-1a with the murmur3 finalizer, cheap and well spread over the ring.
+     *
+     * @param key the key
+     * @return the hash
+     */
     private static long hash(final String key) {
-        // md5 byte
-        MessageDigest md5;
-        try {
-            md5 = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 not supported", e);
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe1a85ec3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class VirtualNode {
+
+        private final long hash;
+
+        private final int index;
+
+        VirtualNode(final long hash, final int index) {
+            this.hash = hash;
+            this.index = index;
+        }
+
+        long getHash() {
+            return hash;
+        }
+
+        int getIndex() {
+            return index;
+        }
+    }
+
+    /**
+     * An immutable hash ring with the recent pick counts of its upstreams.
+     */
+    private static final class HashRing {
+
+        private final int upstreamCount;
+
+        private final long[] hashes;
+
+        private final int[] owners;
+
+        private final AtomicLongArray picks;
+
+        private final AtomicLong totalPicks = new AtomicLong();
+
+        private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+
+        HashRing(final int upstreamCount, final long[] hashes, final int[] owners) {
+            this.upstreamCount = upstreamCount;
+            this.hashes = hashes;
+            this.owners = owners;
+            this.picks = new AtomicLongArray(upstreamCount);
+        }
+
+        int select(final long hash, final double loadFactor) {
+            int position = Arrays.binarySearch(hashes, hash);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            if (position == hashes.length) {
+                position = 0;
+            }
+            if (loadFactor < 1) {
+                return owners[position];
+            }
+            decay();
+            final long capacity = (long) Math.ceil(loadFactor * (totalPicks.get() + 1) / upstreamCount);
+            int owner = owners[position];
+            for (int i = 0; i < hashes.length && picks.get(owner) >= capacity; i++) {
+                owner = owners[(position + i + 1) % hashes.length];
+            }
+            picks.incrementAndGet(owner);
+            totalPicks.incrementAndGet();
+            return owner;
+        }
+
+        private void decay() {
+            final long start = windowStart.get();
+            final long now = System.currentTimeMillis();
+            if (now - start < LOAD_WINDOW_MILLIS || !windowStart.compareAndSet(start, now)) {
+                return;
+            }
+            long total = 0;
+            for (int i = 0; i < picks.length(); i++) {
+                final long current = picks.get(i);
+                final long halved = current >> 1;
+                picks.addAndGet(i, halved - current);
+                total += halved;
+            }
+            totalPicks.set(total);
         }
-        md5.reset();
-        byte[] keyBytes;
-        keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        md5.update(keyBytes);
-        byte[] digest = md5.digest();
-        // hash code, Truncate to 32-bits
-        long hashCode = (long) (digest[3] & 0xFF) << 24
-                | ((long) (digest[2] & 0xFF) << 16)
-                | ((long) (digest[1] & 0xFF) << 8)
-                | (digest[0] & 0xFF);
-        return hashCode & 0xffffffffL;
     }
 }
@@ -17,42 +17,38 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+import org.apache.shenyu.loadbalancer.entity.LatencyStats;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 /**
  * least active algorithm impl.
+ *
+ * <p>Selects the upstream with the least in-flight requests, the least recently picked one of them on a tie.</p>
  */
 @Join
 public class LeastActiveLoadBalance extends AbstractLoadBalancer {
 
-    private final Map<String, Long> countMap = new ConcurrentHashMap<>();
-
     @Override
     protected Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        Map<String, Upstream> domainMap = upstreamList.stream()
-                .collect(Collectors.toConcurrentMap(Upstream::buildDomain, upstream -> upstream));
-
-        domainMap.keySet().stream()
-                .filter(key -> !countMap.containsKey(key))
-                .forEach(domain -> countMap.put(domain, Long.MIN_VALUE));
-
-        final String domain = countMap.entrySet().stream()
-                // Ensure that the filtered domain is included in the domainMap.
-                .filter(entry -> domainMap.containsKey(entry.getKey()))
-                .min(Comparator.comparingLong(Map.Entry::getValue))
-                .map(Map.Entry::getKey)
-                .orElse(upstreamList.get(0).buildDomain());
-
-        countMap.computeIfPresent(domain, (key, actived) -> Optional.of(actived).orElse(Long.MIN_VALUE) + 1);
-        return domainMap.get(domain);
+        Upstream least = null;
+        long leastActive = Long.MAX_VALUE;
+        long leastPicked = Long.MAX_VALUE;
+        for (Upstream upstream : upstreamList) {
+            LatencyStats latencyStats = upstream.getLatencyStats();
+            long active = latencyStats.getInflight();
+            long picked = latencyStats.getLastPickedNanos();
+            if (Objects.isNull(least) || active < leastActive || active == leastActive && picked < leastPicked) {
+                least = upstream;
+                leastActive = active;
+                leastPicked = picked;
+            }
+        }
+        least.getLatencyStats().markPicked(System.nanoTime());
+        return least;
     }
     
 }
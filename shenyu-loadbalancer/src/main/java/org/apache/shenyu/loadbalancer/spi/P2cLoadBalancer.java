@@ -17,11 +17,13 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.loadbalancer.entity.LatencyStats;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * p2c algorithm impl.
@@ -35,17 +37,15 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
     private static final int FORCE_GAP = 3 * 1000;
 
     /**
-     * penalty value.
+     * penalty value, the load of an upstream with in-flight requests but no response time yet.
      */
-    private static final int PENALTY = 250 * 1000;
+    private static final long PENALTY = TimeUnit.MILLISECONDS.toNanos(250);
 
     /**
      * pick times.
      */
     private static final int PICK_TIMES = 3;
 
-    private final Random random = new Random();
-
     /**
      * pick of 2 choices to select upstream.
      *
@@ -76,7 +76,6 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
         if (picked != unpicked) {
             picked.setLastPicked(start);
         }
-        picked.getInflight().incrementAndGet();
         return picked;
     }
 
@@ -88,6 +87,7 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
      */
     private Upstream[] pickTwoUpstreams(final List<Upstream> upstreamList) {
         Upstream[] upstreams = new Upstream[2];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         for (int i = 0; i < PICK_TIMES; i++) {
             int a = random.nextInt(upstreamList.size());
             int b = random.nextInt(upstreamList.size() - 1);
@@ -105,17 +105,18 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
     }
 
     /**
-     * calculate load.
+     * calculate load from the in-flight requests and the response time EWMA.
      *
      * @param upstream the upstream
      * @return load
      */
     public long load(final Upstream upstream) {
-        long lag = (long) (Math.sqrt((double) upstream.getLag()) + 1);
-        long load = lag * upstream.getInflight().get();
-        if (load == 0) {
-            load = PENALTY;
+        LatencyStats latencyStats = upstream.getLatencyStats();
+        long inflight = latencyStats.getInflight();
+        double ewma = latencyStats.getEwmaNanos();
+        if (ewma == 0 && inflight > 0) {
+            return PENALTY + inflight;
         }
-        return load;
+        return (long) (ewma * (inflight + 1));
     }
 }
@@ -17,71 +17,102 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.security.SecureRandom;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 /**
  * random algorithm impl.
+ *
+ * <p>Weighted random selection by an alias table, built once per upstream list, so a selection takes
+ * two random numbers whatever the size of the list.</p>
  */
 @Join
 public class RandomLoadBalancer extends AbstractLoadBalancer {
 
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private final UpstreamTableCache<AliasTable> tables = new UpstreamTableCache<>(this::buildTable, this::isWarmingUp);
 
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        int length = upstreamList.size();
-        // every upstream has the same weight?
+        return upstreamList.get(tables.get(upstreamList).select(ThreadLocalRandom.current()));
+    }
+
+    private AliasTable buildTable(final List<Upstream> upstreamList) {
+        final int length = upstreamList.size();
+        final int[] weights = new int[length];
+        long totalWeight = 0;
         boolean sameWeight = true;
-        // the weight of every upstream
-        int[] weights = new int[length];
-        int firstUpstreamWeight = getWeight(upstreamList.get(0));
-        weights[0] = firstUpstreamWeight;
-        // init the totalWeight
-        int totalWeight = firstUpstreamWeight;
-        int halfLengthTotalWeight = 0;
-        for (int i = 1; i < length; i++) {
-            int currentUpstreamWeight = getWeight(upstreamList.get(i));
-            if (i <= (length + 1) / 2) {
-                halfLengthTotalWeight = totalWeight;
+        for (int i = 0; i < length; i++) {
+            weights[i] = getWeight(upstreamList.get(i));
+            totalWeight += weights[i];
+            sameWeight = sameWeight && weights[i] == weights[0];
+        }
+        if (totalWeight <= 0 || sameWeight) {
+            return new AliasTable(null, null, length);
+        }
+        // Vose's alias method, every column holds its own upstream with the probability and the alias otherwise
+        final double[] probabilities = new double[length];
+        final int[] aliases = new int[length];
+        final double[] scaled = new double[length];
+        final int[] small = new int[length];
+        final int[] large = new int[length];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < length; i++) {
+            scaled[i] = (double) weights[i] * length / totalWeight;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
             }
-            weights[i] = currentUpstreamWeight;
-            totalWeight += currentUpstreamWeight;
-            if (sameWeight && currentUpstreamWeight != firstUpstreamWeight) {
-                // Calculate whether the weight of ownership is the same.
-                sameWeight = false;
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
             }
         }
-        if (totalWeight > 0 && !sameWeight) {
-            return random(totalWeight, halfLengthTotalWeight, weights, upstreamList);
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            // left by rounding errors only
+            probabilities[small[--smallSize]] = 1;
         }
-        return random(upstreamList);
+        return new AliasTable(probabilities, aliases, length);
     }
 
-    private Upstream random(final int totalWeight, final int halfLengthTotalWeight, final int[] weights, final List<Upstream> upstreamList) {
-        // If the weights are not the same and the weights are greater than 0, then random by the total number of weights.
-        int offset = RANDOM.nextInt(totalWeight);
-        int index = 0;
-        int end = weights.length;
-        if (offset >= halfLengthTotalWeight) {
-            index = (weights.length + 1) / 2;
-            offset -= halfLengthTotalWeight;
-        } else {
-            end = (weights.length + 1) / 2;
+    /**
+     * An immutable alias table, a uniform table if the probabilities are null.
+     */
+    private static final class AliasTable {
+
+        private final double[] probabilities;
+
+        private final int[] aliases;
+
+        private final int length;
+
+        AliasTable(final double[] probabilities, final int[] aliases, final int length) {
+            this.probabilities = probabilities;
+            this.aliases = aliases;
+            this.length = length;
         }
-        // Determine which segment the random value falls on
-        for (; index < end; index++) {
-            offset -= weights[index];
-            if (offset < 0) {
-                return upstreamList.get(index);
+
+        int select(final ThreadLocalRandom random) {
+            final int column = random.nextInt(length);
+            if (Objects.isNull(probabilities) || random.nextDouble() < probabilities[column]) {
+                return column;
             }
+            return aliases[column];
         }
-        return random(upstreamList);
-    }
-
-    private Upstream random(final List<Upstream> upstreamList) {
-        return upstreamList.get(RANDOM.nextInt(upstreamList.size()));
     }
 }
@@ -17,141 +17,110 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Round-robin load balance impl.
+ *
+ * <p>The smooth weighted round-robin schedule of an upstream list is computed once per list and walked with
+ * one shared atomic cursor, so a selection is a single increment without a lock.</p>
  */
 @Join
 public class RoundRobinLoadBalancer extends AbstractLoadBalancer {
 
-    private final int recyclePeriod = 60000;
-
-    private final ConcurrentMap<String, ConcurrentMap<String, WeightedRoundRobin>> methodWeightMap = new ConcurrentHashMap<>(16);
+    /**
+     * the maximum schedule length, larger weights are scaled down to it.
+     */
+    private static final int MAX_SCHEDULE_LENGTH = 1 << 12;
 
-    private final AtomicBoolean updateLock = new AtomicBoolean();
+    private final UpstreamTableCache<Schedule> schedules = new UpstreamTableCache<>(this::buildSchedule, this::isWarmingUp);
 
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        String key = upstreamList.get(0).getUrl();
-        ConcurrentMap<String, WeightedRoundRobin> map = MapUtils.computeIfAbsent(methodWeightMap, key, k -> new ConcurrentHashMap<>(16));
-        int totalWeight = 0;
-        long maxCurrent = Long.MIN_VALUE;
-        long now = System.currentTimeMillis();
-        Upstream selectedInvoker = null;
-        WeightedRoundRobin selectedWeightedRoundRobin = null;
-        for (Upstream upstream : upstreamList) {
-            String rKey = upstream.getUrl();
-            int weight = getWeight(upstream);
-            WeightedRoundRobin weightedRoundRobin = MapUtils.computeIfAbsent(map, rKey, k -> {
-                WeightedRoundRobin roundRobin = new WeightedRoundRobin();
-                roundRobin.setWeight(weight);
-                return roundRobin;
-            });
-            if (weight != weightedRoundRobin.getWeight()) {
-                // weight changed.
-                weightedRoundRobin.setWeight(weight);
-            }
-            long cur = weightedRoundRobin.increaseCurrent();
-            weightedRoundRobin.setLastUpdate(now);
-            if (cur > maxCurrent) {
-                maxCurrent = cur;
-                selectedInvoker = upstream;
-                selectedWeightedRoundRobin = weightedRoundRobin;
-            }
-            totalWeight += weight;
+        return upstreamList.get(schedules.get(upstreamList).next());
+    }
+
+    private Schedule buildSchedule(final List<Upstream> upstreamList) {
+        final int length = upstreamList.size();
+        final int[] weights = new int[length];
+        long totalWeight = 0;
+        for (int i = 0; i < length; i++) {
+            weights[i] = Math.max(0, getWeight(upstreamList.get(i)));
+            totalWeight += weights[i];
         }
-        if (!updateLock.get() && upstreamList.size() != map.size() && updateLock.compareAndSet(false, true)) {
-            try {
-                // copy -> modify -> update reference.
-                ConcurrentMap<String, WeightedRoundRobin> newMap = new ConcurrentHashMap<>(map);
-                newMap.entrySet().removeIf(item -> now - item.getValue().getLastUpdate() > recyclePeriod);
-                methodWeightMap.put(key, newMap);
-            } finally {
-                updateLock.set(false);
-            }
+        if (totalWeight == 0) {
+            // no upstream has a weight, take turns
+            Arrays.fill(weights, 1);
+            totalWeight = length;
         }
-        if (Objects.nonNull(selectedInvoker)) {
-            selectedWeightedRoundRobin.sel(totalWeight);
-            return selectedInvoker;
+        totalWeight = reduce(weights, totalWeight);
+        // the smooth weighted round-robin of nginx, run once for a whole cycle
+        final int[] order = new int[(int) totalWeight];
+        final long[] current = new long[length];
+        for (int slot = 0; slot < order.length; slot++) {
+            int selected = 0;
+            for (int i = 0; i < length; i++) {
+                current[i] += weights[i];
+                if (current[i] > current[selected]) {
+                    selected = i;
+                }
+            }
+            current[selected] -= totalWeight;
+            order[slot] = selected;
         }
-        // should not happen here.
-        return upstreamList.get(0);
+        return new Schedule(order);
     }
 
     /**
-     * The type Weighted round-robin.
+     * Divide the weights by their greatest common divisor and scale them down to the maximum schedule length.
+     *
+     * @param weights the weights, changed in place
+     * @param totalWeight the total weight
+     * @return the reduced total weight
      */
-    protected static class WeightedRoundRobin {
-
-        private int weight;
-
-        private final AtomicLong current = new AtomicLong(0);
-
-        private long lastUpdate;
-
-        /**
-         * Gets weight.
-         *
-         * @return the weight
-         */
-        int getWeight() {
-            return weight;
+    private static long reduce(final int[] weights, final long totalWeight) {
+        int gcd = 0;
+        for (int weight : weights) {
+            gcd = gcd(gcd, weight);
         }
-
-        /**
-         * Sets weight.
-         *
-         * @param weight the weight
-         */
-        void setWeight(final int weight) {
-            this.weight = weight;
-            current.set(0);
+        final int maxLength = Math.max(MAX_SCHEDULE_LENGTH, weights.length);
+        final boolean scaleDown = totalWeight / gcd > maxLength;
+        long total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                weights[i] = scaleDown ? (int) Math.max(1, (long) weights[i] * maxLength / totalWeight) : weights[i] / gcd;
+                total += weights[i];
+            }
         }
+        return total;
+    }
 
-        /**
-         * Increase current long.
-         *
-         * @return the long
-         */
-        long increaseCurrent() {
-            return current.addAndGet(weight);
-        }
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
 
-        /**
-         * Sel.
-         *
-         * @param total the total
-         */
-        void sel(final int total) {
-            current.addAndGet(-1 * total);
-        }
+    /**
+     * An immutable schedule with a shared cursor, it starts at a random slot so the gateways do not pick in lockstep.
+     */
+    private static final class Schedule {
+
+        private final int[] order;
+
+        private final AtomicInteger cursor;
 
-        /**
-         * Gets last update.
-         *
-         * @return the last update
-         */
-        long getLastUpdate() {
-            return lastUpdate;
+        Schedule(final int[] order) {
+            this.order = order;
+            this.cursor = new AtomicInteger(ThreadLocalRandom.current().nextInt(order.length));
         }
 
-        /**
-         * Sets last update.
-         *
-         * @param lastUpdate the last update
-         */
-        void setLastUpdate(final long lastUpdate) {
-            this.lastUpdate = lastUpdate;
+        int next() {
+            return order[Math.floorMod(cursor.getAndIncrement(), order.length)];
         }
     }
 }
@@ -17,12 +17,12 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.loadbalancer.entity.LatencyStats;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * shortestResponse algorithm impl.
@@ -43,9 +43,9 @@ public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
 
         for (int i = 0; i < upstreamList.size(); i++) {
             Upstream upstream = upstreamList.get(i);
-            AtomicLong inflight = upstream.getInflight();
-            // Calculate the estimated response time from the product of active connections and succeeded average elapsed time.
-            long estimateResponse = upstream.getSucceededAverageElapsed() * inflight.get();
+            LatencyStats latencyStats = upstream.getLatencyStats();
+            // Calculate the estimated response time from the product of in-flight requests and the response time EWMA.
+            long estimateResponse = (long) (latencyStats.getEwmaNanos() * (latencyStats.getInflight() + 1));
             int afterWarmup = getWeight(upstream);
             weights[i] = afterWarmup;
             if (estimateResponse < shortestResponse) {
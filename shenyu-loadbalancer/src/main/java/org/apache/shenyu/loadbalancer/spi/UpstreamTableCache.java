@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import com.google.common.collect.MapMaker;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.entity.UpstreamSnapshot;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The selection tables of load balancers, built once per upstream list and read without locks.
+ *
+ * <p>A table is looked up by the identity of the list first, the lists of
+ * {@link org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager} are immutable {@link UpstreamSnapshot}s
+ * replaced by a new version when the membership changes, so a table found for a snapshot is never stale.
+ * Callers building a new list for every request find the table by the content of the list instead.
+ * Tables refer to upstreams by their index in the list, so the selected upstream is always the instance of
+ * the caller's list. While an upstream is warming up its weight grows, the table is rebuilt every
+ * {@link #WARMUP_REBUILD_MILLIS} then.</p>
+ *
+ * @param <T> the table type
+ */
+final class UpstreamTableCache<T> {
+
+    private static final long WARMUP_REBUILD_MILLIS = 1000;
+
+    private static final int MAX_CONTENT_ENTRIES = 1024;
+
+    private final ConcurrentMap<List<Upstream>, Entry<T>> identityTables = new MapMaker().weakKeys().makeMap();
+
+    private final ConcurrentMap<List<Upstream>, Entry<T>> contentTables = new ConcurrentHashMap<>();
+
+    private final Function<List<Upstream>, T> tableBuilder;
+
+    private final Predicate<Upstream> warmingUp;
+
+    /**
+     * Instantiates a new upstream table cache.
+     *
+     * @param tableBuilder builds the table of a list
+     * @param warmingUp whether the weight of an upstream is still growing
+     */
+    UpstreamTableCache(final Function<List<Upstream>, T> tableBuilder, final Predicate<Upstream> warmingUp) {
+        this.tableBuilder = tableBuilder;
+        this.warmingUp = warmingUp;
+    }
+
+    /**
+     * Get the table of the list, build it if it is missing or expired.
+     *
+     * @param upstreamList the upstream list
+     * @return the table
+     */
+    T get(final List<Upstream> upstreamList) {
+        final long now = System.currentTimeMillis();
+        Entry<T> entry = identityTables.get(upstreamList);
+        if (isValid(entry, upstreamList, now)) {
+            return entry.getTable();
+        }
+        entry = contentTables.get(upstreamList);
+        if (!isValid(entry, upstreamList, now)) {
+            entry = build(upstreamList, now);
+            if (contentTables.size() >= MAX_CONTENT_ENTRIES) {
+                contentTables.clear();
+            }
+            contentTables.put(List.copyOf(upstreamList), entry);
+        }
+        identityTables.put(upstreamList, entry);
+        return entry.getTable();
+    }
+
+    private boolean isValid(final Entry<T> entry, final List<Upstream> upstreamList, final long now) {
+        if (Objects.isNull(entry) || now >= entry.getExpireAt()) {
+            return false;
+        }
+        // a list changed in place by its owner no longer matches the size of its table
+        return upstreamList instanceof UpstreamSnapshot || entry.getSize() == upstreamList.size();
+    }
+
+    private Entry<T> build(final List<Upstream> upstreamList, final long now) {
+        final boolean warmup = upstreamList.stream().anyMatch(warmingUp);
+        return new Entry<>(tableBuilder.apply(upstreamList), upstreamList.size(), warmup ? now + WARMUP_REBUILD_MILLIS : Long.MAX_VALUE);
+    }
+
+    private static final class Entry<T> {
+
+        private final T table;
+
+        private final int size;
+
+        private final long expireAt;
+
+        Entry(final T table, final int size, final long expireAt) {
+            this.table = table;
+            this.size = size;
+            this.expireAt = expireAt;
+        }
+
+        T getTable() {
+            return table;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        long getExpireAt() {
+            return expireAt;
+        }
+    }
+}
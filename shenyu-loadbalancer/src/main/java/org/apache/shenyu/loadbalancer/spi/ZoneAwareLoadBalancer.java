@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.config.ShenyuConfig.LoadBalanceConfig;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A load balancer preferring the upstreams of the zone the gateway runs in, the upstream within the
+ * chosen zone is selected by the wrapped load balancer.
+ *
+ * <p>The zone of an upstream comes from the metadata of its discovery registration. Each zone is
+ * assumed to run an even share of the gateways, so the local zone is expected to serve an even share of
+ * the upstream weight. While its healthy weight is at least {@code zoneCapacityThreshold} of that share
+ * all traffic stays local, below it only the part the local zone can serve stays local and the rest spills
+ * over to the other zones. Unhealthy upstreams are not in the list, so losing local upstreams spills
+ * traffic over the same way. Upstreams without a zone always count as another zone.</p>
+ */
+public final class ZoneAwareLoadBalancer implements LoadBalancer {
+
+    /**
+     * The zone name the traffic of upstreams without a zone is counted for.
+     */
+    public static final String UNKNOWN_ZONE = "unknown";
+
+    private final UpstreamTableCache<ZoneTable> tables = new UpstreamTableCache<>(this::buildTable, upstream -> false);
+
+    private final ConcurrentMap<String, LongAdder> zoneTraffic = new ConcurrentHashMap<>();
+
+    private final LongAdder spilled = new LongAdder();
+
+    private final LoadBalancer delegate;
+
+    private final String localZone;
+
+    private final double capacityThreshold;
+
+    /**
+     * Instantiates a new zone aware load balancer.
+     *
+     * @param delegate the load balancer selecting within a zone
+     * @param config the load balance config
+     */
+    public ZoneAwareLoadBalancer(final LoadBalancer delegate, final LoadBalanceConfig config) {
+        this.delegate = delegate;
+        this.localZone = config.getZone();
+        this.capacityThreshold = Optional.ofNullable(config.getZoneCapacityThreshold()).orElse(1d);
+    }
+
+    @Override
+    public Upstream select(final List<Upstream> upstreamList, final String ip) {
+        if (Objects.isNull(upstreamList) || upstreamList.isEmpty() || StringUtils.isBlank(localZone)) {
+            return delegate.select(upstreamList, ip);
+        }
+        final ZoneTable table = tables.get(upstreamList);
+        final boolean stayLocal = table.getLocalProbability() >= 1
+                || table.getLocalProbability() > ThreadLocalRandom.current().nextDouble();
+        final Upstream upstream = delegate.select(stayLocal ? table.getLocal() : table.getRemote(), ip);
+        if (Objects.nonNull(upstream)) {
+            zoneTraffic.computeIfAbsent(zoneOf(upstream), zone -> new LongAdder()).increment();
+            if (!stayLocal) {
+                spilled.increment();
+            }
+        }
+        return upstream;
+    }
+
+    /**
+     * Get the wrapped load balancer.
+     *
+     * @return the delegate
+     */
+    public LoadBalancer getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Get the zone this gateway runs in.
+     *
+     * @return the local zone
+     */
+    public String getLocalZone() {
+        return localZone;
+    }
+
+    /**
+     * Get the share of the even zone weight the local zone keeps all traffic at.
+     *
+     * @return the capacity threshold
+     */
+    public double getCapacityThreshold() {
+        return capacityThreshold;
+    }
+
+    /**
+     * Get the number of selections per zone, upstreams without a zone are counted as {@link #UNKNOWN_ZONE}.
+     *
+     * @return the selections per zone
+     */
+    public Map<String, Long> getZoneTraffic() {
+        final Map<String, Long> traffic = new HashMap<>(zoneTraffic.size());
+        zoneTraffic.forEach((zone, count) -> traffic.put(zone, count.sum()));
+        return traffic;
+    }
+
+    /**
+     * Get the number of selections spilled over to other zones.
+     *
+     * @return the spilled selections
+     */
+    public long getSpilled() {
+        return spilled.sum();
+    }
+
+    private ZoneTable buildTable(final List<Upstream> upstreamList) {
+        final List<Upstream> local = new ArrayList<>();
+        final List<Upstream> remote = new ArrayList<>();
+        final Map<String, Long> zoneWeights = new HashMap<>();
+        final boolean weighted = upstreamList.stream().anyMatch(upstream -> upstream.getWeight() > 0);
+        for (Upstream upstream : upstreamList) {
+            if (localZone.equals(upstream.getZone())) {
+                local.add(upstream);
+            } else {
+                remote.add(upstream);
+            }
+            final long weight = weighted ? Math.max(0, upstream.getWeight()) : 1;
+            zoneWeights.merge(zoneOf(upstream), weight, Long::sum);
+        }
+        if (local.isEmpty() || remote.isEmpty()) {
+            return new ZoneTable(local.isEmpty() ? remote : local, remote, 1);
+        }
+        final long totalWeight = zoneWeights.values().stream().mapToLong(Long::longValue).sum();
+        final long zones = zoneWeights.values().stream().filter(weight -> weight > 0).count();
+        final double capacity = totalWeight == 0 ? 0 : (double) zoneWeights.getOrDefault(localZone, 0L) * zones / totalWeight;
+        return new ZoneTable(local, remote, capacity >= capacityThreshold ? 1 : capacity);
+    }
+
+    private static String zoneOf(final Upstream upstream) {
+        return StringUtils.isBlank(upstream.getZone()) ? UNKNOWN_ZONE : upstream.getZone();
+    }
+
+    private static final class ZoneTable {
+
+        private final List<Upstream> local;
+
+        private final List<Upstream> remote;
+
+        private final double localProbability;
+
+        ZoneTable(final List<Upstream> local, final List<Upstream> remote, final double localProbability) {
+            this.local = List.copyOf(local);
+            this.remote = List.copyOf(remote);
+            this.localProbability = localProbability;
+        }
+
+        List<Upstream> getLocal() {
+            return local;
+        }
+
+        List<Upstream> getRemote() {
+            return remote;
+        }
+
+        double getLocalProbability() {
+            return localProbability;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Http upstream health probe test.
+ */
+public class HttpUpstreamHealthProbeTest {
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/health", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/down", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void probeTest() {
+        Upstream upstream = Upstream.builder().protocol("http://").url("127.0.0.1:" + server.getAddress().getPort()).build();
+        assertTrue(new HttpUpstreamHealthProbe("health", executor).probe(upstream, 1000).join());
+        assertFalse(new HttpUpstreamHealthProbe("/down", executor).probe(upstream, 1000).join());
+        assertFalse(new HttpUpstreamHealthProbe("/health", executor).probe(Upstream.builder().url("127.0.0.1:1").build(), 1000).join());
+        assertFalse(new HttpUpstreamHealthProbe("/health", executor).probe(Upstream.builder().url("").build(), 1000).join());
+    }
+}
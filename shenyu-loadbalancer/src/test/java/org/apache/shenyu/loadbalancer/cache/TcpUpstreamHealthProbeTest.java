@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Tcp upstream health probe test.
+ */
+public class TcpUpstreamHealthProbeTest {
+
+    private final TcpUpstreamHealthProbe healthProbe = new TcpUpstreamHealthProbe();
+
+    @Test
+    public void probeTest() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            Upstream upstream = Upstream.builder().url("127.0.0.1:" + serverSocket.getLocalPort()).build();
+            assertTrue(healthProbe.probe(upstream, 1000).join());
+            assertTrue(healthProbe.probe(Upstream.builder().url("localhost:" + serverSocket.getLocalPort()).build(), 1000).join());
+        }
+        assertFalse(healthProbe.probe(Upstream.builder().url("").build(), 1000).join());
+        assertFalse(healthProbe.probe(Upstream.builder().url("127.0.0.1:1").build(), 1000).join());
+    }
+
+    @Test
+    public void addressTest() {
+        assertEquals(InetSocketAddress.createUnresolved("127.0.0.1", 8080), TcpUpstreamHealthProbe.address("127.0.0.1:8080"));
+        assertEquals(InetSocketAddress.createUnresolved("127.0.0.1", 8080), TcpUpstreamHealthProbe.address("http://127.0.0.1:8080/path"));
+        assertEquals(InetSocketAddress.createUnresolved("127.0.0.1", 443), TcpUpstreamHealthProbe.address("https://127.0.0.1"));
+        assertEquals(InetSocketAddress.createUnresolved("shenyu.apache.org", 80), TcpUpstreamHealthProbe.address("shenyu.apache.org"));
+        assertEquals(InetSocketAddress.createUnresolved("::1", 8080), TcpUpstreamHealthProbe.address("[::1]:8080"));
+        assertEquals(InetSocketAddress.createUnresolved("::1", 80), TcpUpstreamHealthProbe.address("http://[::1]/path"));
+        assertNull(TcpUpstreamHealthProbe.address("127.0.0.1:port"));
+        assertNull(TcpUpstreamHealthProbe.address(" "));
+    }
+}
@@ -18,20 +18,23 @@
 package org.apache.shenyu.loadbalancer.cache;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 /**
  * The type Upstream check task test.
@@ -44,53 +47,54 @@ public class UpstreamCheckTaskTest {
     private final UpstreamCheckTask healthCheckTask = new UpstreamCheckTask(50000);
 
     /**
-     * Test run.
+     * Test run, the upstream shared by the selectors is probed once.
      */
     @Test
     @Timeout(30000)
     public void testRun() {
-        // Mock selectorId1~selectorId4 to let it coverage 4 branch of `HealthCheckTask#check` method.
         final String selectorId1 = "s1";
-        SelectorData selectorData1 = mock(SelectorData.class);
         final String selectorId2 = "s2";
-        SelectorData selectorData2 = mock(SelectorData.class);
-        final String selectorId3 = "s3";
-        SelectorData selectorData3 = mock(SelectorData.class);
-        final String selectorId4 = "s4";
-        SelectorData selectorData4 = mock(SelectorData.class);
-        Upstream upstream = mock(Upstream.class);
-        when(selectorData1.getId()).thenReturn(selectorId1);
-        when(selectorData2.getId()).thenReturn(selectorId2);
-        when(selectorData3.getId()).thenReturn(selectorId3);
-        when(selectorData4.getId()).thenReturn(selectorId4);
-
-        /*
-          Let it coverage line 165~175
-          We should use powermock or mockito to mock static method of `UpstreamCheckUtils.checkUrl`,
-          But mocked static method is not valid across thread. Because `UpstreamCheckUtils.checkUrl` is called in
-          HealthCheckTask inner thread pool, but mocked in current thread. So we turn to do like below.
-         */
-        when(upstream.getUrl()).thenReturn("");
-        when(upstream.isHealthy()).thenReturn(true).thenReturn(false);
-
-        healthCheckTask.triggerAddOne(selectorData1.getId(), upstream);
-        healthCheckTask.triggerAddOne(selectorData2.getId(), upstream);
-        healthCheckTask.triggerAddOne(selectorData3.getId(), upstream);
-        healthCheckTask.triggerAddOne(selectorData4.getId(), upstream);
+        Upstream upstream1 = Upstream.builder().url("127.0.0.1:1").build();
+        Upstream upstream2 = Upstream.builder().url("127.0.0.1:1").build();
+        upstream1.setHealthy(true);
+        upstream2.setHealthy(true);
+        healthCheckTask.setPoolSize(1);
+        healthCheckTask.setCheckTimeout(100);
+        healthCheckTask.triggerAddOne(selectorId1, upstream1);
+        healthCheckTask.triggerAddOne(selectorId2, upstream2);
         healthCheckTask.schedule();
-        // Wait for the upstream-health-check thread to start.
-        Awaitility.await().pollDelay(3500, TimeUnit.MILLISECONDS).untilAsserted(() -> assertFalse(healthCheckTask.getCheckStarted().get()));
+        // the first check is within 3 seconds
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(healthCheckTask.getCheckStats().getChecks(), is(1L)));
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertTrue(CollectionUtils.isNotEmpty(healthCheckTask.getUnhealthyUpstream().get(selectorId2))));
         assertTrue(CollectionUtils.isNotEmpty(healthCheckTask.getUnhealthyUpstream().get(selectorId1)));
-        // Let it coverage line 151~163.
-        when(upstream.isHealthy()).thenReturn(false).thenReturn(true);
-        // Even if the address could not connect, it will return false, that mean it will not coverage 151~163.
-        when(upstream.getUrl()).thenReturn("https://www.baidu.com");
-        // Manually run one time
+        assertTrue(healthCheckTask.getHealthyUpstream().get(selectorId1).isEmpty());
+        assertThat(healthCheckTask.getCheckStats().getOfflineTransitions(), is(2L));
+        // a passing probe brings the upstreams back online
+        healthCheckTask.setHealthyThreshold(0);
+        healthCheckTask.setHealthProbe((upstream, timeout) -> CompletableFuture.completedFuture(true));
         healthCheckTask.run();
-        Awaitility.await().pollDelay(1, TimeUnit.SECONDS).untilAsserted(() -> assertFalse(healthCheckTask.getCheckStarted().get()));
+        assertFalse(healthCheckTask.getCheckStarted().get());
         assertFalse(healthCheckTask.getHealthyUpstream().get(selectorId1).isEmpty());
+        assertFalse(healthCheckTask.getHealthyUpstream().get(selectorId2).isEmpty());
+        assertTrue(healthCheckTask.getUnhealthyUpstream().get(selectorId1).isEmpty());
         healthCheckTask.print();
     }
+
+    /**
+     * Test the probes of a removed upstream do not bring it back.
+     */
+    @Test
+    public void testRunAfterRemove() {
+        final String selectorId = "s1";
+        Upstream upstream = Upstream.builder().url("127.0.0.1:1").build();
+        healthCheckTask.setHealthProbe((target, timeout) -> CompletableFuture.completedFuture(false));
+        healthCheckTask.triggerAddOne(selectorId, upstream);
+        healthCheckTask.triggerRemoveAll(selectorId);
+        healthCheckTask.run();
+        assertFalse(healthCheckTask.getHealthyUpstream().containsKey(selectorId));
+        assertFalse(healthCheckTask.getUnhealthyUpstream().containsKey(selectorId));
+        assertThat(healthCheckTask.getCheckStats().getChecks(), is(0L));
+    }
     
     /**
      * Test trigger remove one.
@@ -108,6 +112,109 @@ public class UpstreamCheckTaskTest {
         assertThat(healthCheckTask.getHealthyUpstream().get(selectorId).size(), is(0));
     }
     
+    /**
+     * Test the upstream list is replaced only when the membership changes.
+     */
+    @Test
+    public void testCopyOnWrite() {
+        final String selectorId = "s1";
+        Upstream upstream = mock(Upstream.class);
+        healthCheckTask.triggerAddOne(selectorId, upstream);
+        List<Upstream> list = healthCheckTask.getHealthyUpstream().get(selectorId);
+        healthCheckTask.triggerAddOne(selectorId, upstream);
+        assertSame(list, healthCheckTask.getHealthyUpstream().get(selectorId));
+        healthCheckTask.triggerAddOne(selectorId, mock(Upstream.class));
+        assertNotSame(list, healthCheckTask.getHealthyUpstream().get(selectorId));
+        assertThat(list.size(), is(1));
+    }
+    
+    /**
+     * Test the errors in real traffic eject the upstream until it is probed.
+     */
+    @Test
+    public void testPassiveEjection() {
+        final String selectorId = "s1";
+        UpstreamCheckTask task = new UpstreamCheckTask(50000);
+        task.setPoolSize(1);
+        task.setCheckTimeout(100);
+        task.setConsecutiveErrors(3);
+        Upstream upstream1 = Upstream.builder().url("127.0.0.1:1").build();
+        Upstream upstream2 = Upstream.builder().url("127.0.0.1:2").build();
+        upstream1.setHealthy(true);
+        upstream2.setHealthy(true);
+        task.triggerAddOne(selectorId, upstream1);
+        task.triggerAddOne(selectorId, upstream2);
+        task.triggerError(selectorId, "127.0.0.1:1");
+        task.triggerError(selectorId, "127.0.0.1:1");
+        task.triggerSuccess(selectorId, "127.0.0.1:1");
+        task.triggerError(selectorId, "127.0.0.1:1");
+        task.triggerError(selectorId, "127.0.0.1:1");
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(2));
+        task.triggerError(selectorId, "127.0.0.1:1");
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(1));
+        assertFalse(upstream1.isHealthy());
+        assertThat(upstream1.getOutlierStats().getEjections(), is(1));
+        // the last healthy upstream is kept
+        for (int i = 0; i < 5; i++) {
+            task.triggerError(selectorId, "127.0.0.1:2");
+        }
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(1));
+        assertTrue(upstream2.isHealthy());
+        // the ejected upstream is probed from the next check on
+        task.schedule();
+        task.run();
+        assertTrue(task.getUnhealthyUpstream().get(selectorId).contains(upstream1));
+    }
+
+    /**
+     * Test the manual check keeps at most concurrency probes in flight.
+     */
+    @Test
+    @Timeout(30000)
+    public void testRunRespectsConcurrency() {
+        final String selectorId = "s1";
+        UpstreamCheckTask task = new UpstreamCheckTask(50000);
+        List<CompletableFuture<Boolean>> probes = new CopyOnWriteArrayList<>();
+        task.setConcurrency(1);
+        task.setHealthProbe((upstream, timeout) -> {
+            CompletableFuture<Boolean> probe = new CompletableFuture<>();
+            probes.add(probe);
+            return probe;
+        });
+        task.triggerAddOne(selectorId, Upstream.builder().url("127.0.0.1:1").build());
+        task.triggerAddOne(selectorId, Upstream.builder().url("127.0.0.1:2").build());
+        final CompletableFuture<Void> run = CompletableFuture.runAsync(task::run);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> probes.size() == 1);
+        assertThat(probes.size(), is(1));
+        probes.get(0).complete(true);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> probes.size() == 2);
+        probes.get(1).complete(true);
+        run.join();
+        assertFalse(task.getCheckStarted().get());
+    }
+
+    /**
+     * Test the errors reported for an url without a port or with a scheme eject the upstream.
+     */
+    @Test
+    public void testPassiveEjectionOfDefaultPortUrl() {
+        final String selectorId = "s1";
+        UpstreamCheckTask task = new UpstreamCheckTask(50000);
+        task.setConsecutiveErrors(2);
+        Upstream upstream1 = Upstream.builder().url("http://shenyu.apache.org").build();
+        Upstream upstream2 = Upstream.builder().url("127.0.0.1").build();
+        upstream1.setHealthy(true);
+        upstream2.setHealthy(true);
+        task.triggerAddOne(selectorId, upstream1);
+        task.triggerAddOne(selectorId, upstream2);
+        task.triggerError(selectorId, "shenyu.apache.org");
+        task.triggerError(selectorId, "shenyu.apache.org");
+        assertFalse(upstream1.isHealthy());
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(1));
+        task.triggerError(selectorId, "127.0.0.1");
+        assertThat(upstream2.getOutlierStats().getConsecutiveErrors(), is(1));
+    }
+
     /**
      * Test trigger remove all.
      */
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Latency stats test.
+ */
+public class LatencyStatsTest {
+
+    @Test
+    public void inflightTest() {
+        LatencyStats latencyStats = new LatencyStats();
+        long startTime = latencyStats.start();
+        latencyStats.start();
+        Assertions.assertEquals(2, latencyStats.getInflight());
+        latencyStats.finish(startTime - 1000L);
+        latencyStats.cancel();
+        Assertions.assertEquals(0, latencyStats.getInflight());
+        Assertions.assertTrue(latencyStats.getEwmaNanos() > 0);
+    }
+
+    @Test
+    public void ewmaTest() {
+        LatencyStats latencyStats = new LatencyStats();
+        Assertions.assertEquals(0d, latencyStats.getEwmaNanos());
+        long now = System.nanoTime();
+        latencyStats.sample(1000, now);
+        Assertions.assertEquals(1000d, latencyStats.getEwmaNanos());
+        // a sample right after the last one hardly moves the average
+        latencyStats.sample(2000, now);
+        Assertions.assertEquals(1000d, latencyStats.getEwmaNanos());
+        // a sample long after the last one replaces it
+        latencyStats.sample(2000, now + TimeUnit.MINUTES.toNanos(1));
+        Assertions.assertEquals(2000d, latencyStats.getEwmaNanos(), 1d);
+    }
+
+    @Test
+    public void lastPickedTest() {
+        LatencyStats latencyStats = new LatencyStats();
+        Assertions.assertEquals(Long.MIN_VALUE, latencyStats.getLastPickedNanos());
+        latencyStats.markPicked(1L);
+        Assertions.assertEquals(1L, latencyStats.getLastPickedNanos());
+    }
+}
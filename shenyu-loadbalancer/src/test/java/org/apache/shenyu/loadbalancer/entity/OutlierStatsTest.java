@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type Outlier stats test.
+ */
+public class OutlierStatsTest {
+
+    @Test
+    public void consecutiveErrorsTest() {
+        OutlierStats outlierStats = new OutlierStats();
+        Assertions.assertFalse(outlierStats.recordError(3));
+        Assertions.assertFalse(outlierStats.recordError(3));
+        outlierStats.recordSuccess();
+        Assertions.assertEquals(0, outlierStats.getConsecutiveErrors());
+        Assertions.assertFalse(outlierStats.recordError(3));
+        Assertions.assertFalse(outlierStats.recordError(3));
+        Assertions.assertTrue(outlierStats.recordError(3));
+        Assertions.assertTrue(outlierStats.recordError(3));
+    }
+
+    @Test
+    public void ejectBackoffTest() {
+        OutlierStats outlierStats = new OutlierStats();
+        Assertions.assertFalse(outlierStats.isEjected(0L));
+        Assertions.assertEquals(100L, outlierStats.eject(0L, 100L, 300L));
+        Assertions.assertTrue(outlierStats.isEjected(99L));
+        Assertions.assertFalse(outlierStats.isEjected(100L));
+        Assertions.assertEquals(200L, outlierStats.eject(100L, 100L, 300L));
+        Assertions.assertEquals(300L, outlierStats.eject(300L, 100L, 300L));
+        Assertions.assertEquals(3, outlierStats.getEjections());
+    }
+
+    @Test
+    public void relaxTest() {
+        OutlierStats outlierStats = new OutlierStats();
+        outlierStats.eject(0L, 100L, 1000L);
+        outlierStats.eject(100L, 100L, 1000L);
+        // ejected until 300, one ejection is forgiven per base ejection time after that
+        outlierStats.relax(399L, 100L);
+        Assertions.assertEquals(2, outlierStats.getEjections());
+        outlierStats.relax(400L, 100L);
+        Assertions.assertEquals(1, outlierStats.getEjections());
+        outlierStats.relax(450L, 100L);
+        Assertions.assertEquals(1, outlierStats.getEjections());
+        outlierStats.relax(500L, 100L);
+        Assertions.assertEquals(0, outlierStats.getEjections());
+        outlierStats.relax(1000L, 100L);
+        Assertions.assertEquals(0, outlierStats.getEjections());
+    }
+}
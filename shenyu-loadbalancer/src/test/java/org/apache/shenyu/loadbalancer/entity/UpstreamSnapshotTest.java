@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * The type Upstream snapshot test.
+ */
+public class UpstreamSnapshotTest {
+
+    private final Upstream upstream1 = Upstream.builder().url("127.0.0.1:8080").build();
+
+    private final Upstream upstream2 = Upstream.builder().url("127.0.0.1:8081").build();
+
+    private final Upstream upstream3 = Upstream.builder().url("127.0.0.1:8082").build();
+
+    @Test
+    public void ofTest() {
+        UpstreamSnapshot snapshot = UpstreamSnapshot.of(Arrays.asList(upstream1, upstream2, upstream1));
+        Assertions.assertEquals(Arrays.asList(upstream1, upstream2), snapshot);
+        Assertions.assertSame(upstream2, snapshot.findByUrl("127.0.0.1:8081"));
+        Assertions.assertNull(snapshot.findByUrl("127.0.0.1:8082"));
+        Assertions.assertSame(upstream2, snapshot.findByUrl("http://127.0.0.1:8081/path"));
+        Assertions.assertTrue(snapshot.contains(upstream1));
+        Assertions.assertFalse(snapshot.contains(upstream3));
+        Assertions.assertFalse(snapshot.contains(Upstream.builder().url("127.0.0.1:8080").weight(1).build()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.add(upstream3));
+        Assertions.assertEquals(0, UpstreamSnapshot.empty().size());
+    }
+
+    @Test
+    public void updateTest() {
+        UpstreamSnapshot snapshot = UpstreamSnapshot.of(Arrays.asList(upstream1, upstream2));
+        Assertions.assertSame(snapshot, snapshot.with(Upstream.builder().url("127.0.0.1:8080").build()));
+        Assertions.assertSame(snapshot, snapshot.without(upstream3));
+        UpstreamSnapshot next = snapshot.update(Collections.singletonList(upstream1), Collections.singletonList(upstream3));
+        Assertions.assertTrue(next.getVersion() > snapshot.getVersion());
+        Assertions.assertEquals(Arrays.asList(upstream2, upstream3), next);
+        Assertions.assertEquals(Arrays.asList(upstream1, upstream2), snapshot);
+        Assertions.assertNull(next.findByUrl("127.0.0.1:8080"));
+        Assertions.assertSame(upstream3, next.findByUrl("127.0.0.1:8082"));
+    }
+}
@@ -23,11 +23,16 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * The type loadBalance utils test.
@@ -90,4 +95,21 @@ public final class LoadBalancerFactoryTest {
         });
         assertEquals(12, countMap.get("upstream-10").intValue());
     }
+
+    @Test
+    public void zoneAwareLoadBalancerReusedUntilZoneChangesTest() {
+        final ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getLoadBalance().setZone("zone-a");
+        Singleton.INST.single(ShenyuConfig.class, shenyuConfig);
+        try {
+            final LoadBalancer first = LoadBalancerFactory.getLoadBalancer(LoadBalanceEnum.RANDOM.getName());
+            assertSame(first, LoadBalancerFactory.getLoadBalancer(LoadBalanceEnum.RANDOM.getName()));
+            shenyuConfig.getLoadBalance().setZone("zone-b");
+            final LoadBalancer second = LoadBalancerFactory.getLoadBalancer(LoadBalanceEnum.RANDOM.getName());
+            assertNotSame(first, second);
+            assertSame(second, LoadBalancerFactory.getLoadBalancer(LoadBalanceEnum.RANDOM.getName()));
+        } finally {
+            Singleton.INST.single(ShenyuConfig.class, new ShenyuConfig());
+        }
+    }
 }
@@ -21,12 +21,11 @@ import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -35,7 +34,6 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mockStatic;
 
 /**
  * The type Hash balance test.
@@ -87,21 +85,21 @@ public final class HashLoadBalanceTest {
         this.treeMapDisordered = new ConcurrentSkipListMap<>();
         this.treeMapReversed = new ConcurrentSkipListMap<>();
         for (Upstream address : hashLoadBalancesOrdered) {
-            for (int i = 0; i < 5; i++) {
+            for (int i = 0; i < 160; i++) {
                 String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
                 Object o = hash.invoke(null, hashKey);
                 treeMapOrdered.put(Long.parseLong(o.toString()), address);
             }
         }
         for (Upstream address : hashLoadBalancesReversed) {
-            for (int i = 0; i < 5; i++) {
+            for (int i = 0; i < 160; i++) {
                 String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
                 Object o = hash.invoke(null, hashKey);
                 treeMapReversed.put(Long.parseLong(o.toString()), address);
             }
         }
         for (Upstream address : hashLoadBalancesDisordered) {
-            for (int i = 0; i < 5; i++) {
+            for (int i = 0; i < 160; i++) {
                 String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
                 Object o = hash.invoke(null, hashKey);
                 treeMapDisordered.put(Long.parseLong(o.toString()), address);
@@ -165,21 +163,47 @@ public final class HashLoadBalanceTest {
     }
 
     @Test
-    public void selectTest() {
-        final String ip = "SHENYU-upstream-2-HASH-100";
+    public void selectStableTest() {
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
-        Assertions.assertNull(hashLoadBalance.select(null, ip));
-        final Upstream upstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
-        assertEquals(treeMapOrdered.firstEntry().getValue().getUrl(), upstream.getUrl());
+        for (int i = 0; i < 1000; i++) {
+            final String ip = "192.168.0." + i;
+            final String url = hashLoadBalance.select(hashLoadBalancesOrdered, ip).getUrl();
+            assertEquals(url, hashLoadBalance.select(hashLoadBalancesOrdered, ip).getUrl());
+            assertEquals(url, hashLoadBalance.select(hashLoadBalancesDisordered, ip).getUrl());
+            assertEquals(url, hashLoadBalance.select(hashLoadBalancesReversed, ip).getUrl());
+        }
     }
 
     @Test
-    public void hashErrorTest() throws NoSuchAlgorithmException {
-        final String ip = "127.0.0.1";
-        MockedStatic<MessageDigest> messageDigestMockedStatic = mockStatic(MessageDigest.class);
-        messageDigestMockedStatic.when((MockedStatic.Verification) MessageDigest.getInstance("MD5")).thenThrow(NoSuchAlgorithmException.class);
-        assertThrows(InvocationTargetException.class, () -> hash.invoke(null, ip));
-        messageDigestMockedStatic.close();
+    public void selectMinimalRemappingTest() {
+        final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
+        final List<Upstream> added = new ArrayList<>(hashLoadBalancesOrdered);
+        added.add(Upstream.builder().url("upstream-4").build());
+        final List<Upstream> removed = new ArrayList<>(hashLoadBalancesOrdered);
+        final Upstream removedUpstream = removed.remove(1);
+        int moved = 0;
+        for (int i = 0; i < 1000; i++) {
+            final String ip = "192.168.0." + i;
+            final Upstream before = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
+            final Upstream afterAdd = hashLoadBalance.select(added, ip);
+            if (!before.getUrl().equals(afterAdd.getUrl())) {
+                assertEquals("upstream-4", afterAdd.getUrl());
+                moved++;
+            }
+            if (!before.getUrl().equals(removedUpstream.getUrl())) {
+                assertEquals(before.getUrl(), hashLoadBalance.select(removed, ip).getUrl());
+            }
+        }
+        Assertions.assertTrue(moved > 0 && moved < 500, "moved " + moved);
+    }
+
+    @Test
+    public void hashErrorTest() {
+        final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
+        Assertions.assertNull(hashLoadBalance.select(null, "127.0.0.1"));
+        Assertions.assertNull(hashLoadBalance.select(Collections.emptyList(), "127.0.0.1"));
+        assertThrows(NullPointerException.class, () -> hashLoadBalance.select(hashLoadBalancesOrdered, null));
+        assertThrows(InvocationTargetException.class, () -> hash.invoke(null, (Object) null));
     }
 
     @Test
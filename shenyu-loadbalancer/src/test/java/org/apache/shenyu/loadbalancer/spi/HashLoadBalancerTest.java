@@ -17,13 +17,19 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.common.config.ShenyuConfig.LoadBalanceConfig;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * HashLoadBalancer unit test.
@@ -39,7 +45,64 @@ class HashLoadBalancerTest {
         upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
 
         final Upstream upstream = hashLoadBalancer.doSelect(upstreamList, "127.0.0.1");
-        assertEquals(upstreamList.get(2).getUrl(), upstream.getUrl());
+        final List<Upstream> reversed = new ArrayList<>(upstreamList);
+        Collections.reverse(reversed);
+        assertEquals(upstream.getUrl(), hashLoadBalancer.doSelect(reversed, "127.0.0.1").getUrl());
     }
 
+    @Test
+    void selectSameUpstreamWithoutLoadBound() {
+        final LoadBalanceConfig config = new LoadBalanceConfig();
+        config.setHashLoadFactor(0d);
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(config);
+        final List<Upstream> upstreamList = buildUpstreamList(3);
+        final Upstream first = hashLoadBalancer.select(upstreamList, "127.0.0.1");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, hashLoadBalancer.select(upstreamList, "127.0.0.1"));
+        }
+    }
+
+    @Test
+    void selectSameUpstreamByDefault() {
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(new LoadBalanceConfig());
+        final List<Upstream> upstreamList = buildUpstreamList(3);
+        final Upstream first = hashLoadBalancer.select(upstreamList, "127.0.0.1");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, hashLoadBalancer.select(upstreamList, "127.0.0.1"));
+        }
+    }
+
+    @Test
+    void hotKeyIsBoundedByLoadFactor() {
+        final LoadBalanceConfig config = new LoadBalanceConfig();
+        config.setHashLoadFactor(1.25);
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(config);
+        final List<Upstream> upstreamList = buildUpstreamList(4);
+        final Map<Upstream, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(hashLoadBalancer.select(upstreamList, "127.0.0.1"), 1, Integer::sum);
+        }
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(count <= 126, "count " + count));
+    }
+
+    @Test
+    void ringIsRebuiltWhenListChanges() {
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(new LoadBalanceConfig());
+        final List<Upstream> upstreamList = buildUpstreamList(3);
+        final Upstream upstream = hashLoadBalancer.select(upstreamList, "127.0.0.1");
+        final List<Upstream> removed = new ArrayList<>(upstreamList);
+        removed.remove(upstream);
+        assertNotEquals(upstream, hashLoadBalancer.select(removed, "127.0.0.1"));
+        upstreamList.remove(upstream);
+        assertNotEquals(upstream, hashLoadBalancer.select(upstreamList, "127.0.0.1"));
+    }
+
+    private List<Upstream> buildUpstreamList(final int size) {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            upstreamList.add(Upstream.builder().url("http://" + i + "." + i + "." + i + "." + i + "/api").build());
+        }
+        return upstreamList;
+    }
 }
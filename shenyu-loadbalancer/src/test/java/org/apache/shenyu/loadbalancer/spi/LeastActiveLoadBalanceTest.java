@@ -54,4 +54,17 @@ public class LeastActiveLoadBalanceTest {
         Assertions.assertTrue(upstream.getUrl().equals("baidu.com") && upstream1.getUrl().equals("pro.jd.com")
                 || upstream1.getUrl().equals("baidu.com") && upstream.getUrl().equals("pro.jd.com"));
     }
+
+    @Test
+    public void testSelectLeastInflight() {
+        buildUpstreamList();
+        final LeastActiveLoadBalance leastActiveLoadBalance = new LeastActiveLoadBalance();
+        final long startTime = onlyOneList.get(0).getLatencyStats().start();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals("pro.jd.com", leastActiveLoadBalance.doSelect(onlyOneList, "localhost").getUrl());
+        }
+        onlyOneList.get(0).getLatencyStats().finish(startTime);
+        onlyOneList.get(1).getLatencyStats().start();
+        Assertions.assertEquals("baidu.com", leastActiveLoadBalance.doSelect(onlyOneList, "localhost").getUrl());
+    }
 }
@@ -57,7 +57,7 @@ public class P2cLoadBalancerTest {
     public void testResponseTimeBalancerSameInflight() {
         buildUpstreamList();
         final P2cLoadBalancer p2cLoadBalancer = new P2cLoadBalancer();
-        upstreamList.get(0).setLag(1);
+        upstreamList.get(0).getLatencyStats().sample(1000, System.nanoTime());
         Upstream upstream = p2cLoadBalancer.doSelect(upstreamList, "localhost");
         Upstream upstream1 = p2cLoadBalancer.doSelect(upstreamList, "localhost");
         Assertions.assertTrue(upstream.getUrl().equals("baidu.com") && upstream1.getUrl().equals("pro.jd.com"));
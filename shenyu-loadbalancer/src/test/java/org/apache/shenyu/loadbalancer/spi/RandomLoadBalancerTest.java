@@ -20,9 +20,13 @@ package org.apache.shenyu.loadbalancer.spi;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 /**
@@ -87,4 +91,22 @@ public class RandomLoadBalancerTest {
                 .collect(Collectors.toList()), "");
         assertNotNull(upstreamReversed);
     }
+
+    @Test
+    public void randomLoadBalanceDistributionTest() {
+        final List<Upstream> upstreamList = Stream.of(10, 40, 50)
+                .map(weight -> Upstream.builder()
+                        .url("upstream-" + weight)
+                        .weight(weight)
+                        .build())
+                .collect(Collectors.toList());
+        final RandomLoadBalancer randomLoadBalancer = new RandomLoadBalancer();
+        final Map<String, Integer> countMap = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            countMap.merge(randomLoadBalancer.select(upstreamList, "").getUrl(), 1, Integer::sum);
+        }
+        assertEquals(10000, countMap.get("upstream-10"), 1000);
+        assertEquals(40000, countMap.get("upstream-40"), 1500);
+        assertEquals(50000, countMap.get("upstream-50"), 1500);
+    }
 }
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -143,4 +145,66 @@ public final class RoundRobinLoadBalanceTest {
         countMap.values().forEach(count -> 
             assertTrue(count >= 8 && count <= 12, "Distribution should be roughly equal for equal weights"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void roundRobinLoadBalanceConcurrentTest() throws InterruptedException {
+        List<Upstream> upstreamList =
+                Stream.of(50, 20, 30)
+                        .map(weight -> Upstream.builder()
+                                .url("upstream-" + weight)
+                                .weight(weight)
+                                .build())
+                        .collect(Collectors.toList());
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        Map<String, AtomicInteger> countMap = new ConcurrentHashMap<>();
+        List<Thread> threads = IntStream.range(0, 4).mapToObj(t -> new Thread(() -> IntStream.range(0, 120).forEach(i -> {
+            Upstream result = roundRobinLoadBalancer.select(upstreamList, "");
+            countMap.computeIfAbsent(result.getUrl(), url -> new AtomicInteger()).incrementAndGet();
+        }))).collect(Collectors.toList());
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // the threads share one cursor, 480 picks walk whole cycles of the schedule
+        assertEquals(240, countMap.get("upstream-50").get());
+        assertEquals(96, countMap.get("upstream-20").get());
+    }
+
+    @Test
+    public void roundRobinLoadBalanceNewListTest() {
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        Map<String, Integer> countMap = new HashMap<>();
+        IntStream.range(0, 120).forEach(i -> {
+            // a new list with the same upstreams for every request keeps the schedule
+            List<Upstream> upstreamList = Stream.of(50, 20, 30)
+                    .map(weight -> Upstream.builder()
+                            .url("upstream-" + weight)
+                            .weight(weight)
+                            .build())
+                    .collect(Collectors.toList());
+            Upstream result = roundRobinLoadBalancer.select(upstreamList, "");
+            int count = countMap.getOrDefault(result.getUrl(), 0);
+            countMap.put(result.getUrl(), ++count);
+        });
+        assertEquals(60, countMap.get("upstream-50").intValue());
+    }
+
+    @Test
+    public void roundRobinLoadBalanceZeroWeightTest() {
+        List<Upstream> upstreamList =
+                Stream.of(1, 2, 3)
+                        .map(index -> Upstream.builder()
+                                .url("upstream-" + index)
+                                .weight(0)
+                                .build())
+                        .collect(Collectors.toList());
+        RoundRobinLoadBalancer roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        Map<String, Integer> countMap = new HashMap<>();
+        IntStream.range(0, 30).forEach(i -> {
+            Upstream result = roundRobinLoadBalancer.select(upstreamList, "");
+            int count = countMap.getOrDefault(result.getUrl(), 0);
+            countMap.put(result.getUrl(), ++count);
+        });
+        countMap.values().forEach(count -> assertEquals(10, count.intValue()));
+    }
+}
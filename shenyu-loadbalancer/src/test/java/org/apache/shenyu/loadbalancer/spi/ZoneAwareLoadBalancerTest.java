@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import org.apache.shenyu.common.config.ShenyuConfig.LoadBalanceConfig;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type zone aware load balancer test.
+ */
+public final class ZoneAwareLoadBalancerTest {
+
+    private static final int SELECTIONS = 10000;
+
+    @Test
+    public void testStayLocal() {
+        final ZoneAwareLoadBalancer loadBalancer = new ZoneAwareLoadBalancer(new RandomLoadBalancer(), config("zone-a"));
+        final List<Upstream> upstreamList = buildUpstreamList("zone-a", "zone-a", "zone-b", "zone-b");
+        for (int i = 0; i < SELECTIONS; i++) {
+            assertEquals("zone-a", loadBalancer.select(upstreamList, "127.0.0.1").getZone());
+        }
+        assertEquals(Map.of("zone-a", (long) SELECTIONS), loadBalancer.getZoneTraffic());
+        assertEquals(0, loadBalancer.getSpilled());
+    }
+
+    @Test
+    public void testSpillover() {
+        final ZoneAwareLoadBalancer loadBalancer = new ZoneAwareLoadBalancer(new RandomLoadBalancer(), config("zone-a"));
+        // the local zone holds half of its even share
+        final List<Upstream> upstreamList = buildUpstreamList("zone-a", "zone-b", "zone-b", "zone-b");
+        for (int i = 0; i < SELECTIONS; i++) {
+            loadBalancer.select(upstreamList, "127.0.0.1");
+        }
+        final Map<String, Long> traffic = loadBalancer.getZoneTraffic();
+        assertEquals(SELECTIONS, traffic.get("zone-a") + traffic.get("zone-b"));
+        assertEquals((long) traffic.get("zone-b"), loadBalancer.getSpilled());
+        assertTrue(Math.abs(traffic.get("zone-a") - SELECTIONS / 2) < SELECTIONS / 10);
+    }
+
+    @Test
+    public void testFailover() {
+        final ZoneAwareLoadBalancer loadBalancer = new ZoneAwareLoadBalancer(new RoundRobinLoadBalancer(), config("zone-a"));
+        final List<Upstream> upstreamList = buildUpstreamList("zone-b", null);
+        for (int i = 0; i < 10; i++) {
+            loadBalancer.select(upstreamList, "127.0.0.1");
+        }
+        assertEquals(Map.of("zone-b", 5L, ZoneAwareLoadBalancer.UNKNOWN_ZONE, 5L), loadBalancer.getZoneTraffic());
+        assertNull(loadBalancer.select(List.of(), "127.0.0.1"));
+    }
+
+    @Test
+    public void testWithoutZone() {
+        final ZoneAwareLoadBalancer loadBalancer = new ZoneAwareLoadBalancer(new RandomLoadBalancer(), config(""));
+        final List<Upstream> upstreamList = buildUpstreamList("zone-a", "zone-b");
+        loadBalancer.select(upstreamList, "127.0.0.1");
+        assertTrue(loadBalancer.getZoneTraffic().isEmpty());
+    }
+
+    private static LoadBalanceConfig config(final String zone) {
+        final LoadBalanceConfig config = new LoadBalanceConfig();
+        config.setZone(zone);
+        return config;
+    }
+
+    private static List<Upstream> buildUpstreamList(final String... zones) {
+        final int[] index = {0};
+        return Stream.of(zones)
+                .map(zone -> Upstream.builder()
+                        .url("upstream-" + index[0]++)
+                        .weight(50)
+                        .zone(zone)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
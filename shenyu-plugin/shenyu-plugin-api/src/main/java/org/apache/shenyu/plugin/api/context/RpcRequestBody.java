@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.context;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * The request body of a rpc call, read from the joined {@link DataBuffer}.
+ *
+ * <p>The text is decoded from the buffer before the buffer is released, which happens as soon as the text is read
+ * rather than when the exchange completes. The json tree and the form fields are parsed from the text when first
+ * asked for and kept, so every plugin of the exchange shares one copy of each.</p>
+ *
+ * <p>An exchange is handled by one plugin at a time, the views are not guarded against concurrent reads.</p>
+ */
+public final class RpcRequestBody {
+
+    private final DataBuffer buffer;
+
+    private final MediaType contentType;
+
+    private String text;
+
+    private JsonElement json;
+
+    private MultiValueMap<String, String> formFields;
+
+    private boolean released;
+
+    private RpcRequestBody(final DataBuffer buffer, final MediaType contentType) {
+        this.buffer = buffer;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Keep the joined request body.
+     *
+     * @param buffer      the joined body
+     * @param contentType the content type of the request
+     * @return the request body
+     */
+    public static RpcRequestBody of(final DataBuffer buffer, final MediaType contentType) {
+        return new RpcRequestBody(buffer, contentType);
+    }
+
+    /**
+     * Whether the body is json.
+     *
+     * @return true when the content type is compatible with application/json
+     */
+    public boolean isJson() {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(contentType);
+    }
+
+    /**
+     * Get the body as UTF-8 text, decoded straight from the buffer on the first call, which comes before the
+     * buffer is released.
+     *
+     * @return the text
+     */
+    public String getText() {
+        if (Objects.isNull(text)) {
+            text = buffer.toString(buffer.readPosition(), buffer.readableByteCount(), StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+
+    /**
+     * Get the body as a json tree, parsed from the text.
+     *
+     * @return the json tree
+     */
+    public JsonElement getJson() {
+        if (Objects.isNull(json)) {
+            json = JsonParser.parseString(getText());
+        }
+        return json;
+    }
+
+    /**
+     * Get the fields of an url encoded form body.
+     *
+     * @return the form fields
+     */
+    public MultiValueMap<String, String> getFormFields() {
+        if (Objects.isNull(formFields)) {
+            formFields = BodyParamUtils.buildBodyParams(URLDecoder.decode(getText(), StandardCharsets.UTF_8));
+        }
+        return formFields;
+    }
+
+    /**
+     * Release the buffer, once.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
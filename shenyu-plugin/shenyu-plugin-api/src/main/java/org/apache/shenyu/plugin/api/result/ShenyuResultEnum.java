@@ -77,6 +77,11 @@ public enum ShenyuResultEnum {
      */
     DEFAULT_FALLBACK(429, "the fallback success, please check your service status!"),
     
+    /**
+     * Concurrency limit exceeded shenyu result enum.
+     */
+    CONCURRENCY_LIMIT_EXCEEDED(503, "The service is at its concurrency limit, please try again later!"),
+    
     /**
      * Meta data error shenyu result enum.
      */
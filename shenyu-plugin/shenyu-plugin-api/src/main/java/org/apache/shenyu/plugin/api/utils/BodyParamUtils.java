@@ -17,9 +17,6 @@
 
 package org.apache.shenyu.plugin.api.utils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -36,6 +33,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 /**
@@ -50,6 +48,10 @@ public final class BodyParamUtils {
             .maximumSize(5000)
             .build();
 
+    private static final Cache<String, ParameterBinder> BINDER_CACHE = Caffeine.newBuilder()
+            .maximumSize(5000)
+            .build();
+
     private BodyParamUtils() {
     }
 
@@ -101,41 +103,30 @@ public final class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        List<String> paramNameList = new ArrayList<>();
-        List<String> paramTypeList = new ArrayList<>();
-
-        if (isNameMapping(parameterTypes)) {
-            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
-            paramNameList.addAll(paramNameMap.keySet());
-            paramTypeList.addAll(paramNameMap.values());
-        } else {
-            Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-            paramNameList.addAll(paramMap.keySet());
-            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
-        }
-
-        if (paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0))) {
-            return buildSingleParameter(body, parameterTypes);
-        }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                return GsonUtils.getInstance().convertToMap(obj.toString());
-            } else if (obj instanceof JsonArray) {
-                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
-            } else {
-                return obj;
-            }
-        }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
+        return BINDER_CACHE.get(parameterTypes, ParameterBinder::compile).bind(body);
     }
 
-    private static boolean isNameMapping(final String parameterTypes) {
-        return parameterTypes.startsWith("{") && parameterTypes.endsWith("}");
+    /**
+     * build multi parameters from the json tree of the body, which is not parsed again.
+     *
+     * @param body           the parsed parameter body.
+     * @param parameterTypes the parameter types.
+     * @return the parameters.
+     */
+    public static Pair<String[], Object[]> buildParameters(final JsonElement body, final String parameterTypes) {
+        return BINDER_CACHE.get(parameterTypes, ParameterBinder::compile).bind(body);
     }
 
+    /**
+     * Drop the compiled binder of the parameter types, when the meta data using them changes.
+     *
+     * @param parameterTypes the parameter types.
+     */
+    public static void invalidateBinder(final String parameterTypes) {
+        if (Objects.nonNull(parameterTypes)) {
+            BINDER_CACHE.invalidate(parameterTypes);
+        }
+    }
 
     /**
      * isBaseType.
@@ -143,7 +134,7 @@ public final class BodyParamUtils {
      * @param paramType the parameter type.
      * @return whether the base type is.
      */
-    private static boolean isBaseType(final String paramType) {
+    static boolean isBaseType(final String paramType) {
         return BASE_TYPE_CACHE.get(paramType, key -> {
             try {
                 return ReflectUtils.isPrimitives(ClassUtils.getClass(key));
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.utils;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Binds a rpc request body to the arguments of a generic invocation, compiled once per parameter types.
+ *
+ * <p>The parameter types, a name to type mapping or a comma separated type list, are parsed when the binder is
+ * compiled. The body is parsed once per request and each top level value is bound from the parsed tree, so
+ * nested objects and arrays are not written back to text and parsed again.</p>
+ */
+public final class ParameterBinder {
+
+    private final String parameterTypes;
+
+    private final String[] names;
+
+    private final String[] types;
+
+    private final boolean single;
+
+    private ParameterBinder(final String parameterTypes, final String[] names, final String[] types) {
+        this.parameterTypes = parameterTypes;
+        this.names = names;
+        this.types = types;
+        this.single = types.length == 1 && !BodyParamUtils.isBaseType(types[0]);
+    }
+
+    /**
+     * Compile the binder of the parameter types.
+     *
+     * @param parameterTypes the parameter types.
+     * @return the binder.
+     */
+    public static ParameterBinder compile(final String parameterTypes) {
+        if (parameterTypes.startsWith("{") && parameterTypes.endsWith("}")) {
+            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+            return new ParameterBinder(parameterTypes, paramNameMap.keySet().toArray(new String[0]), paramNameMap.values().toArray(new String[0]));
+        }
+        // the names are the keys of the body
+        return new ParameterBinder(parameterTypes, null, StringUtils.split(parameterTypes, ","));
+    }
+
+    /**
+     * Bind the body to the parameters.
+     *
+     * @param body the parameter body.
+     * @return the parameter types and the arguments.
+     */
+    public Pair<String[], Object[]> bind(final String body) {
+        return bind(JsonParser.parseString(body));
+    }
+
+    /**
+     * Bind the parsed body to the parameters.
+     *
+     * @param body the parsed parameter body.
+     * @return the parameter types and the arguments.
+     */
+    public Pair<String[], Object[]> bind(final JsonElement body) {
+        final Map<String, Object> paramMap = GsonUtils.getInstance().jsonElementToObjectMap(body);
+        if (single) {
+            paramMap.replaceAll((key, value) -> convert(value));
+            return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
+        }
+        final String[] paramNames = Objects.nonNull(names) ? names : paramMap.keySet().toArray(new String[0]);
+        final Object[] args = new Object[paramNames.length];
+        for (int i = 0; i < paramNames.length; i++) {
+            args[i] = convert(paramMap.get(paramNames[i]));
+        }
+        return new ImmutablePair<>(types.clone(), args);
+    }
+
+    private static Object convert(final Object value) {
+        if (value instanceof JsonObject) {
+            return GsonUtils.getInstance().convertJsonElementToMap((JsonElement) value);
+        }
+        if (value instanceof JsonArray) {
+            return GsonUtils.getInstance().jsonElementToList((JsonElement) value, Object.class);
+        }
+        return value;
+    }
+}
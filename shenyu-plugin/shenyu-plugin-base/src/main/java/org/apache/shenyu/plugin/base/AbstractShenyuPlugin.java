@@ -35,6 +35,7 @@ import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.cache.DecisionIndexCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
@@ -68,6 +69,8 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
     private ShenyuConfig.SelectorMatchCache selectorMatchConfig;
     
     private ShenyuConfig.RuleMatchCache ruleMatchConfig;
+    
+    private volatile Boolean templateExecution;
 
     /**
      * this is Template Method child has implements your own logic.
@@ -143,7 +146,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             ruleData = trieMatchRule(exchange, selectorData, path);
             // trie cache fails to hit, execute default strategy
             if (Objects.isNull(ruleData)) {
-                ruleData = defaultMatchRule(exchange, rules, path);
+                ruleData = defaultMatchRule(exchange, selectorData.getId(), rules, path);
                 if (Objects.isNull(ruleData)) {
                     return handleRuleIfNull(pluginName, exchange, chain);
                 }
@@ -153,10 +156,56 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return doExecute(exchange, chain, selectorData, ruleData);
     }
     
+    /**
+     * Whether {@link #execute} would only delegate to the next plugin for every request,
+     * because the plugin is disabled or has no selector and does not handle the missing selector itself.
+     * A compiled plugin chain leaves such plugins out until the plugin or selector data changes.
+     *
+     * @return true if the plugin cannot act on any request with the current data
+     */
+    public boolean isPassThrough() {
+        if (!isTemplateExecution()) {
+            return false;
+        }
+        final String pluginName = named();
+        PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(pluginName);
+        if (Objects.isNull(pluginData) || !pluginData.getEnabled()) {
+            return true;
+        }
+        return CollectionUtils.isEmpty(BaseDataCache.getInstance().obtainSelectorData(pluginName))
+                && !overrides("handleSelectorIfNull", String.class, ServerWebExchange.class, ShenyuPluginChain.class);
+    }
+    
     protected String getRawPath(final ServerWebExchange exchange) {
         return exchange.getRequest().getURI().getRawPath();
     }
     
+    /**
+     * Whether the plugin runs the template {@link #execute} with the default before and after hooks.
+     *
+     * @return true if none of them is overridden
+     */
+    private boolean isTemplateExecution() {
+        if (Objects.isNull(templateExecution)) {
+            templateExecution = !overrides("execute", ServerWebExchange.class, ShenyuPluginChain.class)
+                    && !overrides("before", ServerWebExchange.class)
+                    && !overrides("after", ServerWebExchange.class);
+        }
+        return templateExecution;
+    }
+    
+    private boolean overrides(final String methodName, final Class<?>... parameterTypes) {
+        for (Class<?> clazz = getClass(); Objects.nonNull(clazz) && clazz != AbstractShenyuPlugin.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+                // look up the super class
+            }
+        }
+        return false;
+    }
+    
     private void initCacheConfig() {
         if (Objects.isNull(selectorMatchConfig) || Objects.isNull(ruleMatchConfig)) {
             ShenyuConfig shenyuConfig = SpringBeanUtils.getInstance().getBean(ShenyuConfig.class);
@@ -378,7 +427,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
     }
     
     private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors, final String path) {
-        Pair<Boolean, SelectorData> matchSelectorPair = matchSelector(exchange, selectors);
+        Pair<Boolean, SelectorData> matchSelectorPair = DecisionIndexCache.getInstance().obtainSelectorIndex(named(), selectors).match(exchange);
         SelectorData selectorData = matchSelectorPair.getRight();
         if (Objects.nonNull(selectorData)) {
             LogUtils.info(LOG, "{} selector match success from default strategy", named());
@@ -397,8 +446,8 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         }
     }
     
-    private RuleData defaultMatchRule(final ServerWebExchange exchange, final List<RuleData> rules, final String path) {
-        Pair<Boolean, RuleData> matchRulePair = matchRule(exchange, rules);
+    private RuleData defaultMatchRule(final ServerWebExchange exchange, final String selectorId, final List<RuleData> rules, final String path) {
+        Pair<Boolean, RuleData> matchRulePair = DecisionIndexCache.getInstance().obtainRuleIndex(selectorId, rules).match(exchange);
         RuleData ruleData = matchRulePair.getRight();
         if (Objects.nonNull(ruleData)) {
             LOG.info("{} rule match path from default strategy", named());
@@ -27,6 +27,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +52,11 @@ public final class BaseDataCache {
      */
     private static final ConcurrentMap<String, List<RuleData>> RULE_MAP = Maps.newConcurrentMap();
 
+    /**
+     * bumped on every plugin or selector change.
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
     private BaseDataCache() {
     }
     
@@ -70,6 +76,7 @@ public final class BaseDataCache {
      */
     public void cachePluginData(final PluginData pluginData) {
         Optional.ofNullable(pluginData).ifPresent(data -> PLUGIN_MAP.put(data.getName(), data));
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -79,6 +86,7 @@ public final class BaseDataCache {
      */
     public void removePluginData(final PluginData pluginData) {
         Optional.ofNullable(pluginData).ifPresent(data -> PLUGIN_MAP.remove(data.getName()));
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -88,6 +96,7 @@ public final class BaseDataCache {
      */
     public void removePluginDataByPluginName(final String pluginName) {
         PLUGIN_MAP.remove(pluginName);
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -95,6 +104,7 @@ public final class BaseDataCache {
      */
     public void cleanPluginData() {
         PLUGIN_MAP.clear();
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -132,10 +142,10 @@ public final class BaseDataCache {
      */
     public void removeSelectData(final SelectorData selectorData) {
         Optional.ofNullable(selectorData).ifPresent(data -> {
-            final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
             synchronized (SELECTOR_MAP) {
-                Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
+                SELECTOR_MAP.computeIfPresent(data.getPluginName(), (key, list) -> list.stream().filter(e -> !e.getId().equals(data.getId())).collect(Collectors.toList()));
             }
+            VERSION.incrementAndGet();
         });
     }
     
@@ -146,6 +156,7 @@ public final class BaseDataCache {
      */
     public void removeSelectDataByPluginName(final String pluginName) {
         SELECTOR_MAP.remove(pluginName);
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -153,6 +164,7 @@ public final class BaseDataCache {
      */
     public void cleanSelectorData() {
         SELECTOR_MAP.clear();
+        VERSION.incrementAndGet();
     }
     
     /**
@@ -190,9 +202,8 @@ public final class BaseDataCache {
      */
     public void removeRuleData(final RuleData ruleData) {
         Optional.ofNullable(ruleData).ifPresent(data -> {
-            final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
             synchronized (RULE_MAP) {
-                Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
+                RULE_MAP.computeIfPresent(data.getSelectorId(), (key, list) -> list.stream().filter(rule -> !rule.getId().equals(data.getId())).collect(Collectors.toList()));
             }
         });
     }
@@ -232,6 +243,15 @@ public final class BaseDataCache {
         return RULE_MAP.get(selectorId);
     }
     
+    /**
+     * Gets the version of the plugin and selector data, it changes whenever any of them changes.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return VERSION.get();
+    }
+    
     /**
      * Gets plugin map.
      *
@@ -297,6 +317,7 @@ public final class BaseDataCache {
             } else {
                 SELECTOR_MAP.put(key, Lists.newArrayList(data));
             }
+            VERSION.incrementAndGet();
         }
     }
 }
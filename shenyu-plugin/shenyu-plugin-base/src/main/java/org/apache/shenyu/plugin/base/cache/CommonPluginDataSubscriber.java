@@ -153,6 +153,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         LOG.debug("start refresh all selector data");
         BaseDataCache.getInstance().cleanSelectorData();
         MatchDataCache.getInstance().cleanSelectorData();
+        DecisionIndexCache.getInstance().cleanSelectorIndex();
         ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
         selectorTrie.clear();
     }
@@ -163,6 +164,10 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
+        selectorDataList.stream().map(SelectorData::getPluginName).distinct()
+                .forEach(DecisionIndexCache.getInstance()::refreshSelectorIndex);
+        selectorDataList.stream().map(SelectorData::getId)
+                .forEach(DecisionIndexCache.getInstance()::removeRuleIndex);
     }
     
     @Override
@@ -182,6 +187,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         LOG.debug("start refresh all rule data");
         BaseDataCache.getInstance().cleanRuleData();
         MatchDataCache.getInstance().cleanRuleDataData();
+        DecisionIndexCache.getInstance().cleanRuleIndex();
         ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
         ruleTrie.clear();
     }
@@ -192,6 +198,8 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanRuleDataSelf(ruleDataList);
+        ruleDataList.stream().map(RuleData::getSelectorId).distinct()
+                .forEach(DecisionIndexCache.getInstance()::refreshRuleIndex);
     }
     
     private <T> void subscribeDataHandler(final T classData, final DataEventTypeEnum dataType) {
@@ -236,6 +244,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().cacheSelectData(selectorData);
+            DecisionIndexCache.getInstance().refreshSelectorIndex(selectorData.getPluginName());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.handlerSelector(selectorData));
             // remove match cache
@@ -251,6 +260,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().cacheRuleData(ruleData);
+            DecisionIndexCache.getInstance().refreshRuleIndex(ruleData.getSelectorId());
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.handlerRule(ruleData));
             if (ruleMatchCacheConfig.getCache().getEnabled()) {
@@ -287,12 +297,17 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         if (data instanceof PluginData) {
             PluginData pluginData = (PluginData) data;
             BaseDataCache.getInstance().removePluginData(pluginData);
+            Optional.ofNullable(BaseDataCache.getInstance().obtainSelectorData(pluginData.getName()))
+                    .ifPresent(selectors -> selectors.forEach(selector -> DecisionIndexCache.getInstance().removeRuleIndex(selector.getId())));
+            DecisionIndexCache.getInstance().removeSelectorIndex(pluginData.getName());
             Optional.ofNullable(handlerMap.get(pluginData.getName()))
                     .ifPresent(handler -> handler.removePlugin(pluginData));
             eventPublisher.publishEvent(new PluginHandlerEvent(PluginHandlerEventEnum.DELETE, pluginData));
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().removeSelectData(selectorData);
+            DecisionIndexCache.getInstance().refreshSelectorIndex(selectorData.getPluginName());
+            DecisionIndexCache.getInstance().removeRuleIndex(selectorData.getId());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.removeSelector(selectorData));
             // remove selector match cache
@@ -307,6 +322,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().removeRuleData(ruleData);
+            DecisionIndexCache.getInstance().refreshRuleIndex(ruleData.getSelectorId());
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.removeRule(ruleData));
             if (ruleMatchCacheConfig.getCache().getEnabled()) {
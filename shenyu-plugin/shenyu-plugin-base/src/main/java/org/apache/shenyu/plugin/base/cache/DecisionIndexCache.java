@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.index.ConditionDecisionIndex;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The precompiled selector and rule decision indexes, built from {@link BaseDataCache}.
+ * The indexes are rebuilt by {@link CommonPluginDataSubscriber} on every selector or rule change,
+ * and lazily on the request path when the base data was changed without going through the subscriber.
+ */
+public final class DecisionIndexCache {
+
+    private static final DecisionIndexCache INSTANCE = new DecisionIndexCache();
+
+    /**
+     * pluginName -> selector decision index.
+     */
+    private static final ConcurrentMap<String, ConditionDecisionIndex<SelectorData>> SELECTOR_INDEX_MAP = Maps.newConcurrentMap();
+
+    /**
+     * selectorId -> rule decision index.
+     */
+    private static final ConcurrentMap<String, ConditionDecisionIndex<RuleData>> RULE_INDEX_MAP = Maps.newConcurrentMap();
+
+    private DecisionIndexCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static DecisionIndexCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the selector decision index of the plugin, rebuild it if the selectors changed.
+     *
+     * @param pluginName the plugin name
+     * @param selectors the current selectors of the plugin
+     * @return the selector decision index
+     */
+    public ConditionDecisionIndex<SelectorData> obtainSelectorIndex(final String pluginName, final List<SelectorData> selectors) {
+        ConditionDecisionIndex<SelectorData> index = SELECTOR_INDEX_MAP.get(pluginName);
+        if (Objects.nonNull(index) && index.isBuiltFrom(selectors)) {
+            return index;
+        }
+        return SELECTOR_INDEX_MAP.compute(pluginName, (key, old) -> Objects.nonNull(old) && old.isBuiltFrom(selectors) ? old : ConditionDecisionIndex.ofSelectors(selectors));
+    }
+
+    /**
+     * Obtain the rule decision index of the selector, rebuild it if the rules changed.
+     *
+     * @param selectorId the selector id
+     * @param rules the current rules of the selector
+     * @return the rule decision index
+     */
+    public ConditionDecisionIndex<RuleData> obtainRuleIndex(final String selectorId, final List<RuleData> rules) {
+        ConditionDecisionIndex<RuleData> index = RULE_INDEX_MAP.get(selectorId);
+        if (Objects.nonNull(index) && index.isBuiltFrom(rules)) {
+            return index;
+        }
+        return RULE_INDEX_MAP.compute(selectorId, (key, old) -> Objects.nonNull(old) && old.isBuiltFrom(rules) ? old : ConditionDecisionIndex.ofRules(rules));
+    }
+
+    /**
+     * Rebuild the selector decision index of the plugin from {@link BaseDataCache}.
+     *
+     * @param pluginName the plugin name
+     * @return the rebuilt index
+     */
+    public ConditionDecisionIndex<SelectorData> refreshSelectorIndex(final String pluginName) {
+        if (Objects.isNull(pluginName)) {
+            return ConditionDecisionIndex.ofSelectors(null);
+        }
+        return SELECTOR_INDEX_MAP.compute(pluginName, (key, old) -> ConditionDecisionIndex.ofSelectors(BaseDataCache.getInstance().obtainSelectorData(key)));
+    }
+
+    /**
+     * Rebuild the rule decision index of the selector from {@link BaseDataCache}.
+     *
+     * @param selectorId the selector id
+     * @return the rebuilt index
+     */
+    public ConditionDecisionIndex<RuleData> refreshRuleIndex(final String selectorId) {
+        if (Objects.isNull(selectorId)) {
+            return ConditionDecisionIndex.ofRules(null);
+        }
+        return RULE_INDEX_MAP.compute(selectorId, (key, old) -> ConditionDecisionIndex.ofRules(BaseDataCache.getInstance().obtainRuleData(key)));
+    }
+
+    /**
+     * Remove the selector decision index of the plugin.
+     *
+     * @param pluginName the plugin name
+     */
+    public void removeSelectorIndex(final String pluginName) {
+        Optional.ofNullable(pluginName).ifPresent(SELECTOR_INDEX_MAP::remove);
+    }
+
+    /**
+     * Remove the rule decision index of the selector.
+     *
+     * @param selectorId the selector id
+     */
+    public void removeRuleIndex(final String selectorId) {
+        Optional.ofNullable(selectorId).ifPresent(RULE_INDEX_MAP::remove);
+    }
+
+    /**
+     * Clean all selector decision indexes.
+     */
+    public void cleanSelectorIndex() {
+        SELECTOR_INDEX_MAP.clear();
+    }
+
+    /**
+     * Clean all rule decision indexes.
+     */
+    public void cleanRuleIndex() {
+        RULE_INDEX_MAP.clear();
+    }
+}
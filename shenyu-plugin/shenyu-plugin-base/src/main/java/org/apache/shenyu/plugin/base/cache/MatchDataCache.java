@@ -18,14 +18,15 @@
 package org.apache.shenyu.plugin.base.cache;
 
 import com.google.common.collect.Maps;
-import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.common.cache.SlotCacheMap;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.utils.MapUtils;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
 
 
@@ -37,15 +38,16 @@ public final class MatchDataCache {
     private static final MatchDataCache INSTANCE = new MatchDataCache();
 
     /**
-     * pluginName -> LRUMap.
+     * pluginName -> slot cache.
+     * slot cache: path -> selector data, tagged by selector id.
      */
-    private static final ConcurrentMap<String, Map<String, SelectorData>> SELECTOR_DATA_MAP = Maps.newConcurrentMap();
+    private static final ConcurrentMap<String, SlotCacheMap<SelectorData>> SELECTOR_DATA_MAP = Maps.newConcurrentMap();
     
     /**
-     * plugin name -> LRU Map.
-     * LRU Map: path -> rule data.
+     * plugin name -> slot cache.
+     * slot cache: path -> rule data, tagged by rule id and selector id.
      */
-    private static final ConcurrentMap<String, Map<String, RuleData>> RULE_DATA_MAP = Maps.newConcurrentMap();
+    private static final ConcurrentMap<String, SlotCacheMap<RuleData>> RULE_DATA_MAP = Maps.newConcurrentMap();
 
     private MatchDataCache() {
     }
@@ -75,11 +77,11 @@ public final class MatchDataCache {
      * @param selectorId selector id
      */
     public void removeSelectorData(final String pluginName, final String selectorId) {
-        Map<String, SelectorData> pathSelectorCache = SELECTOR_DATA_MAP.get(pluginName);
-        if (Objects.isNull(pathSelectorCache) || pathSelectorCache.isEmpty()) {
+        SlotCacheMap<SelectorData> pathSelectorCache = SELECTOR_DATA_MAP.get(pluginName);
+        if (Objects.isNull(pathSelectorCache) || Objects.isNull(selectorId)) {
             return;
         }
-        pathSelectorCache.entrySet().removeIf(entry -> selectorId.equals(entry.getValue().getId()));
+        pathSelectorCache.invalidateById(selectorId);
     }
     
     /**
@@ -88,11 +90,11 @@ public final class MatchDataCache {
      * @param pluginName plugin name
      */
     public void removeEmptySelectorData(final String pluginName) {
-        Map<String, SelectorData> pathSelectorCache = SELECTOR_DATA_MAP.get(pluginName);
-        if (Objects.isNull(pathSelectorCache) || pathSelectorCache.isEmpty()) {
+        SlotCacheMap<SelectorData> pathSelectorCache = SELECTOR_DATA_MAP.get(pluginName);
+        if (Objects.isNull(pathSelectorCache)) {
             return;
         }
-        pathSelectorCache.entrySet().removeIf(entry -> Objects.isNull(entry.getValue().getId()));
+        pathSelectorCache.invalidateEmpty();
     }
 
     /**
@@ -107,12 +109,12 @@ public final class MatchDataCache {
      *
      * @param path         the path
      * @param selectorData the selector data
-     * @param initialCapacity initialCapacity
+     * @param initialCapacity initialCapacity, unused since the slots are allocated up front
      * @param maximumSize maximumSize
      */
     public void cacheSelectorData(final String path, final SelectorData selectorData, final int initialCapacity, final long maximumSize) {
         MapUtils.computeIfAbsent(SELECTOR_DATA_MAP, selectorData.getPluginName(), map ->
-                new WindowTinyLFUMap<>(initialCapacity, maximumSize, Boolean.FALSE)).put(path, selectorData);
+                new SlotCacheMap<>(maximumSize, SelectorData::getId, null)).put(path, selectorData);
     }
 
     /**
@@ -123,8 +125,8 @@ public final class MatchDataCache {
      * @return the selector data
      */
     public SelectorData obtainSelectorData(final String pluginName, final String path) {
-        final Map<String, SelectorData> lruMap = SELECTOR_DATA_MAP.get(pluginName);
-        return Optional.ofNullable(lruMap).orElse(Maps.newHashMap()).get(path);
+        final SlotCacheMap<SelectorData> slotCache = SELECTOR_DATA_MAP.get(pluginName);
+        return Objects.isNull(slotCache) ? null : slotCache.get(path);
     }
     
     /**
@@ -132,12 +134,12 @@ public final class MatchDataCache {
      *
      * @param path path
      * @param ruleData rule data
-     * @param initialCapacity initial capacity
+     * @param initialCapacity initial capacity, unused since the slots are allocated up front
      * @param maximumSize maximum size
      */
     public void cacheRuleData(final String path, final RuleData ruleData, final int initialCapacity, final long maximumSize) {
         MapUtils.computeIfAbsent(RULE_DATA_MAP, ruleData.getPluginName(), map ->
-                new WindowTinyLFUMap<>(initialCapacity, maximumSize, Boolean.FALSE)).put(path, ruleData);
+                new SlotCacheMap<>(maximumSize, RuleData::getId, RuleData::getSelectorId)).put(path, ruleData);
     }
     
     /**
@@ -156,11 +158,11 @@ public final class MatchDataCache {
      * @param ruleId ruleId
      */
     public void removeRuleData(final String pluginName, final String ruleId) {
-        Map<String, RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
-        if (Objects.isNull(pathRuleDataCache) || pathRuleDataCache.isEmpty()) {
+        SlotCacheMap<RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
+        if (Objects.isNull(pathRuleDataCache) || Objects.isNull(ruleId)) {
             return;
         }
-        pathRuleDataCache.entrySet().removeIf(entry -> ruleId.equals(entry.getValue().getId()));
+        pathRuleDataCache.invalidateById(ruleId);
     }
     
     /**
@@ -170,11 +172,11 @@ public final class MatchDataCache {
      * @param selectorId selectorId
      */
     public void removeRuleDataBySelector(final String pluginName, final String selectorId) {
-        Map<String, RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
-        if (Objects.isNull(pathRuleDataCache) || pathRuleDataCache.isEmpty()) {
+        SlotCacheMap<RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
+        if (Objects.isNull(pathRuleDataCache) || Objects.isNull(selectorId)) {
             return;
         }
-        pathRuleDataCache.entrySet().removeIf(entry -> selectorId.equals(entry.getValue().getSelectorId()));
+        pathRuleDataCache.invalidateByGroup(selectorId);
     }
     
     /**
@@ -183,11 +185,11 @@ public final class MatchDataCache {
      * @param pluginName plugin name
      */
     public void removeEmptyRuleData(final String pluginName) {
-        Map<String, RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
-        if (Objects.isNull(pathRuleDataCache) || pathRuleDataCache.isEmpty()) {
+        SlotCacheMap<RuleData> pathRuleDataCache = RULE_DATA_MAP.get(pluginName);
+        if (Objects.isNull(pathRuleDataCache)) {
             return;
         }
-        pathRuleDataCache.entrySet().removeIf(entry -> Objects.isNull(entry.getValue().getId()));
+        pathRuleDataCache.invalidateEmpty();
     }
     
     /**
@@ -205,8 +207,8 @@ public final class MatchDataCache {
      * @return ruleData
      */
     public RuleData obtainRuleData(final String pluginName, final String path) {
-        final Map<String, RuleData> lruMap = RULE_DATA_MAP.get(pluginName);
-        return Optional.ofNullable(lruMap).orElse(Maps.newHashMap()).get(path);
+        final SlotCacheMap<RuleData> slotCache = RULE_DATA_MAP.get(pluginName);
+        return Objects.isNull(slotCache) ? null : slotCache.get(path);
     }
     
     /**
@@ -214,8 +216,8 @@ public final class MatchDataCache {
      *
      * @return selector match cache
      */
-    public ConcurrentMap<String, Map<String, SelectorData>> getSelectorMatchCache() {
-        return SELECTOR_DATA_MAP;
+    public Map<String, Map<String, SelectorData>> getSelectorMatchCache() {
+        return Collections.unmodifiableMap(SELECTOR_DATA_MAP);
     }
     
     /**
@@ -223,8 +225,39 @@ public final class MatchDataCache {
      *
      * @return rule match cache
      */
-    public ConcurrentMap<String, Map<String, RuleData>> getRuleMatchCache() {
-        return RULE_DATA_MAP;
+    public Map<String, Map<String, RuleData>> getRuleMatchCache() {
+        return Collections.unmodifiableMap(RULE_DATA_MAP);
+    }
+    
+    /**
+     * get the hit, miss and eviction counters of the selector match cache per plugin.
+     *
+     * @return plugin name -> counters
+     */
+    public Map<String, Map<String, Long>> getSelectorMatchCacheStats() {
+        return stats(SELECTOR_DATA_MAP);
+    }
+    
+    /**
+     * get the hit, miss and eviction counters of the rule match cache per plugin.
+     *
+     * @return plugin name -> counters
+     */
+    public Map<String, Map<String, Long>> getRuleMatchCacheStats() {
+        return stats(RULE_DATA_MAP);
+    }
+    
+    private static Map<String, Map<String, Long>> stats(final ConcurrentMap<String, ? extends SlotCacheMap<?>> cacheMap) {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        cacheMap.forEach((pluginName, cache) -> {
+            Map<String, Long> counters = new LinkedHashMap<>();
+            counters.put("hit", cache.hitCount());
+            counters.put("miss", cache.missCount());
+            counters.put("eviction", cache.evictionCount());
+            counters.put("size", (long) cache.size());
+            result.put(pluginName, counters);
+        });
+        return result;
     }
     
 }
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.AndMatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.OrMatchStrategy;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A selector or rule compiled for the {@link ConditionDecisionIndex}.
+ *
+ * @param <T> the selector or rule type
+ */
+final class CompiledCandidate<T> {
+
+    /**
+     * Param types that are cheap to read and free of side effects, so they can be read once per dimension.
+     */
+    private static final Set<String> INDEXABLE_PARAM_TYPES = Arrays.stream(new ParamTypeEnum[]{
+        ParamTypeEnum.URI, ParamTypeEnum.QUERY, ParamTypeEnum.HOST, ParamTypeEnum.IP,
+        ParamTypeEnum.HEADER, ParamTypeEnum.COOKIE, ParamTypeEnum.REQUEST_METHOD, ParamTypeEnum.DOMAIN,
+    }).map(ParamTypeEnum::getName).collect(Collectors.toSet());
+
+    private final T data;
+
+    private final int position;
+
+    private final int andCount;
+
+    private final int sort;
+
+    private final boolean matchAll;
+
+    private final boolean orMode;
+
+    private final MatchStrategy customStrategy;
+
+    private final List<ConditionData> conditionDataList;
+
+    private final CompiledCondition[] conditions;
+
+    private final CompiledCondition indexCondition;
+
+    /**
+     * Instantiates a new compiled candidate.
+     *
+     * @param data the selector or rule
+     * @param position the position in the source list
+     * @param matchMode the match mode
+     * @param sort the sort
+     * @param matchAll true if the candidate matches without evaluating conditions, such as a full flow selector
+     * @param conditionDataList the condition data list
+     */
+    CompiledCandidate(final T data, final int position, final Integer matchMode, final Integer sort,
+                      final boolean matchAll, final List<ConditionData> conditionDataList) {
+        this.data = data;
+        this.position = position;
+        this.matchAll = matchAll;
+        this.conditionDataList = Objects.isNull(conditionDataList) ? Collections.emptyList() : conditionDataList;
+        boolean and = MatchModeEnum.match(matchMode, MatchModeEnum.AND);
+        this.andCount = and ? this.conditionDataList.size() : 0;
+        this.sort = Objects.isNull(sort) ? Integer.MAX_VALUE : sort;
+        this.conditions = this.conditionDataList.stream().map(CompiledCondition::compile).toArray(CompiledCondition[]::new);
+        MatchStrategy strategy = Objects.isNull(matchMode) ? null : MatchStrategyFactory.newInstance(matchMode);
+        this.orMode = strategy instanceof OrMatchStrategy;
+        this.customStrategy = strategy instanceof AndMatchStrategy || strategy instanceof OrMatchStrategy ? null : strategy;
+        this.indexCondition = chooseIndexCondition();
+    }
+
+    /**
+     * Match the candidate against the exchange, the same as {@link MatchStrategyFactory#match}.
+     *
+     * @param exchange the exchange
+     * @return true if matched
+     */
+    boolean match(final ServerWebExchange exchange) {
+        if (matchAll) {
+            return true;
+        }
+        if (Objects.nonNull(customStrategy)) {
+            return Boolean.TRUE.equals(customStrategy.match(conditionDataList, exchange));
+        }
+        if (orMode) {
+            for (CompiledCondition condition : conditions) {
+                if (condition.match(exchange)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (CompiledCondition condition : conditions) {
+            if (!condition.match(exchange)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether this candidate takes precedence over the other one.
+     * More AND conditions win, then the smaller sort, then the earlier position.
+     *
+     * @param other the other candidate, may be null
+     * @return true if this candidate is preferred
+     */
+    boolean preferredOver(final CompiledCandidate<T> other) {
+        if (Objects.isNull(other)) {
+            return true;
+        }
+        if (andCount != other.andCount) {
+            return andCount > other.andCount;
+        }
+        if (sort != other.sort) {
+            return sort < other.sort;
+        }
+        return position < other.position;
+    }
+
+    /**
+     * Get the condition this candidate is indexed by.
+     * A candidate can only be indexed when every one of its conditions must hold,
+     * otherwise it is evaluated on every request as a fallback.
+     *
+     * @return the index condition, null if the candidate is not indexable
+     */
+    CompiledCondition getIndexCondition() {
+        return indexCondition;
+    }
+
+    /**
+     * Get data.
+     *
+     * @return the selector or rule
+     */
+    T getData() {
+        return data;
+    }
+
+    private CompiledCondition chooseIndexCondition() {
+        if (matchAll || Objects.nonNull(customStrategy) || orMode && conditions.length != 1) {
+            return null;
+        }
+        CompiledCondition prefix = null;
+        for (CompiledCondition condition : conditions) {
+            if (!INDEXABLE_PARAM_TYPES.contains(condition.getConditionData().getParamType())) {
+                continue;
+            }
+            if (condition.isEquals()) {
+                return condition;
+            }
+            if (Objects.isNull(prefix) && condition.isStartsWith()) {
+                prefix = condition;
+            }
+        }
+        return prefix;
+    }
+}
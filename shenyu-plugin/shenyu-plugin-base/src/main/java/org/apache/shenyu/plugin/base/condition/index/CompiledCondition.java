@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.BlankPredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.EqualsPredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.apache.shenyu.plugin.base.condition.judge.RegexPredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.StartsWithPredicateJudge;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A condition whose {@link ParameterData} and {@link PredicateJudge} are resolved once at index build time.
+ * The judge semantics are the same as {@link PredicateJudgeFactory#judge(ConditionData, String)}.
+ */
+final class CompiledCondition {
+
+    private final ConditionData conditionData;
+
+    private final ParameterData parameterData;
+
+    private final PredicateJudge predicateJudge;
+
+    private final Pattern pattern;
+
+    private final boolean blankOperator;
+
+    private CompiledCondition(final ConditionData conditionData, final ParameterData parameterData,
+                              final PredicateJudge predicateJudge, final Pattern pattern) {
+        this.conditionData = conditionData;
+        this.parameterData = parameterData;
+        this.predicateJudge = predicateJudge;
+        this.pattern = pattern;
+        this.blankOperator = StringUtils.isBlank(conditionData.getOperator());
+    }
+
+    /**
+     * Compile the condition data.
+     * If the param type or the operator cannot be resolved, the runtime factories are used
+     * on every evaluation, so the error surfaces exactly as it did before.
+     *
+     * @param conditionData the condition data
+     * @return the compiled condition
+     */
+    static CompiledCondition compile(final ConditionData conditionData) {
+        ParameterData parameterData = null;
+        PredicateJudge predicateJudge = null;
+        Pattern pattern = null;
+        try {
+            parameterData = ParameterDataFactory.newInstance(conditionData.getParamType());
+        } catch (IllegalArgumentException | NullPointerException ignored) {
+            // resolved again on every evaluation
+        }
+        if (StringUtils.isNotBlank(conditionData.getOperator())) {
+            try {
+                predicateJudge = PredicateJudgeFactory.newInstance(conditionData.getOperator());
+            } catch (IllegalArgumentException | NullPointerException ignored) {
+                // resolved again on every evaluation
+            }
+        }
+        if (Objects.nonNull(predicateJudge) && predicateJudge.getClass() == RegexPredicateJudge.class
+                && Objects.nonNull(conditionData.getParamValue())) {
+            try {
+                pattern = Pattern.compile(conditionData.getParamValue().trim());
+            } catch (PatternSyntaxException ignored) {
+                // fall back to the judge, which reports the syntax error per request as before
+            }
+        }
+        return new CompiledCondition(conditionData, parameterData, predicateJudge, pattern);
+    }
+
+    /**
+     * Build the real data of this condition from the exchange.
+     *
+     * @param exchange the exchange
+     * @return the real data
+     */
+    String realData(final ServerWebExchange exchange) {
+        if (Objects.isNull(parameterData)) {
+            return ParameterDataFactory.builderData(conditionData.getParamType(), conditionData.getParamName(), exchange);
+        }
+        return parameterData.builder(conditionData.getParamName(), exchange);
+    }
+
+    /**
+     * Match the condition against the exchange.
+     *
+     * @param exchange the exchange
+     * @return true if matched
+     */
+    boolean match(final ServerWebExchange exchange) {
+        return judge(realData(exchange));
+    }
+
+    /**
+     * Judge the real data.
+     *
+     * @param realData the real data
+     * @return true if matched
+     */
+    boolean judge(final String realData) {
+        if (blankOperator) {
+            return false;
+        }
+        if (Objects.isNull(predicateJudge)) {
+            return PredicateJudgeFactory.judge(conditionData, realData);
+        }
+        if (!(predicateJudge instanceof BlankPredicateJudge) && StringUtils.isBlank(realData)) {
+            return false;
+        }
+        if (Objects.nonNull(pattern)) {
+            return pattern.matcher(realData).matches();
+        }
+        return Boolean.TRUE.equals(predicateJudge.judge(conditionData, realData));
+    }
+
+    /**
+     * Whether the condition can be served by an equals hash bucket.
+     *
+     * @return true if it is an equals condition with a non blank value
+     */
+    boolean isEquals() {
+        return Objects.nonNull(predicateJudge) && predicateJudge.getClass() == EqualsPredicateJudge.class
+                && Objects.nonNull(parameterData) && StringUtils.isNotBlank(conditionData.getParamValue());
+    }
+
+    /**
+     * Whether the condition can be served by the prefix trie.
+     *
+     * @return true if it is a starts with condition with a non blank value
+     */
+    boolean isStartsWith() {
+        return Objects.nonNull(predicateJudge) && predicateJudge.getClass() == StartsWithPredicateJudge.class
+                && Objects.nonNull(parameterData) && StringUtils.isNotBlank(conditionData.getParamValue());
+    }
+
+    /**
+     * Get the trimmed param value used as index key.
+     *
+     * @return the index key
+     */
+    String indexKey() {
+        return conditionData.getParamValue().trim();
+    }
+
+    /**
+     * Get the dimension key of this condition, the param type and the param name.
+     *
+     * @return the dimension key
+     */
+    String dimensionKey() {
+        return conditionData.getParamType() + "#" + conditionData.getParamName();
+    }
+
+    /**
+     * Get condition data.
+     *
+     * @return the condition data
+     */
+    ConditionData getConditionData() {
+        return conditionData;
+    }
+}
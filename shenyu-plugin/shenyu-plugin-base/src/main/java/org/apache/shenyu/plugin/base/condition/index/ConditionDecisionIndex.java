@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Precompiled decision index of the selectors of a plugin or the rules of a selector.
+ *
+ * <p>Candidates are partitioned by one of their mandatory conditions: equals conditions go to hash buckets,
+ * starts with conditions go to a prefix trie, everything else (regex, match, contains, OR with several
+ * conditions, full flow...) is evaluated on every request as a fallback. The request value of every
+ * (param type, param name) dimension is read once, and only the candidates of the hit buckets and trie
+ * nodes are evaluated. Evaluation allocates nothing besides what the param data and judges themselves do.
+ *
+ * <p>The result is the same as the stream based scan in {@code AbstractShenyuPlugin}: the left of the
+ * pair is true when at most one candidate matched (so it can be cached), and among several matched
+ * candidates the one with the most AND conditions wins, then the smallest sort.
+ *
+ * @param <T> {@link SelectorData} or {@link RuleData}
+ */
+public final class ConditionDecisionIndex<T> {
+
+    private final List<T> source;
+
+    private final Dimension<T>[] dimensions;
+
+    private final CompiledCandidate<T>[] fallback;
+
+    @SuppressWarnings("unchecked")
+    private ConditionDecisionIndex(final List<T> source, final List<CompiledCandidate<T>> candidates) {
+        this.source = source;
+        Map<String, DimensionBuilder<T>> builders = new LinkedHashMap<>();
+        List<CompiledCandidate<T>> fallbackList = new ArrayList<>();
+        for (CompiledCandidate<T> candidate : candidates) {
+            CompiledCondition indexCondition = candidate.getIndexCondition();
+            if (Objects.isNull(indexCondition)) {
+                fallbackList.add(candidate);
+                continue;
+            }
+            builders.computeIfAbsent(indexCondition.dimensionKey(), key -> new DimensionBuilder<>(indexCondition)).add(indexCondition, candidate);
+        }
+        this.dimensions = builders.values().stream().map(DimensionBuilder::build).toArray(Dimension[]::new);
+        this.fallback = fallbackList.toArray(new CompiledCandidate[0]);
+    }
+
+    /**
+     * Build the decision index of the selectors of a plugin.
+     *
+     * @param selectors the selectors, sorted as they are in the base data cache
+     * @return the decision index
+     */
+    public static ConditionDecisionIndex<SelectorData> ofSelectors(final List<SelectorData> selectors) {
+        List<CompiledCandidate<SelectorData>> candidates = new ArrayList<>();
+        List<SelectorData> list = Objects.isNull(selectors) ? Collections.emptyList() : selectors;
+        for (int i = 0; i < list.size(); i++) {
+            SelectorData selector = list.get(i);
+            if (Objects.isNull(selector) || !Boolean.TRUE.equals(selector.getEnabled())) {
+                continue;
+            }
+            boolean customFlow = Objects.equals(selector.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode());
+            if (customFlow && (Objects.isNull(selector.getConditionList()) || selector.getConditionList().isEmpty())) {
+                continue;
+            }
+            candidates.add(new CompiledCandidate<>(selector, i, selector.getMatchMode(), selector.getSort(), !customFlow, selector.getConditionList()));
+        }
+        return new ConditionDecisionIndex<>(selectors, candidates);
+    }
+
+    /**
+     * Build the decision index of the rules of a selector.
+     *
+     * @param rules the rules, sorted as they are in the base data cache
+     * @return the decision index
+     */
+    public static ConditionDecisionIndex<RuleData> ofRules(final List<RuleData> rules) {
+        List<CompiledCandidate<RuleData>> candidates = new ArrayList<>();
+        List<RuleData> list = Objects.isNull(rules) ? Collections.emptyList() : rules;
+        for (int i = 0; i < list.size(); i++) {
+            RuleData rule = list.get(i);
+            if (Objects.isNull(rule) || !Boolean.TRUE.equals(rule.getEnabled())) {
+                continue;
+            }
+            candidates.add(new CompiledCandidate<>(rule, i, rule.getMatchMode(), rule.getSort(), false, rule.getConditionDataList()));
+        }
+        return new ConditionDecisionIndex<>(rules, candidates);
+    }
+
+    /**
+     * Match the exchange.
+     *
+     * @param exchange the exchange
+     * @return left is true if at most one candidate matched, right is the matched candidate or null
+     */
+    public Pair<Boolean, T> match(final ServerWebExchange exchange) {
+        CompiledCandidate<T> best = null;
+        int matched = 0;
+        for (Dimension<T> dimension : dimensions) {
+            String realData = dimension.getCondition().realData(exchange);
+            if (StringUtils.isBlank(realData)) {
+                // neither equals nor starts with matches blank data
+                continue;
+            }
+            CompiledCandidate<T>[] bucket = dimension.getEquals().get(realData);
+            if (Objects.nonNull(bucket)) {
+                for (CompiledCandidate<T> candidate : bucket) {
+                    if (candidate.match(exchange)) {
+                        matched++;
+                        best = candidate.preferredOver(best) ? candidate : best;
+                    }
+                }
+            }
+            PrefixNode<T> node = dimension.getPrefix();
+            for (int i = 0; i < realData.length(); i++) {
+                node = node.child(realData.charAt(i));
+                if (Objects.isNull(node)) {
+                    break;
+                }
+                for (CompiledCandidate<T> candidate : node.getCandidates()) {
+                    if (candidate.match(exchange)) {
+                        matched++;
+                        best = candidate.preferredOver(best) ? candidate : best;
+                    }
+                }
+            }
+        }
+        for (CompiledCandidate<T> candidate : fallback) {
+            if (candidate.match(exchange)) {
+                matched++;
+                best = candidate.preferredOver(best) ? candidate : best;
+            }
+        }
+        return Pair.of(matched <= 1, Objects.isNull(best) ? null : best.getData());
+    }
+
+    /**
+     * Whether this index was built from the given list. {@link org.apache.shenyu.plugin.base.cache.BaseDataCache}
+     * publishes a new list on every change, so the identity of the list tells whether the index is up to date.
+     *
+     * @param list the list of the base data cache
+     * @return true if the index is up to date
+     */
+    public boolean isBuiltFrom(final List<T> list) {
+        return source == list;
+    }
+
+    /**
+     * The index of one (param type, param name) dimension.
+     */
+    private static final class Dimension<T> {
+
+        private final CompiledCondition condition;
+
+        private final Map<String, CompiledCandidate<T>[]> equals;
+
+        private final PrefixNode<T> prefix;
+
+        Dimension(final CompiledCondition condition, final Map<String, CompiledCandidate<T>[]> equals, final PrefixNode<T> prefix) {
+            this.condition = condition;
+            this.equals = equals;
+            this.prefix = prefix;
+        }
+
+        CompiledCondition getCondition() {
+            return condition;
+        }
+
+        Map<String, CompiledCandidate<T>[]> getEquals() {
+            return equals;
+        }
+
+        PrefixNode<T> getPrefix() {
+            return prefix;
+        }
+    }
+
+    /**
+     * Mutable builder of a dimension, only used while the index is built.
+     */
+    private static final class DimensionBuilder<T> {
+
+        private final CompiledCondition condition;
+
+        private final Map<String, List<CompiledCandidate<T>>> equals = new HashMap<>();
+
+        private final PrefixNodeBuilder<T> prefix = new PrefixNodeBuilder<>();
+
+        DimensionBuilder(final CompiledCondition condition) {
+            this.condition = condition;
+        }
+
+        void add(final CompiledCondition indexCondition, final CompiledCandidate<T> candidate) {
+            if (indexCondition.isEquals()) {
+                equals.computeIfAbsent(indexCondition.indexKey(), key -> new ArrayList<>()).add(candidate);
+                return;
+            }
+            PrefixNodeBuilder<T> node = prefix;
+            String key = indexCondition.indexKey();
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getChildren().computeIfAbsent(key.charAt(i), c -> new PrefixNodeBuilder<>());
+            }
+            node.getCandidates().add(candidate);
+        }
+
+        @SuppressWarnings("unchecked")
+        Dimension<T> build() {
+            Map<String, CompiledCandidate<T>[]> buckets = new HashMap<>(equals.size() * 4 / 3 + 1);
+            equals.forEach((key, list) -> buckets.put(key, list.toArray(new CompiledCandidate[0])));
+            return new Dimension<>(condition, buckets, prefix.build());
+        }
+    }
+
+    /**
+     * Immutable prefix trie node, children are kept in sorted arrays and found by binary search.
+     */
+    private static final class PrefixNode<T> {
+
+        private final char[] keys;
+
+        private final PrefixNode<T>[] children;
+
+        private final CompiledCandidate<T>[] candidates;
+
+        PrefixNode(final char[] keys, final PrefixNode<T>[] children, final CompiledCandidate<T>[] candidates) {
+            this.keys = keys;
+            this.children = children;
+            this.candidates = candidates;
+        }
+
+        PrefixNode<T> child(final char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        CompiledCandidate<T>[] getCandidates() {
+            return candidates;
+        }
+    }
+
+    /**
+     * Mutable prefix trie node, only used while the index is built.
+     */
+    private static final class PrefixNodeBuilder<T> {
+
+        private final Map<Character, PrefixNodeBuilder<T>> children = new TreeMap<>();
+
+        private final List<CompiledCandidate<T>> candidates = new ArrayList<>();
+
+        Map<Character, PrefixNodeBuilder<T>> getChildren() {
+            return children;
+        }
+
+        List<CompiledCandidate<T>> getCandidates() {
+            return candidates;
+        }
+
+        @SuppressWarnings("unchecked")
+        PrefixNode<T> build() {
+            char[] keys = new char[children.size()];
+            PrefixNode<T>[] nodes = new PrefixNode[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, PrefixNodeBuilder<T>> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+            return new PrefixNode<>(keys, nodes, candidates.toArray(new CompiledCandidate[0]));
+        }
+    }
+}
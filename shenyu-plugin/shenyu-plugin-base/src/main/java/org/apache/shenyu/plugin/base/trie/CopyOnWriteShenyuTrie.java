@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A read-optimized {@link ShenyuTrie}, readers never block and never see a half-applied update.
+ *
+ * <p>Every node is immutable. An update copies the nodes on the path from the root to the changed node and
+ * publishes the new root with a single write to {@link #roots}, writers are serialized by a lock that readers
+ * never take. Literal children are kept in a hash map, wildcard and path variable children in compact arrays.</p>
+ *
+ * <p>Matching walks the trie depth first with backtracking, at every segment a literal child is preferred over
+ * a wildcard child, then the match-all child ({@code **}, matches zero or more segments), then path variables.
+ * The trie is not bounded, so {@code cacheSize} is not used.</p>
+ */
+public class CopyOnWriteShenyuTrie extends ShenyuTrie {
+
+    private static final Comparator<Object> SORT_COMPARATOR = Comparator.comparing(CopyOnWriteShenyuTrie::sortOf, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * when the trie is selector trie, the key is pluginName, when the trie is rule trie, the key is selectorId.
+     */
+    private final ConcurrentMap<String, Node> roots = new ConcurrentHashMap<>();
+
+    private final TrieMatchModeEnum matchMode;
+
+    private final Object writeLock = new Object();
+
+    public CopyOnWriteShenyuTrie(final Long cacheSize, final String matchMode) {
+        super(cacheSize, matchMode);
+        this.matchMode = TrieMatchModeEnum.acquireTrieMatch(matchMode);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            roots.clear();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return roots.isEmpty();
+    }
+
+    @Override
+    public <T> void putNode(final String uriPath, final T source, final TrieCacheTypeEnum cacheType) {
+        if (StringUtils.isBlank(uriPath)) {
+            return;
+        }
+        String[] pathParts = StringUtils.split(StringUtils.strip(uriPath, "/"), "/");
+        if (ArrayUtils.isEmpty(pathParts)) {
+            return;
+        }
+        if (TrieMatchModeEnum.PATH_PATTERN.equals(matchMode)) {
+            checkLegalPath(uriPath, pathParts);
+        }
+        final String key = keyOf(source, cacheType);
+        synchronized (writeLock) {
+            Node root = roots.get(key);
+            if (Objects.isNull(root)) {
+                root = Node.empty("/", key);
+            }
+            roots.put(key, insert(root, pathParts, 0, uriPath, source));
+        }
+    }
+
+    @Override
+    public <T> void remove(final String path, final T source, final TrieCacheTypeEnum cacheType) {
+        if (StringUtils.isBlank(path)) {
+            return;
+        }
+        String[] pathParts = StringUtils.split(StringUtils.strip(path, "/"), "/");
+        if (ArrayUtils.isEmpty(pathParts)) {
+            return;
+        }
+        final String key = keyOf(source, cacheType);
+        synchronized (writeLock) {
+            Node root = roots.get(key);
+            if (Objects.isNull(root)) {
+                return;
+            }
+            Node newRoot = delete(root, pathParts, 0, idOf(source));
+            if (Objects.isNull(newRoot)) {
+                roots.remove(key);
+            } else if (newRoot != root) {
+                roots.put(key, newRoot);
+            }
+        }
+    }
+
+    @Override
+    public void removeByKey(final String key) {
+        synchronized (writeLock) {
+            roots.remove(key);
+        }
+    }
+
+    @Override
+    public ShenyuTrieNode match(final String uriPath, final String bizInfo) {
+        String[] pathParts = StringUtils.split(StringUtils.strip(uriPath, "/"), "/");
+        if (ArrayUtils.isEmpty(pathParts)) {
+            return null;
+        }
+        Node root = roots.get(bizInfo);
+        if (Objects.isNull(root)) {
+            return null;
+        }
+        Node node = match(root, pathParts, 0);
+        return Objects.isNull(node) ? null : node.getView();
+    }
+
+    private static Node match(final Node node, final String[] pathParts, final int index) {
+        if (index == pathParts.length) {
+            if (node.isEndOfPath()) {
+                return node;
+            }
+            Node matchAll = node.getMatchAll();
+            return Objects.nonNull(matchAll) && matchAll.isEndOfPath() ? matchAll : null;
+        }
+        final String pathPart = pathParts[index];
+        Node result;
+        Node literal = node.getLiterals().get(pathPart);
+        if (Objects.nonNull(literal) && Objects.nonNull(result = match(literal, pathParts, index + 1))) {
+            return result;
+        }
+        Node[] wildcards = node.getWildcards();
+        for (Node wildcard : wildcards) {
+            if (isMatchWildcardPattern(pathPart, wildcard.getSegment()) && Objects.nonNull(result = match(wildcard, pathParts, index + 1))) {
+                return result;
+            }
+        }
+        Node matchAll = node.getMatchAll();
+        if (Objects.nonNull(matchAll)) {
+            for (int next = index; next <= pathParts.length; next++) {
+                if (Objects.nonNull(result = match(matchAll, pathParts, next))) {
+                    return result;
+                }
+            }
+        }
+        for (Node variable : node.getVariables()) {
+            if (Objects.nonNull(result = match(variable, pathParts, index + 1))) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ShenyuTrieNode getNode(final String uriPath, final String bizInfo) {
+        if (StringUtils.isBlank(uriPath)) {
+            return null;
+        }
+        String[] pathParts = StringUtils.split(StringUtils.strip(uriPath, "/"), "/");
+        Node node = roots.get(bizInfo);
+        if (Objects.isNull(node) || ArrayUtils.isEmpty(pathParts)) {
+            return null;
+        }
+        for (String pathPart : pathParts) {
+            node = node.child(pathPart);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+        }
+        return node.getView();
+    }
+
+    @Override
+    public Set<String> getKeyRootKeys() {
+        return roots.keySet();
+    }
+
+    private static Node insert(final Node node, final String[] pathParts, final int index, final String uriPath, final Object source) {
+        if (index == pathParts.length) {
+            List<Object> data = new ArrayList<>(node.getData().size() + 1);
+            final String id = idOf(source);
+            node.getData().stream().filter(exist -> !Objects.equals(id, idOf(exist))).forEach(data::add);
+            data.add(source);
+            data.sort(SORT_COMPARATOR);
+            return node.withData(uriPath, Collections.unmodifiableList(data));
+        }
+        final String segment = pathParts[index];
+        Node child = node.child(segment);
+        if (Objects.isNull(child)) {
+            child = Node.empty(segment, node.getKey());
+        }
+        return node.withChild(segment, insert(child, pathParts, index + 1, uriPath, source));
+    }
+
+    /**
+     * delete the data from the node of the path.
+     *
+     * @return the new node, the same node if nothing changed, or null if the new node is empty
+     */
+    private static Node delete(final Node node, final String[] pathParts, final int index, final String id) {
+        Node newNode;
+        if (index == pathParts.length) {
+            List<Object> data = new ArrayList<>(node.getData().size());
+            node.getData().stream().filter(exist -> !Objects.equals(id, idOf(exist))).forEach(data::add);
+            if (data.size() == node.getData().size()) {
+                return node;
+            }
+            newNode = node.withData(data.isEmpty() ? null : node.getView().getFullPath(), Collections.unmodifiableList(data));
+        } else {
+            final String segment = pathParts[index];
+            Node child = node.child(segment);
+            if (Objects.isNull(child)) {
+                return node;
+            }
+            Node newChild = delete(child, pathParts, index + 1, id);
+            if (newChild == child) {
+                return node;
+            }
+            newNode = node.withChild(segment, newChild);
+        }
+        return newNode.isEmpty() ? null : newNode;
+    }
+
+    private static String keyOf(final Object source, final TrieCacheTypeEnum cacheType) {
+        return TrieCacheTypeEnum.RULE.equals(cacheType) ? ((RuleData) source).getSelectorId() : ((SelectorData) source).getPluginName();
+    }
+
+    private static String idOf(final Object source) {
+        return source instanceof RuleData ? ((RuleData) source).getId() : ((SelectorData) source).getId();
+    }
+
+    private static Integer sortOf(final Object source) {
+        return source instanceof RuleData ? ((RuleData) source).getSort() : ((SelectorData) source).getSort();
+    }
+
+    /**
+     * an immutable trie node, {@link #getView()} exposes it as a {@link ShenyuTrieNode}.
+     */
+    private static final class Node {
+
+        private static final Node[] EMPTY_NODES = new Node[0];
+
+        private final String segment;
+
+        private final String key;
+
+        private final Map<String, Node> literals;
+
+        private final Node[] wildcards;
+
+        private final Node[] variables;
+
+        private final Node matchAll;
+
+        private final List<Object> data;
+
+        private final ShenyuTrieNode view;
+
+        private Node(final String segment, final String key, final String fullPath, final Map<String, Node> literals,
+                     final Node[] wildcards, final Node[] variables, final Node matchAll, final List<Object> data) {
+            this.segment = segment;
+            this.key = key;
+            this.literals = literals;
+            this.wildcards = wildcards;
+            this.variables = variables;
+            this.matchAll = matchAll;
+            this.data = data;
+            this.view = new ShenyuTrieNode();
+            view.setMatchStr(segment);
+            view.setFullPath(fullPath);
+            view.setWildcard(isMatchWildcard(segment));
+            view.setEndOfPath(!data.isEmpty());
+            view.setBizInfo(key);
+            view.setPathRuleCache(data.isEmpty() ? Collections.<String, List<?>>emptyMap() : Collections.<String, List<?>>singletonMap(key, data));
+        }
+
+        static Node empty(final String segment, final String key) {
+            return new Node(segment, key, null, Collections.emptyMap(), EMPTY_NODES, EMPTY_NODES, null, Collections.emptyList());
+        }
+
+        String getSegment() {
+            return segment;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        Map<String, Node> getLiterals() {
+            return literals;
+        }
+
+        Node[] getWildcards() {
+            return wildcards;
+        }
+
+        Node[] getVariables() {
+            return variables;
+        }
+
+        Node getMatchAll() {
+            return matchAll;
+        }
+
+        List<Object> getData() {
+            return data;
+        }
+
+        ShenyuTrieNode getView() {
+            return view;
+        }
+
+        boolean isEndOfPath() {
+            return !data.isEmpty();
+        }
+
+        boolean isEmpty() {
+            return data.isEmpty() && literals.isEmpty() && wildcards.length == 0 && variables.length == 0 && Objects.isNull(matchAll);
+        }
+
+        /**
+         * get the child registered under exactly this segment.
+         *
+         * @param childSegment the segment
+         * @return the child or null
+         */
+        Node child(final String childSegment) {
+            if (isMatchAll(childSegment)) {
+                return matchAll;
+            }
+            if (isPathVariable(childSegment)) {
+                return find(variables, childSegment);
+            }
+            if (isMatchWildcard(childSegment)) {
+                return find(wildcards, childSegment);
+            }
+            return literals.get(childSegment);
+        }
+
+        Node withData(final String fullPath, final List<Object> newData) {
+            return new Node(segment, key, fullPath, literals, wildcards, variables, matchAll, newData);
+        }
+
+        /**
+         * copy this node with the child of the segment replaced.
+         *
+         * @param childSegment the segment
+         * @param newChild the new child, null to remove the child
+         * @return the new node
+         */
+        Node withChild(final String childSegment, final Node newChild) {
+            final String fullPath = view.getFullPath();
+            if (isMatchAll(childSegment)) {
+                return new Node(segment, key, fullPath, literals, wildcards, variables, newChild, data);
+            }
+            if (isPathVariable(childSegment)) {
+                return new Node(segment, key, fullPath, literals, wildcards, replace(variables, childSegment, newChild), matchAll, data);
+            }
+            if (isMatchWildcard(childSegment)) {
+                return new Node(segment, key, fullPath, literals, replace(wildcards, childSegment, newChild), variables, matchAll, data);
+            }
+            Map<String, Node> newLiterals = new HashMap<>(literals);
+            if (Objects.isNull(newChild)) {
+                newLiterals.remove(childSegment);
+            } else {
+                newLiterals.put(childSegment, newChild);
+            }
+            return new Node(segment, key, fullPath, newLiterals.isEmpty() ? Collections.emptyMap() : newLiterals, wildcards, variables, matchAll, data);
+        }
+
+        private static Node find(final Node[] nodes, final String childSegment) {
+            for (Node node : nodes) {
+                if (node.getSegment().equals(childSegment)) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        private static Node[] replace(final Node[] nodes, final String childSegment, final Node newChild) {
+            for (int i = 0; i < nodes.length; i++) {
+                if (nodes[i].getSegment().equals(childSegment)) {
+                    if (Objects.nonNull(newChild)) {
+                        Node[] copy = nodes.clone();
+                        copy[i] = newChild;
+                        return copy;
+                    }
+                    return nodes.length == 1 ? EMPTY_NODES : ArrayUtils.remove(nodes, i);
+                }
+            }
+            return Objects.isNull(newChild) ? nodes : ArrayUtils.add(nodes, newChild);
+        }
+    }
+}
@@ -477,7 +477,7 @@ public class ShenyuTrie {
      *
      * @param pathParts path array
      */
-    private void checkLegalPath(final String uriPath, final String[] pathParts) {
+    void checkLegalPath(final String uriPath, final String[] pathParts) {
         for (int i = 0; i < pathParts.length - 1 /* not the end of path */; i++) {
             if (isMatchAll(pathParts[i])) {
                 LOG.error("error path:{}, error position:{}", uriPath, i);
@@ -612,7 +612,7 @@ public class ShenyuTrie {
         return children.values().stream().filter(child -> child.getWildcard() && isMatchWildcardPattern(pathPart, child.getMatchStr())).findFirst().orElse(null);
     }
 
-    private static boolean isMatchWildcardPattern(final String segment, final String pattern) {
+    static boolean isMatchWildcardPattern(final String segment, final String pattern) {
         int sRight = segment.length();
         int pRight = pattern.length();
         while (sRight > 0 && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
@@ -684,7 +684,7 @@ public class ShenyuTrie {
      * @param key key
      * @return match result
      */
-    private static boolean isMatchAll(final String key) {
+    static boolean isMatchAll(final String key) {
         return MATCH_ALL.equals(key);
     }
 
@@ -694,7 +694,7 @@ public class ShenyuTrie {
      * @param key key
      * @return match result
      */
-    private static boolean isMatchWildcard(final String key) {
+    static boolean isMatchWildcard(final String key) {
         return !isPathVariable(key) && !isMatchAll(key) && Objects.nonNull(key) && key.contains(WILDCARD);
     }
 
@@ -704,7 +704,7 @@ public class ShenyuTrie {
      * @param key path string
      * @return true or false
      */
-    private static boolean isPathVariable(final String key) {
+    static boolean isPathVariable(final String key) {
         return Objects.nonNull(key) && key.startsWith("{") && key.endsWith("}");
     }
 
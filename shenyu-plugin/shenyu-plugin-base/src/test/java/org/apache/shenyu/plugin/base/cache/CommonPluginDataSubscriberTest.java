@@ -26,11 +26,14 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
 import org.apache.shenyu.common.enums.TrieMatchModeEnum;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.condition.index.ConditionDecisionIndex;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -152,6 +155,28 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(), baseDataCache.obtainSelectorData(selectorData.getPluginName()));
     }
 
+    @Test
+    public void testDecisionIndexRemoval() {
+        baseDataCache.cleanSelectorData();
+        baseDataCache.cleanRuleData();
+        SelectorData selectorData = SelectorData.builder().id(mockSelectorId1).enabled(true).pluginName(mockPluginName1).build();
+        baseDataCache.cacheSelectData(selectorData);
+        baseDataCache.cacheRuleData(RuleData.builder().id("1").selectorId(mockSelectorId1).pluginName(mockPluginName1).sort(1).build());
+        DecisionIndexCache indexCache = DecisionIndexCache.getInstance();
+        ConditionDecisionIndex<RuleData> ruleIndex = indexCache.refreshRuleIndex(mockSelectorId1);
+        assertSame(ruleIndex, indexCache.obtainRuleIndex(mockSelectorId1, baseDataCache.obtainRuleData(mockSelectorId1)));
+
+        commonPluginDataSubscriber.unSelectorSubscribe(selectorData);
+        assertNotSame(ruleIndex, indexCache.obtainRuleIndex(mockSelectorId1, baseDataCache.obtainRuleData(mockSelectorId1)));
+
+        baseDataCache.cacheSelectData(selectorData);
+        ConditionDecisionIndex<SelectorData> selectorIndex = indexCache.refreshSelectorIndex(mockPluginName1);
+        ruleIndex = indexCache.refreshRuleIndex(mockSelectorId1);
+        commonPluginDataSubscriber.unSubscribe(PluginData.builder().name(mockPluginName1).build());
+        assertNotSame(selectorIndex, indexCache.obtainSelectorIndex(mockPluginName1, baseDataCache.obtainSelectorData(mockPluginName1)));
+        assertNotSame(ruleIndex, indexCache.obtainRuleIndex(mockSelectorId1, baseDataCache.obtainRuleData(mockSelectorId1)));
+    }
+
     @Test
     public void testRefreshSelectorDataAll() {
         baseDataCache.cleanSelectorData();
@@ -17,7 +17,7 @@
 
 package org.apache.shenyu.plugin.base.cache;
 
-import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.common.cache.SlotCacheMap;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.junit.jupiter.api.Test;
@@ -43,7 +43,7 @@ public final class MatchDataCacheTest {
     public void testCacheSelectorData() throws NoSuchFieldException, IllegalAccessException {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         MatchDataCache.getInstance().cacheSelectorData(path1, firstCachedSelectorData, 100, 100);
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        ConcurrentHashMap<String, SlotCacheMap<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
         assertEquals(firstCachedSelectorData, selectorMap.get(mockPluginName1).get(path1));
         selectorMap.clear();
     }
@@ -51,8 +51,8 @@ public final class MatchDataCacheTest {
     @Test
     public void testObtainSelectorData() throws NoSuchFieldException, IllegalAccessException {
         SelectorData firstSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, new WindowTinyLFUMap<>(100, 100, Boolean.FALSE));
+        ConcurrentHashMap<String, SlotCacheMap<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        selectorMap.put(mockPluginName1, new SlotCacheMap<>(100, SelectorData::getId, null));
         selectorMap.get(mockPluginName1).put(path1, firstSelectorData);
         SelectorData firstSelectorDataCache = MatchDataCache.getInstance().obtainSelectorData(mockPluginName1, path1);
         assertEquals(firstSelectorData, firstSelectorDataCache);
@@ -64,7 +64,7 @@ public final class MatchDataCacheTest {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         MatchDataCache.getInstance().cacheSelectorData(path1, firstCachedSelectorData, 100, 100);
         MatchDataCache.getInstance().removeSelectorData(firstCachedSelectorData.getPluginName());
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        ConcurrentHashMap<String, SlotCacheMap<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
         assertNull(selectorMap.get(mockPluginName1));
         selectorMap.clear();
     }
@@ -81,7 +81,7 @@ public final class MatchDataCacheTest {
     public void testCacheRuleData() throws NoSuchFieldException, IllegalAccessException {
         RuleData cacheRuleData = RuleData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         MatchDataCache.getInstance().cacheRuleData(path1, cacheRuleData, 100, 100);
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        ConcurrentHashMap<String, SlotCacheMap<RuleData>> ruleMap = getFieldByName(ruleMapStr);
         assertEquals(cacheRuleData, ruleMap.get(mockPluginName1).get(path1));
         ruleMap.clear();
     }
@@ -89,8 +89,8 @@ public final class MatchDataCacheTest {
     @Test
     public void testObtainRuleData() throws NoSuchFieldException, IllegalAccessException {
         RuleData cacheRuleData = RuleData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockPluginName1, new WindowTinyLFUMap<>(100, 100, Boolean.FALSE));
+        ConcurrentHashMap<String, SlotCacheMap<RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        ruleMap.put(mockPluginName1, new SlotCacheMap<>(100, RuleData::getId, RuleData::getSelectorId));
         ruleMap.get(mockPluginName1).put(path1, cacheRuleData);
         RuleData firstRuleDataCache = MatchDataCache.getInstance().obtainRuleData(mockPluginName1, path1);
         assertEquals(cacheRuleData, firstRuleDataCache);
@@ -102,7 +102,7 @@ public final class MatchDataCacheTest {
         RuleData cacheRuleData = RuleData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         MatchDataCache.getInstance().cacheRuleData(path1, cacheRuleData, 100, 100);
         MatchDataCache.getInstance().removeRuleData(cacheRuleData.getPluginName());
-        ConcurrentHashMap<String, WindowTinyLFUMap<String, RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        ConcurrentHashMap<String, SlotCacheMap<RuleData>> ruleMap = getFieldByName(ruleMapStr);
         assertNull(ruleMap.get(mockPluginName1));
         ruleMap.clear();
     }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for ConditionDecisionIndex.
+ */
+public final class ConditionDecisionIndexTest {
+
+    @Test
+    public void testEqualsBucket() {
+        List<SelectorData> selectors = Lists.newArrayList(
+                selector("1", 1, MatchModeEnum.AND, condition("header", "tenant", "=", "a")),
+                selector("2", 2, MatchModeEnum.AND, condition("header", "tenant", "=", "b")));
+        ConditionDecisionIndex<SelectorData> index = ConditionDecisionIndex.ofSelectors(selectors);
+        Pair<Boolean, SelectorData> pair = index.match(exchange(MockServerHttpRequest.get("/http/test").header("tenant", "b")));
+        assertTrue(pair.getLeft());
+        assertEquals("2", pair.getRight().getId());
+        pair = index.match(exchange(MockServerHttpRequest.get("/http/test").header("tenant", "c")));
+        assertTrue(pair.getLeft());
+        assertNull(pair.getRight());
+    }
+
+    @Test
+    public void testPrefixTrie() {
+        List<SelectorData> selectors = Lists.newArrayList(
+                selector("1", 1, MatchModeEnum.AND, condition("uri", "", "startsWith", "/http")),
+                selector("2", 2, MatchModeEnum.AND, condition("uri", "", "startsWith", "/http/order")));
+        ConditionDecisionIndex<SelectorData> index = ConditionDecisionIndex.ofSelectors(selectors);
+        Pair<Boolean, SelectorData> pair = index.match(exchange(MockServerHttpRequest.get("/http/order/1")));
+        assertFalse(pair.getLeft());
+        assertEquals("1", pair.getRight().getId());
+        pair = index.match(exchange(MockServerHttpRequest.get("/http/user")));
+        assertTrue(pair.getLeft());
+        assertEquals("1", pair.getRight().getId());
+    }
+
+    @Test
+    public void testAndCountTieBreak() {
+        List<SelectorData> selectors = Lists.newArrayList(
+                selector("1", 1, MatchModeEnum.AND, condition("query", "id", "=", "1")),
+                selector("2", 2, MatchModeEnum.AND, condition("query", "id", "=", "1"), condition("uri", "", "regex", "/http/.*")),
+                selector("3", 3, MatchModeEnum.OR, condition("uri", "", "match", "/http/**"), condition("query", "id", "=", "2")));
+        ConditionDecisionIndex<SelectorData> index = ConditionDecisionIndex.ofSelectors(selectors);
+        Pair<Boolean, SelectorData> pair = index.match(exchange(MockServerHttpRequest.get("/http/test?id=1")));
+        assertFalse(pair.getLeft());
+        assertEquals("2", pair.getRight().getId());
+    }
+
+    @Test
+    public void testFullFlowAndDisabled() {
+        SelectorData disabled = selector("1", 1, MatchModeEnum.AND, condition("uri", "", "=", "/http/test"));
+        disabled.setEnabled(false);
+        SelectorData fullFlow = selector("2", 2, MatchModeEnum.AND);
+        fullFlow.setType(SelectorTypeEnum.FULL_FLOW.getCode());
+        List<SelectorData> selectors = Lists.newArrayList(disabled, fullFlow);
+        ConditionDecisionIndex<SelectorData> index = ConditionDecisionIndex.ofSelectors(selectors);
+        Pair<Boolean, SelectorData> pair = index.match(exchange(MockServerHttpRequest.get("/http/test")));
+        assertTrue(pair.getLeft());
+        assertEquals("2", pair.getRight().getId());
+        assertTrue(index.isBuiltFrom(selectors));
+        assertFalse(index.isBuiltFrom(Lists.newArrayList(selectors)));
+    }
+
+    @Test
+    public void testRules() {
+        RuleData first = RuleData.builder().id("1").sort(1).enabled(true).matchMode(MatchModeEnum.AND.getCode())
+                .conditionDataList(Lists.newArrayList(condition("uri", "", "=", "/http/test"))).build();
+        RuleData second = RuleData.builder().id("2").sort(2).enabled(true).matchMode(MatchModeEnum.AND.getCode())
+                .conditionDataList(Lists.newArrayList(condition("uri", "", "=", "/http/other"))).build();
+        ConditionDecisionIndex<RuleData> index = ConditionDecisionIndex.ofRules(Lists.newArrayList(first, second));
+        Pair<Boolean, RuleData> pair = index.match(exchange(MockServerHttpRequest.get("/http/test")));
+        assertTrue(pair.getLeft());
+        assertEquals("1", pair.getRight().getId());
+    }
+
+    private ServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.build());
+    }
+
+    private SelectorData selector(final String id, final int sort, final MatchModeEnum matchMode, final ConditionData... conditions) {
+        return SelectorData.builder().id(id).sort(sort).enabled(true)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                .matchMode(matchMode.getCode())
+                .conditionList(Lists.newArrayList(Arrays.asList(conditions)))
+                .build();
+    }
+
+    private ConditionData condition(final String paramType, final String paramName, final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setParamName(paramName);
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.ListUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CopyOnWriteShenyuTrieTest {
+
+    private ShenyuTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new CopyOnWriteShenyuTrie(100L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode());
+    }
+
+    @Test
+    public void testMatchPriority() {
+        trie.putNode("/a/b/c", selector("1", "/a/b/c"), TrieCacheTypeEnum.SELECTOR);
+        trie.putNode("/a/b/*", selector("2", "/a/b/*"), TrieCacheTypeEnum.SELECTOR);
+        trie.putNode("/a/**", selector("3", "/a/**"), TrieCacheTypeEnum.SELECTOR);
+        trie.putNode("/a/{id}/d", selector("4", "/a/{id}/d"), TrieCacheTypeEnum.SELECTOR);
+        Assertions.assertEquals("/a/b/c", trie.match("/a/b/c", "test").getFullPath());
+        Assertions.assertEquals("/a/b/*", trie.match("/a/b/x", "test").getFullPath());
+        Assertions.assertEquals("/a/**", trie.match("/a/b/x/y", "test").getFullPath());
+        Assertions.assertEquals("/a/**", trie.match("/a", "test").getFullPath());
+        Assertions.assertEquals("/a/**", trie.match("/a/x/d", "test").getFullPath());
+        Assertions.assertNull(trie.match("/b/c", "test"));
+        Assertions.assertNull(trie.match("/a/b/c", "other"));
+    }
+
+    @Test
+    public void testPathVariableBacktrack() {
+        trie.putNode("/a/{id}/d", selector("1", "/a/{id}/d"), TrieCacheTypeEnum.SELECTOR);
+        trie.putNode("/a/b/c", selector("2", "/a/b/c"), TrieCacheTypeEnum.SELECTOR);
+        Assertions.assertEquals("/a/{id}/d", trie.match("/a/b/d", "test").getFullPath());
+    }
+
+    @Test
+    public void testPutAndRemoveRules() {
+        RuleData first = RuleData.builder().id("1").selectorId("s1").sort(2).build();
+        RuleData second = RuleData.builder().id("2").selectorId("s1").sort(1).build();
+        trie.putNode("/a/b", first, TrieCacheTypeEnum.RULE);
+        trie.putNode("/a/b", second, TrieCacheTypeEnum.RULE);
+        trie.putNode("/a/b", first, TrieCacheTypeEnum.RULE);
+        ShenyuTrieNode node = trie.match("/a/b", "s1");
+        List<RuleData> rules = ListUtil.castList(node.getPathCache().get("s1"), RuleData.class::cast);
+        Assertions.assertEquals(2, rules.size());
+        Assertions.assertEquals("2", rules.get(0).getId());
+
+        trie.remove("/a/b", second, TrieCacheTypeEnum.RULE);
+        Assertions.assertEquals(1, trie.match("/a/b", "s1").getPathCache().get("s1").size());
+        Assertions.assertEquals(2, node.getPathCache().get("s1").size());
+        trie.remove("/a/b", first, TrieCacheTypeEnum.RULE);
+        Assertions.assertNull(trie.match("/a/b", "s1"));
+        Assertions.assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testPathPattern() {
+        ShenyuTrie pathPatternTrie = new CopyOnWriteShenyuTrie(100L, TrieMatchModeEnum.PATH_PATTERN.getMatchMode());
+        Assertions.assertThrows(ShenyuException.class, () -> pathPatternTrie.putNode("/a/**/c", selector("1", "/a/**/c"), TrieCacheTypeEnum.SELECTOR));
+        Assertions.assertDoesNotThrow(() -> trie.putNode("/a/**/c", selector("1", "/a/**/c"), TrieCacheTypeEnum.SELECTOR));
+        Assertions.assertNotNull(trie.getNode("/a/**/c", "test"));
+        Assertions.assertEquals("/a/**/c", trie.match("/a/x/y/c", "test").getFullPath());
+    }
+
+    private SelectorData selector(final String id, final String path) {
+        return SelectorData.builder().id(id).pluginName("test").name(path).sort(Integer.parseInt(id)).build();
+    }
+}
@@ -30,9 +30,10 @@ import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
@@ -51,16 +52,12 @@ public class CachePlugin extends AbstractShenyuPlugin {
         ICache cache = CacheUtils.getCache();
         if (Objects.nonNull(cache)) {
             return cache.getData(CacheUtils.dataKey(exchange))
-                    .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
-                    .flatMap(data -> Mono.just(Optional.of(data)))
+                    .mapNotNull(CachedResponse::decode)
+                    .map(Optional::of)
                     .defaultIfEmpty(Optional.empty())
-                    .flatMap(dataFlg -> {
-                        if (dataFlg.isPresent()) {
-                            byte[] bytes = dataFlg.get().getT1();
-                            byte[] contentTypeBytes = dataFlg.get().getT2();
-                            cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+                    .flatMap(cachedResponse -> {
+                        if (cachedResponse.isPresent()) {
+                            return writeCachedResponse(exchange, cache, cachedResponse.get());
                         }
                         CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
                         return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
@@ -80,6 +77,13 @@ public class CachePlugin extends AbstractShenyuPlugin {
         return PluginEnum.CACHE.getName();
     }
     
+    private Mono<Void> writeCachedResponse(final ServerWebExchange exchange, final ICache cache, final CachedResponse cachedResponse) {
+        final ServerHttpResponse response = exchange.getResponse();
+        cache.setContentType(exchange, cachedResponse.getContentType());
+        response.getHeaders().setContentLength(cachedResponse.getBodyLength());
+        return response.writeWith(Mono.just(cachedResponse.wrapBody(response.bufferFactory())));
+    }
+
     private CacheRuleHandle buildRuleHandle(final RuleData rule) {
         return CachePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
@@ -100,24 +104,41 @@ public class CachePlugin extends AbstractShenyuPlugin {
         @Override
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
+            if (CacheUtils.isStreaming()) {
+                return streamWith(body);
+            }
             final Mono<DataBuffer> dataBufferMono = DataBufferUtils.join(body);
             return dataBufferMono.flatMap(dataBuffer -> {
                 byte[] bytes = new byte[dataBuffer.readableByteCount()];
                 dataBuffer.read(bytes);
-                return WebFluxResultUtils.result(this.exchange, cacheResponse(bytes));
+                DataBufferUtils.release(dataBuffer);
+                cacheResponse(CachedResponse.encode(this.getHeaders().getContentType(), bytes));
+                return WebFluxResultUtils.result(this.exchange, bytes);
             });
         }
 
-        @NonNull
-        private byte[] cacheResponse(final byte[] bodyBytes) {
+        /**
+         * Forward the body buffers to the client as they arrive and keep a copy of them,
+         * the copy is cached once the whole body is written.
+         *
+         * @param body the body
+         * @return the write result
+         */
+        private Mono<Void> streamWith(final Publisher<? extends DataBuffer> body) {
+            if (Objects.isNull(CacheUtils.getCache())) {
+                return super.writeWith(body);
+            }
+            final CachedResponse.Builder builder = CachedResponse.builder(this.getHeaders().getContentType(), this.getHeaders().getContentLength());
+            return super.writeWith(Flux.from(body).doOnNext(builder::append))
+                    .doOnSuccess(v -> cacheResponse(builder.build()));
+        }
+
+        private void cacheResponse(final byte[] entry) {
             final ICache cache = CacheUtils.getCache();
             if (Objects.nonNull(cache)) {
-                final MediaType contentType = this.getHeaders().getContentType();
-                cache.cacheData(CacheUtils.dataKey(this.exchange), bodyBytes,
+                cache.cacheData(CacheUtils.dataKey(this.exchange), entry,
                         this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
             }
-            return bodyBytes;
         }
     }
 }
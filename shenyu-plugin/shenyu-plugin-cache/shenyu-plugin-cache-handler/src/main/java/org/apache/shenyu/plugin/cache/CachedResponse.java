@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A cached response, the content type and the body stored as one cache entry.
+ *
+ * <p>The entry layout is a 4 byte magic, the 2 byte length of the content type, the UTF-8 content type
+ * and the body. Entries without the magic, for example the raw bodies written by older versions,
+ * are not decoded and the request is treated as a cache miss.</p>
+ */
+public final class CachedResponse {
+
+    private static final byte[] MAGIC = {(byte) 0xC5, 'S', 'Y', 1};
+
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+
+    private static final int MAX_CONTENT_TYPE_LENGTH = 0xFFFF;
+
+    private final byte[] entry;
+
+    private final int bodyOffset;
+
+    private CachedResponse(final byte[] entry, final int bodyOffset) {
+        this.entry = entry;
+        this.bodyOffset = bodyOffset;
+    }
+
+    /**
+     * Decode a cache entry.
+     *
+     * @param entry the cache entry
+     * @return the cached response, or null if the entry is not a cached response
+     */
+    public static CachedResponse decode(final byte[] entry) {
+        if (Objects.isNull(entry) || entry.length < HEADER_LENGTH
+                || !Arrays.equals(MAGIC, 0, MAGIC.length, entry, 0, MAGIC.length)) {
+            return null;
+        }
+        final int bodyOffset = HEADER_LENGTH + ((entry[MAGIC.length] & 0xFF) << 8 | entry[MAGIC.length + 1] & 0xFF);
+        return bodyOffset <= entry.length ? new CachedResponse(entry, bodyOffset) : null;
+    }
+
+    /**
+     * Encode a cache entry.
+     *
+     * @param contentType the content type, may be null
+     * @param body the body
+     * @return the cache entry
+     */
+    public static byte[] encode(final MediaType contentType, final byte[] body) {
+        final Builder builder = builder(contentType, body.length);
+        builder.append(body, 0, body.length);
+        return builder.build();
+    }
+
+    /**
+     * Create a builder that appends the body of the entry piece by piece.
+     *
+     * @param contentType the content type, may be null
+     * @param expectedBodyLength the expected body length, a negative value if it is unknown
+     * @return the builder
+     */
+    public static Builder builder(final MediaType contentType, final long expectedBodyLength) {
+        final byte[] contentTypeBytes = Objects.isNull(contentType) ? new byte[0] : contentType.toString().getBytes(StandardCharsets.UTF_8);
+        final int contentTypeLength = Math.min(contentTypeBytes.length, MAX_CONTENT_TYPE_LENGTH);
+        final int headerLength = HEADER_LENGTH + contentTypeLength;
+        final int capacity = expectedBodyLength >= 0 && expectedBodyLength <= Integer.MAX_VALUE - headerLength
+                ? headerLength + (int) expectedBodyLength : headerLength + 256;
+        final Builder builder = new Builder(capacity);
+        builder.append(MAGIC, 0, MAGIC.length);
+        builder.append(new byte[]{(byte) (contentTypeLength >>> 8), (byte) contentTypeLength}, 0, 2);
+        builder.append(contentTypeBytes, 0, contentTypeLength);
+        return builder;
+    }
+
+    /**
+     * Get the content type bytes, empty if the response had no content type.
+     *
+     * @return the content type bytes
+     */
+    public byte[] getContentType() {
+        return Arrays.copyOfRange(entry, HEADER_LENGTH, bodyOffset);
+    }
+
+    /**
+     * Get the body length.
+     *
+     * @return the body length
+     */
+    public int getBodyLength() {
+        return entry.length - bodyOffset;
+    }
+
+    /**
+     * Wrap the body without copying it.
+     *
+     * @param bufferFactory the buffer factory of the response
+     * @return the body buffer
+     */
+    public DataBuffer wrapBody(final DataBufferFactory bufferFactory) {
+        return bufferFactory.wrap(ByteBuffer.wrap(entry, bodyOffset, getBodyLength()).slice());
+    }
+
+    /**
+     * Builds a cache entry from the body buffers as they are written.
+     */
+    public static final class Builder {
+
+        private byte[] bytes;
+
+        private int size;
+
+        private Builder(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        /**
+         * Append a copy of the readable bytes of the buffer, the read position of the buffer is not changed.
+         *
+         * @param buffer the buffer
+         */
+        public void append(final DataBuffer buffer) {
+            final int length = buffer.readableByteCount();
+            ensureCapacity(length);
+            final int readPosition = buffer.readPosition();
+            buffer.read(bytes, size, length);
+            buffer.readPosition(readPosition);
+            size += length;
+        }
+
+        private void append(final byte[] source, final int offset, final int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        /**
+         * Build the cache entry.
+         *
+         * @return the cache entry
+         */
+        public byte[] build() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(final int length) {
+            if (bytes.length - size < length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + length, bytes.length << 1));
+            }
+        }
+    }
+}
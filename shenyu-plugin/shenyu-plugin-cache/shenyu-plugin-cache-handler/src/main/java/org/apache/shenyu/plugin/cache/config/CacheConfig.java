@@ -34,6 +34,11 @@ public class CacheConfig {
      */
     private String config;
 
+    /**
+     * forward the response body while it is cached instead of buffering it first, default false.
+     */
+    private Boolean streaming = Boolean.FALSE;
+
     /**
      * Get cache type.
      * @return the cache type
@@ -66,6 +71,22 @@ public class CacheConfig {
         this.config = config;
     }
 
+    /**
+     * Get streaming.
+     * @return the streaming
+     */
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Set streaming.
+     * @param streaming the streaming
+     */
+    public void setStreaming(final Boolean streaming) {
+        this.streaming = streaming;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.endpoint;
+
+import org.apache.shenyu.plugin.cache.ICache;
+import org.apache.shenyu.plugin.cache.utils.CacheUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The cache plugin endpoint, it exposes the statistics of the cache in use.
+ */
+@RestController
+@RequestMapping(value = "/actuator", produces = MediaType.APPLICATION_JSON_VALUE)
+public class CacheEndpoint {
+
+    /**
+     * Get the statistics of the cache, such as the hit ratio and the bytes used of the memory cache.
+     *
+     * @return the statistics, empty if no cache is in use
+     */
+    @GetMapping("/cacheStats")
+    public Mono<Map<String, Object>> cacheStats() {
+        final ICache cache = CacheUtils.getCache();
+        return Mono.just(Objects.isNull(cache) ? Collections.emptyMap() : cache.getStatistics());
+    }
+}
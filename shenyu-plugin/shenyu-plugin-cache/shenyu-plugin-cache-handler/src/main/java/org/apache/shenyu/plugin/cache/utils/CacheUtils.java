@@ -20,9 +20,11 @@ package org.apache.shenyu.plugin.cache.utils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.cache.ICache;
+import org.apache.shenyu.plugin.cache.config.CacheConfig;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.net.URI;
+import java.util.Objects;
 
 /**
  * CacheUtils.
@@ -66,4 +68,14 @@ public final class CacheUtils {
     public static ICache getCache() {
         return Singleton.INST.get(ICache.class);
     }
+
+    /**
+     * whether the response body is streamed to the client while it is cached.
+     *
+     * @return true if streaming is enabled
+     */
+    public static boolean isStreaming() {
+        final CacheConfig cacheConfig = Singleton.INST.get(CacheConfig.class);
+        return Objects.nonNull(cacheConfig) && Boolean.TRUE.equals(cacheConfig.getStreaming());
+    }
 }
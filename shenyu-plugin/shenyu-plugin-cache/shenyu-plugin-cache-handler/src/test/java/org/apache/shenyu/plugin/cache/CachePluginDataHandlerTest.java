@@ -23,6 +23,7 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.infra.redis.RedisConfigProperties;
 import org.apache.shenyu.plugin.cache.config.CacheConfig;
+import org.apache.shenyu.plugin.cache.endpoint.CacheEndpoint;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.junit.jupiter.api.AfterAll;
@@ -34,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import redis.embedded.RedisServer;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -84,6 +86,10 @@ public class CachePluginDataHandlerTest {
         Assertions.assertEquals(cacheConfig, cacheConfig);
         cacheHandler.handlerPlugin(pluginData);
         testCacheData("memory-cache-data");
+        final Map<String, Object> statistics = new CacheEndpoint().cacheStats().block();
+        Assertions.assertNotNull(statistics);
+        Assertions.assertTrue(statistics.containsKey("hitRatio"));
+        Assertions.assertTrue(statistics.containsKey("bytesUsed"));
     }
 
     @Test
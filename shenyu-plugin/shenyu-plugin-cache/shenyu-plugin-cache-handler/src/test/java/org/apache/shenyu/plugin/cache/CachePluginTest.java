@@ -26,24 +26,30 @@ import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.cache.config.CacheConfig;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.memory.MemoryCache;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -111,6 +117,52 @@ public class CachePluginTest {
                 60L).subscribeOn(Schedulers.boundedElastic()).subscribe();
         final Mono<Void> result3 = cachePlugin.doExecute(exchange, shenyuPluginChain, null, ruleData);
         StepVerifier.create(result3).expectSubscription().verifyComplete();
+
+        final MockServerWebExchange hitExchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/hit").build());
+        memoryCache.cacheData(CacheUtils.dataKey(hitExchange), CachedResponse.encode(MediaType.TEXT_PLAIN, "cached".getBytes(StandardCharsets.UTF_8)), 60L).block();
+        final Mono<Void> result4 = cachePlugin.doExecute(hitExchange, shenyuPluginChain, null, ruleData);
+        StepVerifier.create(result4).expectSubscription().verifyComplete();
+        Assertions.assertEquals(MediaType.TEXT_PLAIN, hitExchange.getResponse().getHeaders().getContentType());
+        StepVerifier.create(hitExchange.getResponse().getBodyAsString()).expectNext("cached").verifyComplete();
+    }
+
+    @Test
+    public void cachedResponseTest() {
+        final byte[] entry = CachedResponse.encode(MediaType.APPLICATION_JSON, "{}".getBytes(StandardCharsets.UTF_8));
+        final CachedResponse cachedResponse = CachedResponse.decode(entry);
+        Assertions.assertNotNull(cachedResponse);
+        Assertions.assertEquals(MediaType.APPLICATION_JSON_VALUE, new String(cachedResponse.getContentType(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, cachedResponse.getBodyLength());
+        Assertions.assertEquals(0, CachedResponse.decode(CachedResponse.encode(null, new byte[0])).getContentType().length);
+        Assertions.assertNull(CachedResponse.decode("{}".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertNull(CachedResponse.decode(null));
+    }
+
+    @Test
+    public void streamingResponseTest() {
+        final CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setStreaming(true);
+        Singleton.INST.single(CacheConfig.class, cacheConfig);
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        try {
+            final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stream").build());
+            final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+            final CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, cacheRuleHandle);
+            cacheHttpResponse.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+            final DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+            final Flux<DataBuffer> body = Flux.just("first-", "second")
+                    .map(part -> bufferFactory.wrap(part.getBytes(StandardCharsets.UTF_8)));
+            StepVerifier.create(cacheHttpResponse.writeWith(body)).expectSubscription().verifyComplete();
+            StepVerifier.create(exchange.getResponse().getBodyAsString()).expectNext("first-second").verifyComplete();
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> Boolean.TRUE.equals(memoryCache.isExist(CacheUtils.dataKey(exchange)).block()));
+            final CachedResponse cachedResponse = CachedResponse.decode(memoryCache.getData(CacheUtils.dataKey(exchange)).block());
+            Assertions.assertNotNull(cachedResponse);
+            Assertions.assertEquals(MediaType.TEXT_PLAIN_VALUE, new String(cachedResponse.getContentType(), StandardCharsets.UTF_8));
+            Assertions.assertEquals("first-second".length(), cachedResponse.getBodyLength());
+        } finally {
+            Singleton.INST.single(CacheConfig.class, new CacheConfig());
+        }
     }
 
 }
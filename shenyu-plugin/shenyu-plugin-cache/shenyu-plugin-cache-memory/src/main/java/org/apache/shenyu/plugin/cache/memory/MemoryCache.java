@@ -17,26 +17,50 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import org.apache.shenyu.plugin.cache.ICache;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * MemoryCache.
+ *
+ * <p>A single cache bounded by the bytes of its keys and values, every entry expires after its own timeout.
+ * Reads and writes complete on the calling thread, the cache maintenance runs there as well.</p>
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    /**
+     * the estimated bytes of an entry besides its key and value.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final Cache<String, CacheEntry> mainCache;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(new MemoryCacheConfig());
+    }
+
+    public MemoryCache(final MemoryCacheConfig memoryCacheConfig) {
+        this(memoryCacheConfig, Ticker.systemTicker());
+    }
+
+    MemoryCache(final MemoryCacheConfig memoryCacheConfig, final Ticker ticker) {
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(memoryCacheConfig.getMaximumBytes())
+                .weigher(MemoryCache::weigh)
+                .expireAfter(new CacheEntryExpiry())
+                .executor(Runnable::run)
+                .ticker(ticker)
+                .recordStats()
+                .build();
     }
 
     /**
@@ -49,10 +73,11 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        if (Objects.isNull(bytes) || timeoutSeconds <= 0) {
+            return Mono.just(Boolean.FALSE);
+        }
+        this.mainCache.put(key, new CacheEntry(bytes, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +88,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.just(this.mainCache.asMap().containsKey(key));
     }
 
     /**
@@ -80,12 +99,40 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
-            }
-            return null;
-        });
+        final CacheEntry entry = this.mainCache.getIfPresent(key);
+        return Objects.isNull(entry) ? Mono.empty() : Mono.just(entry.getBytes());
+    }
+
+    /**
+     * Get the ratio of {@link #getData(String)} calls that found the key.
+     *
+     * @return the hit ratio, 1.0 if there was no call
+     */
+    public double hitRatio() {
+        return this.mainCache.stats().hitRate();
+    }
+
+    /**
+     * Get the estimated bytes used by the cached keys and values.
+     *
+     * @return the bytes used
+     */
+    public long bytesUsed() {
+        return this.mainCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Get the hit ratio and the estimated bytes used of the cache.
+     *
+     * @return the statistics
+     */
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("hitRatio", hitRatio());
+        statistics.put("bytesUsed", bytesUsed());
+        statistics.put("size", this.mainCache.estimatedSize());
+        return statistics;
     }
 
     /**
@@ -93,6 +140,50 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        this.mainCache.invalidateAll();
+        this.mainCache.cleanUp();
+    }
+
+    private static int weigh(final String key, final CacheEntry entry) {
+        final long weight = (long) key.length() * 2 + entry.getBytes().length + ENTRY_OVERHEAD;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static final class CacheEntry {
+
+        private final byte[] bytes;
+
+        private final long timeoutNanos;
+
+        CacheEntry(final byte[] bytes, final long timeoutNanos) {
+            this.bytes = bytes;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        long getTimeoutNanos() {
+            return timeoutNanos;
+        }
+    }
+
+    private static final class CacheEntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CacheEntry value, final long currentTime) {
+            return value.getTimeoutNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CacheEntry value, final long currentTime, final long currentDuration) {
+            return value.getTimeoutNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CacheEntry value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
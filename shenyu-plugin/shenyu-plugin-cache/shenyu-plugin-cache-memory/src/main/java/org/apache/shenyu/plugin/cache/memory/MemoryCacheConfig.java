@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+import java.util.Objects;
+
+/**
+ * The memory cache config, read from the cache plugin config.
+ */
+public class MemoryCacheConfig {
+
+    /**
+     * the default maximum bytes, 64 MiB.
+     */
+    public static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    private Long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+    /**
+     * get the maximum bytes of the cached keys and values.
+     *
+     * @return the maximum bytes
+     */
+    public Long getMaximumBytes() {
+        return Objects.isNull(maximumBytes) || maximumBytes <= 0 ? DEFAULT_MAXIMUM_BYTES : maximumBytes;
+    }
+
+    /**
+     * set the maximum bytes of the cached keys and values.
+     *
+     * @param maximumBytes the maximum bytes
+     */
+    public void setMaximumBytes(final Long maximumBytes) {
+        this.maximumBytes = maximumBytes;
+    }
+}
@@ -22,8 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * MemoryCacheTest.
@@ -42,4 +46,32 @@ public class MemoryCacheTest {
         memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
     }
 
+    @Test
+    public void testExpireAfterTimeout() {
+        final AtomicLong nanos = new AtomicLong();
+        final MemoryCache memoryCache = new MemoryCache(new MemoryCacheConfig(), nanos::get);
+        memoryCache.cacheData("short", new byte[8], 1).block();
+        memoryCache.cacheData("long", new byte[8], 10).block();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(Boolean.FALSE, memoryCache.isExist("short").block());
+        assertEquals(Boolean.TRUE, memoryCache.isExist("long").block());
+        assertNull(memoryCache.getData("short").block());
+        assertEquals(8, memoryCache.getData("long").block().length);
+        assertEquals(0.5, memoryCache.hitRatio());
+        assertEquals(0.5, memoryCache.getStatistics().get("hitRatio"));
+    }
+
+    @Test
+    public void testBoundedByBytes() {
+        final MemoryCacheConfig config = new MemoryCacheConfig();
+        config.setMaximumBytes(64L * 1024);
+        final MemoryCache memoryCache = new MemoryCache(config);
+        for (int i = 0; i < 64; i++) {
+            memoryCache.cacheData("key" + i, new byte[4096], 60).block();
+        }
+        assertTrue(memoryCache.bytesUsed() <= 64L * 1024);
+        assertTrue(memoryCache.bytesUsed() > 0);
+        assertEquals(memoryCache.bytesUsed(), memoryCache.getStatistics().get("bytesUsed"));
+    }
+
 }
@@ -23,6 +23,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * ICache.
@@ -85,6 +87,14 @@ public interface ICache {
         }
     }
 
+    /**
+     * Get the statistics of the cache.
+     * @return the statistics by name, empty if the cache keeps none
+     */
+    default Map<String, Object> getStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * close the cache.
      */
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.handler;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
+import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.utils.BeanHolder;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limit.limiter.ConcurrencyLimiter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The type Concurrency limit plugin data handler.
+ *
+ * <p>The handle is configured per rule, so is the limiter measuring the upstream, it is rebuilt when the
+ * handle of its rule changes.</p>
+ */
+public class ConcurrencyLimitPluginDataHandler implements PluginDataHandler {
+
+    public static final Supplier<CommonHandleCache<String, ConcurrencyLimitHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
+
+    private static final Map<String, ConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Obtain the limiter of the rule, build it from the handle if it is missing.
+     *
+     * @param ruleKey the rule key, see {@link CacheKeyUtils#getKey(RuleData)}
+     * @param handle the concurrency limit handle
+     * @return the limiter
+     */
+    public static ConcurrencyLimiter obtainLimiter(final String ruleKey, final ConcurrencyLimitHandle handle) {
+        final ConcurrencyLimiter limiter = LIMITERS.get(ruleKey);
+        if (Objects.nonNull(limiter)) {
+            return limiter;
+        }
+        return LIMITERS.computeIfAbsent(ruleKey, key -> new ConcurrencyLimiter(handle));
+    }
+
+    @Override
+    public void handlerSelector(final SelectorData selectorData) {
+        if (!selectorData.getContinued()) {
+            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE), ConcurrencyLimitHandle.newDefaultInstance());
+        }
+    }
+
+    @Override
+    public void removeSelector(final SelectorData selectorData) {
+        CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE));
+        final String prefix = CacheKeyUtils.INST.getKey(selectorData.getId(), "");
+        LIMITERS.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    public void handlerRule(final RuleData ruleData) {
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            final ConcurrencyLimitHandle concurrencyLimitHandle = GsonUtils.getInstance().fromJson(s, ConcurrencyLimitHandle.class);
+            final String ruleKey = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().cachedHandle(ruleKey, concurrencyLimitHandle);
+            LIMITERS.computeIfPresent(ruleKey,
+                (key, limiter) -> limiter.getHandle().equals(concurrencyLimitHandle) ? limiter : new ConcurrencyLimiter(concurrencyLimitHandle));
+        });
+    }
+
+    @Override
+    public void removeRule(final RuleData ruleData) {
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        LIMITERS.remove(CacheKeyUtils.INST.getKey(ruleData));
+    }
+
+    @Override
+    public String pluginNamed() {
+        return PluginEnum.CONCURRENCY_LIMIT.getName();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+/**
+ * An algorithm adjusting the in-flight limit from the measured round trip time.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * Get the current in-flight limit.
+     *
+     * @return the limit
+     */
+    int getLimit();
+
+    /**
+     * Adjust the limit after a sample window, called by one thread at a time.
+     *
+     * @param rttNanos the average round trip time of the successful requests, 0 when none succeeded
+     * @param maxInflight the highest number of requests in flight during the window
+     * @param dropped whether a request failed or timed out during the window
+     */
+    void update(long rttNanos, int maxInflight, boolean dropped);
+}
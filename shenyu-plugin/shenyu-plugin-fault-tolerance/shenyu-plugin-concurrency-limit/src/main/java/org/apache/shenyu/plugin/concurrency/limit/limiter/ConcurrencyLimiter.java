@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits requests while fewer than the limit are in flight and feeds their round trip time to the limit.
+ *
+ * <p>Round trip times are summed in striped counters and handed to the {@link ConcurrencyLimit} once per
+ * sample window, by the request closing the window, so the request path never takes a lock.</p>
+ */
+public final class ConcurrencyLimiter {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    private final LongAdder rttSum = new LongAdder();
+
+    private final LongAdder rttCount = new LongAdder();
+
+    private final AtomicBoolean dropped = new AtomicBoolean();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final AtomicLong windowStart;
+
+    private final long windowNanos;
+
+    private final ConcurrencyLimit limit;
+
+    private final ConcurrencyLimitHandle handle;
+
+    /**
+     * Instantiates a new concurrency limiter.
+     *
+     * @param handle the concurrency limit handle
+     */
+    public ConcurrencyLimiter(final ConcurrencyLimitHandle handle) {
+        this.handle = handle;
+        this.limit = "vegas".equalsIgnoreCase(handle.getAlgorithmName()) ? new VegasLimit(handle) : new GradientLimit(handle);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, handle.getSampleWindow()));
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Acquire a slot for a request.
+     *
+     * @return false when the limit is reached and the request must be rejected
+     */
+    public boolean tryAcquire() {
+        final int current = inflight.incrementAndGet();
+        if (current > limit.getLimit()) {
+            inflight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        maxInflight.accumulateAndGet(current, Math::max);
+        return true;
+    }
+
+    /**
+     * Release the slot of a finished request and record its outcome.
+     *
+     * @param startNanos the {@link System#nanoTime()} the request started at
+     * @param failed whether the request failed or timed out
+     */
+    public void release(final long startNanos, final boolean failed) {
+        final long now = System.nanoTime();
+        inflight.decrementAndGet();
+        if (failed) {
+            dropped.set(true);
+        } else {
+            rttSum.add(now - startNanos);
+            rttCount.increment();
+        }
+        final long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            final long count = rttCount.sumThenReset();
+            final long sum = rttSum.sumThenReset();
+            limit.update(count > 0 ? sum / count : 0, maxInflight.getAndSet(inflight.get()), dropped.getAndSet(false));
+        }
+    }
+
+    /**
+     * Release the slot of a request without recording it, e.g. when the client went away.
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * Get the current limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * Get the requests in flight.
+     *
+     * @return the inflight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Get the number of rejected requests.
+     *
+     * @return the rejected
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Get the handle the limiter was built from.
+     *
+     * @return the handle
+     */
+    public ConcurrencyLimitHandle getHandle() {
+        return handle;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+
+/**
+ * A limit following the gradient between the long term and the recent round trip time.
+ *
+ * <p>While the recent rtt stays within {@code rttTolerance} of the long term rtt the limit grows by a queue of
+ * {@code sqrt(limit)}, once queueing raises the recent rtt the limit shrinks in proportion, by at most half a
+ * window. The long term rtt is an exponential average which follows a sudden rtt drop faster, so a recovered
+ * upstream is not held to the rtt of its overload. A window with a failed or timed out request backs the limit
+ * off by {@value #BACKOFF_RATIO} whatever its rtt, the requests that failed fast would otherwise lower the rtt
+ * and grow the limit.</p>
+ */
+public final class GradientLimit implements ConcurrencyLimit {
+
+    private static final double LONG_RTT_FACTOR = 0.005;
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double smoothing;
+
+    private final double rttTolerance;
+
+    private volatile double limit;
+
+    private double longRtt;
+
+    /**
+     * Instantiates a new gradient limit.
+     *
+     * @param handle the concurrency limit handle
+     */
+    public GradientLimit(final ConcurrencyLimitHandle handle) {
+        this.minLimit = Math.max(1, handle.getMinLimit());
+        this.maxLimit = Math.max(minLimit, handle.getMaxLimit());
+        this.smoothing = handle.getSmoothing() > 0 && handle.getSmoothing() <= 1 ? handle.getSmoothing() : 1;
+        this.rttTolerance = Math.max(1, handle.getRttTolerance());
+        this.limit = Math.min(maxLimit, Math.max(minLimit, handle.getInitialLimit()));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void update(final long rttNanos, final int maxInflight, final boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRtt <= 0) {
+            longRtt = rttNanos;
+        } else if (longRtt > rttNanos * 2) {
+            longRtt = longRtt * 0.5 + rttNanos * 0.5;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_FACTOR) + rttNanos * LONG_RTT_FACTOR;
+        }
+        final double current = limit;
+        // the traffic did not use the limit, its rtt says nothing about a higher one
+        if (maxInflight * 2 < current) {
+            return;
+        }
+        final double gradient = Math.max(0.5, Math.min(1, rttTolerance * longRtt / rttNanos));
+        final double next = current * gradient + Math.sqrt(current);
+        limit = Math.min(maxLimit, Math.max(minLimit, current * (1 - smoothing) + next * smoothing));
+    }
+}
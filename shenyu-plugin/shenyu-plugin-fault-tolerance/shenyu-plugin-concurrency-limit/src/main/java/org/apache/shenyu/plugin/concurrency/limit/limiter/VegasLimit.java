@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+
+/**
+ * A limit estimating the queue at the upstream like TCP Vegas.
+ *
+ * <p>The queue is {@code limit * (1 - rttNoLoad / rtt)} where the no load rtt is the lowest rtt seen. A queue
+ * below {@code 3 * log10(limit)} grows the limit, a queue above {@code 6 * log10(limit)} or a failed request
+ * shrinks it. The no load rtt is measured again every {@link #PROBE_WINDOWS} windows, so it follows an upstream
+ * which became slower for good.</p>
+ */
+public final class VegasLimit implements ConcurrencyLimit {
+
+    private static final int PROBE_WINDOWS = 60;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double smoothing;
+
+    private volatile double limit;
+
+    private long rttNoLoad;
+
+    private int windows;
+
+    /**
+     * Instantiates a new vegas limit.
+     *
+     * @param handle the concurrency limit handle
+     */
+    public VegasLimit(final ConcurrencyLimitHandle handle) {
+        this.minLimit = Math.max(1, handle.getMinLimit());
+        this.maxLimit = Math.max(minLimit, handle.getMaxLimit());
+        this.smoothing = handle.getSmoothing() > 0 && handle.getSmoothing() <= 1 ? handle.getSmoothing() : 1;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, handle.getInitialLimit()));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void update(final long rttNanos, final int maxInflight, final boolean dropped) {
+        final double current = limit;
+        final double log = Math.max(1, Math.log10(current));
+        if (dropped) {
+            apply(current, current - log);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (++windows >= PROBE_WINDOWS) {
+            windows = 0;
+            rttNoLoad = 0;
+        }
+        if (rttNoLoad <= 0 || rttNanos < rttNoLoad) {
+            rttNoLoad = rttNanos;
+            return;
+        }
+        // the traffic did not use the limit, its rtt says nothing about a higher one
+        if (maxInflight * 2 < current) {
+            return;
+        }
+        final double queue = Math.ceil(current * (1 - (double) rttNoLoad / rttNanos));
+        if (queue <= log) {
+            apply(current, current + 6 * log);
+        } else if (queue < 3 * log) {
+            apply(current, current + log);
+        } else if (queue > 6 * log) {
+            apply(current, current - log);
+        }
+    }
+
+    private void apply(final double current, final double next) {
+        limit = Math.min(maxLimit, Math.max(minLimit, current * (1 - smoothing) + next * smoothing));
+    }
+}
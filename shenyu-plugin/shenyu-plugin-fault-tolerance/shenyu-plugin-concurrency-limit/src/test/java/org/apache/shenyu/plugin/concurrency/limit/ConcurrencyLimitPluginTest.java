@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
+import org.apache.shenyu.plugin.api.result.ShenyuResult;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limit.handler.ConcurrencyLimitPluginDataHandler;
+import org.apache.shenyu.plugin.concurrency.limit.limiter.ConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ConcurrencyLimitPlugin test.
+ */
+public final class ConcurrencyLimitPluginTest {
+
+    private ShenyuPluginChain chain;
+
+    private RuleData ruleData;
+
+    private SelectorData selectorData;
+
+    private ConcurrencyLimitPlugin concurrencyLimitPlugin;
+
+    private ServerWebExchange exchange;
+
+    @BeforeEach
+    public void setup() {
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        this.chain = mock(ShenyuPluginChain.class);
+        this.selectorData = SelectorData.builder().id("concurrencyLimitSelector").build();
+        this.ruleData = RuleData.builder().id("concurrencyLimitRule").selectorId(selectorData.getId()).build();
+        this.concurrencyLimitPlugin = new ConcurrencyLimitPlugin();
+        when(chain.execute(any())).thenReturn(Mono.empty());
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setInitialLimit(1);
+        // every case starts with a new limiter
+        new ConcurrencyLimitPluginDataHandler().removeSelector(selectorData);
+        ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), handle);
+    }
+
+    /**
+     * concurrencyLimitPlugin doExecute, below the limit case.
+     */
+    @Test
+    public void doExecuteAllowedTest() {
+        Mono<Void> result = concurrencyLimitPlugin.doExecute(exchange, chain, selectorData, ruleData);
+        StepVerifier.create(result).expectSubscription().verifyComplete();
+        verify(chain).execute(exchange);
+        ConcurrencyLimiter limiter = ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(ruleData), null);
+        assertEquals(0, limiter.getInflight());
+        assertEquals(1, limiter.getLimit());
+    }
+
+    /**
+     * concurrencyLimitPlugin doExecute, limit reached case.
+     */
+    @Test
+    public void doExecuteRejectedTest() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult());
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        ConcurrencyLimiter limiter = ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(ruleData),
+                ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        limiter.tryAcquire();
+        Mono<Void> result = concurrencyLimitPlugin.doExecute(exchange, chain, selectorData, ruleData);
+        StepVerifier.create(result).expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals(1, limiter.getRejected());
+        verify(chain, never()).execute(any());
+    }
+
+    /**
+     * named default value test case.
+     */
+    @Test
+    public void namedTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMIT.getName(), concurrencyLimitPlugin.named());
+    }
+
+    /**
+     * getOrder default value test case.
+     */
+    @Test
+    public void getOrderTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMIT.getCode(), concurrencyLimitPlugin.getOrder());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.handler;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.concurrency.limit.limiter.ConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * ConcurrencyLimitPluginDataHandler test.
+ */
+public final class ConcurrencyLimitPluginDataHandlerTest {
+
+    private ConcurrencyLimitPluginDataHandler handler;
+
+    private SelectorData selectorData;
+
+    private RuleData ruleData;
+
+    @BeforeEach
+    public void setUp() {
+        this.handler = new ConcurrencyLimitPluginDataHandler();
+        this.selectorData = SelectorData.builder().id("selectorId").continued(false).build();
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setAlgorithmName("vegas");
+        this.ruleData = RuleData.builder().id("ruleId").selectorId(selectorData.getId()).handle(GsonUtils.getInstance().toJson(handle)).build();
+        handler.removeSelector(selectorData);
+    }
+
+    @Test
+    public void handlerSelectorTest() {
+        handler.handlerSelector(selectorData);
+        String key = CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE);
+        assertEquals(ConcurrencyLimitHandle.newDefaultInstance(), ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().obtainHandle(key));
+        handler.removeSelector(selectorData);
+        assertNull(ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().obtainHandle(key));
+    }
+
+    @Test
+    public void handlerRuleTest() {
+        handler.handlerRule(ruleData);
+        String ruleKey = CacheKeyUtils.INST.getKey(ruleData);
+        ConcurrencyLimitHandle handle = ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().obtainHandle(ruleKey);
+        assertEquals("vegas", handle.getAlgorithmName());
+        ConcurrencyLimiter limiter = ConcurrencyLimitPluginDataHandler.obtainLimiter(ruleKey, handle);
+        assertSame(limiter, ConcurrencyLimitPluginDataHandler.obtainLimiter(ruleKey, ConcurrencyLimitHandle.newDefaultInstance()));
+        // the same handle keeps the limiter and what it learned
+        handler.handlerRule(ruleData);
+        assertSame(limiter, ConcurrencyLimitPluginDataHandler.obtainLimiter(ruleKey, handle));
+        ConcurrencyLimitHandle changed = GsonUtils.getInstance().fromJson(ruleData.getHandle(), ConcurrencyLimitHandle.class);
+        changed.setMaxLimit(10);
+        ruleData.setHandle(GsonUtils.getInstance().toJson(changed));
+        handler.handlerRule(ruleData);
+        ConcurrencyLimiter rebuilt = ConcurrencyLimitPluginDataHandler.obtainLimiter(ruleKey, changed);
+        assertNotSame(limiter, rebuilt);
+        assertEquals(10, rebuilt.getLimit());
+        handler.removeRule(ruleData);
+        assertNull(ConcurrencyLimitPluginDataHandler.CACHED_HANDLE.get().obtainHandle(ruleKey));
+        assertNotSame(rebuilt, ConcurrencyLimitPluginDataHandler.obtainLimiter(ruleKey, changed));
+    }
+
+    @Test
+    public void limiterPerRuleTest() {
+        RuleData otherRule = RuleData.builder().id("otherRuleId").selectorId(selectorData.getId()).handle(ruleData.getHandle()).build();
+        handler.handlerRule(ruleData);
+        handler.handlerRule(otherRule);
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        ConcurrencyLimiter limiter = ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(ruleData), handle);
+        ConcurrencyLimiter otherLimiter = ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(otherRule), handle);
+        assertNotSame(limiter, otherLimiter);
+        handler.removeSelector(selectorData);
+        assertNotSame(limiter, ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(ruleData), handle));
+        assertNotSame(otherLimiter, ConcurrencyLimitPluginDataHandler.obtainLimiter(CacheKeyUtils.INST.getKey(otherRule), handle));
+    }
+
+    @Test
+    public void pluginNamedTest() {
+        assertEquals(PluginEnum.CONCURRENCY_LIMIT.getName(), handler.pluginNamed());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConcurrencyLimiter test.
+ */
+public final class ConcurrencyLimiterTest {
+
+    @Test
+    public void testAcquireAndRelease() {
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setInitialLimit(2);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(handle);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInflight());
+        assertEquals(1, limiter.getRejected());
+        limiter.release(System.nanoTime(), false);
+        limiter.release();
+        assertEquals(0, limiter.getInflight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testAdjustPerWindow() throws InterruptedException {
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setAlgorithmName("vegas");
+        handle.setInitialLimit(2);
+        handle.setSampleWindow(1);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(handle);
+        assertEquals(2, limiter.getLimit());
+        Thread.sleep(2);
+        limiter.tryAcquire();
+        limiter.release(System.nanoTime(), true);
+        // a failed request shrinks a vegas limit when the window closes
+        assertEquals(1, limiter.getLimit());
+    }
+}
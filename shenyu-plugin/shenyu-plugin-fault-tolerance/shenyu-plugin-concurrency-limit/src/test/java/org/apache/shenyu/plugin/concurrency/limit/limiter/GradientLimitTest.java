@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GradientLimit test.
+ */
+public final class GradientLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void testGrowAndShrink() {
+        GradientLimit limit = new GradientLimit(ConcurrencyLimitHandle.newDefaultInstance());
+        assertEquals(20, limit.getLimit());
+        for (int i = 0; i < 50; i++) {
+            limit.update(RTT, limit.getLimit(), false);
+        }
+        final int grown = limit.getLimit();
+        assertTrue(grown > 20);
+        // queueing at the upstream raises the rtt
+        for (int i = 0; i < 10; i++) {
+            limit.update(RTT * 4, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < grown * 3 / 4);
+    }
+
+    @Test
+    public void testBounds() {
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setMinLimit(5);
+        handle.setMaxLimit(30);
+        GradientLimit limit = new GradientLimit(handle);
+        for (int i = 0; i < 100; i++) {
+            limit.update(RTT, limit.getLimit(), false);
+        }
+        assertEquals(30, limit.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limit.update(RTT * 100, limit.getLimit(), false);
+        }
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    public void testApplicationLimited() {
+        GradientLimit limit = new GradientLimit(ConcurrencyLimitHandle.newDefaultInstance());
+        for (int i = 0; i < 50; i++) {
+            limit.update(RTT, 2, false);
+        }
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    public void testBackoffOnDrop() {
+        ConcurrencyLimitHandle handle = ConcurrencyLimitHandle.newDefaultInstance();
+        handle.setMinLimit(5);
+        GradientLimit limit = new GradientLimit(handle);
+        // a window of fast failures does not grow the limit
+        limit.update(RTT / 10, limit.getLimit(), true);
+        assertEquals(18, limit.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limit.update(0, limit.getLimit(), true);
+        }
+        assertEquals(5, limit.getLimit());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.concurrency.limit.limiter;
+
+import org.apache.shenyu.common.dto.convert.rule.ConcurrencyLimitHandle;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * VegasLimit test.
+ */
+public final class VegasLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void testGrowAndShrink() {
+        VegasLimit limit = new VegasLimit(ConcurrencyLimitHandle.newDefaultInstance());
+        limit.update(RTT, 20, false);
+        assertEquals(20, limit.getLimit());
+        for (int i = 0; i < 20; i++) {
+            limit.update(RTT, limit.getLimit(), false);
+        }
+        final int grown = limit.getLimit();
+        assertTrue(grown > 20);
+        for (int i = 0; i < 20; i++) {
+            limit.update(RTT * 2, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < grown);
+    }
+
+    @Test
+    public void testDropped() {
+        VegasLimit limit = new VegasLimit(ConcurrencyLimitHandle.newDefaultInstance());
+        limit.update(0, 20, true);
+        assertTrue(limit.getLimit() < 20);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.common.enums.RateLimitEnum;
+import org.apache.shenyu.spi.Join;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type Sliding window counter rate limiter algorithm.
+ *
+ * <p>Counts the requests of the window in fixed sub-buckets kept as the fields of one redis hash,
+ * so a key uses constant memory instead of one sorted set member per allowed request.</p>
+ */
+@Join
+public class SlidingWindowCounterRateLimiterAlgorithm extends AbstractRateLimiterAlgorithm {
+
+    public SlidingWindowCounterRateLimiterAlgorithm() {
+        super(RateLimitEnum.SLIDING_WINDOW_COUNTER.getScriptName());
+    }
+
+    @Override
+    protected String getKeyName() {
+        return RateLimitEnum.SLIDING_WINDOW_COUNTER.getKeyName();
+    }
+
+    @Override
+    public List<String> getKeys(final String id) {
+        return Collections.singletonList(getKeyName() + ".{" + id + "}.counter");
+    }
+}
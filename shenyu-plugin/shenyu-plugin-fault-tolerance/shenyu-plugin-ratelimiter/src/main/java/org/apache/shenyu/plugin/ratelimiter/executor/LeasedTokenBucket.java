@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * The node-local bucket of the tokens leased from a redis token bucket.
+ *
+ * <p>Leased tokens are only valid until the lease expires, so tokens that are not spent do not pile up
+ * into a burst larger than one lease. At most one lease is in flight, requests that find the bucket dry
+ * while a lease is in flight wait for its tokens instead of leasing their own.</p>
+ */
+final class LeasedTokenBucket {
+
+    private final List<String> keys;
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final AtomicReference<Mono<Long>> inFlight = new AtomicReference<>();
+
+    private volatile long expireAt;
+
+    LeasedTokenBucket(final List<String> keys) {
+        this.keys = keys;
+        this.expireAt = System.nanoTime();
+    }
+
+    /**
+     * Get the redis keys of the bucket.
+     *
+     * @return the keys
+     */
+    List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Take tokens from the local bucket.
+     *
+     * @param requested the requested tokens
+     * @param now the current {@link System#nanoTime()}
+     * @return true if the tokens were taken
+     */
+    boolean tryAcquire(final long requested, final long now) {
+        if (now - expireAt >= 0) {
+            return false;
+        }
+        long current = tokens.get();
+        while (current >= requested) {
+            if (tokens.compareAndSet(current, current - requested)) {
+                return true;
+            }
+            current = tokens.get();
+        }
+        return false;
+    }
+
+    /**
+     * Get the tokens left in the local bucket.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the tokens left
+     */
+    long remaining(final long now) {
+        return now - expireAt >= 0 ? 0 : tokens.get();
+    }
+
+    /**
+     * Add leased tokens, the tokens of an expired lease are dropped.
+     *
+     * @param granted the granted tokens
+     * @param now the current {@link System#nanoTime()}
+     * @param ttlNanos how long the tokens are valid
+     */
+    void grant(final long granted, final long now, final long ttlNanos) {
+        if (now - expireAt >= 0) {
+            tokens.set(granted);
+        } else {
+            tokens.addAndGet(granted);
+        }
+        expireAt = now + ttlNanos;
+    }
+
+    /**
+     * Lease tokens into the bucket, or join the lease in flight.
+     *
+     * @param leaser leases the tokens from redis
+     * @param ttlNanos how long the leased tokens are valid
+     * @return the granted tokens, emitted once they are in the bucket
+     */
+    Mono<Long> lease(final Supplier<Mono<Long>> leaser, final long ttlNanos) {
+        Mono<Long> current = inFlight.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        Mono<Long> lease = Mono.defer(leaser)
+                .doOnNext(granted -> grant(granted, System.nanoTime(), ttlNanos))
+                .doFinally(signalType -> inFlight.set(null))
+                .cache();
+        return inFlight.compareAndSet(null, lease) ? lease : lease(leaser, ttlNanos);
+    }
+
+    /**
+     * Whether a lease is in flight.
+     *
+     * @return true if a lease is in flight
+     */
+    boolean isLeasing() {
+        return Objects.nonNull(inFlight.get());
+    }
+}
@@ -17,32 +17,54 @@
 
 package org.apache.shenyu.plugin.ratelimiter.executor;
 
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.TokenBucketRateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RedisRateLimiter.
+ *
+ * <p>With {@link RateLimiterHandle#getLeaseTokens()} set, the token bucket algorithm serves requests from a
+ * node-local bucket and leases batches of tokens from the redis bucket, refilling in the background when
+ * half of a lease is spent. Redis is only on the request path when the local bucket runs dry.</p>
  */
 public class RedisRateLimiter {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisRateLimiter.class);
 
+    private static final String LEASE_SCRIPT_NAME = "request_rate_limiter_lease.lua";
+
+    private static final long MIN_LEASE_TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RedisScript<List<Long>> leaseScript = leaseScript();
+
+    private final Cache<String, LeasedTokenBucket> leasedBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .maximumSize(100_000)
+            .build();
+
     /**
      * Verify using different current limiting algorithm scripts.
      *
@@ -52,13 +74,14 @@ public class RedisRateLimiter {
      */
     @SuppressWarnings("unchecked")
     public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
-        double replenishRate = limiterHandle.getReplenishRate();
-        double burstCapacity = limiterHandle.getBurstCapacity();
-        double requestCount = limiterHandle.getRequestCount();
         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
+        if (limiterHandle.getLeaseTokens() >= 1 && rateLimiterAlgorithm instanceof TokenBucketRateLimiterAlgorithm) {
+            return isAllowedByLease(id, limiterHandle, rateLimiterAlgorithm);
+        }
         RedisScript<?> script = rateLimiterAlgorithm.getScript();
         List<String> keys = rateLimiterAlgorithm.getKeys(id);
-        List<String> scriptArgs = Stream.of(replenishRate, burstCapacity, Instant.now().getEpochSecond(), requestCount).map(String::valueOf).collect(Collectors.toList());
+        List<String> scriptArgs = Arrays.asList(String.valueOf(limiterHandle.getReplenishRate()), String.valueOf(limiterHandle.getBurstCapacity()),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(limiterHandle.getRequestCount()));
         Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
         return resultFlux.onErrorResume(throwable -> Flux.just(Arrays.asList(1L, -1L)))
                 .reduce(new ArrayList<Long>(), (longs, l) -> {
@@ -75,5 +98,53 @@ public class RedisRateLimiter {
                 });
     }
 
-}
+    private Mono<RateLimiterResponse> isAllowedByLease(final String id, final RateLimiterHandle limiterHandle, final RateLimiterAlgorithm<?> rateLimiterAlgorithm) {
+        final LeasedTokenBucket bucket = leasedBuckets.get(id, key -> new LeasedTokenBucket(rateLimiterAlgorithm.getKeys(key)));
+        final long requested = Math.max(1L, (long) Math.ceil(limiterHandle.getRequestCount()));
+        final long leaseTokens = Math.max(requested, (long) limiterHandle.getLeaseTokens());
+        final long now = System.nanoTime();
+        final long ttlNanos = leaseTtlNanos(limiterHandle, leaseTokens);
+        if (bucket.tryAcquire(requested, now)) {
+            final long remaining = bucket.remaining(now);
+            if (remaining < leaseTokens / 2 && !bucket.isLeasing()) {
+                bucket.lease(() -> lease(bucket, limiterHandle, 1, leaseTokens), ttlNanos)
+                        .subscribe(granted -> { },
+                            throwable -> LOG.error("Error occurred while leasing tokens by RedisRateLimiter:{}", throwable.getMessage()));
+            }
+            return Mono.just(new RateLimiterResponse(true, remaining, bucket.getKeys()));
+        }
+        // the local bucket ran dry, wait for the lease in flight or lease the requested tokens and the next batch in one round trip
+        return bucket.lease(() -> lease(bucket, limiterHandle, requested, requested + leaseTokens), ttlNanos)
+                .map(granted -> {
+                    final long leasedAt = System.nanoTime();
+                    return new RateLimiterResponse(bucket.tryAcquire(requested, leasedAt), bucket.remaining(leasedAt), bucket.getKeys());
+                })
+                .onErrorResume(throwable -> {
+                    LOG.error("Error occurred while judging if user is allowed by RedisRateLimiter:{}", throwable.getMessage());
+                    return Mono.just(new RateLimiterResponse(true, -1, bucket.getKeys()));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Long> lease(final LeasedTokenBucket bucket, final RateLimiterHandle limiterHandle, final long minTokens, final long maxTokens) {
+        List<String> scriptArgs = Arrays.asList(String.valueOf(limiterHandle.getReplenishRate()), String.valueOf(limiterHandle.getBurstCapacity()),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(minTokens), String.valueOf(maxTokens));
+        Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(leaseScript, bucket.getKeys(), scriptArgs);
+        return resultFlux.next().map(results -> results.get(0));
+    }
 
+    private static long leaseTtlNanos(final RateLimiterHandle limiterHandle, final long leaseTokens) {
+        if (limiterHandle.getReplenishRate() <= 0) {
+            return MIN_LEASE_TTL_NANOS;
+        }
+        return Math.max(MIN_LEASE_TTL_NANOS, (long) (leaseTokens / limiterHandle.getReplenishRate() * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> leaseScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(Constants.SCRIPT_PATH + LEASE_SCRIPT_NAME)));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+}
@@ -0,0 +1,51 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--    http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+-- sliding window counter: the window of capacity/rate seconds is split into at most 10 fixed sub-buckets,
+-- stored as the fields of one hash, so the memory of a key does not grow with the allowed requests.
+local counter_key = KEYS[1]
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+
+local window_size = capacity / rate
+local bucket_width = math.max(1, math.ceil(window_size / 10))
+local bucket_count = math.max(1, math.ceil(window_size / bucket_width))
+local current_bucket = math.floor(now / bucket_width)
+local oldest_bucket = current_bucket - bucket_count + 1
+
+local used = 0
+local buckets = redis.call('hgetall', counter_key)
+for i = 1, #buckets, 2 do
+    if tonumber(buckets[i]) < oldest_bucket then
+        redis.call('hdel', counter_key, buckets[i])
+    else
+        used = used + tonumber(buckets[i + 1])
+    end
+end
+
+local allowed_num = 0
+if used + requested <= capacity then
+    allowed_num = 1
+    used = used + requested
+    redis.call('hincrbyfloat', counter_key, string.format('%d', current_bucket), requested)
+end
+redis.call('expire', counter_key, bucket_count * bucket_width + 1)
+
+return { allowed_num, capacity - used }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * test for SlidingWindowCounterRateLimiterAlgorithm.
+ */
+public final class SlidingWindowCounterRateLimiterAlgorithmTest {
+
+    private static final String ID = "1";
+
+    private SlidingWindowCounterRateLimiterAlgorithm slidingWindowCounterRateLimiterAlgorithm;
+
+    @BeforeEach
+    public void startup() {
+        slidingWindowCounterRateLimiterAlgorithm = new SlidingWindowCounterRateLimiterAlgorithm();
+    }
+
+    @Test
+    public void getScriptNameTest() {
+        MatcherAssert.assertThat("sliding_window_counter_request_rate_limiter.lua", is(slidingWindowCounterRateLimiterAlgorithm.getScriptName()));
+    }
+
+    @Test
+    public void getKeyNameTest() {
+        MatcherAssert.assertThat("sliding_window_counter_request_rate_limiter", is(slidingWindowCounterRateLimiterAlgorithm.getKeyName()));
+    }
+
+    @Test
+    public void getKeysTest() {
+        String counterKey = slidingWindowCounterRateLimiterAlgorithm.getKeyName() + ".{" + ID + "}.counter";
+        MatcherAssert.assertThat(counterKey, is(slidingWindowCounterRateLimiterAlgorithm.getKeys(ID).get(0)));
+        MatcherAssert.assertThat(slidingWindowCounterRateLimiterAlgorithm.getKeys(ID).size(), is(1));
+    }
+
+    @Test
+    public void spiTest() {
+        MatcherAssert.assertThat(RateLimiterAlgorithmFactory.newInstance("slidingWindowCounter"), instanceOf(SlidingWindowCounterRateLimiterAlgorithm.class));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.ratelimiter.executor;
 
 import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.infra.redis.RedisConfigProperties;
@@ -41,6 +42,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * Test of rate limiter Lua scripts.
  */
@@ -135,4 +139,44 @@ public class RedisRateLimiterScriptsTest {
                 .expectComplete()
                 .verify();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void slidingWindowCounterLuaTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("slidingWindowCounter");
+        RedisScript<?> script = rateLimiterAlgorithm.getScript();
+        List<String> keys = rateLimiterAlgorithm.getKeys("test-slidingWindowCounter");
+        List<String> scriptArgs = Arrays.asList("1", "2", String.valueOf(Instant.now().getEpochSecond()), "1");
+        StepVerifier
+                .create(Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs)
+                        .concatWith(Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs))
+                        .concatWith(Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs)))
+                .expectSubscription()
+                .expectNext(Arrays.asList(1L, 1L))
+                .expectNext(Arrays.asList(1L, 0L))
+                .expectNext(Arrays.asList(0L, 0L))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void tokenBucketLeaseLuaTest() {
+        RateLimiterHandle rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(10);
+        rateLimiterHandle.setBurstCapacity(100);
+        rateLimiterHandle.setLeaseTokens(30);
+        RedisRateLimiter redisRateLimiter = new RedisRateLimiter();
+        StepVerifier
+                .create(redisRateLimiter.isAllowed("test-tokenBucketLease", rateLimiterHandle))
+                .assertNext(response -> {
+                    assertTrue(response.isAllowed());
+                    assertEquals(30L, response.getTokensRemaining());
+                })
+                .verifyComplete();
+        StepVerifier
+                .create(redisRateLimiter.isAllowed("test-tokenBucketLease", rateLimiterHandle))
+                .assertNext(response -> assertEquals(29L, response.getTokensRemaining()))
+                .verifyComplete();
+    }
 }
@@ -29,8 +29,11 @@ import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +42,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -163,6 +168,64 @@ public final class RedisRateLimiterTest {
         }).verifyComplete();
     }
 
+    /**
+     * redisRateLimiter.isAllowed serves from the leased local bucket.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void leaseAllowedTest() {
+        isAllowedPreInit(11L, 289L, false);
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setLeaseTokens(10);
+        StepVerifier.create(redisRateLimiter.isAllowed("leaseAllowedId", rateLimiterHandle)).assertNext(r -> {
+            assertEquals(10L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        StepVerifier.create(redisRateLimiter.isAllowed("leaseAllowedId", rateLimiterHandle)).assertNext(r -> {
+            assertEquals(9L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        verify(Singleton.INST.get(ReactiveRedisTemplate.class), times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    /**
+     * redisRateLimiter.isAllowed denies when no token can be leased.
+     */
+    @Test
+    public void leaseNotAllowedTest() {
+        isAllowedPreInit(0L, 0L, false);
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setLeaseTokens(10);
+        StepVerifier.create(redisRateLimiter.isAllowed("leaseNotAllowedId", rateLimiterHandle)).assertNext(r -> {
+            assertEquals(0L, r.getTokensRemaining());
+            assertFalse(r.isAllowed());
+        }).verifyComplete();
+    }
+
+    /**
+     * redisRateLimiter.isAllowed coalesces the leases of requests that find the local bucket dry.
+     */
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void leaseCoalescedTest() {
+        ReactiveRedisTemplate reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        Singleton.INST.single(ReactiveRedisTemplate.class, reactiveRedisTemplate);
+        Sinks.One<List<Long>> leaseResult = Sinks.one();
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(leaseResult.asMono().flux());
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setLeaseTokens(10);
+        Mono<RateLimiterResponse> first = redisRateLimiter.isAllowed("leaseCoalescedId", rateLimiterHandle);
+        Mono<RateLimiterResponse> second = redisRateLimiter.isAllowed("leaseCoalescedId", rateLimiterHandle);
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> leaseResult.tryEmitValue(Lists.newArrayList(2L, 298L)))
+                .assertNext(responses -> {
+                    assertTrue(responses.getT1().isAllowed());
+                    assertTrue(responses.getT2().isAllowed());
+                    assertEquals(0L, responses.getT2().getTokensRemaining());
+                }).verifyComplete();
+        verify(reactiveRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
     /**
      * redisRateLimiter.isAllowed test pre init.
      *
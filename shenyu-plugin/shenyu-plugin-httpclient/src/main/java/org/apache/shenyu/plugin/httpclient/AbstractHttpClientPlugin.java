@@ -23,9 +23,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +38,7 @@ import org.apache.shenyu.common.enums.RetryEnum;
 import org.apache.shenyu.common.enums.UniqueHeaderEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.LogUtils;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
@@ -47,6 +50,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
@@ -60,6 +64,15 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractHttpClientPlugin.class);
 
+    private final Map<String, RetryStrategy<R>> retryStrategies = Map.of(
+            "exponential", new ExponentialRetryBackoffStrategy<>(this),
+            "fixed", new FixedRetryStrategy<>(this),
+            "custom", new CustomRetryStrategy<>(this));
+
+    private final RetryStrategy<R> defaultRetryStrategy = new DefaultRetryStrategy<>(this);
+
+    private final HedgingStrategy<R> hedgingStrategy = new HedgingStrategy<>(this);
+
     @Override
     public final Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
@@ -74,26 +87,12 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         final int retryTimes = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0);
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LogUtils.debug(LOG, () -> String.format("The request urlPath is: %s, retryTimes is : %s, retryStrategy is : %s", uri, retryTimes, retryStrategy));
-        final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethod().name(), uri, exchange.getRequest().getBody())
-                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
-                .doOnError(e -> LOG.error(e.getMessage(), e));
-        RetryStrategy<R> strategy;
+        final Mono<R> response = requestUpstream(exchange, uri, duration);
         //Is it better to go with the configuration file here?
         String retryStrategyType = (String) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY_BACK_OFF_SPEC)).orElse(HttpRetryBackoffSpecEnum.getDefault());
-        switch (retryStrategyType) {
-            case "exponential":
-                strategy = new ExponentialRetryBackoffStrategy<>(this);
-                break;
-            case "fixed":
-                strategy = new FixedRetryStrategy<>(this);
-                break;
-            case "custom":
-                strategy = new CustomRetryStrategy<>(this);
-                break;
-            default:
-                strategy = new DefaultRetryStrategy<>(this);
-        }
-        Mono<R> retriedResponse = strategy.execute(response, exchange, duration, retryTimes);
+        final RetryStrategy<R> strategy = retryStrategies.getOrDefault(retryStrategyType, defaultRetryStrategy);
+        final Mono<R> hedgedResponse = hedgingStrategy.execute(response, exchange, uri, duration);
+        Mono<R> retriedResponse = strategy.execute(hedgedResponse, exchange, duration, retryTimes);
         return retriedResponse
                 .onErrorMap(ShenyuException.class, th -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
                         ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg(), th))
@@ -102,6 +101,73 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
     }
 
 
+    /**
+     * Send the request to the upstream of the uri within the timeout.
+     * The outcome is reported to the passive health check of the divide upstreams.
+     *
+     * @param exchange the current server exchange
+     * @param uri      the request uri
+     * @param duration the timeout
+     * @return the response
+     */
+    protected Mono<R> requestUpstream(final ServerWebExchange exchange, final URI uri, final Duration duration) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        // the key of the upstream as it is stored, without the scheme and the port when the url has none
+        final String url = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        return doRequest(exchange, exchange.getRequest().getMethod().name(), uri, exchange.getRequest().getBody())
+                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
+                .doOnSuccess(r -> {
+                    if (Objects.isNull(selectorId) || Objects.isNull(r)) {
+                        return;
+                    }
+                    // the status of this attempt, the exchange response belongs to the attempt that answered first
+                    HttpStatusCode status = responseStatus(r);
+                    if (Objects.nonNull(status) && status.is5xxServerError()) {
+                        UpstreamCacheManager.getInstance().reportError(selectorId, url);
+                    } else {
+                        UpstreamCacheManager.getInstance().reportSuccess(selectorId, url);
+                    }
+                })
+                .doOnError(e -> {
+                    if (Objects.nonNull(selectorId)) {
+                        UpstreamCacheManager.getInstance().reportError(selectorId, url);
+                    }
+                    LOG.error(e.getMessage(), e);
+                });
+    }
+
+    /**
+     * Claim the exchange response for the attempt sent to the uri.
+     * When a request is hedged only the first attempt to answer may write its status and headers,
+     * the response of the other attempt is dropped.
+     *
+     * @param exchange the current server exchange
+     * @param uri      the uri of the attempt
+     * @return true when the attempt owns the exchange response
+     */
+    protected boolean claimResponse(final ServerWebExchange exchange, final URI uri) {
+        final AtomicReference<URI> claim = exchange.getAttribute(Constants.HTTP_HEDGE_CLAIM);
+        return Objects.isNull(claim) || claim.compareAndSet(null, uri) || uri.equals(claim.get());
+    }
+
+    /**
+     * Take a retry from the retry budget of the selector of the request.
+     *
+     * @param exchange the current server exchange
+     * @return false when the request must not be retried
+     */
+    boolean acquireRetryBudget(final ServerWebExchange exchange) {
+        return hedgingStrategy.acquireRetry(exchange);
+    }
+
+    /**
+     * The status code of the response of one attempt.
+     *
+     * @param response the response of the attempt
+     * @return the status code
+     */
+    protected abstract HttpStatusCode responseStatus(R response);
+
     /**
      * Process the Web request.
      *
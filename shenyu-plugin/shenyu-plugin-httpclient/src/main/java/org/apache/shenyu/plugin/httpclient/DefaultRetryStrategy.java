@@ -25,7 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.RetryEnum;
@@ -35,8 +35,6 @@ import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
 import org.apache.shenyu.plugin.httpclient.exception.ShenyuTimeoutException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
@@ -51,7 +49,6 @@ import reactor.util.retry.RetryBackoffSpec;
  * @param <R> Request Response Type
  */
 public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
-    private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryStrategy.class);
 
     private final AbstractHttpClientPlugin<R> httpClientPlugin;
 
@@ -64,12 +61,15 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(() -> "current");
         if (RetryEnum.CURRENT.getName().equals(retryStrategy)) {
             //old version of DividePlugin and SpringCloudPlugin will run on this
+            final AtomicInteger failures = new AtomicInteger();
             RetryBackoffSpec retryBackoffSpec = Retry.backoff(retryTimes, Duration.ofMillis(20L))
                     .maxBackoff(Duration.ofSeconds(20L))
                     .transientErrors(true)
                     .jitter(0.5d)
                     .filter(t -> t instanceof java.util.concurrent.TimeoutException || t instanceof io.netty.channel.ConnectTimeoutException
                             || t instanceof io.netty.handler.timeout.ReadTimeoutException || t instanceof IllegalStateException)
+                    // the failure after the last retry is not retried, so it does not take from the retry budget
+                    .filter(t -> failures.incrementAndGet() > retryTimes || httpClientPlugin.acquireRetryBudget(exchange))
                     .onRetryExhaustedThrow((retryBackoffSpecErr, retrySignal) -> {
                         throw new ShenyuTimeoutException("Request timeout, the maximum number of retry times has been exceeded");
                     });
@@ -119,6 +119,10 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
                 // no need to retry anymore
                 return Mono.error(new ShenyuException("CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER"));
             }
+            if (!httpClientPlugin.acquireRetryBudget(exchange)) {
+                // the retry budget of the selector is spent, give up with the original error
+                return Mono.error(th);
+            }
             final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
             final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
             if (Objects.isNull(upstream)) {
@@ -128,9 +132,7 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
             final URI newUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
             // in order not to affect the next retry call, newUri needs to be excluded
             exclude.add(newUri);
-            return httpClientPlugin.doRequest(exchange, exchange.getRequest().getMethod().name(), newUri, exchange.getRequest().getBody())
-                    .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
-                    .doOnError(e -> LOG.error(e.getMessage(), e));
+            return httpClientPlugin.requestUpstream(exchange, newUri, duration);
         });
     }
 }
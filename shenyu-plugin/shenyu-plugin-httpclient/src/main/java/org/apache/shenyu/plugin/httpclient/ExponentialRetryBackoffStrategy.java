@@ -25,6 +25,7 @@ import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Exponential Retry Backoff Strategy.
@@ -49,13 +50,14 @@ public class ExponentialRetryBackoffStrategy<R> implements RetryStrategy<R> {
      * @return Response Mono object after retry processing
      */
     public Mono<R> execute(final Mono<R> response, final ServerWebExchange exchange, final Duration duration, final int retryTimes) {
-        RetryBackoffSpec retrySpec = initDefaultBackoff(retryTimes);
+        RetryBackoffSpec retrySpec = initDefaultBackoff(exchange, retryTimes);
         return response.retryWhen(retrySpec)
                 .timeout(duration, Mono.error(() -> new java.util.concurrent.TimeoutException("Response took longer than timeout: " + duration)))
                 .doOnError(e -> LOG.error(e.getMessage(), e));
     }
 
-    private RetryBackoffSpec initDefaultBackoff(final int retryTimes) {
+    private RetryBackoffSpec initDefaultBackoff(final ServerWebExchange exchange, final int retryTimes) {
+        final AtomicInteger failures = new AtomicInteger();
         return Retry.backoff(retryTimes, Duration.ofMillis(500))
                 .maxBackoff(Duration.ofSeconds(5))
                 // 只对瞬时错误进行重试
@@ -63,6 +65,8 @@ public class ExponentialRetryBackoffStrategy<R> implements RetryStrategy<R> {
                 // 添加 50% 的随机抖动到每次重试的延迟时间
                 .jitter(0.5d)
                 .filter(t -> t instanceof IllegalStateException)
+                // 最后一次失败不再重试, 不占用重试预算
+                .filter(t -> failures.incrementAndGet() > retryTimes || httpClientPlugin.acquireRetryBudget(exchange))
                 // 当达到最大重试次数后抛出一个指定的异常
                 .onRetryExhaustedThrow((retryBackoffSpecErr, retrySignal) -> {
                     throw new IllegalStateException("重试超限");
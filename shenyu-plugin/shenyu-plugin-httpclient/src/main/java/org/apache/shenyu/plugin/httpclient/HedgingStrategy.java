@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.httpclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.utils.MapUtils;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Hedged requests and the retry budget of the divide selectors.
+ *
+ * <p>When a request has not been answered after the configured latency percentile of its selector, a second
+ * attempt is sent to another upstream and the first attempt to answer wins, the other one is cancelled.
+ * Only requests without side effects are hedged. Hedged attempts and retries take from the {@link RetryBudget}
+ * of the rule, so they add at most the configured percent of the rule traffic. Both are dropped with the selector.</p>
+ *
+ * @param <R> Request Response Type
+ */
+public class HedgingStrategy<R> {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private static final double DEFAULT_RETRY_BUDGET = 20;
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, RetryBudget>> retryBudgets = new ConcurrentHashMap<>();
+
+    private final AbstractHttpClientPlugin<R> httpClientPlugin;
+
+    public HedgingStrategy(final AbstractHttpClientPlugin<R> httpClientPlugin) {
+        this.httpClientPlugin = httpClientPlugin;
+        UpstreamCacheManager.getInstance().addRemoveListener(this::removeSelector);
+    }
+
+    /**
+     * Hedge the request if its selector asks for it.
+     *
+     * @param clientResponse the response of the first attempt
+     * @param exchange       Server Exchange Object
+     * @param uri            the uri of the first attempt
+     * @param duration       Timeout
+     * @return the response of the first attempt to answer
+     */
+    public Mono<R> execute(final Mono<R> clientResponse, final ServerWebExchange exchange, final URI uri, final Duration duration) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        if (Objects.isNull(selectorId)) {
+            return clientResponse;
+        }
+        final RetryBudget retryBudget = retryBudget(selectorId, exchange);
+        retryBudget.recordRequest();
+        final LatencyHistogram latency = MapUtils.computeIfAbsent(latencies, selectorId, key -> new LatencyHistogram());
+        final Mono<R> primary = timed(clientResponse, latency);
+        final Double percentile = exchange.getAttribute(Constants.HTTP_HEDGE_PERCENTILE);
+        if (Objects.isNull(percentile) || percentile <= 0 || !IDEMPOTENT_METHODS.contains(exchange.getRequest().getMethod().name())) {
+            return primary;
+        }
+        final long delay = latency.percentile(percentile);
+        if (delay <= 0 || delay >= duration.toMillis()) {
+            return primary;
+        }
+        return hedge(primary, exchange, uri, duration, Duration.ofMillis(delay), latency, retryBudget);
+    }
+
+    /**
+     * Take a retry from the budget of the rule of the request.
+     *
+     * @param exchange Server Exchange Object
+     * @return false when the budget is spent and the request must not be retried
+     */
+    public boolean acquireRetry(final ServerWebExchange exchange) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        return Objects.isNull(selectorId) || retryBudget(selectorId, exchange).tryAcquire();
+    }
+
+    private Mono<R> hedge(final Mono<R> primary, final ServerWebExchange exchange, final URI uri, final Duration duration,
+                          final Duration delay, final LatencyHistogram latency, final RetryBudget retryBudget) {
+        return Mono.defer(() -> {
+            // only the first attempt to answer writes its status and headers to the exchange
+            exchange.getAttributes().put(Constants.HTTP_HEDGE_CLAIM, new AtomicReference<URI>());
+            final AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            final Sinks.One<Boolean> primaryFailed = Sinks.one();
+            final Mono<R> first = primary.onErrorResume(th -> {
+                primaryError.set(th);
+                primaryFailed.tryEmitValue(Boolean.TRUE);
+                return Mono.empty();
+            });
+            final Mono<R> second = Mono.delay(delay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .flatMap(tick -> resend(exchange, uri, duration, latency, retryBudget));
+            return Flux.merge(first, second).next()
+                    .switchIfEmpty(Mono.defer(() -> {
+                        if (Objects.nonNull(primaryError.get())) {
+                            return Mono.error(primaryError.get());
+                        }
+                        return Mono.empty();
+                    }))
+                    .doFinally(signalType -> exchange.getAttributes().remove(Constants.HTTP_HEDGE_CLAIM));
+        });
+    }
+
+    private Mono<R> resend(final ServerWebExchange exchange, final URI uri, final Duration duration,
+                           final LatencyHistogram latency, final RetryBudget retryBudget) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
+        final String url = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        final List<Upstream> upstreamList = Optional.ofNullable(UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId))
+                .orElseGet(Collections::emptyList)
+                .stream().filter(data -> !url.equals(data.getUrl().trim())).collect(Collectors.toList());
+        if (upstreamList.isEmpty() || !retryBudget.tryAcquire()) {
+            return Mono.empty();
+        }
+        final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
+        final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
+        if (Objects.isNull(upstream)) {
+            return Mono.empty();
+        }
+        final URI hedgeUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
+        return timed(httpClientPlugin.requestUpstream(exchange, hedgeUri, duration), latency);
+    }
+
+    /**
+     * Drop the latencies and the retry budgets of a removed selector.
+     *
+     * @param selectorId the selector id
+     */
+    void removeSelector(final String selectorId) {
+        latencies.remove(selectorId);
+        retryBudgets.remove(selectorId);
+    }
+
+    private RetryBudget retryBudget(final String selectorId, final ServerWebExchange exchange) {
+        // the percent is a rule setting, so each rule of the selector has its own budget
+        final String ruleId = Optional.ofNullable(exchange.<String>getAttribute(Constants.DIVIDE_RULE_ID)).orElse(Constants.DEFAULT_RULE);
+        final Map<String, RetryBudget> ruleBudgets = MapUtils.computeIfAbsent(retryBudgets, selectorId, key -> new ConcurrentHashMap<>());
+        final RetryBudget retryBudget = MapUtils.computeIfAbsent(ruleBudgets, ruleId, key -> new RetryBudget(DEFAULT_RETRY_BUDGET));
+        final Double percent = exchange.getAttribute(Constants.HTTP_RETRY_BUDGET);
+        // the budget is shared by the requests of the rule, only a changed rule writes to it
+        if (Objects.nonNull(percent) && percent != retryBudget.getPercent()) {
+            retryBudget.setPercent(percent);
+        }
+        return retryBudget;
+    }
+
+    private Mono<R> timed(final Mono<R> response, final LatencyHistogram latency) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return response.doOnNext(r -> latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        });
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.httpclient;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The response latency of a selector in exponential millisecond buckets, each bucket 25% wider than the last.
+ *
+ * <p>Latencies are counted in striped counters over the current and the previous {@link #WINDOW_MILLIS}
+ * window, so the percentile follows the recent traffic. The percentile is computed at most every
+ * {@link #REFRESH_MILLIS} and only from {@link #MIN_SAMPLES} latencies on.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private static final long[] BOUNDS = new long[BUCKETS];
+
+    private static final long WINDOW_MILLIS = 10_000;
+
+    private static final long REFRESH_MILLIS = 1_000;
+
+    private static final long MIN_SAMPLES = 100;
+
+    static {
+        double bound = 1;
+        for (int i = 0; i < BUCKETS; i++) {
+            BOUNDS[i] = (long) Math.ceil(bound);
+            bound *= 1.25;
+        }
+    }
+
+    private final AtomicLong windowStart;
+
+    private volatile LongAdder[] current = newBuckets();
+
+    private volatile LongAdder[] previous = newBuckets();
+
+    private volatile Percentile cached = new Percentile(Double.NaN, 0, 0);
+
+    /**
+     * Instantiates a new latency histogram.
+     */
+    public LatencyHistogram() {
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Count a latency.
+     *
+     * @param millis the latency in milliseconds
+     */
+    public void record(final long millis) {
+        rotate(System.nanoTime());
+        current[bucket(millis)].increment();
+    }
+
+    /**
+     * Get the latency the percentile of the responses were faster than.
+     *
+     * @param percentile the percentile, e.g. 99.0
+     * @return the latency in milliseconds, 0 if there are too few latencies yet
+     */
+    public long percentile(final double percentile) {
+        final long now = System.nanoTime();
+        final Percentile last = cached;
+        if (last.getPercentile() == percentile && now - last.getComputedAt() < TimeUnit.MILLISECONDS.toNanos(REFRESH_MILLIS)) {
+            return last.getMillis();
+        }
+        rotate(now);
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = current[i].sum() + previous[i].sum();
+            total += counts[i];
+        }
+        long millis = 0;
+        if (total >= MIN_SAMPLES) {
+            final double rank = total * Math.min(100, percentile) / 100;
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    millis = BOUNDS[i];
+                    break;
+                }
+            }
+        }
+        cached = new Percentile(percentile, millis, now);
+        return millis;
+    }
+
+    private void rotate(final long now) {
+        final long start = windowStart.get();
+        if (now - start < TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS) || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        // after an idle window the previous one holds nothing
+        previous = now - start >= TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS * 2) ? newBuckets() : current;
+        current = newBuckets();
+    }
+
+    private static int bucket(final long millis) {
+        final int index = Arrays.binarySearch(BOUNDS, millis);
+        return index >= 0 ? index : Math.min(-index - 1, BUCKETS - 1);
+    }
+
+    private static LongAdder[] newBuckets() {
+        final LongAdder[] buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+        return buckets;
+    }
+
+    private static final class Percentile {
+
+        private final double percentile;
+
+        private final long millis;
+
+        private final long computedAt;
+
+        Percentile(final double percentile, final long millis, final long computedAt) {
+            this.percentile = percentile;
+            this.millis = millis;
+            this.computedAt = computedAt;
+        }
+
+        double getPercentile() {
+            return percentile;
+        }
+
+        long getMillis() {
+            return millis;
+        }
+
+        long getComputedAt() {
+            return computedAt;
+        }
+    }
+}
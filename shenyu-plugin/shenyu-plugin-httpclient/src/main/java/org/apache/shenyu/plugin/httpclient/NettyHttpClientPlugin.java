@@ -27,6 +27,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.AbstractServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -71,6 +72,11 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
         }).request(HttpMethod.valueOf(httpMethod)).uri(uri.toASCIIString())
                 .send((req, nettyOutbound) -> nettyOutbound.send(body.map(dataBuffer -> ((NettyDataBuffer) dataBuffer).getNativeBuffer())))
                 .responseConnection((res, connection) -> {
+                    if (!claimResponse(exchange, uri)) {
+                        // a hedged attempt has already answered
+                        connection.dispose();
+                        return Mono.empty();
+                    }
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
                     final ServerHttpResponse response = exchange.getResponse();
@@ -94,6 +100,11 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
                 }));
     }
 
+    @Override
+    protected HttpStatusCode responseStatus(final HttpClientResponse response) {
+        return HttpStatusCode.valueOf(response.status().code());
+    }
+
 
     @Override
     public int getOrder() {
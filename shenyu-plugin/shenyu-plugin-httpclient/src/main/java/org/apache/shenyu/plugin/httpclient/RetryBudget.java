@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.httpclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the extra attempts of a selector, retries and hedged requests, to a percent of its requests.
+ *
+ * <p>Requests and extra attempts are counted over the current and the previous {@link #WINDOW_MILLIS} window.
+ * A selector with little traffic may always make {@link #MIN_ATTEMPTS} extra attempts within the two windows, so a
+ * failing request of a quiet selector is still retried.</p>
+ */
+public final class RetryBudget {
+
+    private static final long WINDOW_MILLIS = 10_000;
+
+    private static final long MIN_ATTEMPTS = 100;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder attempts = new LongAdder();
+
+    private final AtomicLong windowStart;
+
+    private volatile long previousRequests;
+
+    private volatile long previousAttempts;
+
+    private volatile double percent;
+
+    /**
+     * Instantiates a new retry budget.
+     *
+     * @param percent the percent of the requests extra attempts may add
+     */
+    public RetryBudget(final double percent) {
+        this.percent = percent;
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Count a request, every request adds to the budget.
+     */
+    public void recordRequest() {
+        rotate(System.nanoTime());
+        requests.increment();
+    }
+
+    /**
+     * Take an extra attempt from the budget.
+     *
+     * @return false when the budget is spent and the attempt must not be made
+     */
+    public boolean tryAcquire() {
+        rotate(System.nanoTime());
+        final double budget = MIN_ATTEMPTS + percent / 100 * (requests.sum() + previousRequests);
+        if (attempts.sum() + previousAttempts >= budget) {
+            return false;
+        }
+        attempts.increment();
+        return true;
+    }
+
+    /**
+     * Get the percent of the requests extra attempts may add.
+     *
+     * @return the percent
+     */
+    public double getPercent() {
+        return percent;
+    }
+
+    /**
+     * Set the percent of the requests extra attempts may add.
+     *
+     * @param percent the percent
+     */
+    public void setPercent(final double percent) {
+        this.percent = percent;
+    }
+
+    private void rotate(final long now) {
+        final long start = windowStart.get();
+        if (now - start < TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS) || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        // after an idle window the previous one holds nothing
+        final boolean idle = now - start >= TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS * 2);
+        final long currentRequests = requests.sumThenReset();
+        final long currentAttempts = attempts.sumThenReset();
+        previousRequests = idle ? 0 : currentRequests;
+        previousAttempts = idle ? 0 : currentAttempts;
+    }
+}
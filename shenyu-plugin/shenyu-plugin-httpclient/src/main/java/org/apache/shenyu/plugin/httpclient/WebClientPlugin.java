@@ -26,6 +26,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -35,6 +36,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.Optional;
 
 /**
  * The type Web client plugin.
@@ -83,6 +85,11 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
                 .onRawStatus(httpStatus -> httpStatus >= 400, clientResponse -> Mono.empty());
         return responseSpec.toEntityFlux(DataBuffer.class)
                 .flatMap(fluxResponseEntity -> {
+                    if (!claimResponse(exchange, uri)) {
+                        // a hedged attempt has already answered
+                        return Optional.ofNullable(fluxResponseEntity.getBody()).orElseGet(Flux::empty)
+                                .doOnNext(DataBufferUtils::release).then(Mono.<ResponseEntity<Flux<DataBuffer>>>empty());
+                    }
                     if (fluxResponseEntity.getStatusCode().is2xxSuccessful()) {
                         exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
                     } else {
@@ -98,6 +105,11 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
                 });
     }
 
+    @Override
+    protected HttpStatusCode responseStatus(final ResponseEntity<Flux<DataBuffer>> response) {
+        return response.getStatusCode();
+    }
+
     @Override
     public int getOrder() {
         return PluginEnum.WEB_CLIENT.getCode();
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The test case for {@link HedgingStrategy}.
+ */
+public final class HedgingStrategyTest {
+
+    private static final String SELECTOR_ID = "hedgingSelector";
+
+    private static final URI PRIMARY_URI = URI.create("http://127.0.0.1:8081/test");
+
+    private static final URI HEDGE_URI = URI.create("http://127.0.0.1:8082/test");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    private AbstractHttpClientPlugin<String> httpClientPlugin;
+
+    private HedgingStrategy<String> hedgingStrategy;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        when(httpClientPlugin.requestUpstream(any(), any(), any())).thenReturn(Mono.just("hedged"));
+        hedgingStrategy = new HedgingStrategy<>(httpClientPlugin);
+        UpstreamCacheManager.getInstance().submit(SELECTOR_ID, List.of(
+                Upstream.builder().protocol("http://").url("127.0.0.1:8081").status(true).build(),
+                Upstream.builder().protocol("http://").url("127.0.0.1:8082").status(true).build()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UpstreamCacheManager.getInstance().removeByKey(SELECTOR_ID);
+    }
+
+    @Test
+    public void withoutSelectorTest() {
+        Mono<String> response = Mono.just("primary");
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        StepVerifier.create(hedgingStrategy.execute(response, exchange, PRIMARY_URI, TIMEOUT)).expectNext("primary").verifyComplete();
+    }
+
+    @Test
+    public void hedgeSlowRequestTest() {
+        warmUp();
+        StepVerifier.create(hedgingStrategy.execute(Mono.never(), exchange(MockServerHttpRequest.get("localhost/test")), PRIMARY_URI, TIMEOUT))
+                .expectNext("hedged")
+                .expectComplete()
+                .verify(TIMEOUT);
+        verify(httpClientPlugin).requestUpstream(any(), eq(HEDGE_URI), eq(TIMEOUT));
+    }
+
+    @Test
+    public void fastRequestNotHedgedTest() {
+        warmUp();
+        StepVerifier.create(hedgingStrategy.execute(Mono.just("primary"), exchange(MockServerHttpRequest.get("localhost/test")), PRIMARY_URI, TIMEOUT))
+                .expectNext("primary")
+                .verifyComplete();
+        verify(httpClientPlugin, never()).requestUpstream(any(), any(), any());
+    }
+
+    @Test
+    public void postNotHedgedTest() {
+        warmUp();
+        Mono<String> response = Mono.just("primary").delayElement(Duration.ofMillis(200));
+        StepVerifier.create(hedgingStrategy.execute(response, exchange(MockServerHttpRequest.post("localhost/test")), PRIMARY_URI, TIMEOUT))
+                .expectNext("primary")
+                .verifyComplete();
+        verify(httpClientPlugin, never()).requestUpstream(any(), any(), any());
+    }
+
+    @Test
+    public void primaryErrorTest() {
+        warmUp();
+        Mono<String> response = Mono.error(new IllegalStateException("primary failed"));
+        StepVerifier.create(hedgingStrategy.execute(response, exchange(MockServerHttpRequest.get("localhost/test")), PRIMARY_URI, TIMEOUT))
+                .expectError(IllegalStateException.class)
+                .verify(TIMEOUT);
+        verify(httpClientPlugin, never()).requestUpstream(any(), any(), any());
+    }
+
+    @Test
+    public void acquireRetryTest() {
+        ServerWebExchange exchange = exchange(MockServerHttpRequest.get("localhost/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BUDGET, 0d);
+        // a quiet selector may always make 100 extra attempts
+        for (int i = 0; i < 100; i++) {
+            assertTrue(hedgingStrategy.acquireRetry(exchange));
+        }
+        assertFalse(hedgingStrategy.acquireRetry(exchange));
+    }
+
+    @Test
+    public void retryBudgetPerRuleTest() {
+        ServerWebExchange exchange = exchange(MockServerHttpRequest.get("localhost/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BUDGET, 0d);
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "rule1");
+        spendRetryBudget(exchange);
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "rule2");
+        assertTrue(hedgingStrategy.acquireRetry(exchange));
+    }
+
+    @Test
+    public void removeSelectorTest() {
+        ServerWebExchange exchange = exchange(MockServerHttpRequest.get("localhost/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BUDGET, 0d);
+        spendRetryBudget(exchange);
+        // the budget is dropped with the selector
+        UpstreamCacheManager.getInstance().removeByKey(SELECTOR_ID);
+        assertTrue(hedgingStrategy.acquireRetry(exchange));
+    }
+
+    private void spendRetryBudget(final ServerWebExchange exchange) {
+        for (int i = 0; i < 100; i++) {
+            hedgingStrategy.acquireRetry(exchange);
+        }
+        assertFalse(hedgingStrategy.acquireRetry(exchange));
+    }
+
+    private void warmUp() {
+        // 100 latencies of about 20ms, so the median a request is hedged after is known, the warm up requests
+        // do not ask for the percentile, it would be cached while there are too few latencies
+        Flux.range(0, 100)
+                .flatMap(i -> {
+                    ServerWebExchange exchange = exchange(MockServerHttpRequest.get("localhost/test"));
+                    exchange.getAttributes().remove(Constants.HTTP_HEDGE_PERCENTILE);
+                    return hedgingStrategy.execute(Mono.just("primary").delayElement(Duration.ofMillis(20)), exchange, PRIMARY_URI, TIMEOUT);
+                })
+                .blockLast(TIMEOUT);
+    }
+
+    private static ServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        ServerWebExchange exchange = MockServerWebExchange.from(request.remoteAddress(new InetSocketAddress("127.0.0.1", 9000)).build());
+        exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, SELECTOR_ID);
+        exchange.getAttributes().put(Constants.LOAD_BALANCE, LoadBalanceEnum.RANDOM.getName());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_PERCENTILE, 50d);
+        exchange.getAttributes().put(Constants.REWRITE_URI, "/test");
+        return exchange;
+    }
+}
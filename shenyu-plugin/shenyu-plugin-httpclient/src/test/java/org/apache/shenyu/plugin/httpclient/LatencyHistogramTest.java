@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link LatencyHistogram}.
+ */
+public final class LatencyHistogramTest {
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            latency.record(10);
+        }
+        latency.record(1000);
+        assertTrue(latency.percentile(50) >= 10 && latency.percentile(50) < 13);
+        assertTrue(latency.percentile(100) >= 1000);
+    }
+
+    @Test
+    public void tooFewSamplesTest() {
+        LatencyHistogram latency = new LatencyHistogram();
+        assertEquals(0, latency.percentile(99));
+        for (int i = 0; i < 99; i++) {
+            latency.record(10);
+        }
+        assertEquals(0, latency.percentile(99));
+    }
+
+    @Test
+    public void cachedPercentileTest() {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            latency.record(10);
+        }
+        long millis = latency.percentile(99);
+        // the percentile is only computed again after the refresh interval
+        for (int i = 0; i < 1000; i++) {
+            latency.record(1000);
+        }
+        assertEquals(millis, latency.percentile(99));
+        assertTrue(latency.percentile(98) >= 1000);
+    }
+
+    @Test
+    public void outOfRangeLatencyTest() {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            latency.record(0);
+        }
+        assertEquals(1, latency.percentile(50));
+        for (int i = 0; i < 100; i++) {
+            latency.record(Long.MAX_VALUE);
+        }
+        assertTrue(latency.percentile(99.9) > 1000);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link RetryBudget}.
+ */
+public final class RetryBudgetTest {
+
+    @Test
+    public void tryAcquireTest() {
+        RetryBudget retryBudget = new RetryBudget(10);
+        for (int i = 0; i < 1000; i++) {
+            retryBudget.recordRequest();
+        }
+        // 100 attempts for a quiet selector and 10% of 1000 requests
+        for (int i = 0; i < 200; i++) {
+            assertTrue(retryBudget.tryAcquire());
+        }
+        assertFalse(retryBudget.tryAcquire());
+        retryBudget.setPercent(20);
+        assertEquals(20, retryBudget.getPercent());
+        assertTrue(retryBudget.tryAcquire());
+    }
+}
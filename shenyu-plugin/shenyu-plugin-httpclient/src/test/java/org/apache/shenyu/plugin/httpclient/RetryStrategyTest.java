@@ -25,7 +25,11 @@ import reactor.test.StepVerifier;
 
 import java.time.Duration;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * retry strategy test.
@@ -102,4 +106,19 @@ public class RetryStrategyTest {
                 .expectError(TimeoutException.class)
                 .verify();
     }
+
+    @Test
+    void testRetryBudgetOnlyTakenByRetries() {
+        AbstractHttpClientPlugin<String> httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        when(httpClientPlugin.acquireRetryBudget(any())).thenReturn(true);
+        DefaultRetryStrategy<String> strategy = new DefaultRetryStrategy<>(httpClientPlugin);
+        ServerWebExchange exchange = mock(ServerWebExchange.class);
+        Mono<String> response = Mono.error(new IllegalStateException("Test error"));
+
+        // 3 failures and 2 retries, the last failure is not retried and takes nothing from the budget
+        StepVerifier.create(strategy.execute(response, exchange, Duration.ofSeconds(5), 2))
+                .expectError()
+                .verify();
+        verify(httpClientPlugin, times(2)).acquireRetryBudget(exchange);
+    }
 }
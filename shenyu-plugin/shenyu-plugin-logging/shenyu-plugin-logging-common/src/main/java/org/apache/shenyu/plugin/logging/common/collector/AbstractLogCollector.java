@@ -18,12 +18,12 @@
 package org.apache.shenyu.plugin.logging.common.collector;
 
 import org.apache.shenyu.common.concurrent.MemorySafeTaskQueue;
+import org.apache.shenyu.common.concurrent.MpscRingBuffer;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
 import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
@@ -36,35 +36,55 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForBody;
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForSingleWord;
 
 /**
  * abstract log collector,Contains common methods.
+ *
+ * <p>Logs are buffered in a bounded lock-free ring buffer. The consumer parks until a full batch is
+ * waiting, the producer that fills the batch wakes it up, or until the oldest log lingered for
+ * {@link GenericGlobalConfig#getConsumerLingerMs()}. Logs offered to a full buffer are dropped and counted.</p>
  */
 public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?, L>, L extends ShenyuRequestLog, C extends GenericGlobalConfig>
         implements LogCollector<L> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
-    private int bufferSize;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final long DEFAULT_LINGER_MS = 100;
+
+    private volatile MpscRingBuffer<L> bufferQueue;
+
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
 
-    private BlockingQueue<L> bufferQueue;
+    private volatile long lingerNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_LINGER_MS);
 
-    private long lastPushTime;
+    private volatile Thread consumerThread;
 
     private final AtomicBoolean started = new AtomicBoolean(true);
 
+    private final AtomicBoolean parked = new AtomicBoolean();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder backpressureCount = new LongAdder();
+
+    private long reportedDroppedCount;
+
     @Override
     public void start() {
-        bufferSize = getLogCollectConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
+        final C logCollectConfig = getLogCollectConfig();
+        bufferQueue = new MpscRingBuffer<>(Math.max(1, logCollectConfig.getBufferQueueSize()));
+        batchSize = logCollectConfig.getConsumerBatchSize() > 0 ? logCollectConfig.getConsumerBatchSize() : DEFAULT_BATCH_SIZE;
+        lingerNanos = TimeUnit.MILLISECONDS.toNanos(logCollectConfig.getConsumerLingerMs() > 0 ? logCollectConfig.getConsumerLingerMs() : DEFAULT_LINGER_MS);
         ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
         final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
         ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
@@ -81,11 +101,45 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
         if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
+        final MpscRingBuffer<L> buffer = bufferQueue;
+        if (!buffer.offer(log)) {
+            droppedCount.increment();
+            return;
+        }
+        if (buffer.size() >= batchSize && parked.compareAndSet(true, false)) {
+            backpressureCount.increment();
+            LockSupport.unpark(consumerThread);
         }
     }
 
+    /**
+     * get the number of logs dropped because the buffer was full.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * get the number of times a full batch woke up the consumer before its linger time.
+     *
+     * @return backpressure count
+     */
+    public long getBackpressureCount() {
+        return backpressureCount.sum();
+    }
+
+    /**
+     * get the number of buffered logs.
+     *
+     * @return buffered count
+     */
+    public int getBufferedCount() {
+        final MpscRingBuffer<L> buffer = bufferQueue;
+        return Objects.isNull(buffer) ? 0 : buffer.size();
+    }
+
     @Override
     public void desensitize(final L logInfo, final KeyWordMatch keyWordMatch, final String desensitizeAlg) {
         this.desensitizeShenyuRequestLog(logInfo, keyWordMatch, desensitizeAlg);
@@ -96,29 +150,45 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
      * batch and async consume.
      */
     private void consume() {
+        consumerThread = Thread.currentThread();
+        long lastPushTime = System.nanoTime();
         while (started.get()) {
-            int diffTimeMSForPush = 100;
             try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
+                final MpscRingBuffer<L> buffer = bufferQueue;
+                final int size = buffer.size();
+                final long waited = System.nanoTime() - lastPushTime;
+                if (size >= batchSize || size > 0 && waited >= lingerNanos) {
+                    List<L> logs = new ArrayList<>(Math.min(size, batchSize));
+                    buffer.drainTo(logs, batchSize);
                     AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
                     if (Objects.nonNull(logCollectClient)) {
                         logCollectClient.consume(logs);
                     }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
+                    lastPushTime = System.nanoTime();
+                    reportDropped();
+                    continue;
                 }
+                parked.set(true);
+                // re-check after publishing the flag, a producer may have filled the batch in between
+                if (buffer.size() < batchSize) {
+                    LockSupport.parkNanos(this, size == 0 ? lingerNanos : lingerNanos - waited);
+                }
+                parked.set(false);
             } catch (Throwable t) {
                 LOG.error("DefaultLogCollector collect log error", t);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
+                LockSupport.parkNanos(this, lingerNanos);
+                lastPushTime = System.nanoTime();
             }
         }
+        consumerThread = null;
+    }
+
+    private void reportDropped() {
+        final long dropped = droppedCount.sum();
+        if (dropped != reportedDroppedCount) {
+            LOG.warn("{} logs were dropped because the log buffer of {} is full", dropped - reportedDroppedCount, getClass().getSimpleName());
+            reportedDroppedCount = dropped;
+        }
     }
 
     private void desensitizeShenyuRequestLog(final L logInfo, final KeyWordMatch keyWordMatch, final String desensitizedAlg) {
@@ -177,6 +247,10 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     @Override
     public void close() throws Exception {
         started.set(false);
+        final Thread thread = consumerThread;
+        if (Objects.nonNull(thread)) {
+            LockSupport.unpark(thread);
+        }
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (Objects.nonNull(logCollectClient)) {
             logCollectClient.close();
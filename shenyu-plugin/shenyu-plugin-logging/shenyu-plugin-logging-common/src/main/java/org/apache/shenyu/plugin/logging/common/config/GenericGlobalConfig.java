@@ -43,6 +43,16 @@ public class GenericGlobalConfig {
      */
     private int bufferQueueSize = 50000;
 
+    /**
+     * the maximum number of logs sent in one batch, default 100.
+     */
+    private int consumerBatchSize = 100;
+
+    /**
+     * the maximum time in milliseconds a log waits for its batch to fill up, default 100.
+     */
+    private long consumerLingerMs = 100;
+
     /**
      * get sampler.
      *
@@ -132,4 +142,40 @@ public class GenericGlobalConfig {
     public void setBufferQueueSize(final int bufferQueueSize) {
         this.bufferQueueSize = bufferQueueSize;
     }
+
+    /**
+     * get consumer batch size.
+     *
+     * @return consumer batch size
+     */
+    public int getConsumerBatchSize() {
+        return consumerBatchSize;
+    }
+
+    /**
+     * set consumer batch size.
+     *
+     * @param consumerBatchSize consumer batch size
+     */
+    public void setConsumerBatchSize(final int consumerBatchSize) {
+        this.consumerBatchSize = consumerBatchSize;
+    }
+
+    /**
+     * get consumer linger ms.
+     *
+     * @return consumer linger ms
+     */
+    public long getConsumerLingerMs() {
+        return consumerLingerMs;
+    }
+
+    /**
+     * set consumer linger ms.
+     *
+     * @param consumerLingerMs consumer linger ms
+     */
+    public void setConsumerLingerMs(final long consumerLingerMs) {
+        this.consumerLingerMs = consumerLingerMs;
+    }
 }
@@ -53,4 +53,20 @@ public class GenericGlobalConfigTest {
         genericGlobalConfig.setBufferQueueSize(5000);
         Assertions.assertEquals(genericGlobalConfig.getBufferQueueSize(), 5000);
     }
+
+    @Test
+    public void testSetGenericGlobalConfigConsumerBatchSize() {
+        GenericGlobalConfig genericGlobalConfig = new GenericGlobalConfig();
+        Assertions.assertEquals(genericGlobalConfig.getConsumerBatchSize(), 100);
+        genericGlobalConfig.setConsumerBatchSize(500);
+        Assertions.assertEquals(genericGlobalConfig.getConsumerBatchSize(), 500);
+    }
+
+    @Test
+    public void testSetGenericGlobalConfigConsumerLingerMs() {
+        GenericGlobalConfig genericGlobalConfig = new GenericGlobalConfig();
+        Assertions.assertEquals(genericGlobalConfig.getConsumerLingerMs(), 100);
+        genericGlobalConfig.setConsumerLingerMs(20);
+        Assertions.assertEquals(genericGlobalConfig.getConsumerLingerMs(), 20);
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.endpoint;
+
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The zone traffic endpoint, it exposes the selections per zone of the zone aware load balancers.
+ */
+@RestController
+@RequestMapping(value = "/actuator", produces = MediaType.APPLICATION_JSON_VALUE)
+public class ZoneTrafficEndpoint {
+
+    /**
+     * Get the local zone, the selections per zone and the selections spilled over to other zones by algorithm.
+     *
+     * @return the zone traffic by algorithm, empty if the gateway has no zone
+     */
+    @GetMapping("/zoneTraffic")
+    public Mono<Map<String, Map<String, Object>>> zoneTraffic() {
+        final Map<String, Map<String, Object>> traffic = new HashMap<>();
+        LoadBalancerFactory.getZoneAwareLoadBalancers().forEach((algorithm, balancer) -> {
+            final Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("localZone", balancer.getLocalZone());
+            stats.put("zoneTraffic", balancer.getZoneTraffic());
+            stats.put("spilled", balancer.getSpilled());
+            traffic.put(algorithm, stats);
+        });
+        return Mono.just(traffic);
+    }
+}
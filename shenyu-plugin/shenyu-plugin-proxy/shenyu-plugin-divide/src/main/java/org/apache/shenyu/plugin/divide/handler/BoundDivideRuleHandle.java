@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.handler;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.rule.impl.DivideRuleHandle;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.common.enums.RetryEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.apache.shenyu.loadbalancer.spi.LoadBalancer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The divide rule handle bound to its resolved {@link LoadBalancer} when the rule is synced.
+ *
+ * <p>The request path calls the load balancer directly and puts the prepared exchange attribute values,
+ * instead of resolving the load balancer SPI, defaulting the strings and boxing the numbers per request.</p>
+ */
+public class BoundDivideRuleHandle extends DivideRuleHandle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundDivideRuleHandle.class);
+
+    private transient LoadBalancer loadBalancer;
+
+    private transient String loadBalanceName;
+
+    private transient String retryStrategyName;
+
+    private transient Long timeoutValue;
+
+    private transient Integer retryValue;
+
+    private transient Double hedgePercentileValue;
+
+    private transient Double retryBudgetValue;
+
+    /**
+     * Instantiates a new bound divide rule handle with the default values.
+     */
+    public BoundDivideRuleHandle() {
+        bind();
+    }
+
+    /**
+     * Parse the rule handle json and bind it.
+     *
+     * @param handle the rule handle json
+     * @return the bound divide rule handle
+     */
+    public static BoundDivideRuleHandle fromJson(final String handle) {
+        BoundDivideRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(handle, BoundDivideRuleHandle.class);
+        // gson sets the fields without the setters
+        ruleHandle.bind();
+        return ruleHandle;
+    }
+
+    /**
+     * Bind a copy of the rule handle.
+     *
+     * @param handle the divide rule handle
+     * @return the bound divide rule handle
+     */
+    public static BoundDivideRuleHandle of(final DivideRuleHandle handle) {
+        if (handle instanceof BoundDivideRuleHandle) {
+            return (BoundDivideRuleHandle) handle;
+        }
+        BoundDivideRuleHandle ruleHandle = new BoundDivideRuleHandle();
+        ruleHandle.setLoadBalance(handle.getLoadBalance());
+        ruleHandle.setRetryStrategy(handle.getRetryStrategy());
+        ruleHandle.setRetry(handle.getRetry());
+        ruleHandle.setTimeout(handle.getTimeout());
+        ruleHandle.setHeaderMaxSize(handle.getHeaderMaxSize());
+        ruleHandle.setRequestMaxSize(handle.getRequestMaxSize());
+        ruleHandle.setHedgePercentile(handle.getHedgePercentile());
+        ruleHandle.setRetryBudget(handle.getRetryBudget());
+        return ruleHandle;
+    }
+
+    @Override
+    public void setLoadBalance(final String loadBalance) {
+        super.setLoadBalance(loadBalance);
+        bind();
+    }
+
+    @Override
+    public void setRetryStrategy(final String retryStrategy) {
+        super.setRetryStrategy(retryStrategy);
+        bind();
+    }
+
+    @Override
+    public void setRetry(final int retry) {
+        super.setRetry(retry);
+        bind();
+    }
+
+    @Override
+    public void setTimeout(final long timeout) {
+        super.setTimeout(timeout);
+        bind();
+    }
+
+    @Override
+    public void setHedgePercentile(final double hedgePercentile) {
+        super.setHedgePercentile(hedgePercentile);
+        bind();
+    }
+
+    @Override
+    public void setRetryBudget(final double retryBudget) {
+        super.setRetryBudget(retryBudget);
+        bind();
+    }
+
+    /**
+     * Get the bound load balancer.
+     *
+     * @return the load balancer, null if the algorithm is unknown
+     */
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * Get the load balance name, random if it is not set.
+     *
+     * @return the load balance name
+     */
+    public String getLoadBalanceName() {
+        return loadBalanceName;
+    }
+
+    /**
+     * Get the retry strategy name, current if it is not set.
+     *
+     * @return the retry strategy name
+     */
+    public String getRetryStrategyName() {
+        return retryStrategyName;
+    }
+
+    /**
+     * Get the boxed timeout.
+     *
+     * @return the timeout
+     */
+    public Long getTimeoutValue() {
+        return timeoutValue;
+    }
+
+    /**
+     * Get the boxed retry.
+     *
+     * @return the retry
+     */
+    public Integer getRetryValue() {
+        return retryValue;
+    }
+
+    /**
+     * Get the boxed hedge percentile.
+     *
+     * @return the hedge percentile
+     */
+    public Double getHedgePercentileValue() {
+        return hedgePercentileValue;
+    }
+
+    /**
+     * Get the boxed retry budget.
+     *
+     * @return the retry budget
+     */
+    public Double getRetryBudgetValue() {
+        return retryBudgetValue;
+    }
+
+    private void bind() {
+        loadBalanceName = StringUtils.defaultIfBlank(getLoadBalance(), LoadBalanceEnum.RANDOM.getName());
+        retryStrategyName = StringUtils.defaultString(getRetryStrategy(), RetryEnum.CURRENT.getName());
+        timeoutValue = getTimeout();
+        retryValue = getRetry();
+        hedgePercentileValue = getHedgePercentile();
+        retryBudgetValue = getRetryBudget();
+        try {
+            loadBalancer = LoadBalancerFactory.getLoadBalancer(loadBalanceName);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("divide rule handle has an unknown load balance: {}", loadBalanceName);
+            loadBalancer = null;
+        }
+    }
+}
@@ -74,6 +74,7 @@ public class DivideUpstreamDataHandler implements DiscoveryUpstreamDataHandler {
                     .url(u.getUrl())
                     .weight(u.getWeight())
                     .warmup(Integer.parseInt(properties.getProperty("warmup", "10")))
+                    .zone(properties.getProperty("zone"))
                     .gray(Boolean.parseBoolean(properties.getProperty("gray", "false")))
                     .status(0 == u.getStatus())
                     .timestamp(Optional.ofNullable(u.getDateCreated()).map(Timestamp::getTime).orElse(System.currentTimeMillis()))
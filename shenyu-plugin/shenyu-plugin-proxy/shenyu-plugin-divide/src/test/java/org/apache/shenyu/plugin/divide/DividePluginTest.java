@@ -28,6 +28,7 @@ import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.entity.LatencyStats;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
@@ -51,10 +52,9 @@ import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.List;
@@ -62,7 +62,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -219,30 +218,32 @@ public final class DividePluginTest {
     }
 
     @Test
-    public void responseTriggerTest() throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    public void responseTriggerTest() throws Exception {
         Upstream upstream = Upstream.builder()
                 .url("upstream")
                 .build();
-        assertEquals(0, upstream.getLag());
-        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", Upstream.class);
+        LatencyStats latencyStats = upstream.getLatencyStats();
+        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", ServerWebExchange.class, LatencyStats.class, SignalType.class);
         method.setAccessible(true);
-        method.invoke(DividePlugin.class.newInstance(), upstream);
-        assertNotEquals(0, upstream.getLag());
+        exchange.getAttributes().put(Constants.UPSTREAM_START_TIME, latencyStats.start() - 1000L);
+        assertEquals(1, latencyStats.getInflight());
+        method.invoke(dividePlugin, exchange, latencyStats, SignalType.ON_COMPLETE);
+        assertEquals(0, latencyStats.getInflight());
+        assertTrue(latencyStats.getEwmaNanos() >= 1000d);
     }
 
     @Test
-    public void successResponseTriggerTest() throws Exception {
-        dividePlugin = DividePlugin.class.newInstance();
-        Field field = DividePlugin.class.getDeclaredField("beginTime");
-        field.setAccessible(true);
-        field.set(dividePlugin, 0L);
-        Method method = DividePlugin.class.getDeclaredMethod("successResponseTrigger", Upstream.class);
-        method.setAccessible(true);
+    public void cancelResponseTriggerTest() throws Exception {
         Upstream upstream = Upstream.builder()
                 .url("upstream")
                 .build();
-        method.invoke(dividePlugin, upstream);
-        assertEquals(1, upstream.getSucceeded().get());
+        LatencyStats latencyStats = upstream.getLatencyStats();
+        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", ServerWebExchange.class, LatencyStats.class, SignalType.class);
+        method.setAccessible(true);
+        exchange.getAttributes().put(Constants.UPSTREAM_START_TIME, latencyStats.start());
+        method.invoke(dividePlugin, exchange, latencyStats, SignalType.CANCEL);
+        assertEquals(0, latencyStats.getInflight());
+        assertEquals(0d, latencyStats.getEwmaNanos());
     }
 
     /**
@@ -253,6 +254,7 @@ public final class DividePluginTest {
         context.setRpcType(RpcTypeEnum.HTTP.getName());
         DivideRuleHandle handle = new DivideRuleHandle();
         when(selectorData.getId()).thenReturn("mock");
+        when(ruleData.getId()).thenReturn("mock");
         when(selectorData.getHandle()).thenReturn(GsonUtils.getGson().toJson(divideUpstreamList));
         when(ruleData.getHandle()).thenReturn(GsonUtils.getGson().toJson(handle));
         when(discoverySyncData.getUpstreamDataList()).thenReturn(divideUpstreamList);
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.endpoint;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Zone traffic endpoint test.
+ */
+public final class ZoneTrafficEndpointTest {
+
+    @AfterEach
+    public void tearDown() {
+        Singleton.INST.single(ShenyuConfig.class, new ShenyuConfig());
+    }
+
+    @Test
+    public void zoneTrafficTest() {
+        final ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getLoadBalance().setZone("zone-a");
+        Singleton.INST.single(ShenyuConfig.class, shenyuConfig);
+        final Upstream local = Upstream.builder().url("upstream-a").weight(50).build();
+        local.setZone("zone-a");
+        final Upstream remote = Upstream.builder().url("upstream-b").weight(50).build();
+        remote.setZone("zone-b");
+        final List<Upstream> upstreamList = Arrays.asList(local, remote);
+        for (int i = 0; i < 10; i++) {
+            LoadBalancerFactory.selector(upstreamList, LoadBalanceEnum.ROUND_ROBIN.getName(), "127.0.0.1");
+        }
+        StepVerifier.create(new ZoneTrafficEndpoint().zoneTraffic())
+                .assertNext(traffic -> {
+                    assertEquals("zone-a", traffic.get(LoadBalanceEnum.ROUND_ROBIN.getName()).get("localZone"));
+                    assertEquals(0L, traffic.get(LoadBalanceEnum.ROUND_ROBIN.getName()).get("spilled"));
+                    assertTrue(((Map<?, ?>) traffic.get(LoadBalanceEnum.ROUND_ROBIN.getName()).get("zoneTraffic")).containsKey("zone-a"));
+                })
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.divide.handler;
+
+import org.apache.shenyu.common.dto.convert.rule.impl.DivideRuleHandle;
+import org.apache.shenyu.common.enums.LoadBalanceEnum;
+import org.apache.shenyu.common.enums.RetryEnum;
+import org.apache.shenyu.loadbalancer.spi.HashLoadBalancer;
+import org.apache.shenyu.loadbalancer.spi.RandomLoadBalancer;
+import org.apache.shenyu.loadbalancer.spi.RoundRobinLoadBalancer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The type bound divide rule handle test.
+ */
+public final class BoundDivideRuleHandleTest {
+
+    @Test
+    public void defaultTest() {
+        BoundDivideRuleHandle ruleHandle = new BoundDivideRuleHandle();
+        assertEquals(LoadBalanceEnum.RANDOM.getName(), ruleHandle.getLoadBalanceName());
+        assertEquals(RetryEnum.CURRENT.getName(), ruleHandle.getRetryStrategyName());
+        assertInstanceOf(RandomLoadBalancer.class, ruleHandle.getLoadBalancer());
+        assertEquals(ruleHandle.getTimeout(), ruleHandle.getTimeoutValue());
+        assertEquals(ruleHandle.getRetry(), ruleHandle.getRetryValue());
+        assertEquals(0, ruleHandle.getHedgePercentileValue());
+        assertEquals(20, ruleHandle.getRetryBudgetValue());
+    }
+
+    @Test
+    public void fromJsonTest() {
+        BoundDivideRuleHandle ruleHandle = BoundDivideRuleHandle.fromJson("{\"loadBalance\":\"roundRobin\",\"retryStrategy\":\"failover\",\"retry\":1,\"timeout\":1000,\"hedgePercentile\":95}");
+        assertInstanceOf(RoundRobinLoadBalancer.class, ruleHandle.getLoadBalancer());
+        assertEquals("roundRobin", ruleHandle.getLoadBalanceName());
+        assertEquals("failover", ruleHandle.getRetryStrategyName());
+        assertEquals(1000L, ruleHandle.getTimeoutValue());
+        assertEquals(1, ruleHandle.getRetryValue());
+        assertEquals(95, ruleHandle.getHedgePercentileValue());
+    }
+
+    @Test
+    public void setterRebindTest() {
+        BoundDivideRuleHandle ruleHandle = new BoundDivideRuleHandle();
+        ruleHandle.setLoadBalance(LoadBalanceEnum.HASH.getName());
+        ruleHandle.setTimeout(5L);
+        assertInstanceOf(HashLoadBalancer.class, ruleHandle.getLoadBalancer());
+        assertEquals(5L, ruleHandle.getTimeoutValue());
+        ruleHandle.setLoadBalance("unknown");
+        assertNull(ruleHandle.getLoadBalancer());
+    }
+
+    @Test
+    public void ofTest() {
+        DivideRuleHandle divideRuleHandle = DivideRuleHandle.newInstance();
+        divideRuleHandle.setLoadBalance(LoadBalanceEnum.ROUND_ROBIN.getName());
+        divideRuleHandle.setHeaderMaxSize(10);
+        divideRuleHandle.setRetryBudget(5);
+        BoundDivideRuleHandle ruleHandle = BoundDivideRuleHandle.of(divideRuleHandle);
+        assertInstanceOf(RoundRobinLoadBalancer.class, ruleHandle.getLoadBalancer());
+        assertEquals(10, ruleHandle.getHeaderMaxSize());
+        assertEquals(5, ruleHandle.getRetryBudgetValue());
+        assertSame(ruleHandle, BoundDivideRuleHandle.of(ruleHandle));
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.spi.RoundRobinLoadBalancer;
+import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -104,6 +107,20 @@ public final class DividePluginDataHandlerTest {
         assertEquals(dividePluginDataHandler.pluginNamed(), PluginEnum.DIVIDE.getName());
     }
 
+    /**
+     * Handler rule test.
+     */
+    @Test
+    public void handlerRuleTest() {
+        when(ruleData.getId()).thenReturn("rule");
+        when(ruleData.getSelectorId()).thenReturn("handler");
+        when(ruleData.getHandle()).thenReturn("{\"loadBalance\":\"roundRobin\",\"timeout\":1000}");
+        dividePluginDataHandler.handlerRule(ruleData);
+        BoundDivideRuleHandle ruleHandle = (BoundDivideRuleHandle) DividePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData));
+        assertInstanceOf(RoundRobinLoadBalancer.class, ruleHandle.getLoadBalancer());
+        assertEquals(1000L, ruleHandle.getTimeoutValue());
+    }
+
     /**
      * Plugin named test.
      */
@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -53,6 +54,7 @@ import org.apache.shenyu.common.dto.convert.rule.impl.DubboRuleHandle;
 import org.apache.shenyu.common.dto.convert.selector.DubboUpstream;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.DigestUtils;
+import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.plugin.dubbo.common.cache.DubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.cache.DubboMethodParam;
 import org.apache.shenyu.plugin.dubbo.common.cache.DubboParam;
@@ -73,6 +75,8 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
 
     private ConsumerConfig consumerConfig;
 
+    private final Map<String, ApacheDubboUpstreamTable> upstreamTables = new ConcurrentHashMap<>();
+
     private final LoadingCache<String, ReferenceConfig<GenericService>> cache = CacheBuilder.newBuilder()
             .maximumSize(Constants.CACHE_MAX_COUNT)
             .removalListener((RemovalListener<Object, ReferenceConfig<GenericService>>) notification -> {
@@ -81,6 +85,8 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
                     // After the configuration change, Dubbo destroys the instance, but does not empty it. If it is not handled,
                     // it will get NULL when reinitializing and cause a NULL pointer problem.
                     config.destroy();
+                    // the routing tables must not hand out a destroyed reference
+                    upstreamTables.values().forEach(table -> table.removeReference(config));
                 }
             })
             .build(new CacheLoader<>() {
@@ -507,6 +513,38 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
         }
     }
 
+    /**
+     * Whether the reference is the one cached for the key.
+     *
+     * @param key       the cache key
+     * @param reference the reference config
+     * @return true when cached
+     */
+    public boolean isCached(final String key, final ReferenceConfig<GenericService> reference) {
+        return cache.getIfPresent(key) == reference;
+    }
+
+    /**
+     * Get the routing table of a selector, parsing the selector handle when the selector was not cached yet.
+     *
+     * @param selectorId the selector id
+     * @param handle     the selector handle
+     * @return the routing table
+     */
+    public ApacheDubboUpstreamTable getUpstreamTable(final String selectorId, final String handle) {
+        return MapUtils.computeIfAbsent(upstreamTables, selectorId, key -> ApacheDubboUpstreamTable.of(handle));
+    }
+
+    /**
+     * Cache the routing table of a selector when it is synced.
+     *
+     * @param selectorId the selector id
+     * @param handle     the selector handle
+     */
+    public void cacheUpstreamTable(final String selectorId, final String handle) {
+        upstreamTables.put(selectorId, ApacheDubboUpstreamTable.of(handle));
+    }
+
     /**
      * Invalidate.
      *
@@ -520,6 +558,7 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
      * Invalidate all.
      */
     public void invalidateAll() {
+        upstreamTables.clear();
         cache.invalidateAll();
     }
 
@@ -529,6 +568,7 @@ public final class ApacheDubboConfigCache extends DubboConfigCache {
      * @param selectorId the selectorId
      */
     public void invalidateWithSelectorId(final String selectorId) {
+        upstreamTables.remove(selectorId);
         ConcurrentMap<String, ReferenceConfig<GenericService>> map = cache.asMap();
         Set<String> allKeys = map.keySet();
         Set<String> needInvalidateKeys = allKeys.stream().filter(key -> key.contains(selectorId)).collect(Collectors.toSet());
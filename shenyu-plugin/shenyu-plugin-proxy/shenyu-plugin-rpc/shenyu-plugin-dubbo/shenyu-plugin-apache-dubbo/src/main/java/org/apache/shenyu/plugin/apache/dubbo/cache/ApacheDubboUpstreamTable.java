@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.apache.dubbo.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.rpc.service.GenericService;
+import org.apache.shenyu.common.dto.convert.selector.DubboUpstream;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+/**
+ * The routing table of a dubbo selector, parsed once from the selector handle.
+ *
+ * <p>It holds the enabled upstreams with a registry, both as {@link DubboUpstream} and as the {@link Upstream}
+ * list the load balancer picks from. Every route keeps the {@link ReferenceConfig} resolved for it per rule,
+ * meta data and namespace, so the request path is a lookup plus one balancer pick.</p>
+ */
+public final class ApacheDubboUpstreamTable {
+
+    private static final ApacheDubboUpstreamTable EMPTY = new ApacheDubboUpstreamTable(Collections.emptyList());
+
+    private final List<Upstream> upstreams;
+
+    private final Map<Upstream, Route> routes;
+
+    private ApacheDubboUpstreamTable(final List<Route> routeList) {
+        final List<Upstream> upstreamList = new ArrayList<>(routeList.size());
+        final Map<Upstream, Route> routeMap = new IdentityHashMap<>(routeList.size());
+        for (Route route : routeList) {
+            upstreamList.add(route.getUpstream());
+            routeMap.put(route.getUpstream(), route);
+        }
+        this.upstreams = Collections.unmodifiableList(upstreamList);
+        this.routes = routeMap;
+    }
+
+    /**
+     * Parse the routing table of a selector handle.
+     *
+     * @param handle the selector handle
+     * @return the routing table, empty when the selector has no enabled upstream with a registry
+     */
+    public static ApacheDubboUpstreamTable of(final String handle) {
+        final List<DubboUpstream> dubboUpstreams = StringUtils.isBlank(handle) ? null : GsonUtils.getInstance().fromList(handle, DubboUpstream.class);
+        if (CollectionUtils.isEmpty(dubboUpstreams)) {
+            return EMPTY;
+        }
+        final List<Route> routeList = new ArrayList<>(dubboUpstreams.size());
+        for (DubboUpstream each : dubboUpstreams) {
+            if (each.isStatus() && StringUtils.isNotBlank(each.getRegistry())) {
+                routeList.add(new Route(each));
+            }
+        }
+        return routeList.isEmpty() ? EMPTY : new ApacheDubboUpstreamTable(routeList);
+    }
+
+    /**
+     * Whether the selector has no upstream and the plugin config is used.
+     *
+     * @return true when empty
+     */
+    public boolean isEmpty() {
+        return upstreams.isEmpty();
+    }
+
+    /**
+     * Get the upstreams to pick from, the same list on every call.
+     *
+     * @return the upstreams
+     */
+    public List<Upstream> getUpstreams() {
+        return upstreams;
+    }
+
+    /**
+     * Get the route of a picked upstream, the first route when the balancer returned a copy that matches none.
+     *
+     * @param upstream the picked upstream
+     * @return the route
+     */
+    public Route getRoute(final Upstream upstream) {
+        final Route route = routes.get(upstream);
+        if (Objects.nonNull(route)) {
+            return route;
+        }
+        for (Upstream each : upstreams) {
+            if (Objects.nonNull(upstream) && Objects.equals(each.getUrl(), upstream.getUrl())
+                    && Objects.equals(each.getProtocol(), upstream.getProtocol())
+                    && Objects.equals(each.getVersion(), upstream.getVersion())
+                    && Objects.equals(each.getGroup(), upstream.getGroup())) {
+                return routes.get(each);
+            }
+        }
+        return routes.get(upstreams.get(0));
+    }
+
+    /**
+     * Forget a reference evicted from the cache, the routes holding it resolve it again on the next request.
+     *
+     * @param reference the evicted reference config
+     */
+    public void removeReference(final ReferenceConfig<GenericService> reference) {
+        routes.values().forEach(route -> route.references.values().removeIf(each -> each == reference));
+    }
+
+    /**
+     * An upstream of the selector with the references resolved for it.
+     */
+    public static final class Route {
+
+        private final DubboUpstream dubboUpstream;
+
+        private final Upstream upstream;
+
+        private final Map<ReferenceKey, ReferenceConfig<GenericService>> references = new ConcurrentHashMap<>();
+
+        private Route(final DubboUpstream dubboUpstream) {
+            this.dubboUpstream = dubboUpstream;
+            this.upstream = Upstream.builder()
+                    .protocol(dubboUpstream.getProtocol())
+                    .url(dubboUpstream.getRegistry())
+                    .version(dubboUpstream.getVersion())
+                    .group(dubboUpstream.getGroup())
+                    .weight(dubboUpstream.getWeight())
+                    .status(dubboUpstream.isStatus())
+                    .timestamp(dubboUpstream.getTimestamp())
+                    .build();
+        }
+
+        /**
+         * Get the dubbo upstream.
+         *
+         * @return the dubbo upstream
+         */
+        public DubboUpstream getDubboUpstream() {
+            return dubboUpstream;
+        }
+
+        /**
+         * Get the upstream handed to the load balancer.
+         *
+         * @return the upstream
+         */
+        public Upstream getUpstream() {
+            return upstream;
+        }
+
+        /**
+         * Get the reference resolved for the rule, meta data and namespace.
+         *
+         * @param ruleId     the rule id
+         * @param metaDataId the meta data id
+         * @param namespace  the namespace
+         * @return the reference config, null when it was not resolved yet
+         */
+        public ReferenceConfig<GenericService> getReference(final String ruleId, final String metaDataId, final String namespace) {
+            return references.get(new ReferenceKey(ruleId, metaDataId, namespace));
+        }
+
+        /**
+         * Keep the reference resolved for the rule, meta data and namespace.
+         *
+         * @param ruleId     the rule id
+         * @param metaDataId the meta data id
+         * @param namespace  the namespace
+         * @param reference  the reference config
+         */
+        public void putReference(final String ruleId, final String metaDataId, final String namespace, final ReferenceConfig<GenericService> reference) {
+            references.put(new ReferenceKey(ruleId, metaDataId, namespace), reference);
+        }
+
+        /**
+         * Forget the reference resolved for the rule, meta data and namespace, when it is still the given one.
+         *
+         * @param ruleId     the rule id
+         * @param metaDataId the meta data id
+         * @param namespace  the namespace
+         * @param reference  the reference config
+         */
+        public void removeReference(final String ruleId, final String metaDataId, final String namespace, final ReferenceConfig<GenericService> reference) {
+            // by identity, reference configs with the same settings are equal
+            references.computeIfPresent(new ReferenceKey(ruleId, metaDataId, namespace), (key, each) -> each == reference ? null : each);
+        }
+    }
+
+    private static final class ReferenceKey {
+
+        private final String ruleId;
+
+        private final String metaDataId;
+
+        private final String namespace;
+
+        private final int hash;
+
+        ReferenceKey(final String ruleId, final String metaDataId, final String namespace) {
+            this.ruleId = ruleId;
+            this.metaDataId = metaDataId;
+            this.namespace = namespace;
+            this.hash = Objects.hash(ruleId, metaDataId, namespace);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ReferenceKey)) {
+                return false;
+            }
+            final ReferenceKey that = (ReferenceKey) o;
+            return Objects.equals(ruleId, that.ruleId) && Objects.equals(metaDataId, that.metaDataId) && Objects.equals(namespace, that.namespace);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -34,6 +34,12 @@ public class ApacheDubboPluginDataHandler extends AbstractDubboPluginDataHandler
         ApacheDubboConfigCache.getInstance().invalidateAll();
     }
 
+    @Override
+    public void handlerSelector(final SelectorData selectorData) {
+        super.handlerSelector(selectorData);
+        ApacheDubboConfigCache.getInstance().cacheUpstreamTable(selectorData.getId(), selectorData.getHandle());
+    }
+
     @Override
     protected void invalidateReferenceBySelector(final SelectorData selectorData) {
         ApacheDubboConfigCache.getInstance().invalidateWithSelectorId(selectorData.getId());
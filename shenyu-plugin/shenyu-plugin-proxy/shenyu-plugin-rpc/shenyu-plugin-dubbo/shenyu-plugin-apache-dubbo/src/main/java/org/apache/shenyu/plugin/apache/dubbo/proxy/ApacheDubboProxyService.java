@@ -19,10 +19,6 @@ package org.apache.shenyu.plugin.apache.dubbo.proxy;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
-import java.util.List;
-import java.util.Collections;
-import java.util.Optional;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -40,14 +36,13 @@ import org.apache.shenyu.common.dto.convert.selector.DubboUpstream;
 import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
+import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboUpstreamTable;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
-import org.springframework.util.ObjectUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -125,11 +120,9 @@ public class ApacheDubboProxyService {
             namespace = exchange.getRequest().getHeaders().get(Constants.NAMESPACE).get(0);
         }
 
-        List<DubboUpstream> dubboUpstreams = GsonUtils.getInstance().fromList(selectorData.getHandle(), DubboUpstream.class);
-        dubboUpstreams = CollectionUtils.isEmpty(dubboUpstreams) ? null
-                : dubboUpstreams.stream().filter(u -> u.isStatus() && StringUtils.isNotBlank(u.getRegistry())).collect(Collectors.toList());
+        ApacheDubboUpstreamTable upstreamTable = ApacheDubboConfigCache.getInstance().getUpstreamTable(selectorData.getId(), selectorData.getHandle());
         // if dubboUpstreams is empty, use default plugin config
-        if (CollectionUtils.isEmpty(dubboUpstreams)) {
+        if (upstreamTable.isEmpty()) {
             referenceKey = StringUtils.isNotBlank(namespace) ? namespace + Constants.COLONS + referenceKey : referenceKey;
             ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
             if (StringUtils.isEmpty(reference.getInterface())) {
@@ -139,49 +132,27 @@ public class ApacheDubboProxyService {
             return reference;
         }
 
-        List<Upstream> upstreams = this.convertUpstreamList(dubboUpstreams);
         String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-        Upstream upstream = LoadBalancerFactory.selector(upstreams, LoadBalanceEnum.RANDOM.getName(), ip);
-        DubboUpstream dubboUpstream = dubboUpstreams.get(0);
-        for (DubboUpstream upstreamItem : dubboUpstreams) {
-            if (Objects.equals(upstreamItem.getRegistry(), upstream.getUrl())
-                    && Objects.equals(upstreamItem.getProtocol(), upstream.getProtocol())
-                    && Objects.equals(upstreamItem.getVersion(), upstream.getVersion())
-                    && Objects.equals(upstreamItem.getGroup(), upstream.getGroup())) {
-                dubboUpstream = upstreamItem;
-                break;
-            }
+        Upstream upstream = LoadBalancerFactory.selector(upstreamTable.getUpstreams(), LoadBalanceEnum.RANDOM.getName(), ip);
+        ApacheDubboUpstreamTable.Route route = upstreamTable.getRoute(upstream);
+        ReferenceConfig<GenericService> reference = route.getReference(ruleData.getId(), metaData.getId(), namespace);
+        if (Objects.nonNull(reference)) {
+            return reference;
         }
 
+        DubboUpstream dubboUpstream = route.getDubboUpstream();
         referenceKey = ApacheDubboConfigCache.getInstance().generateUpstreamCacheKey(selectorData.getId(), ruleData.getId(), metaData.getId(), namespace, dubboUpstream);
-        ReferenceConfig<GenericService> reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
+        reference = ApacheDubboConfigCache.getInstance().get(referenceKey);
         if (StringUtils.isEmpty(reference.getInterface())) {
             ApacheDubboConfigCache.getInstance().invalidate(referenceKey);
             reference = ApacheDubboConfigCache.getInstance().initRefN(selectorData.getId(), ruleData, metaData, namespace, dubboUpstream);
         }
-        return reference;
-    }
-
-    /**
-     * convert get DubboUpstream to Upstream.
-     *
-     * @param upstreamList  the dubbo upstream list
-     * @return upstream list
-     */
-    private List<Upstream> convertUpstreamList(final List<DubboUpstream> upstreamList) {
-        if (ObjectUtils.isEmpty(upstreamList)) {
-            return Collections.emptyList();
+        // keep only a reference the cache holds, it is dropped from the route when the cache evicts it. The eviction
+        // runs its listener after the reference left the cache, so checking again after the put catches one in between
+        route.putReference(ruleData.getId(), metaData.getId(), namespace, reference);
+        if (!ApacheDubboConfigCache.getInstance().isCached(referenceKey, reference)) {
+            route.removeReference(ruleData.getId(), metaData.getId(), namespace, reference);
         }
-        return upstreamList.stream().map(u -> {
-            return Upstream.builder()
-                    .protocol(u.getProtocol())
-                    .url(u.getRegistry())
-                    .version(u.getVersion())
-                    .group(u.getGroup())
-                    .weight(u.getWeight())
-                    .status(u.isStatus())
-                    .timestamp(Optional.of(u.getTimestamp()).orElse(System.currentTimeMillis()))
-                    .build();
-        }).collect(Collectors.toList());
+        return reference;
     }
 }
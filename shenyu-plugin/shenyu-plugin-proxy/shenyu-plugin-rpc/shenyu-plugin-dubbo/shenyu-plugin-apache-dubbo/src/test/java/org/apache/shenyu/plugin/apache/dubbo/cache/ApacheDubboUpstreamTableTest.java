@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.apache.dubbo.cache;
+
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.rpc.service.GenericService;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For ApacheDubboUpstreamTable.
+ */
+public final class ApacheDubboUpstreamTableTest {
+
+    private static final String HANDLE = "[{\"registry\":\"zookeeper://127.0.0.1:2181\",\"protocol\":\"dubbo\",\"status\":true,\"weight\":50},"
+            + "{\"registry\":\"zookeeper://127.0.0.2:2181\",\"protocol\":\"dubbo\",\"status\":true,\"weight\":50},"
+            + "{\"registry\":\"zookeeper://127.0.0.3:2181\",\"protocol\":\"dubbo\",\"status\":false,\"weight\":50}]";
+
+    @Test
+    public void ofTest() {
+        assertTrue(ApacheDubboUpstreamTable.of("[]").isEmpty());
+        assertTrue(ApacheDubboUpstreamTable.of(null).isEmpty());
+        ApacheDubboUpstreamTable table = ApacheDubboUpstreamTable.of(HANDLE);
+        assertEquals(2, table.getUpstreams().size());
+        assertSame(table.getUpstreams(), table.getUpstreams());
+    }
+
+    @Test
+    public void getRouteTest() {
+        ApacheDubboUpstreamTable table = ApacheDubboUpstreamTable.of(HANDLE);
+        Upstream second = table.getUpstreams().get(1);
+        assertSame(second, table.getRoute(second).getUpstream());
+        assertEquals("zookeeper://127.0.0.2:2181", table.getRoute(second).getDubboUpstream().getRegistry());
+        Upstream copy = Upstream.builder().protocol("dubbo").url("zookeeper://127.0.0.2:2181").build();
+        assertSame(second, table.getRoute(copy).getUpstream());
+    }
+
+    @Test
+    public void referenceTest() {
+        ApacheDubboUpstreamTable table = ApacheDubboUpstreamTable.of(HANDLE);
+        ApacheDubboUpstreamTable.Route route = table.getRoute(table.getUpstreams().get(0));
+        assertNull(route.getReference("rule", "meta", ""));
+        ReferenceConfig<GenericService> reference = new ReferenceConfig<>();
+        route.putReference("rule", "meta", "", reference);
+        assertSame(reference, route.getReference("rule", "meta", ""));
+        assertNull(route.getReference("rule", "meta", "namespace"));
+        route.removeReference("rule", "meta", "", new ReferenceConfig<>());
+        assertSame(reference, route.getReference("rule", "meta", ""));
+        route.removeReference("rule", "meta", "", reference);
+        assertNull(route.getReference("rule", "meta", ""));
+    }
+
+    @Test
+    public void removeReferenceTest() {
+        ApacheDubboUpstreamTable table = ApacheDubboUpstreamTable.of(HANDLE);
+        ApacheDubboUpstreamTable.Route first = table.getRoute(table.getUpstreams().get(0));
+        ApacheDubboUpstreamTable.Route second = table.getRoute(table.getUpstreams().get(1));
+        ReferenceConfig<GenericService> evicted = new ReferenceConfig<>();
+        ReferenceConfig<GenericService> kept = new ReferenceConfig<>();
+        first.putReference("rule", "meta", "", evicted);
+        second.putReference("rule", "meta", "", kept);
+        // only the routes holding the evicted reference forget it
+        table.removeReference(evicted);
+        assertNull(first.getReference("rule", "meta", ""));
+        assertSame(kept, second.getReference("rule", "meta", ""));
+    }
+}
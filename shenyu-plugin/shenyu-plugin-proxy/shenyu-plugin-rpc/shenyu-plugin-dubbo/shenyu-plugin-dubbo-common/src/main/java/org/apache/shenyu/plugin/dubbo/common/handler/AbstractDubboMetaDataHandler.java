@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.dubbo.common.handler;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 
 import java.util.Objects;
@@ -45,6 +46,7 @@ public abstract class AbstractDubboMetaDataHandler implements MetaDataHandler {
                     || !Objects.equals(metaData.getRpcExt(), exist.getRpcExt())
                     || !Objects.equals(metaData.getParameterTypes(), exist.getParameterTypes())
                     || !Objects.equals(metaData.getMethodName(), exist.getMethodName())) {
+                BodyParamUtils.invalidateBinder(exist.getParameterTypes());
                 updateReference(metaData);
             }
         }
@@ -60,6 +62,7 @@ public abstract class AbstractDubboMetaDataHandler implements MetaDataHandler {
     @Override
     public void remove(final MetaData metaData) {
         invalidateReference(metaData);
+        BodyParamUtils.invalidateBinder(metaData.getParameterTypes());
         META_DATA.remove(metaData.getPath());
     }
 
@@ -19,7 +19,6 @@ package org.apache.shenyu.plugin.grpc;
 
 import io.grpc.CallOptions;
 import io.grpc.Context;
-import io.grpc.MethodDescriptor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
@@ -29,7 +28,6 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
@@ -38,15 +36,22 @@ import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.grpc.cache.GrpcClientCache;
+import org.apache.shenyu.plugin.grpc.cache.GrpcMethodCache;
 import org.apache.shenyu.plugin.grpc.client.ShenyuGrpcClient;
 import org.apache.shenyu.plugin.grpc.context.GrpcConstants;
+import org.apache.shenyu.plugin.grpc.proto.GrpcFrames;
+import org.apache.shenyu.plugin.grpc.proto.GrpcMethod;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -61,6 +66,12 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
     public static final Context.Key<Map<String, String>> RPC_CONTEXT_KEY = Context.key("shenyuRpcContext");
 
     private static final Logger LOG = LoggerFactory.getLogger(GrpcPlugin.class);
+
+    private static final String GRPC_SUBTYPE = "grpc";
+
+    private static final String GRPC_WEB_SUBTYPE = "grpc-web";
+
+    private static final String GRPC_STATUS = "grpc-status";
     
     @Override
     protected String getRawPath(final ServerWebExchange exchange) {
@@ -81,7 +92,8 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         Objects.requireNonNull(metaData);
-        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(param)) {
+        final boolean passThrough = isGrpcBody(exchange);
+        if (!passThrough && StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(param)) {
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.GRPC_HAVE_BODY_PARAM);
             return WebFluxResultUtils.result(exchange, error);
@@ -93,19 +105,28 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.GRPC_CLIENT_NULL);
             return WebFluxResultUtils.result(exchange, error);
         }
-        // load balance context
-        Context.current().withValue(GrpcConstants.GRPC_SELECTOR_ID, selector.getId()).attach();
-        Context.current().withValue(GrpcConstants.GRPC_RULE_ID, rule.getId()).attach();
-        Context.current().withValue(GrpcConstants.GRPC_REMOTE_ADDRESS,
-                Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress()).attach();
-
-        GrpcExtInfo extInfo = GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
-        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(extInfo.timeout, TimeUnit.MILLISECONDS);
+        // load balance context, attached once around the call
+        Context context = Context.current().withValues(GrpcConstants.GRPC_SELECTOR_ID, selector.getId(),
+                GrpcConstants.GRPC_RULE_ID, rule.getId(),
+                GrpcConstants.GRPC_REMOTE_ADDRESS, Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress());
         Map<String, Map<String, String>> rpcContext = exchange.getAttribute(Constants.GENERAL_CONTEXT);
-        Optional.ofNullable(rpcContext).map(context -> context.get(PluginEnum.GRPC.getName())).ifPresent(
-            context -> Context.current().withValue(RPC_CONTEXT_KEY, context).attach());
-        CompletableFuture<ShenyuGrpcResponse> result = client.call(metaData, callOptions, param, extInfo.methodType);
-        Context.current().detach(Context.ROOT);
+        Map<String, String> grpcContext = Optional.ofNullable(rpcContext).map(each -> each.get(PluginEnum.GRPC.getName())).orElse(null);
+        if (Objects.nonNull(grpcContext)) {
+            context = context.withValue(RPC_CONTEXT_KEY, grpcContext);
+        }
+
+        final GrpcMethod method = GrpcMethodCache.getMethod(metaData);
+        final CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(method.getTimeout(), TimeUnit.MILLISECONDS);
+        if (passThrough) {
+            return passThrough(exchange, chain, client, method, callOptions, context);
+        }
+        CompletableFuture<ShenyuGrpcResponse> result;
+        final Context previous = context.attach();
+        try {
+            result = method.isTranscoding() ? client.call(method, callOptions, param) : client.call(metaData, callOptions, param, method.getMethodType());
+        } finally {
+            context.detach(previous);
+        }
 
         return Mono.fromFuture(result.thenApply(ret -> {
             exchange.getAttributes().put(Constants.RPC_RESULT, ret.getResults());
@@ -146,6 +167,50 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
                 && !StringUtils.isBlank(metaData.getServiceName());
     }
 
+    private boolean isGrpcBody(final ServerWebExchange exchange) {
+        final MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        if (Objects.isNull(contentType) || !"application".equals(contentType.getType())) {
+            return false;
+        }
+        // application/grpc, application/grpc-web and their +proto forms, the base64 grpc-web-text is not passed through
+        final String subtype = StringUtils.substringBefore(contentType.getSubtype(), "+");
+        return GRPC_SUBTYPE.equals(subtype) || GRPC_WEB_SUBTYPE.equals(subtype);
+    }
+
+    private Mono<Void> passThrough(final ServerWebExchange exchange, final ShenyuPluginChain chain, final ShenyuGrpcClient client,
+                                   final GrpcMethod method, final CallOptions callOptions, final Context context) {
+        final MediaType contentType = Objects.requireNonNull(exchange.getRequest().getHeaders().getContentType());
+        final boolean web = GRPC_WEB_SUBTYPE.equals(StringUtils.substringBefore(contentType.getSubtype(), "+"));
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(body -> {
+                    try {
+                        return GrpcFrames.unframe(body);
+                    } finally {
+                        DataBufferUtils.release(body);
+                    }
+                })
+                .defaultIfEmpty(Collections.emptyList())
+                .flatMap(requests -> {
+                    final Context previous = context.attach();
+                    try {
+                        return Mono.fromFuture(client.callRaw(method, callOptions, requests));
+                    } finally {
+                        context.detach(previous);
+                    }
+                })
+                .doOnNext(responses -> {
+                    // the response is written by the rpc message writer, which takes its content type from the client response
+                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, ResponseEntity.ok().contentType(contentType).build());
+                    if (!web) {
+                        // webflux writes no trailers, grpc-web carries the status in a trailer frame instead
+                        exchange.getResponse().getHeaders().set(GRPC_STATUS, "0");
+                    }
+                    exchange.getAttributes().put(Constants.RPC_RESULT, GrpcFrames.frame(responses, web));
+                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+                })
+                .onErrorMap(ShenyuException::new).then(chain.execute(exchange));
+    }
+
     @Override
     protected Mono<Void> handleSelectorIfNull(final String pluginName, final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         return WebFluxResultUtils.noSelectorResult(pluginName, exchange);
@@ -155,30 +220,4 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> handleRuleIfNull(final String pluginName, final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         return WebFluxResultUtils.noRuleResult(pluginName, exchange);
     }
-
-    /**
-     * The GrpcExt.
-     */
-    static class GrpcExtInfo {
-
-        private Integer timeout = 5000;
-
-        private MethodDescriptor.MethodType methodType;
-
-        public Integer getTimeout() {
-            return timeout;
-        }
-
-        public void setTimeout(final Integer timeout) {
-            this.timeout = timeout;
-        }
-
-        public MethodDescriptor.MethodType getMethodType() {
-            return methodType;
-        }
-
-        public void setMethodType(final MethodDescriptor.MethodType methodType) {
-            this.methodType = methodType;
-        }
-    }
 }
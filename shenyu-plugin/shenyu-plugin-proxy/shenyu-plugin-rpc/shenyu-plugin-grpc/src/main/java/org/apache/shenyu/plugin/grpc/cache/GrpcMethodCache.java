@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.grpc.proto.GrpcMethod;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The grpc method cache, resolved once per meta data path and again when the meta data changes.
+ * The method of a removed meta data is dropped by the {@link org.apache.shenyu.plugin.grpc.handler.GrpcMetaDataHandler}.
+ */
+public final class GrpcMethodCache {
+
+    private static final Map<String, GrpcMethod> METHOD_CACHE = Maps.newConcurrentMap();
+
+    private GrpcMethodCache() {
+    }
+
+    /**
+     * Get the method of the meta data.
+     *
+     * @param metaData the meta data
+     * @return the method
+     */
+    public static GrpcMethod getMethod(final MetaData metaData) {
+        final String path = metaData.getPath();
+        if (StringUtils.isBlank(path)) {
+            return GrpcMethod.of(metaData);
+        }
+        final GrpcMethod method = METHOD_CACHE.get(path);
+        if (Objects.nonNull(method) && method.matches(metaData)) {
+            return method;
+        }
+        final GrpcMethod resolved = GrpcMethod.of(metaData);
+        METHOD_CACHE.put(path, resolved);
+        return resolved;
+    }
+
+    /**
+     * Drop the method of the meta data path.
+     *
+     * @param path the meta data path
+     */
+    public static void invalidate(final String path) {
+        if (StringUtils.isNotBlank(path)) {
+            METHOD_CACHE.remove(path);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
+import org.apache.shenyu.plugin.grpc.proto.GrpcMethod;
+import org.apache.shenyu.plugin.grpc.proto.JsonMessageTranscoder;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcCallRequest;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
@@ -37,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -82,14 +85,101 @@ public class ShenyuGrpcClient implements Closeable {
                 jsonResponse);
         
         ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
-        StreamObserver<DynamicMessage> streamObserver = MessageWriter.newInstance(shenyuGrpcResponse);
+        return complete(jsonMarshallerMethodDescriptor, callOptions, jsonRequestList, MessageWriter.newInstance(shenyuGrpcResponse), shenyuGrpcResponse);
+    }
+    
+    /**
+     * Grpc call transcoding the json request to the real message types of the method.
+     *
+     * @param method       method
+     * @param callOptions  callOptions
+     * @param requestJsons requestJsons
+     * @return CompletableFuture future
+     */
+    public CompletableFuture<ShenyuGrpcResponse> call(final GrpcMethod method,
+                                                      final CallOptions callOptions,
+                                                      final String requestJsons) {
+        List<DynamicMessage> requestList = JsonMessageTranscoder.parse(requestJsons, method.getRequestType());
+        ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
+        return complete(method.getDescriptor(), callOptions, requestList, MessageWriter.newTranscodingInstance(shenyuGrpcResponse), shenyuGrpcResponse);
+    }
+    
+    /**
+     * Grpc call passing the messages through as they are.
+     *
+     * @param method      method
+     * @param callOptions callOptions
+     * @param requests    the request messages
+     * @return CompletableFuture the response messages
+     */
+    public CompletableFuture<List<byte[]>> callRaw(final GrpcMethod method,
+                                                   final CallOptions callOptions,
+                                                   final List<byte[]> requests) {
+        final MethodDescriptor<byte[], byte[]> rawDescriptor = method.getRawDescriptor();
+        final CompletableFuture<List<byte[]>> result = new CompletableFuture<>();
+        if (requests.isEmpty() && rawDescriptor.getType().clientSendsOneMessage()) {
+            result.completeExceptionally(new ShenyuGrpcException("The grpc request of " + rawDescriptor.getFullMethodName() + " has no message"));
+            return result;
+        }
+        final List<byte[]> responses = new ArrayList<>();
+        StreamObserver<byte[]> responseObserver = new StreamObserver<byte[]>() {
+            @Override
+            public void onNext(final byte[] value) {
+                responses.add(value);
+            }
+            
+            @Override
+            public void onError(final Throwable t) {
+                result.completeExceptionally(t);
+            }
+            
+            @Override
+            public void onCompleted() {
+                result.complete(responses);
+            }
+        };
+        if (!start(channel.newCall(rawDescriptor, callOptions), rawDescriptor.getType(), requests, responseObserver)) {
+            result.completeExceptionally(new ShenyuGrpcException("Unknown methodType:" + rawDescriptor.getType()));
+        }
+        return result;
+    }
+    
+    /**
+     * Grpc call.
+     *
+     * @param callParams callParams
+     * @return ListenableFuture future
+     */
+    public ListenableFuture<Void> invoke(final ShenyuGrpcCallRequest callParams) {
+        MethodDescriptor.MethodType methodType = callParams.getMethodDescriptor().getType();
+        List<DynamicMessage> requestList = callParams.getRequests();
         
+        StreamObserver<DynamicMessage> responseObserver = callParams.getResponseObserver();
+        CompleteObserver<DynamicMessage> doneObserver = new CompleteObserver<>();
+        StreamObserver<DynamicMessage> compositeObserver = CompositeStreamObserver.of(responseObserver, doneObserver);
+        
+        if (!start(createCall(callParams), methodType, requestList, compositeObserver)) {
+            return null;
+        }
+        return doneObserver.getCompletionFuture();
+    }
+    
+    @Override
+    public void close() {
+        this.channel.shutdown();
+    }
+    
+    private CompletableFuture<ShenyuGrpcResponse> complete(final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor,
+                                                           final CallOptions callOptions,
+                                                           final List<DynamicMessage> requestList,
+                                                           final StreamObserver<DynamicMessage> streamObserver,
+                                                           final ShenyuGrpcResponse shenyuGrpcResponse) {
         ShenyuGrpcCallRequest callParams = new ShenyuGrpcCallRequest();
-        callParams.setMethodDescriptor(jsonMarshallerMethodDescriptor);
+        callParams.setMethodDescriptor(methodDescriptor);
         callParams.setChannel(channel);
         callParams.setCallOptions(callOptions);
         callParams.setResponseObserver(streamObserver);
-        callParams.setRequests(jsonRequestList);
+        callParams.setRequests(requestList);
         
         try {
             this.invoke(callParams).get();
@@ -108,49 +198,34 @@ public class ShenyuGrpcClient implements Closeable {
         return CompletableFuture.completedFuture(shenyuGrpcResponse);
     }
     
-    /**
-     * Grpc call.
-     *
-     * @param callParams callParams
-     * @return ListenableFuture future
-     */
-    public ListenableFuture<Void> invoke(final ShenyuGrpcCallRequest callParams) {
-        MethodDescriptor.MethodType methodType = callParams.getMethodDescriptor().getType();
-        List<DynamicMessage> requestList = callParams.getRequests();
-        
-        StreamObserver<DynamicMessage> responseObserver = callParams.getResponseObserver();
-        CompleteObserver<DynamicMessage> doneObserver = new CompleteObserver<>();
-        StreamObserver<DynamicMessage> compositeObserver = CompositeStreamObserver.of(responseObserver, doneObserver);
-        
-        StreamObserver<DynamicMessage> requestObserver;
+    private static <T> boolean start(final ClientCall<T, T> call,
+                                     final MethodDescriptor.MethodType methodType,
+                                     final List<T> requestList,
+                                     final StreamObserver<T> responseObserver) {
+        StreamObserver<T> requestObserver;
         switch (methodType) {
             case UNARY:
-                asyncUnaryCall(createCall(callParams), requestList.get(0), compositeObserver);
-                return doneObserver.getCompletionFuture();
+                asyncUnaryCall(call, requestList.get(0), responseObserver);
+                return true;
             case SERVER_STREAMING:
-                asyncServerStreamingCall(createCall(callParams), requestList.get(0), compositeObserver);
-                return doneObserver.getCompletionFuture();
+                asyncServerStreamingCall(call, requestList.get(0), responseObserver);
+                return true;
             case CLIENT_STREAMING:
-                requestObserver = asyncClientStreamingCall(createCall(callParams), compositeObserver);
+                requestObserver = asyncClientStreamingCall(call, responseObserver);
                 requestList.forEach(requestObserver::onNext);
                 requestObserver.onCompleted();
-                return doneObserver.getCompletionFuture();
+                return true;
             case BIDI_STREAMING:
-                requestObserver = asyncBidiStreamingCall(createCall(callParams), compositeObserver);
+                requestObserver = asyncBidiStreamingCall(call, responseObserver);
                 requestList.forEach(requestObserver::onNext);
                 requestObserver.onCompleted();
-                return doneObserver.getCompletionFuture();
+                return true;
             default:
                 LOG.info("Unknown methodType:{}", methodType);
-                return null;
+                return false;
         }
     }
     
-    @Override
-    public void close() {
-        this.channel.shutdown();
-    }
-    
     private ClientCall<DynamicMessage, DynamicMessage> createCall(final ShenyuGrpcCallRequest callParams) {
         return callParams.getChannel().newCall(callParams.getMethodDescriptor(),
                 callParams.getCallOptions());
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The length prefixed messages of an {@code application/grpc} or {@code application/grpc-web} body.
+ *
+ * <p>Every message is framed by a flag byte and a four byte big endian length. The messages are passed
+ * through as they are, a compressed message is refused because the gateway does not negotiate the encoding.</p>
+ */
+public final class GrpcFrames {
+
+    private static final int HEADER_LENGTH = 5;
+
+    private static final byte TRAILER_FLAG = (byte) 0x80;
+
+    private GrpcFrames() {
+    }
+
+    /**
+     * Read the messages of a request body.
+     *
+     * @param body the request body
+     * @return the messages
+     */
+    public static List<byte[]> unframe(final DataBuffer body) {
+        final List<byte[]> messages = new ArrayList<>();
+        while (body.readableByteCount() >= HEADER_LENGTH) {
+            final byte flag = body.read();
+            if (flag != 0) {
+                throw new ShenyuGrpcException("Compressed grpc messages are not supported, flag: " + flag);
+            }
+            final int length = ((body.read() & 0xFF) << 24) | ((body.read() & 0xFF) << 16) | ((body.read() & 0xFF) << 8) | (body.read() & 0xFF);
+            if (length < 0 || body.readableByteCount() < length) {
+                throw new ShenyuGrpcException("The grpc message is truncated, length: " + length);
+            }
+            final byte[] message = new byte[length];
+            body.read(message);
+            messages.add(message);
+        }
+        if (body.readableByteCount() > 0) {
+            throw new ShenyuGrpcException("The grpc frame header is truncated");
+        }
+        return messages;
+    }
+
+    /**
+     * Frame the messages of a response body.
+     *
+     * @param messages the messages
+     * @param web      whether a grpc-web trailer frame with the ok status is appended
+     * @return the response body
+     */
+    public static byte[] frame(final List<byte[]> messages, final boolean web) {
+        final byte[] trailer = web ? "grpc-status:0\r\n".getBytes(StandardCharsets.US_ASCII) : null;
+        int size = web ? HEADER_LENGTH + trailer.length : 0;
+        for (byte[] message : messages) {
+            size += HEADER_LENGTH + message.length;
+        }
+        final byte[] body = new byte[size];
+        int offset = 0;
+        for (byte[] message : messages) {
+            offset = write(body, offset, (byte) 0, message);
+        }
+        if (web) {
+            write(body, offset, TRAILER_FLAG, trailer);
+        }
+        return body;
+    }
+
+    private static int write(final byte[] body, final int offset, final byte flag, final byte[] message) {
+        body[offset] = flag;
+        body[offset + 1] = (byte) (message.length >>> 24);
+        body[offset + 2] = (byte) (message.length >>> 16);
+        body[offset + 3] = (byte) (message.length >>> 8);
+        body[offset + 4] = (byte) message.length;
+        System.arraycopy(message, 0, body, offset + HEADER_LENGTH, message.length);
+        return offset + HEADER_LENGTH + message.length;
+    }
+}
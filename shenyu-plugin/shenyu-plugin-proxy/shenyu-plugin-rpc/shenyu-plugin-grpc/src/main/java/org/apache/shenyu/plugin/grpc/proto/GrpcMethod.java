@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DurationProto;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.EmptyProto;
+import com.google.protobuf.FieldMaskProto;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StructProto;
+import com.google.protobuf.TimestampProto;
+import com.google.protobuf.WrappersProto;
+import io.grpc.MethodDescriptor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A grpc method resolved once from the {@link MetaData}, with the parsed ext info and the method descriptors.
+ *
+ * <p>When the ext info carries a base64 {@code descriptorSet}, a {@code FileDescriptorSet} as written by
+ * {@code protoc --include_imports --descriptor_set_out}, the real request and response types are used and the
+ * json request is transcoded to them. Otherwise the generic json wrapper message is used as before. Both modes
+ * can pass a binary grpc body through with the raw descriptor.</p>
+ */
+public final class GrpcMethod {
+
+    private static final Map<String, FileDescriptor> WELL_KNOWN_FILES = new HashMap<>();
+
+    static {
+        Stream.of(AnyProto.getDescriptor(), DurationProto.getDescriptor(), EmptyProto.getDescriptor(), FieldMaskProto.getDescriptor(),
+                StructProto.getDescriptor(), TimestampProto.getDescriptor(), WrappersProto.getDescriptor())
+                .forEach(file -> WELL_KNOWN_FILES.put(file.getName(), file));
+    }
+
+    private final String rpcExt;
+
+    private final String serviceName;
+
+    private final String methodName;
+
+    private final int timeout;
+
+    private final MethodDescriptor.MethodType methodType;
+
+    private final Descriptors.MethodDescriptor protoMethod;
+
+    private final MethodDescriptor<DynamicMessage, DynamicMessage> descriptor;
+
+    private final MethodDescriptor<byte[], byte[]> rawDescriptor;
+
+    private GrpcMethod(final MetaData metaData) {
+        final GrpcExtInfo extInfo = StringUtils.isBlank(metaData.getRpcExt())
+                ? new GrpcExtInfo() : GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
+        this.rpcExt = metaData.getRpcExt();
+        this.serviceName = metaData.getServiceName();
+        this.methodName = metaData.getMethodName();
+        this.timeout = Optional.ofNullable(extInfo.getTimeout()).orElse(GrpcExtInfo.DEFAULT_TIMEOUT);
+        this.protoMethod = StringUtils.isBlank(extInfo.getDescriptorSet())
+                ? null : resolve(extInfo.getDescriptorSet(), metaData.getServiceName(), metaData.getMethodName());
+        final String fullMethodName;
+        if (Objects.isNull(protoMethod)) {
+            this.methodType = extInfo.getMethodType();
+            this.descriptor = null;
+            fullMethodName = MethodDescriptor.generateFullMethodName(metaData.getServiceName(), metaData.getMethodName());
+        } else {
+            this.methodType = methodTypeOf(protoMethod);
+            fullMethodName = MethodDescriptor.generateFullMethodName(protoMethod.getService().getFullName(), protoMethod.getName());
+            this.descriptor = MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                    .setType(methodType)
+                    .setFullMethodName(fullMethodName)
+                    .setRequestMarshaller(new DynamicMessageMarshaller(protoMethod.getInputType()))
+                    .setResponseMarshaller(new DynamicMessageMarshaller(protoMethod.getOutputType()))
+                    .build();
+        }
+        this.rawDescriptor = MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(Optional.ofNullable(methodType).orElse(MethodDescriptor.MethodType.UNARY))
+                .setFullMethodName(fullMethodName)
+                .setRequestMarshaller(ByteArrayMarshaller.INSTANCE)
+                .setResponseMarshaller(ByteArrayMarshaller.INSTANCE)
+                .build();
+    }
+
+    /**
+     * Resolve the method of the meta data.
+     *
+     * @param metaData the meta data
+     * @return the method
+     */
+    public static GrpcMethod of(final MetaData metaData) {
+        return new GrpcMethod(metaData);
+    }
+
+    /**
+     * Whether the method was resolved from the same service, method and ext info as the meta data.
+     *
+     * @param metaData the meta data
+     * @return true when it is still valid
+     */
+    public boolean matches(final MetaData metaData) {
+        return Objects.equals(rpcExt, metaData.getRpcExt()) && Objects.equals(serviceName, metaData.getServiceName())
+                && Objects.equals(methodName, metaData.getMethodName());
+    }
+
+    /**
+     * Whether the json request is transcoded to the real request type.
+     *
+     * @return true when a descriptor set was given
+     */
+    public boolean isTranscoding() {
+        return Objects.nonNull(descriptor);
+    }
+
+    /**
+     * Get the timeout in milliseconds.
+     *
+     * @return the timeout
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Get the method type.
+     *
+     * @return the method type
+     */
+    public MethodDescriptor.MethodType getMethodType() {
+        return methodType;
+    }
+
+    /**
+     * Get the request message type, when transcoding.
+     *
+     * @return the request type
+     */
+    public Descriptors.Descriptor getRequestType() {
+        return protoMethod.getInputType();
+    }
+
+    /**
+     * Get the method descriptor of the real message types, when transcoding.
+     *
+     * @return the method descriptor
+     */
+    public MethodDescriptor<DynamicMessage, DynamicMessage> getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Get the method descriptor passing the messages through as bytes.
+     *
+     * @return the method descriptor
+     */
+    public MethodDescriptor<byte[], byte[]> getRawDescriptor() {
+        return rawDescriptor;
+    }
+
+    private static Descriptors.MethodDescriptor resolve(final String descriptorSet, final String serviceName, final String methodName) {
+        final FileDescriptorSet fileDescriptorSet;
+        try {
+            fileDescriptorSet = FileDescriptorSet.parseFrom(Base64.getDecoder().decode(descriptorSet));
+        } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+            throw new ShenyuGrpcException("Invalid descriptor set of " + serviceName, e);
+        }
+        final Map<String, FileDescriptorProto> protos = new HashMap<>();
+        fileDescriptorSet.getFileList().forEach(proto -> protos.putIfAbsent(proto.getName(), proto));
+        final Map<String, FileDescriptor> files = new HashMap<>(WELL_KNOWN_FILES);
+        for (FileDescriptorProto proto : fileDescriptorSet.getFileList()) {
+            final FileDescriptor file = build(proto.getName(), protos, files);
+            for (Descriptors.ServiceDescriptor service : file.getServices()) {
+                if (service.getFullName().equals(serviceName)) {
+                    return Optional.ofNullable(service.findMethodByName(methodName))
+                            .orElseThrow(() -> new ShenyuGrpcException("Method " + methodName + " is not found in the descriptor of " + serviceName));
+                }
+            }
+        }
+        throw new ShenyuGrpcException("Service " + serviceName + " is not found in the descriptor set");
+    }
+
+    private static FileDescriptor build(final String name, final Map<String, FileDescriptorProto> protos, final Map<String, FileDescriptor> files) {
+        final FileDescriptor built = files.get(name);
+        if (Objects.nonNull(built)) {
+            return built;
+        }
+        final FileDescriptorProto proto = protos.get(name);
+        if (Objects.isNull(proto)) {
+            throw new ShenyuGrpcException("The descriptor set misses " + name + ", build it with --include_imports");
+        }
+        final FileDescriptor[] dependencies = new FileDescriptor[proto.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = build(proto.getDependency(i), protos, files);
+        }
+        try {
+            final FileDescriptor file = FileDescriptor.buildFrom(proto, dependencies);
+            files.put(name, file);
+            return file;
+        } catch (DescriptorValidationException e) {
+            throw new ShenyuGrpcException("Invalid descriptor " + name, e);
+        }
+    }
+
+    private static MethodDescriptor.MethodType methodTypeOf(final Descriptors.MethodDescriptor method) {
+        if (method.isClientStreaming()) {
+            return method.isServerStreaming() ? MethodDescriptor.MethodType.BIDI_STREAMING : MethodDescriptor.MethodType.CLIENT_STREAMING;
+        }
+        return method.isServerStreaming() ? MethodDescriptor.MethodType.SERVER_STREAMING : MethodDescriptor.MethodType.UNARY;
+    }
+
+    /**
+     * The GrpcExt.
+     */
+    static class GrpcExtInfo {
+
+        static final int DEFAULT_TIMEOUT = 5000;
+
+        private Integer timeout = DEFAULT_TIMEOUT;
+
+        private MethodDescriptor.MethodType methodType;
+
+        private String descriptorSet;
+
+        public Integer getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(final Integer timeout) {
+            this.timeout = timeout;
+        }
+
+        public MethodDescriptor.MethodType getMethodType() {
+            return methodType;
+        }
+
+        public void setMethodType(final MethodDescriptor.MethodType methodType) {
+            this.methodType = methodType;
+        }
+
+        public String getDescriptorSet() {
+            return descriptorSet;
+        }
+
+        public void setDescriptorSet(final String descriptorSet) {
+            this.descriptorSet = descriptorSet;
+        }
+    }
+
+    private static final class ByteArrayMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+        private static final ByteArrayMarshaller INSTANCE = new ByteArrayMarshaller();
+
+        @Override
+        public InputStream stream(final byte[] value) {
+            return new ByteArrayInputStream(value);
+        }
+
+        @Override
+        public byte[] parse(final InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new ShenyuGrpcException("Unable to read the grpc message", e);
+            }
+        }
+    }
+}
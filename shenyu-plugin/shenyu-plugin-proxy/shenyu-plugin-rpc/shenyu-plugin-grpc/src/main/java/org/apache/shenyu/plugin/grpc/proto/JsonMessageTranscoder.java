@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transcodes the json of a grpc request to the messages of a real descriptor and the response back to proto json.
+ *
+ * <p>The request keeps the {@code {"data": [...]}} shape of the json wrapper message, every element is one
+ * request message. The elements are read field by field with a {@link JsonReader} straight into the message
+ * builder, without a json tree or a json string per message. Only the well known types of
+ * {@code google.protobuf}, whose json form is special, are handed to {@link JsonFormat}.</p>
+ */
+public final class JsonMessageTranscoder {
+
+    private static final String WELL_KNOWN_PACKAGE = "google.protobuf";
+
+    private static final JsonFormat.Parser PARSER = JsonFormat.parser().ignoringUnknownFields();
+
+    private static final JsonFormat.Printer PRINTER = JsonFormat.printer().omittingInsignificantWhitespace();
+
+    private static final Map<Descriptor, Map<String, FieldDescriptor>> FIELDS = new ConcurrentHashMap<>();
+
+    private JsonMessageTranscoder() {
+    }
+
+    /**
+     * Parse the request messages.
+     *
+     * @param json the request json
+     * @param type the request message type
+     * @return the request messages
+     */
+    public static List<DynamicMessage> parse(final String json, final Descriptor type) {
+        final List<DynamicMessage> messages = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.setLenient(true);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME.equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    messages.add(readMessage(reader, type));
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        } catch (IOException | RuntimeException e) {
+            throw new ShenyuGrpcException("Unable to transcode the request to " + type.getFullName() + " :{ " + e.getMessage() + "}", e);
+        }
+        if (messages.isEmpty()) {
+            throw new ShenyuGrpcException("The request has no " + type.getFullName() + " message in " + GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+        }
+        return messages;
+    }
+
+    /**
+     * Print a response message as proto json.
+     *
+     * @param message the message
+     * @return the json
+     */
+    public static String print(final Message message) {
+        try {
+            return PRINTER.print(message);
+        } catch (InvalidProtocolBufferException e) {
+            throw new ShenyuGrpcException("Unable to print the response of " + message.getDescriptorForType().getFullName(), e);
+        }
+    }
+
+    private static DynamicMessage readMessage(final JsonReader reader, final Descriptor type) throws IOException {
+        final DynamicMessage.Builder builder = DynamicMessage.newBuilder(type);
+        if (WELL_KNOWN_PACKAGE.equals(type.getFile().getPackage())) {
+            PARSER.merge(JsonParser.parseReader(reader).toString(), builder);
+            return builder.build();
+        }
+        final Map<String, FieldDescriptor> fields = FIELDS.computeIfAbsent(type, JsonMessageTranscoder::fieldsOf);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final FieldDescriptor field = fields.get(reader.nextName());
+            if (Objects.isNull(field) || reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+            } else if (field.isMapField()) {
+                readMap(reader, builder, field);
+            } else if (field.isRepeated()) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    builder.addRepeatedField(field, readValue(reader, field));
+                }
+                reader.endArray();
+            } else {
+                builder.setField(field, readValue(reader, field));
+            }
+        }
+        reader.endObject();
+        return builder.build();
+    }
+
+    private static void readMap(final JsonReader reader, final DynamicMessage.Builder builder, final FieldDescriptor field) throws IOException {
+        final Descriptor entryType = field.getMessageType();
+        final FieldDescriptor keyField = entryType.findFieldByNumber(1);
+        final FieldDescriptor valueField = entryType.findFieldByNumber(2);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String key = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+            builder.addRepeatedField(field, DynamicMessage.newBuilder(entryType)
+                    .setField(keyField, readKey(key, keyField))
+                    .setField(valueField, readValue(reader, valueField))
+                    .build());
+        }
+        reader.endObject();
+    }
+
+    private static Object readKey(final String key, final FieldDescriptor field) {
+        switch (field.getType()) {
+            case UINT32:
+            case FIXED32:
+                return (int) Long.parseLong(key);
+            case UINT64:
+            case FIXED64:
+                return new BigInteger(key).longValue();
+            default:
+                break;
+        }
+        switch (field.getJavaType()) {
+            case INT:
+                return Integer.parseInt(key);
+            case LONG:
+                return Long.parseLong(key);
+            case BOOLEAN:
+                return Boolean.parseBoolean(key);
+            default:
+                return key;
+        }
+    }
+
+    private static Object readValue(final JsonReader reader, final FieldDescriptor field) throws IOException {
+        switch (field.getType()) {
+            case UINT32:
+            case FIXED32:
+                return (int) reader.nextLong();
+            case UINT64:
+            case FIXED64:
+                return new BigInteger(reader.nextString()).longValue();
+            default:
+                break;
+        }
+        switch (field.getJavaType()) {
+            case INT:
+                return reader.nextInt();
+            case LONG:
+                return reader.nextLong();
+            case FLOAT:
+                return (float) reader.nextDouble();
+            case DOUBLE:
+                return reader.nextDouble();
+            case BOOLEAN:
+                return reader.peek() == JsonToken.STRING ? Boolean.parseBoolean(reader.nextString()) : reader.nextBoolean();
+            case STRING:
+                return reader.nextString();
+            case BYTE_STRING:
+                return readBytes(reader.nextString());
+            case ENUM:
+                return readEnum(reader, field);
+            default:
+                return readMessage(reader, field.getMessageType());
+        }
+    }
+
+    private static ByteString readBytes(final String value) {
+        try {
+            return ByteString.copyFrom(Base64.getDecoder().decode(value));
+        } catch (IllegalArgumentException e) {
+            return ByteString.copyFrom(Base64.getUrlDecoder().decode(value));
+        }
+    }
+
+    private static EnumValueDescriptor readEnum(final JsonReader reader, final FieldDescriptor field) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return field.getEnumType().findValueByNumberCreatingIfUnknown(reader.nextInt());
+        }
+        final String name = reader.nextString();
+        final EnumValueDescriptor value = field.getEnumType().findValueByName(name);
+        if (Objects.isNull(value)) {
+            throw new ShenyuGrpcException("Invalid value " + name + " for enum " + field.getEnumType().getFullName());
+        }
+        return value;
+    }
+
+    private static Map<String, FieldDescriptor> fieldsOf(final Descriptor type) {
+        // both the lowerCamelCase json name and the original field name are accepted, as JsonFormat does
+        final Map<String, FieldDescriptor> fields = new HashMap<>(type.getFields().size() * 4);
+        for (FieldDescriptor field : type.getFields()) {
+            fields.put(field.getJsonName(), field);
+            fields.put(field.getName(), field);
+        }
+        return fields;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.grpc.proto;
 
 import java.util.HashMap;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.protocol.grpc.message.JsonMessage;
@@ -42,8 +43,11 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
 
     private final ShenyuGrpcResponse grpcResponse;
 
-    private MessageWriter(final ShenyuGrpcResponse grpcResponse) {
+    private final Function<T, String> reader;
+
+    private MessageWriter(final ShenyuGrpcResponse grpcResponse, final Function<T, String> reader) {
         this.grpcResponse = grpcResponse;
+        this.reader = reader;
     }
 
     /**
@@ -54,12 +58,23 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
      * @return message message
      */
     public static <T extends Message> MessageWriter<T> newInstance(final ShenyuGrpcResponse results) {
-        return new MessageWriter<>(results);
+        return new MessageWriter<>(results, value -> JsonMessage.getDataFromDynamicMessage((DynamicMessage) value));
+    }
+
+    /**
+     * New instance printing the messages of a real descriptor as proto json.
+     *
+     * @param results results
+     * @param <T> t
+     * @return message message
+     */
+    public static <T extends Message> MessageWriter<T> newTranscodingInstance(final ShenyuGrpcResponse results) {
+        return new MessageWriter<>(results, JsonMessageTranscoder::print);
     }
 
     @Override
     public void onNext(final T value) {
-        String respData = JsonMessage.getDataFromDynamicMessage((DynamicMessage) value);
+        String respData = reader.apply(value);
         if (StringUtils.isNotBlank(respData)) {
             respData = respData.trim();
             if (StringUtils.startsWith(respData, "{") && StringUtils.endsWith(respData, "}")) {
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.handler;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.grpc.cache.GrpcMethodCache;
+import org.apache.shenyu.plugin.grpc.proto.GrpcMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The Test Case For {@link GrpcMetaDataHandler}.
+ */
+public class GrpcMetaDataHandlerTest {
+
+    private GrpcMetaDataHandler grpcMetaDataHandler;
+
+    private MetaData metaData;
+
+    @BeforeEach
+    public void setUp() {
+        grpcMetaDataHandler = new GrpcMetaDataHandler();
+        metaData = MetaData.builder()
+                .id("1332017977771636096")
+                .path("/grpc/echo")
+                .serviceName("echo.EchoService")
+                .methodName("echo")
+                .rpcType(RpcTypeEnum.GRPC.getName())
+                .rpcExt("{timeout:5000}")
+                .build();
+    }
+
+    @Test
+    public void testHandle() {
+        GrpcMethod method = GrpcMethodCache.getMethod(metaData);
+        assertSame(method, GrpcMethodCache.getMethod(metaData));
+        metaData.setServiceName("echo.OtherService");
+        grpcMetaDataHandler.handle(metaData);
+        GrpcMethod changed = GrpcMethodCache.getMethod(metaData);
+        assertNotSame(method, changed);
+        assertEquals("echo.OtherService/echo", changed.getRawDescriptor().getFullMethodName());
+    }
+
+    @Test
+    public void testRemove() {
+        GrpcMethod method = GrpcMethodCache.getMethod(metaData);
+        grpcMetaDataHandler.remove(metaData);
+        assertNotSame(method, GrpcMethodCache.getMethod(metaData));
+    }
+
+    @Test
+    public void testRpcType() {
+        assertEquals(RpcTypeEnum.GRPC.getName(), grpcMetaDataHandler.rpcType());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The Test Case For {@link GrpcFrames}.
+ */
+public final class GrpcFramesTest {
+
+    @Test
+    public void testFrameAndUnframe() {
+        byte[] body = GrpcFrames.frame(Arrays.asList(new byte[]{1, 2, 3}, new byte[0]), false);
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 3, 1, 2, 3, 0, 0, 0, 0, 0}, body);
+        List<byte[]> messages = GrpcFrames.unframe(DefaultDataBufferFactory.sharedInstance.wrap(body));
+        assertEquals(2, messages.size());
+        assertArrayEquals(new byte[]{1, 2, 3}, messages.get(0));
+        assertEquals(0, messages.get(1).length);
+    }
+
+    @Test
+    public void testWebTrailer() {
+        byte[] body = GrpcFrames.frame(Arrays.asList(new byte[]{9}), true);
+        assertEquals(6 + 5 + "grpc-status:0\r\n".length(), body.length);
+        assertEquals((byte) 0x80, body[6]);
+    }
+
+    @Test
+    public void testUnframeError() {
+        assertThrows(ShenyuGrpcException.class, () -> GrpcFrames.unframe(DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{1, 0, 0, 0, 0})));
+        assertThrows(ShenyuGrpcException.class, () -> GrpcFrames.unframe(DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{0, 0, 0, 0, 2, 1})));
+        assertThrows(ShenyuGrpcException.class, () -> GrpcFrames.unframe(DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{0, 0})));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.MethodDescriptor;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For {@link GrpcMethod} and {@link JsonMessageTranscoder}.
+ */
+public final class GrpcMethodTest {
+
+    @Test
+    public void testJsonWrapperMethod() {
+        GrpcMethod method = GrpcMethod.of(metaData("{timeout:3000,methodType:\"SERVER_STREAMING\"}"));
+        assertFalse(method.isTranscoding());
+        assertNull(method.getDescriptor());
+        assertEquals(3000, method.getTimeout());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, method.getRawDescriptor().getType());
+        assertEquals("echo.EchoService/echo", method.getRawDescriptor().getFullMethodName());
+        assertTrue(method.matches(metaData("{timeout:3000,methodType:\"SERVER_STREAMING\"}")));
+        assertFalse(method.matches(metaData("{timeout:5000}")));
+    }
+
+    @Test
+    public void testDescriptorMethod() {
+        GrpcMethod method = GrpcMethod.of(metaData("{\"descriptorSet\":\"" + descriptorSet() + "\"}"));
+        assertTrue(method.isTranscoding());
+        assertEquals(5000, method.getTimeout());
+        assertEquals(MethodDescriptor.MethodType.UNARY, method.getMethodType());
+        assertEquals("echo.EchoRequest", method.getRequestType().getFullName());
+
+        String json = "{\"data\":[{\"message\":\"hello\",\"count\":\"2\",\"tags\":[\"a\",\"b\"],\"scores\":{\"x\":7},"
+                + "\"kind\":\"ECHO\",\"at\":\"2024-01-01T00:00:00Z\",\"unknown\":{\"nested\":[1]}},{\"message\":\"bye\"}]}";
+        List<DynamicMessage> requests = JsonMessageTranscoder.parse(json, method.getRequestType());
+        assertEquals(2, requests.size());
+        assertEquals("{\"message\":\"hello\",\"count\":2,\"tags\":[\"a\",\"b\"],\"scores\":{\"x\":\"7\"},\"kind\":\"ECHO\",\"at\":\"2024-01-01T00:00:00Z\"}",
+                JsonMessageTranscoder.print(requests.get(0)));
+        assertEquals("{\"message\":\"bye\"}", JsonMessageTranscoder.print(requests.get(1)));
+    }
+
+    @Test
+    public void testDescriptorMissing() {
+        MetaData metaData = metaData("{\"descriptorSet\":\"" + descriptorSet() + "\"}");
+        metaData.setMethodName("missing");
+        assertThrows(ShenyuGrpcException.class, () -> GrpcMethod.of(metaData));
+        GrpcMethod method = GrpcMethod.of(metaData("{\"descriptorSet\":\"" + descriptorSet() + "\"}"));
+        assertThrows(ShenyuGrpcException.class, () -> JsonMessageTranscoder.parse("{\"data\":[]}", method.getRequestType()));
+        assertThrows(ShenyuGrpcException.class, () -> JsonMessageTranscoder.parse("{\"data\":[{\"kind\":\"NONE\"}]}", method.getRequestType()));
+    }
+
+    private MetaData metaData(final String rpcExt) {
+        return MetaData.builder()
+                .serviceName("echo.EchoService")
+                .methodName("echo")
+                .rpcExt(rpcExt)
+                .build();
+    }
+
+    private String descriptorSet() {
+        DescriptorProto request = DescriptorProto.newBuilder()
+                .setName("EchoRequest")
+                .addField(field("message", 1, FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("count", 2, FieldDescriptorProto.Type.TYPE_INT32, null))
+                .addField(field("tags", 3, FieldDescriptorProto.Type.TYPE_STRING, null).setLabel(FieldDescriptorProto.Label.LABEL_REPEATED))
+                .addField(field("scores", 4, FieldDescriptorProto.Type.TYPE_MESSAGE, ".echo.EchoRequest.ScoresEntry").setLabel(FieldDescriptorProto.Label.LABEL_REPEATED))
+                .addField(field("kind", 5, FieldDescriptorProto.Type.TYPE_ENUM, ".echo.Kind"))
+                .addField(field("at", 6, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Timestamp"))
+                .addNestedType(DescriptorProto.newBuilder()
+                        .setName("ScoresEntry")
+                        .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+                        .addField(field("key", 1, FieldDescriptorProto.Type.TYPE_STRING, null))
+                        .addField(field("value", 2, FieldDescriptorProto.Type.TYPE_INT64, null)))
+                .build();
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("echo.proto")
+                .setPackage("echo")
+                .setSyntax("proto3")
+                .addDependency("google/protobuf/timestamp.proto")
+                .addMessageType(request)
+                .addEnumType(EnumDescriptorProto.newBuilder()
+                        .setName("Kind")
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("UNKNOWN").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("ECHO").setNumber(1)))
+                .addService(ServiceDescriptorProto.newBuilder()
+                        .setName("EchoService")
+                        .addMethod(MethodDescriptorProto.newBuilder().setName("echo").setInputType(".echo.EchoRequest").setOutputType(".echo.EchoRequest")))
+                .build();
+        return Base64.getEncoder().encodeToString(FileDescriptorSet.newBuilder().addFile(file).build().toByteArray());
+    }
+
+    private FieldDescriptorProto.Builder field(final String name, final int number, final FieldDescriptorProto.Type type, final String typeName) {
+        FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+        if (Objects.nonNull(typeName)) {
+            field.setTypeName(typeName);
+        }
+        return field;
+    }
+}
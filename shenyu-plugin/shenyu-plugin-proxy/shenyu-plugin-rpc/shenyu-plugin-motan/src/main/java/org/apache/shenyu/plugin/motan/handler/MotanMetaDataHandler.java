@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.motan.handler;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
 import org.slf4j.Logger;
@@ -49,6 +50,9 @@ public class MotanMetaDataHandler implements MetaDataHandler {
                 // The first initialization
                 ApplicationConfigCache.getInstance().initRef(metaData);
             } else {
+                if (!Objects.equals(exist.getParameterTypes(), metaData.getParameterTypes())) {
+                    BodyParamUtils.invalidateBinder(exist.getParameterTypes());
+                }
                 if (!exist.getServiceName().equals(metaData.getServiceName()) || !exist.getRpcExt().equals(metaData.getRpcExt())) {
                     // update
                     ApplicationConfigCache.getInstance().build(metaData);
@@ -63,6 +67,7 @@ public class MotanMetaDataHandler implements MetaDataHandler {
     @Override
     public void remove(final MetaData metaData) {
         ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
+        BodyParamUtils.invalidateBinder(metaData.getParameterTypes());
         META_DATA.remove(metaData.getPath());
     }
     
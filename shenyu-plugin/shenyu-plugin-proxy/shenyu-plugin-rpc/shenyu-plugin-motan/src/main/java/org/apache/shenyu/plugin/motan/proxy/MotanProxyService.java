@@ -36,6 +36,7 @@ import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.api.context.RpcRequestBody;
 import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
@@ -93,7 +94,10 @@ public class MotanProxyService {
         if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.bodyIsEmpty(body)) {
             pair = new ImmutablePair<>(new String[]{}, new Object[]{});
         } else {
-            pair = BodyParamUtils.buildParameters(body, metaData.getParameterTypes());
+            RpcRequestBody requestBody = exchange.getAttribute(Constants.PARAM_TRANSFORM_BODY);
+            pair = Objects.nonNull(requestBody) && requestBody.isJson()
+                    ? BodyParamUtils.buildParameters(requestBody.getJson(), metaData.getParameterTypes())
+                    : BodyParamUtils.buildParameters(body, metaData.getParameterTypes());
         }
         ResponseFuture responseFuture;
         //CHECKSTYLE:OFF IllegalCatch
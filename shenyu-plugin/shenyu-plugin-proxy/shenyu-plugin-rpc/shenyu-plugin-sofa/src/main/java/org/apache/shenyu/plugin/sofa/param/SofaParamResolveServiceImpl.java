@@ -21,6 +21,7 @@ import com.alipay.hessian.generic.model.GenericCollection;
 import com.alipay.hessian.generic.model.GenericMap;
 import com.alipay.hessian.generic.model.GenericObject;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -69,7 +70,7 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
             return value;
         }
         if (value instanceof JsonObject && parameterType[0].contains("Map")) {
-            final Map<String, Object> mapValue = GsonUtils.getInstance().convertToMap(value.toString());
+            final Map<String, Object> mapValue = GsonUtils.getInstance().convertJsonElementToMap((JsonObject) value);
             if (parameterType.length == 1) {
                 // no generic info
                 return mapValue;
@@ -87,7 +88,7 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
         if (value instanceof JsonArray) {
             if (parameterType.length == 1) {
                 // no generic info
-                return GsonUtils.getInstance().fromList(value.toString(), Object.class);
+                return GsonUtils.getInstance().jsonElementToList((JsonArray) value, Object.class);
             }
             // generic collection
             final GenericCollection genericCollection = new GenericCollection(parameterType[1]);
@@ -110,7 +111,10 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
         if (isSingleType(paramType)) {
             return paramValue;
         }
-        final Map<String, Object> mapValue = GsonUtils.getInstance().convertToMap(paramValue.toString());
+        // a parsed json value is read as is, it is not written back to text first
+        final Map<String, Object> mapValue = paramValue instanceof JsonElement
+                ? GsonUtils.getInstance().convertJsonElementToMap((JsonElement) paramValue)
+                : GsonUtils.getInstance().convertToMap(paramValue.toString());
         GenericObject genericObject = new GenericObject(paramType);
         mapValue.forEach(genericObject::putField);
         return genericObject;
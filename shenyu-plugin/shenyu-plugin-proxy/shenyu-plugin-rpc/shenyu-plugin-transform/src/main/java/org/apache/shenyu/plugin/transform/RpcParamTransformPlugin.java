@@ -22,22 +22,18 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.RpcRequestBody;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
-import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 import org.apache.shenyu.plugin.base.utils.HttpParamConverter;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.lang.NonNull;
-import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The param transform plugin.
@@ -72,28 +68,35 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
     }
 
     private Mono<Void> body(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
-        return Mono.from(DataBufferUtils.join(serverHttpRequest.getBody())
-                .flatMap(data -> Mono.just(Optional.of(data)))
-                .defaultIfEmpty(Optional.empty())
-                .flatMap(body -> {
-                    body.ifPresent(dataBuffer -> exchange.getAttributes().put(Constants.PARAM_TRANSFORM, resolveBodyFromRequest(dataBuffer)));
-                    return chain.execute(exchange);
-                }));
+        return withBody(exchange, serverHttpRequest, chain, body -> exchange.getAttributes().put(Constants.PARAM_TRANSFORM, body.getText()));
     }
 
     private Mono<Void> formData(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
-        return Mono.from(DataBufferUtils.join(serverHttpRequest.getBody())
-                .flatMap(data -> Mono.just(Optional.of(data)))
+        return withBody(exchange, serverHttpRequest, chain,
+            body -> exchange.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.toMap(body::getFormFields)));
+    }
+
+    private Mono<Void> withBody(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain,
+                                final Consumer<RpcRequestBody> transform) {
+        return DataBufferUtils.join(serverHttpRequest.getBody())
+                .map(data -> Optional.of(RpcRequestBody.of(data, serverHttpRequest.getHeaders().getContentType())))
                 .defaultIfEmpty(Optional.empty())
-                .flatMap(map -> {
-                    if (map.isPresent()) {
-                        String param = resolveBodyFromRequest(map.get());
-                        LinkedMultiValueMap<String, String> linkedMultiValueMap;
-                        linkedMultiValueMap = BodyParamUtils.buildBodyParams(URLDecoder.decode(param, StandardCharsets.UTF_8));
-                        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.toMap(() -> linkedMultiValueMap));
+                .flatMap(body -> {
+                    if (body.isEmpty()) {
+                        return chain.execute(exchange);
+                    }
+                    final RpcRequestBody requestBody = body.get();
+                    exchange.getAttributes().put(Constants.PARAM_TRANSFORM_BODY, requestBody);
+                    try {
+                        transform.accept(requestBody);
+                    } catch (RuntimeException e) {
+                        return Mono.error(e);
+                    } finally {
+                        // the text is read now and the other views are derived from it, the pooled buffer is not kept for the exchange
+                        requestBody.release();
                     }
                     return chain.execute(exchange);
-                }));
+                });
     }
 
     private Mono<Void> query(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
@@ -110,12 +113,4 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
                 RpcTypeEnum.MOTAN,
                 RpcTypeEnum.SOFA);
     }
-
-    @NonNull
-    private String resolveBodyFromRequest(final DataBuffer dataBuffer) {
-        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-        dataBuffer.read(bytes);
-        DataBufferUtils.release(dataBuffer);
-        return new String(bytes, StandardCharsets.UTF_8);
-    }
 }
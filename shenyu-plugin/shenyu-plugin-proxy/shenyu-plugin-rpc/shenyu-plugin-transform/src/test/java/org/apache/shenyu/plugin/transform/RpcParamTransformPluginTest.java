@@ -17,10 +17,12 @@
 
 package org.apache.shenyu.plugin.transform;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.RpcRequestBody;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +30,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -35,6 +39,9 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
 import static org.mockito.Mockito.mock;
 
 /**
@@ -89,6 +96,48 @@ public final class RpcParamTransformPluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
     
+    /**
+     * Test the json body views.
+     */
+    @Test
+    public void testJsonBodyViews() {
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_JSON).body("{\"id\":1,\"name\":\"shenyu\"}"));
+        Mockito.when(chain.execute(exchange)).thenReturn(Mono.fromRunnable(() -> {
+            RpcRequestBody body = exchange.getAttribute(Constants.PARAM_TRANSFORM_BODY);
+            Assertions.assertNotNull(body);
+            Assertions.assertTrue(body.isJson());
+            Assertions.assertSame(body.getJson(), body.getJson());
+            Assertions.assertEquals("shenyu", body.getJson().getAsJsonObject().get("name").getAsString());
+        }));
+        ShenyuContext context = new ShenyuContext();
+        context.setRpcType(RpcTypeEnum.DUBBO.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        StepVerifier.create(rpcParamTransformPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        Assertions.assertEquals("{\"id\":1,\"name\":\"shenyu\"}", exchange.getAttribute(Constants.PARAM_TRANSFORM));
+    }
+
+    /**
+     * Test the pooled body buffer is released once the text is read, before the rpc plugins run.
+     */
+    @Test
+    public void testBodyBufferReleasedBeforeChain() {
+        NettyDataBuffer buffer = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT).wrap(
+                PooledByteBufAllocator.DEFAULT.buffer().writeBytes("{\"name\":\"shenyu\"}".getBytes(StandardCharsets.UTF_8)));
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_JSON).body(Mono.just(buffer)));
+        Mockito.when(chain.execute(exchange)).thenReturn(Mono.fromRunnable(() -> {
+            Assertions.assertEquals(0, buffer.getNativeBuffer().refCnt());
+            RpcRequestBody body = exchange.getAttribute(Constants.PARAM_TRANSFORM_BODY);
+            Assertions.assertEquals("shenyu", Objects.requireNonNull(body).getJson().getAsJsonObject().get("name").getAsString());
+        }));
+        ShenyuContext context = new ShenyuContext();
+        context.setRpcType(RpcTypeEnum.DUBBO.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        StepVerifier.create(rpcParamTransformPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        Assertions.assertEquals("{\"name\":\"shenyu\"}", exchange.getAttribute(Constants.PARAM_TRANSFORM));
+    }
+
     /**
      * Test format body.
      */
@@ -102,6 +151,9 @@ public final class RpcParamTransformPluginTest {
         exchange.getAttributes().put(Constants.CONTEXT, context);
         Mono<Void> result = rpcParamTransformPlugin.execute(exchange, chain);
         StepVerifier.create(result).expectSubscription().verifyComplete();
+        Assertions.assertEquals("{\"test\":\"test\"}", exchange.getAttribute(Constants.PARAM_TRANSFORM));
+        RpcRequestBody body = exchange.getAttribute(Constants.PARAM_TRANSFORM_BODY);
+        Assertions.assertEquals("test", Objects.requireNonNull(body).getFormFields().getFirst("test"));
     }
     
     /**
@@ -67,6 +67,7 @@ public class WebSocketUpstreamDataHandler implements DiscoveryUpstreamDataHandle
                     .url(u.getUrl())
                     .weight(u.getWeight())
                     .warmup(Integer.parseInt(properties.getProperty("warmup", "10")))
+                    .zone(properties.getProperty("zone"))
                     .status(0 == u.getStatus())
                     .timestamp(Optional.ofNullable(u.getDateCreated()).map(Timestamp::getTime).orElse(System.currentTimeMillis()))
                     .build();
@@ -18,14 +18,15 @@
 package org.apache.shenyu.protocol.tcp;
 
 import com.google.common.eventbus.EventBus;
-import io.netty.handler.logging.LogLevel;
-import io.netty.handler.logging.LoggingHandler;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
 import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
 import org.apache.shenyu.protocol.tcp.connection.ActivityConnectionObserver;
 import org.apache.shenyu.protocol.tcp.connection.Bridge;
 import org.apache.shenyu.protocol.tcp.connection.ConnectionContext;
 import org.apache.shenyu.protocol.tcp.connection.DefaultConnectionConfigProvider;
 import org.apache.shenyu.protocol.tcp.connection.TcpConnectionBridge;
+import org.apache.shenyu.protocol.tcp.connection.TcpConnectionStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
@@ -37,6 +38,7 @@ import reactor.netty.tcp.TcpServer;
 import java.net.SocketAddress;
 import java.util.List;
 import java.util.Objects;
+import java.util.Properties;
 
 
 /**
@@ -53,6 +55,10 @@ public class TcpBootstrapServer implements BootstrapServer {
 
     private DisposableServer server;
 
+    private ActivityConnectionObserver connectionObserver;
+
+    private String pluginSelectorName;
+
     private final EventBus eventBus;
 
     public TcpBootstrapServer(final EventBus eventBus) {
@@ -61,33 +67,49 @@ public class TcpBootstrapServer implements BootstrapServer {
 
     @Override
     public void start(final TcpServerConfiguration tcpServerConfiguration) {
-        final String loadBalanceAlgorithm = tcpServerConfiguration.getProps().getOrDefault("loadBalance", "random").toString();
-        final String bossGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("bossGroupThreadCount", "1").toString();
-        final String workerGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("workerGroupThreadCount", "12").toString();
-        DefaultConnectionConfigProvider connectionConfigProvider = new DefaultConnectionConfigProvider(loadBalanceAlgorithm, tcpServerConfiguration.getPluginSelectorName());
+        final Properties props = tcpServerConfiguration.getProps();
+        final String loadBalanceAlgorithm = props.getOrDefault("loadBalance", "random").toString();
+        final String bossGroupThreadCount = props.getOrDefault("bossGroupThreadCount", "1").toString();
+        final String workerGroupThreadCount = props.getOrDefault("workerGroupThreadCount", "12").toString();
+        final boolean wiretap = Boolean.parseBoolean(props.getOrDefault("wiretap", "false").toString());
+        final boolean preferNative = Boolean.parseBoolean(props.getOrDefault("preferNative", "true").toString());
+        final WriteBufferWaterMark writeBufferWaterMark = new WriteBufferWaterMark(
+                Integer.parseInt(props.getOrDefault("writeBufferLowWaterMark", "32768").toString()),
+                Integer.parseInt(props.getOrDefault("writeBufferHighWaterMark", "65536").toString()));
+        this.pluginSelectorName = tcpServerConfiguration.getPluginSelectorName();
         this.bridge = new TcpConnectionBridge();
-        connectionContext = new ConnectionContext(connectionConfigProvider);
-        connectionContext.init(tcpServerConfiguration.getProps());
+        this.connectionObserver = new ActivityConnectionObserver("TcpClient");
+        eventBus.register(connectionObserver);
         loopResources = LoopResources.create("shenyu-tcp-bootstrap-server-" + tcpServerConfiguration.getPort(), Integer.parseInt(bossGroupThreadCount),
                 Integer.parseInt(workerGroupThreadCount), true);
+        DefaultConnectionConfigProvider connectionConfigProvider = new DefaultConnectionConfigProvider(loadBalanceAlgorithm, pluginSelectorName);
+        connectionContext = new ConnectionContext(connectionConfigProvider);
+        // upstream connections run on the server event loops instead of a second set of threads
+        connectionContext.init(props, loopResources, preferNative, writeBufferWaterMark);
         TcpServer tcpServer = TcpServer.create()
-                .doOnChannelInit((connObserver, channel, remoteAddress) -> channel.pipeline().addFirst(new LoggingHandler(LogLevel.INFO)))
-                .wiretap(true)
-                .observe((c, s) -> LOG.info("connection={}|status={}", c, s))
-                //.childObserve(connectionObserver)
+                .wiretap(wiretap)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
                 .doOnConnection(this::bridgeConnections)
                 .port(tcpServerConfiguration.getPort())
-                .runOn(loopResources);
+                .runOn(loopResources, preferNative);
+        if (LOG.isDebugEnabled()) {
+            tcpServer = tcpServer.observe((c, s) -> LOG.debug("connection={}|status={}", c, s));
+        }
         server = tcpServer.bindNow();
     }
 
     private void bridgeConnections(final Connection serverConn) {
-        LOG.info("Starting proxy client ={}", serverConn);
+        LOG.debug("Starting proxy client ={}", serverConn);
         SocketAddress socketAddress = serverConn.channel().remoteAddress();
-        ActivityConnectionObserver connectionObserver = new ActivityConnectionObserver("TcpClient");
-        eventBus.register(connectionObserver);
+        TcpConnectionStats stats = new TcpConnectionStats(String.valueOf(socketAddress));
         Mono<Connection> client = connectionContext.getTcpClientConnection(getIp(socketAddress), connectionObserver);
-        client.subscribe(clientConn -> bridge.bridge(serverConn, clientConn));
+        client.subscribe(clientConn -> {
+            stats.connected();
+            bridge.bridge(serverConn, clientConn, stats);
+        }, error -> {
+            LOG.error("shenyu tcp proxy failed to connect upstream for {}", serverConn, error);
+            serverConn.dispose();
+        });
     }
 
     private String getIp(final SocketAddress socketAddress) {
@@ -106,6 +128,7 @@ public class TcpBootstrapServer implements BootstrapServer {
     @Override
     public void removeCommonUpstream(final List<DiscoveryUpstreamData> removeList) {
         eventBus.post(removeList);
+        connectionContext.refreshPools(UpstreamProvider.getSingleton().provide(pluginSelectorName), removeList, connectionObserver);
     }
 
 
@@ -115,6 +138,7 @@ public class TcpBootstrapServer implements BootstrapServer {
     @Override
     public void shutdown() {
         server.disposeNow();
+        connectionContext.shutdown();
         loopResources.dispose();
     }
 
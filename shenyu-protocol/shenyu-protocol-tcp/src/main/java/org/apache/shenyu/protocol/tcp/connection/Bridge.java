@@ -31,4 +31,15 @@ public interface Bridge {
      * @param client tcp client connection
      */
     void bridge(Connection server, Connection client);
+
+    /**
+     * bridge and count the session.
+     *
+     * @param server tcp server connection
+     * @param client tcp client connection
+     * @param stats  the session counters
+     */
+    default void bridge(Connection server, Connection client, TcpConnectionStats stats) {
+        bridge(server, client);
+    }
 }
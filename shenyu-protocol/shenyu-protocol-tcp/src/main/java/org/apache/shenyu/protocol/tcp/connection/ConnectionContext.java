@@ -17,23 +17,50 @@
 
 package org.apache.shenyu.protocol.tcp.connection;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.WriteBufferWaterMark;
+import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.TcpClient;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ConnectionContext.
  */
 public class ConnectionContext {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionContext.class);
+
     private final ClientConnectionConfigProvider connectionConfigProvider;
 
+    private final Map<String, UpstreamConnectionPool> pools = new ConcurrentHashMap<>();
+
     private ConnectionProvider connectionProvider;
 
+    private LoopResources loopResources;
+
+    private boolean preferNative;
+
+    private WriteBufferWaterMark writeBufferWaterMark;
+
+    private int warmConnections;
+
+    private long maxIdleTimeMs;
+
     public ConnectionContext(final ClientConnectionConfigProvider connectionConfigProvider) {
         this.connectionConfigProvider = connectionConfigProvider;
     }
@@ -44,12 +71,25 @@ public class ConnectionContext {
      * @param props props
      */
     public void init(final Properties props) {
+        init(props, null, true, WriteBufferWaterMark.DEFAULT);
+    }
+
+    /**
+     * init, connecting on the event loops of the server.
+     *
+     * @param props                props
+     * @param loopResources        the loop resources of the server, null for the default client loops
+     * @param preferNative         whether the native transport is used when available
+     * @param writeBufferWaterMark the write buffer water mark of the upstream connections
+     */
+    public void init(final Properties props, final LoopResources loopResources, final boolean preferNative, final WriteBufferWaterMark writeBufferWaterMark) {
         final String tcpProxyClientName = "shenyu-tcp-connection-pool-client";
         final String maxConnections = props.getProperty("clientMaxConnections", "20");
         final String maxIdleTimeMs = props.getProperty("clientMaxIdleTimeMs", "30000");
         final String maxLifeTimeMs = props.getProperty("clientMaxLifeTimeMs", "60000");
         final String pendingAcquireTimeout = props.getProperty("clientPendingAcquireTimeout", "5");
         final String pendingAcquireMaxCount = props.getProperty("clientPendingAcquireMaxCount", "5");
+        final String warmConnections = props.getProperty("clientWarmConnections", "0");
         connectionProvider = ConnectionProvider.builder(tcpProxyClientName)
                 .maxConnections(Integer.parseInt(maxConnections))
                 .pendingAcquireTimeout(Duration.ofSeconds(Integer.parseInt(pendingAcquireTimeout)))
@@ -57,6 +97,11 @@ public class ConnectionContext {
                 .maxIdleTime(Duration.ofMillis(Integer.parseInt(maxIdleTimeMs)))
                 .maxLifeTime(Duration.ofMillis(Integer.parseInt(maxLifeTimeMs)))
                 .build();
+        this.loopResources = loopResources;
+        this.preferNative = preferNative;
+        this.writeBufferWaterMark = writeBufferWaterMark;
+        this.warmConnections = Integer.parseInt(warmConnections);
+        this.maxIdleTimeMs = Long.parseLong(maxIdleTimeMs);
     }
 
     /**
@@ -67,14 +112,65 @@ public class ConnectionContext {
      * @return MonoConnection
      */
     public Mono<Connection> getTcpClientConnection(final String ip, final ActivityConnectionObserver observer) {
-        return Mono.just(connectionConfigProvider.getProxiedService(ip))
-                .flatMap(url ->
-                        TcpClient.create(connectionProvider)
-                                .host(url.getHost())
-                                .port(url.getPort())
-                                .observe(observer)
-                                .connect()
-                );
+        return Mono.fromSupplier(() -> connectionConfigProvider.getProxiedService(ip))
+                .flatMap(url -> {
+                    if (warmConnections <= 0) {
+                        return connect(url, observer);
+                    }
+                    return pools.computeIfAbsent(url.getAuthority(), key -> createPool(url, observer)).acquire();
+                });
+    }
+
+    /**
+     * keep the pools of the upstreams warm and close the pools of the removed ones.
+     *
+     * @param upstreams  the upstreams
+     * @param removeList the removed upstreams
+     * @param observer   observer
+     */
+    public void refreshPools(final List<DiscoveryUpstreamData> upstreams, final List<DiscoveryUpstreamData> removeList, final ActivityConnectionObserver observer) {
+        removeList.forEach(removed -> Optional.ofNullable(pools.remove(removed.getUrl())).ifPresent(UpstreamConnectionPool::close));
+        if (warmConnections <= 0) {
+            return;
+        }
+        for (DiscoveryUpstreamData upstream : upstreams) {
+            if (upstream.getStatus() != 0) {
+                continue;
+            }
+            try {
+                URI url = new URI(upstream.getProtocol() + "://" + upstream.getUrl());
+                pools.computeIfAbsent(url.getAuthority(), key -> createPool(url, observer)).fill();
+            } catch (URISyntaxException e) {
+                LOG.warn("shenyu tcp upstream url is wrong {}", upstream.getUrl());
+            }
+        }
+    }
+
+    /**
+     * shutdown, closing the pooled connections.
+     */
+    public void shutdown() {
+        pools.values().forEach(UpstreamConnectionPool::close);
+        pools.clear();
+        if (Objects.nonNull(connectionProvider)) {
+            connectionProvider.dispose();
+        }
+    }
+
+    private UpstreamConnectionPool createPool(final URI url, final ActivityConnectionObserver observer) {
+        return new UpstreamConnectionPool(url.getAuthority(), () -> connect(url, observer), warmConnections, maxIdleTimeMs);
+    }
+
+    private Mono<Connection> connect(final URI url, final ActivityConnectionObserver observer) {
+        TcpClient tcpClient = TcpClient.create(connectionProvider)
+                .host(url.getHost())
+                .port(url.getPort())
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark)
+                .observe(observer);
+        if (Objects.nonNull(loopResources)) {
+            tcpClient = tcpClient.runOn(loopResources, preferNative);
+        }
+        return tcpClient.connect().cast(Connection.class);
     }
 
 }
@@ -25,6 +25,13 @@ import reactor.netty.Connection;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
 /**
  * TcpConnectionBridge.
  */
@@ -32,19 +39,42 @@ public class TcpConnectionBridge implements Bridge {
 
     private static final Logger LOG = LoggerFactory.getLogger(TcpConnectionBridge.class);
 
+    private final Map<Connection, TcpConnectionStats> activeStats = new ConcurrentHashMap<>();
+
     @Override
     public void bridge(final Connection server, final Connection client) {
-        //   LOG.info("start server#inbound -> client#outbound");
-        Disposable requestDisposable = bridge(server.inbound(), client.outbound());
-        //  LOG.info("start client#inbound -> server#outbound");
-        Disposable responseDisposable = bridge(client.inbound(), server.outbound());
+        bridge(server, client, new TcpConnectionStats(String.valueOf(server.channel().remoteAddress())));
+    }
+
+    @Override
+    public void bridge(final Connection server, final Connection client, final TcpConnectionStats stats) {
+        activeStats.put(server, stats);
+        // the same retained buffers are written to the other side, the send requests more only while that side is writable
+        Disposable requestDisposable = bridge(server.inbound(), client.outbound(), stats::recordRequest);
+        Disposable responseDisposable = bridge(client.inbound(), server.outbound(), stats::recordResponse);
         // binding dispose: when server connection is disposed ,client while close too.
-        server.onDispose(Disposables.composite(requestDisposable, responseDisposable, client.channel()::close));
+        server.onDispose(Disposables.composite(requestDisposable, responseDisposable, client.channel()::close, () -> close(server)));
         client.onDispose(Disposables.composite(requestDisposable, responseDisposable, server.channel()::close));
     }
 
-    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound) {
-        return outbound.send(inbound.receive().retain()).then().subscribe();
+    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound, final IntConsumer counter) {
+        return outbound.send(inbound.receive().retain().doOnNext(buf -> counter.accept(buf.readableBytes()))).then().subscribe();
+    }
+
+    /**
+     * get the counters of the open sessions.
+     *
+     * @return stats
+     */
+    public Collection<TcpConnectionStats> getActiveStats() {
+        return Collections.unmodifiableCollection(activeStats.values());
+    }
+
+    private void close(final Connection server) {
+        TcpConnectionStats stats = activeStats.remove(server);
+        if (Objects.nonNull(stats) && LOG.isDebugEnabled()) {
+            LOG.debug("shenyu tcp session closed {}", stats);
+        }
     }
 
 }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TcpConnectionStats, the byte and latency counters of one proxied session.
+ */
+public class TcpConnectionStats {
+
+    private final String client;
+
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder requestBytes = new LongAdder();
+
+    private final LongAdder responseBytes = new LongAdder();
+
+    private volatile long connectedNanos;
+
+    private volatile long firstRequestNanos;
+
+    private volatile long firstResponseNanos;
+
+    public TcpConnectionStats(final String client) {
+        this.client = client;
+    }
+
+    /**
+     * mark the upstream connection acquired.
+     */
+    public void connected() {
+        connectedNanos = System.nanoTime();
+    }
+
+    /**
+     * record bytes sent from the client to the upstream.
+     *
+     * @param bytes bytes
+     */
+    public void recordRequest(final int bytes) {
+        if (firstRequestNanos == 0) {
+            firstRequestNanos = System.nanoTime();
+        }
+        requestBytes.add(bytes);
+    }
+
+    /**
+     * record bytes sent from the upstream to the client.
+     *
+     * @param bytes bytes
+     */
+    public void recordResponse(final int bytes) {
+        if (firstResponseNanos == 0) {
+            firstResponseNanos = System.nanoTime();
+        }
+        responseBytes.add(bytes);
+    }
+
+    /**
+     * get the client address.
+     *
+     * @return client
+     */
+    public String getClient() {
+        return client;
+    }
+
+    /**
+     * get the bytes sent from the client to the upstream.
+     *
+     * @return request bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * get the bytes sent from the upstream to the client.
+     *
+     * @return response bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * get the time to acquire the upstream connection, -1 before it is acquired.
+     *
+     * @return connect micros
+     */
+    public long getConnectMicros() {
+        return connectedNanos == 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(connectedNanos - startNanos);
+    }
+
+    /**
+     * get the time from the first request byte to the first response byte, -1 before both were seen.
+     *
+     * @return first response micros
+     */
+    public long getFirstResponseMicros() {
+        return firstRequestNanos == 0 || firstResponseNanos == 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(firstResponseNanos - firstRequestNanos);
+    }
+
+    /**
+     * get the session duration.
+     *
+     * @return duration millis
+     */
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "TcpConnectionStats{client=" + client
+                + ", requestBytes=" + getRequestBytes()
+                + ", responseBytes=" + getResponseBytes()
+                + ", connectMicros=" + getConnectMicros()
+                + ", firstResponseMicros=" + getFirstResponseMicros()
+                + ", durationMillis=" + getDurationMillis()
+                + '}';
+    }
+}
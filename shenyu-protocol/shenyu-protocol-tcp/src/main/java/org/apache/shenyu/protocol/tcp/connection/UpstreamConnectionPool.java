@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * UpstreamConnectionPool, the pre-connected connections of one upstream.
+ *
+ * <p>A proxied tcp session owns its upstream connection until either side closes, so connections are never
+ * given back. The pool only saves the connect round trip: it keeps up to {@code size} idle connections open
+ * and opens a new one in the background every time one is taken. An idle connection closed by the upstream
+ * is dropped and replaced as soon as it closes, one that was idle longer than the max idle time is dropped
+ * when it is polled.</p>
+ *
+ * <p>Bytes an upstream sends before the session starts are kept until the session reads them, so the pool
+ * suits protocols where the client speaks first.</p>
+ */
+public class UpstreamConnectionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamConnectionPool.class);
+
+    private final String upstream;
+
+    private final Supplier<Mono<Connection>> connector;
+
+    private final int size;
+
+    private final long maxIdleNanos;
+
+    private final Deque<IdleConnection> idle = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger opened = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    public UpstreamConnectionPool(final String upstream, final Supplier<Mono<Connection>> connector, final int size, final long maxIdleTimeMs) {
+        this.upstream = upstream;
+        this.connector = connector;
+        this.size = size;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleTimeMs);
+    }
+
+    /**
+     * acquire an idle connection, or connect when there is none.
+     *
+     * @return MonoConnection
+     */
+    public Mono<Connection> acquire() {
+        IdleConnection each;
+        while (Objects.nonNull(each = idle.pollFirst())) {
+            opened.decrementAndGet();
+            if (each.isUsable(System.nanoTime(), maxIdleNanos)) {
+                fill();
+                return Mono.just(each.connection);
+            }
+            each.connection.dispose();
+        }
+        fill();
+        return connector.get();
+    }
+
+    /**
+     * open connections until the pool holds its size.
+     */
+    public void fill() {
+        int current;
+        while (!closed && (current = opened.get()) < size) {
+            if (opened.compareAndSet(current, current + 1)) {
+                connector.get().subscribe(this::offer, error -> {
+                    opened.decrementAndGet();
+                    LOG.warn("shenyu tcp pool of {} failed to pre-connect: {}", upstream, error.getMessage());
+                });
+            }
+        }
+    }
+
+    /**
+     * get the idle connection count.
+     *
+     * @return idle count
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * close the idle connections, the pool opens no more.
+     */
+    public void close() {
+        closed = true;
+        IdleConnection each;
+        while (Objects.nonNull(each = idle.pollFirst())) {
+            opened.decrementAndGet();
+            each.connection.dispose();
+        }
+    }
+
+    private void offer(final Connection connection) {
+        final IdleConnection idleConnection = new IdleConnection(connection, System.nanoTime());
+        idle.offerLast(idleConnection);
+        // whoever takes the connection out of the idle queue uncounts it, so a connection handed to a session
+        // or polled by close is not uncounted again when it is disposed
+        connection.onDispose(() -> {
+            if (idle.remove(idleConnection)) {
+                opened.decrementAndGet();
+                fill();
+            }
+        });
+        if (closed) {
+            close();
+        }
+    }
+
+    private static final class IdleConnection {
+
+        private final Connection connection;
+
+        private final long since;
+
+        IdleConnection(final Connection connection, final long since) {
+            this.connection = connection;
+            this.since = since;
+        }
+
+        boolean isUsable(final long now, final long maxIdleNanos) {
+            return !connection.isDisposed() && connection.channel().isActive() && now - since < maxIdleNanos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For {@link TcpConnectionStats}.
+ */
+public class TcpConnectionStatsTest {
+
+    @Test
+    public void testBytes() {
+        TcpConnectionStats stats = new TcpConnectionStats("/127.0.0.1:50000");
+        stats.recordRequest(10);
+        stats.recordRequest(5);
+        stats.recordResponse(7);
+        assertEquals("/127.0.0.1:50000", stats.getClient());
+        assertEquals(15, stats.getRequestBytes());
+        assertEquals(7, stats.getResponseBytes());
+    }
+
+    @Test
+    public void testLatency() {
+        TcpConnectionStats stats = new TcpConnectionStats("/127.0.0.1:50000");
+        assertEquals(-1, stats.getConnectMicros());
+        assertEquals(-1, stats.getFirstResponseMicros());
+        stats.connected();
+        assertTrue(stats.getConnectMicros() >= 0);
+        stats.recordRequest(10);
+        assertEquals(-1, stats.getFirstResponseMicros());
+        stats.recordResponse(10);
+        assertTrue(stats.getFirstResponseMicros() >= 0);
+        assertTrue(stats.getDurationMillis() >= 0);
+    }
+
+    @Test
+    public void testToString() {
+        TcpConnectionStats stats = new TcpConnectionStats("/127.0.0.1:50000");
+        stats.recordRequest(3);
+        assertTrue(stats.toString().contains("client=/127.0.0.1:50000"));
+        assertTrue(stats.toString().contains("requestBytes=3"));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import io.netty.channel.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Test Case For {@link UpstreamConnectionPool}.
+ */
+public class UpstreamConnectionPoolTest {
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    private Supplier<Mono<Connection>> connector;
+
+    @BeforeEach
+    public void setUp() {
+        connections.clear();
+        connector = () -> Mono.fromSupplier(this::newConnection);
+    }
+
+    @Test
+    public void testAcquireConnectsWhenEmpty() {
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", connector, 2, 60000);
+        Connection connection = pool.acquire().block();
+        // the pool is filled in the background and the session gets a connection of its own
+        assertEquals(3, connections.size());
+        assertSame(connections.get(2), connection);
+        assertEquals(2, pool.idleCount());
+    }
+
+    @Test
+    public void testAcquireIdleAndRefill() {
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", connector, 2, 60000);
+        pool.fill();
+        assertEquals(2, pool.idleCount());
+        Connection connection = pool.acquire().block();
+        assertSame(connections.get(0), connection);
+        assertEquals(3, connections.size());
+        assertEquals(2, pool.idleCount());
+        verify(connection, never()).dispose();
+    }
+
+    @Test
+    public void testIdleExpiry() {
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", connector, 2, 0);
+        pool.fill();
+        Connection connection = pool.acquire().block();
+        // both idle connections are past the max idle time, they are closed and a new one is opened
+        verify(connections.get(0)).dispose();
+        verify(connections.get(1)).dispose();
+        assertNotSame(connections.get(0), connection);
+        assertNotSame(connections.get(1), connection);
+    }
+
+    @Test
+    public void testClosedByUpstream() {
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", connector, 1, 60000);
+        pool.fill();
+        Connection inactive = connections.get(0);
+        when(inactive.channel().isActive()).thenReturn(false);
+        assertNotSame(inactive, pool.acquire().block());
+        verify(inactive).dispose();
+    }
+
+    @Test
+    public void testIdleClosedByUpstreamIsReplaced() {
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", connector, 1, 60000);
+        pool.fill();
+        onDispose(connections.get(0)).dispose();
+        // the closed idle connection no longer counts and a new one is opened right away
+        assertEquals(2, connections.size());
+        assertEquals(1, pool.idleCount());
+        assertSame(connections.get(1), pool.acquire().block());
+        assertEquals(3, connections.size());
+        // a connection owned by a session closing does not change the pool
+        onDispose(connections.get(1)).dispose();
+        assertEquals(3, connections.size());
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    public void testFailedPreConnect() {
+        Sinks.One<Connection> failed = Sinks.one();
+        List<Mono<Connection>> attempts = new ArrayList<>();
+        attempts.add(failed.asMono());
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000",
+            () -> attempts.isEmpty() ? connector.get() : attempts.remove(0), 1, 60000);
+        pool.fill();
+        failed.tryEmitError(new IllegalStateException("connection refused"));
+        assertEquals(0, pool.idleCount());
+        // the failed attempt no longer counts, the next fill connects again
+        pool.fill();
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    public void testCloseWhileFillInFlight() {
+        Sinks.One<Connection> pending = Sinks.one();
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("127.0.0.1:9000", pending::asMono, 1, 60000);
+        pool.fill();
+        pool.close();
+        Connection connection = newConnection();
+        pending.tryEmitValue(connection);
+        // the connection that completes after the pool closed is not kept
+        verify(connection).dispose();
+        assertEquals(0, pool.idleCount());
+        pool.fill();
+        assertEquals(0, pool.idleCount());
+    }
+
+    private Disposable onDispose(final Connection connection) {
+        ArgumentCaptor<Disposable> captor = ArgumentCaptor.forClass(Disposable.class);
+        verify(connection).onDispose(captor.capture());
+        return captor.getValue();
+    }
+
+    private Connection newConnection() {
+        Connection connection = mock(Connection.class);
+        Channel channel = mock(Channel.class);
+        when(connection.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        connections.add(connection);
+        return connection;
+    }
+}
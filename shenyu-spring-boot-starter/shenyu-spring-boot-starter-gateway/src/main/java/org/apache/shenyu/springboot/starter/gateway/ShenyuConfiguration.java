@@ -20,6 +20,7 @@ package org.apache.shenyu.springboot.starter.gateway;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.config.ShenyuConfig.RuleMatchCache;
 import org.apache.shenyu.common.config.ShenyuConfig.SelectorMatchCache;
+import org.apache.shenyu.common.config.ShenyuConfig.ShenyuTrieConfig;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.alert.AlarmService;
@@ -28,6 +29,7 @@ import org.apache.shenyu.plugin.base.cache.CommonMetaDataSubscriber;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.CopyOnWriteShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieListener;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -281,7 +283,11 @@ public class ShenyuConfiguration {
     @Bean(name = "shenyuSelectorTrie")
     public ShenyuTrie shenyuSelectorTrie(final ShenyuConfig shenyuConfig) {
         SelectorMatchCache selectorMatchCache = shenyuConfig.getSelectorMatchCache();
-        return new ShenyuTrie(selectorMatchCache.getTrie().getCacheSize(), selectorMatchCache.getTrie().getMatchMode());
+        ShenyuTrieConfig trieConfig = selectorMatchCache.getTrie();
+        if (Boolean.TRUE.equals(trieConfig.getCopyOnWrite())) {
+            return new CopyOnWriteShenyuTrie(trieConfig.getCacheSize(), trieConfig.getMatchMode());
+        }
+        return new ShenyuTrie(trieConfig.getCacheSize(), trieConfig.getMatchMode());
     }
 
     /**
@@ -293,7 +299,11 @@ public class ShenyuConfiguration {
     @Bean(name = "shenyuRuleTrie")
     public ShenyuTrie shenyuRuleTrie(final ShenyuConfig shenyuConfig) {
         RuleMatchCache ruleMatchCache = shenyuConfig.getRuleMatchCache();
-        return new ShenyuTrie(ruleMatchCache.getTrie().getCacheSize(), ruleMatchCache.getTrie().getMatchMode());
+        ShenyuTrieConfig trieConfig = ruleMatchCache.getTrie();
+        if (Boolean.TRUE.equals(trieConfig.getCopyOnWrite())) {
+            return new CopyOnWriteShenyuTrie(trieConfig.getCacheSize(), trieConfig.getMatchMode());
+        }
+        return new ShenyuTrie(trieConfig.getCacheSize(), trieConfig.getMatchMode());
     }
     
     /**
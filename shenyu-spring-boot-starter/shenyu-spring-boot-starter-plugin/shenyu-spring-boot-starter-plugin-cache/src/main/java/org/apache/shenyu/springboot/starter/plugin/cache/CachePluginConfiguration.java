@@ -19,6 +19,7 @@ package org.apache.shenyu.springboot.starter.plugin.cache;
 
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.cache.CachePlugin;
+import org.apache.shenyu.plugin.cache.endpoint.CacheEndpoint;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -48,4 +49,13 @@ public class CachePluginConfiguration {
     public CachePlugin cachePlugin() {
         return new CachePlugin();
     }
+
+    /**
+     * the cache endpoint.
+     * @return the cache endpoint
+     */
+    @Bean
+    public CacheEndpoint cacheEndpoint() {
+        return new CacheEndpoint();
+    }
 }
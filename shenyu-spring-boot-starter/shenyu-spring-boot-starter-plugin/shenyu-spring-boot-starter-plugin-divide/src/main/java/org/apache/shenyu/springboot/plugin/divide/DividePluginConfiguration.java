@@ -23,6 +23,7 @@ import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.divide.DividePlugin;
 import org.apache.shenyu.plugin.divide.context.DivideShenyuContextDecorator;
+import org.apache.shenyu.plugin.divide.endpoint.ZoneTrafficEndpoint;
 import org.apache.shenyu.plugin.divide.handler.DividePluginDataHandler;
 import org.apache.shenyu.plugin.divide.handler.DivideMetaDataHandler;
 import org.apache.shenyu.plugin.divide.handler.DivideUpstreamDataHandler;
@@ -87,4 +88,14 @@ public class DividePluginConfiguration {
     public ShenyuContextDecorator divideShenyuContextDecorator() {
         return new DivideShenyuContextDecorator();
     }
+
+    /**
+     * Zone traffic endpoint.
+     *
+     * @return the zone traffic endpoint
+     */
+    @Bean
+    public ZoneTrafficEndpoint zoneTrafficEndpoint() {
+        return new ZoneTrafficEndpoint();
+    }
 }
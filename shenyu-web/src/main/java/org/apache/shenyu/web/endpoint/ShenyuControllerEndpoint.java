@@ -119,6 +119,26 @@ public class ShenyuControllerEndpoint {
         return Flux.just(MatchDataCache.getInstance().getRuleMatchCache());
     }
     
+    /**
+     * selector match cache counters flux.
+     *
+     * @return the flux
+     */
+    @GetMapping("/selectorMatchCacheStats")
+    public Flux<Map<String, Map<String, Long>>> getSelectorMatchCacheStats() {
+        return Flux.just(MatchDataCache.getInstance().getSelectorMatchCacheStats());
+    }
+    
+    /**
+     * rule match cache counters flux.
+     *
+     * @return the flux
+     */
+    @GetMapping("/ruleMatchCacheStats")
+    public Flux<Map<String, Map<String, Long>>> getRuleMatchCacheStats() {
+        return Flux.just(MatchDataCache.getInstance().getRuleMatchCacheStats());
+    }
+    
     /**
      * get metadata map.
      *
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An immutable snapshot of the plugins that can act on a request.
+ *
+ * <p>Plugins that would only delegate to the next plugin (disabled, or without selectors) are left out,
+ * and {@link ShenyuPlugin#skip(ServerWebExchange)} is only called for the plugins that override it.
+ * The snapshot is bound to the plugin list and to the {@link BaseDataCache} version it was built from.</p>
+ */
+final class CompiledPluginChain {
+
+    private final List<ShenyuPlugin> source;
+
+    private final long version;
+
+    private final ShenyuPlugin[] plugins;
+
+    private final BitSet skipCheck;
+
+    private CompiledPluginChain(final List<ShenyuPlugin> source, final long version, final ShenyuPlugin[] plugins, final BitSet skipCheck) {
+        this.source = source;
+        this.version = version;
+        this.plugins = plugins;
+        this.skipCheck = skipCheck;
+    }
+
+    /**
+     * Compile the plugin list.
+     *
+     * @param source the sorted plugin list
+     * @return the compiled chain
+     */
+    static CompiledPluginChain compile(final List<ShenyuPlugin> source) {
+        // read the version first, a change during the compilation makes the snapshot stale immediately
+        final long version = BaseDataCache.getInstance().getVersion();
+        List<ShenyuPlugin> active = new ArrayList<>(source.size());
+        BitSet skipCheck = new BitSet();
+        for (ShenyuPlugin plugin : source) {
+            if (plugin instanceof AbstractShenyuPlugin && ((AbstractShenyuPlugin) plugin).isPassThrough()) {
+                continue;
+            }
+            if (overridesSkip(plugin)) {
+                skipCheck.set(active.size());
+            }
+            active.add(plugin);
+        }
+        return new CompiledPluginChain(source, version, active.toArray(new ShenyuPlugin[0]), skipCheck);
+    }
+
+    /**
+     * Whether the snapshot was built from the plugin list and the current data.
+     *
+     * @param plugins the current plugin list
+     * @return true if the snapshot can be used
+     */
+    boolean isCurrent(final List<ShenyuPlugin> plugins) {
+        return source == plugins && version == BaseDataCache.getInstance().getVersion();
+    }
+
+    /**
+     * Get the plugin count.
+     *
+     * @return the plugin count
+     */
+    int size() {
+        return plugins.length;
+    }
+
+    /**
+     * Get the plugin at the index.
+     *
+     * @param index the index
+     * @return the plugin
+     */
+    ShenyuPlugin get(final int index) {
+        return plugins[index];
+    }
+
+    /**
+     * Whether the plugin at the index skips the exchange.
+     *
+     * @param index the index
+     * @param exchange the exchange
+     * @return true if the plugin should be skipped
+     */
+    boolean skip(final int index, final ServerWebExchange exchange) {
+        return skipCheck.get(index) && plugins[index].skip(exchange);
+    }
+
+    private static boolean overridesSkip(final ShenyuPlugin plugin) {
+        try {
+            return plugin.getClass().getMethod("skip", ServerWebExchange.class).getDeclaringClass() != ShenyuPlugin.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
@@ -58,6 +58,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     private volatile List<ShenyuPlugin> plugins;
 
+    /**
+     * the plugins that can act on a request, rebuilt when the plugins or the plugin and selector data change.
+     */
+    private volatile CompiledPluginChain compiledChain;
+
     /**
      * source plugins, these plugins load from ShenyuPlugin, this filed can't change.
      */
@@ -79,6 +84,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
     public ShenyuWebHandler(final List<ShenyuPlugin> plugins, final ShenyuLoaderService shenyuLoaderService, final ShenyuConfig shenyuConfig) {
         this.sourcePlugins = new ArrayList<>(plugins);
         this.plugins = new ArrayList<>(plugins);
+        this.compiledChain = CompiledPluginChain.compile(this.plugins);
         this.shenyuLoaderService = shenyuLoaderService;
         ShenyuConfig.Scheduler config = shenyuConfig.getScheduler();
         this.scheduled = config.getEnabled();
@@ -123,7 +129,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
         try {
             before(exchange);
-            Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+            Mono<Void> execute = new DefaultShenyuPluginChain(obtainCompiledChain()).execute(exchange);
             if (scheduled) {
                 return execute.subscribeOn(scheduler);
             }
@@ -133,6 +139,16 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         }
     }
     
+    private CompiledPluginChain obtainCompiledChain() {
+        final List<ShenyuPlugin> current = this.plugins;
+        CompiledPluginChain chain = this.compiledChain;
+        if (!chain.isCurrent(current)) {
+            chain = CompiledPluginChain.compile(current);
+            this.compiledChain = chain;
+        }
+        return chain;
+    }
+    
     /**
      * Gets plugins.
      *
@@ -188,6 +204,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
             }
         }
         plugins = sortPlugins(newPluginList);
+        compiledChain = CompiledPluginChain.compile(plugins);
     }
 
     /**
@@ -215,6 +232,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
             default:
                 throw new IllegalStateException("Unexpected value: " + event.getPluginStateEnums());
         }
+        this.compiledChain = CompiledPluginChain.compile(this.plugins);
     }
 
     /**
@@ -268,14 +286,14 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
 
         private int index;
 
-        private final List<ShenyuPlugin> plugins;
+        private final CompiledPluginChain plugins;
     
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
-         * @param plugins the plugins
+         * @param plugins the compiled plugins
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
+        DefaultShenyuPluginChain(final CompiledPluginChain plugins) {
             this.plugins = plugins;
         }
 
@@ -289,8 +307,9 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         public Mono<Void> execute(final ServerWebExchange exchange) {
             return Mono.defer(() -> {
                 if (this.index < plugins.size()) {
-                    ShenyuPlugin plugin = plugins.get(this.index++);
-                    boolean skip = plugin.skip(exchange);
+                    final int current = this.index++;
+                    ShenyuPlugin plugin = plugins.get(current);
+                    boolean skip = plugins.skip(current, exchange);
                     if (skip) {
                         return this.execute(exchange);
                     }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * test for CompiledPluginChain.
+ */
+public final class CompiledPluginChainTest {
+
+    @AfterEach
+    public void tearDown() {
+        BaseDataCache.getInstance().removePluginDataByPluginName("compiled-template");
+        BaseDataCache.getInstance().removeSelectDataByPluginName("compiled-template");
+    }
+
+    @Test
+    public void testCompile() {
+        ShenyuPlugin template = new TemplatePlugin();
+        ShenyuPlugin skipping = new ShenyuWebHandlerTest.TestPlugin2();
+        List<ShenyuPlugin> plugins = Arrays.asList(template, skipping);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+
+        CompiledPluginChain chain = CompiledPluginChain.compile(plugins);
+        assertEquals(1, chain.size());
+        assertSame(skipping, chain.get(0));
+        assertTrue(chain.skip(0, exchange));
+        assertTrue(chain.isCurrent(plugins));
+
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name("compiled-template").enabled(true).build());
+        assertFalse(chain.isCurrent(plugins));
+        assertEquals(1, CompiledPluginChain.compile(plugins).size());
+
+        BaseDataCache.getInstance().cacheSelectData(SelectorData.builder().id("1").pluginName("compiled-template").sort(1).build());
+        chain = CompiledPluginChain.compile(plugins);
+        assertEquals(2, chain.size());
+        assertSame(template, chain.get(0));
+        assertFalse(chain.skip(0, exchange));
+    }
+
+    static class TemplatePlugin extends AbstractShenyuPlugin {
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return "compiled-template";
+        }
+    }
+}